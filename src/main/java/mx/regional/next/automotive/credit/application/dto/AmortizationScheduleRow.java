@@ -0,0 +1,38 @@
+package mx.regional.next.automotive.credit.application.dto;
+
+import java.math.BigDecimal;
+
+public class AmortizationScheduleRow {
+    private int month;
+    private BigDecimal payment;
+    private BigDecimal interest;
+    private BigDecimal principal;
+    private BigDecimal balance;
+    
+    public AmortizationScheduleRow() {}
+    
+    public AmortizationScheduleRow(int month, BigDecimal payment, BigDecimal interest,
+                                   BigDecimal principal, BigDecimal balance) {
+        this.month = month;
+        this.payment = payment;
+        this.interest = interest;
+        this.principal = principal;
+        this.balance = balance;
+    }
+    
+    // Getters and Setters
+    public int getMonth() { return month; }
+    public void setMonth(int month) { this.month = month; }
+    
+    public BigDecimal getPayment() { return payment; }
+    public void setPayment(BigDecimal payment) { this.payment = payment; }
+    
+    public BigDecimal getInterest() { return interest; }
+    public void setInterest(BigDecimal interest) { this.interest = interest; }
+    
+    public BigDecimal getPrincipal() { return principal; }
+    public void setPrincipal(BigDecimal principal) { this.principal = principal; }
+    
+    public BigDecimal getBalance() { return balance; }
+    public void setBalance(BigDecimal balance) { this.balance = balance; }
+}
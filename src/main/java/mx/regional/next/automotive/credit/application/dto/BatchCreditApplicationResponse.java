@@ -0,0 +1,77 @@
+package mx.regional.next.automotive.credit.application.dto;
+
+import java.util.List;
+
+public class BatchCreditApplicationResponse {
+    private List<ItemResult> items;
+    
+    // Constructors
+    public BatchCreditApplicationResponse() {}
+    
+    public BatchCreditApplicationResponse(List<ItemResult> items) {
+        this.items = items;
+    }
+    
+    // Business methods
+    public int getTotalCount() {
+        return items.size();
+    }
+    
+    public long getApprovedCount() {
+        return items.stream().filter(item -> item.isSuccess() && item.getResponse().isApproved()).count();
+    }
+    
+    public long getRejectedCount() {
+        return items.stream().filter(item -> item.isSuccess() && item.getResponse().isRejected()).count();
+    }
+    
+    public long getFailedCount() {
+        return items.stream().filter(item -> !item.isSuccess()).count();
+    }
+    
+    // Getters and Setters
+    public List<ItemResult> getItems() { return items; }
+    public void setItems(List<ItemResult> items) { this.items = items; }
+    
+    public static class ItemResult {
+        private int index;
+        private String customerDocument;
+        private CreditApplicationResponse response;
+        private String errorMessage;
+        
+        public ItemResult() {}
+        
+        // Factory methods
+        public static ItemResult success(int index, String customerDocument, CreditApplicationResponse response) {
+            ItemResult result = new ItemResult();
+            result.index = index;
+            result.customerDocument = customerDocument;
+            result.response = response;
+            return result;
+        }
+        
+        public static ItemResult failure(int index, String customerDocument, String errorMessage) {
+            ItemResult result = new ItemResult();
+            result.index = index;
+            result.customerDocument = customerDocument;
+            result.errorMessage = errorMessage;
+            return result;
+        }
+        
+        public boolean isSuccess() {
+            return response != null;
+        }
+        
+        public int getIndex() { return index; }
+        public void setIndex(int index) { this.index = index; }
+        
+        public String getCustomerDocument() { return customerDocument; }
+        public void setCustomerDocument(String customerDocument) { this.customerDocument = customerDocument; }
+        
+        public CreditApplicationResponse getResponse() { return response; }
+        public void setResponse(CreditApplicationResponse response) { this.response = response; }
+        
+        public String getErrorMessage() { return errorMessage; }
+        public void setErrorMessage(String errorMessage) { this.errorMessage = errorMessage; }
+    }
+}
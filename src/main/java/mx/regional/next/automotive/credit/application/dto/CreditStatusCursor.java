@@ -0,0 +1,50 @@
+package mx.regional.next.automotive.credit.application.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Posición de paginación por llave (application_date, id) en orden descendente. Se expone
+ * como texto opaco para que el cliente solo lo devuelva tal cual en la siguiente consulta.
+ */
+public class CreditStatusCursor {
+    
+    private static final char SEPARATOR = '|';
+    
+    private final LocalDateTime applicationDate;
+    private final String applicationId;
+    
+    public CreditStatusCursor(LocalDateTime applicationDate, String applicationId) {
+        this.applicationDate = applicationDate;
+        this.applicationId = applicationId;
+    }
+    
+    // Cursor que apunta justo después de la fila dada
+    public static CreditStatusCursor after(CreditStatusResponse last) {
+        return new CreditStatusCursor(last.getApplicationDate(), last.getApplicationId());
+    }
+    
+    public static CreditStatusCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator <= 0 || separator == raw.length() - 1) {
+                throw new IllegalArgumentException("Cursor de paginación inválido");
+            }
+            return new CreditStatusCursor(
+                LocalDateTime.parse(raw.substring(0, separator)), raw.substring(separator + 1));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Cursor de paginación inválido", e);
+        }
+    }
+    
+    public String encode() {
+        String raw = applicationDate.toString() + SEPARATOR + applicationId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    public LocalDateTime getApplicationDate() { return applicationDate; }
+    public String getApplicationId() { return applicationId; }
+}
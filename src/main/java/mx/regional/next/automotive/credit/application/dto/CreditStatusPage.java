@@ -0,0 +1,22 @@
+package mx.regional.next.automotive.credit.application.dto;
+
+import java.util.List;
+
+public class CreditStatusPage {
+    private final List<CreditStatusResponse> items;
+    private final CreditStatusCursor nextCursor;
+    
+    public CreditStatusPage(List<CreditStatusResponse> items, CreditStatusCursor nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+    
+    public List<CreditStatusResponse> getItems() { return items; }
+    
+    // null en la última página
+    public CreditStatusCursor getNextCursor() { return nextCursor; }
+    
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
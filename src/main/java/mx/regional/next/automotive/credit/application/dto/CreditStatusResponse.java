@@ -0,0 +1,68 @@
+package mx.regional.next.automotive.credit.application.dto;
+
+import mx.regional.next.automotive.credit.domain.enums.CreditStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Modelo de lectura del estado de una solicitud. Se construye directamente desde la consulta
+ * (sin pasar por {@code CreditApplication}), por eso el constructor sigue el orden de las
+ * columnas proyectadas.
+ */
+public class CreditStatusResponse {
+    private String applicationId;
+    private String customerDocument;
+    private CreditStatus status;
+    private BigDecimal requestedAmount;
+    private Integer creditScore;
+    private String rejectionReason;
+    private LocalDateTime applicationDate;
+    private LocalDateTime lastUpdate;
+    
+    // Constructors
+    public CreditStatusResponse() {}
+    
+    public CreditStatusResponse(String applicationId, String customerDocument, CreditStatus status,
+                                BigDecimal requestedAmount, Integer creditScore, String rejectionReason,
+                                LocalDateTime applicationDate, LocalDateTime lastUpdate) {
+        this.applicationId = applicationId;
+        this.customerDocument = customerDocument;
+        this.status = status;
+        this.requestedAmount = requestedAmount;
+        this.creditScore = creditScore;
+        this.rejectionReason = rejectionReason;
+        this.applicationDate = applicationDate;
+        this.lastUpdate = lastUpdate;
+    }
+    
+    // Business methods
+    public BigDecimal getApprovedAmount() {
+        return status == CreditStatus.APPROVED ? requestedAmount : null;
+    }
+    
+    // Getters and Setters
+    public String getApplicationId() { return applicationId; }
+    public void setApplicationId(String applicationId) { this.applicationId = applicationId; }
+    
+    public String getCustomerDocument() { return customerDocument; }
+    public void setCustomerDocument(String customerDocument) { this.customerDocument = customerDocument; }
+    
+    public CreditStatus getStatus() { return status; }
+    public void setStatus(CreditStatus status) { this.status = status; }
+    
+    public BigDecimal getRequestedAmount() { return requestedAmount; }
+    public void setRequestedAmount(BigDecimal requestedAmount) { this.requestedAmount = requestedAmount; }
+    
+    public Integer getCreditScore() { return creditScore; }
+    public void setCreditScore(Integer creditScore) { this.creditScore = creditScore; }
+    
+    public String getRejectionReason() { return rejectionReason; }
+    public void setRejectionReason(String rejectionReason) { this.rejectionReason = rejectionReason; }
+    
+    public LocalDateTime getApplicationDate() { return applicationDate; }
+    public void setApplicationDate(LocalDateTime applicationDate) { this.applicationDate = applicationDate; }
+    
+    public LocalDateTime getLastUpdate() { return lastUpdate; }
+    public void setLastUpdate(LocalDateTime lastUpdate) { this.lastUpdate = lastUpdate; }
+}
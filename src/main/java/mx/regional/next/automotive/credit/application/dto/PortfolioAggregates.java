@@ -0,0 +1,62 @@
+package mx.regional.next.automotive.credit.application.dto;
+
+import mx.regional.next.automotive.credit.domain.enums.CreditStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Totales del portafolio por estado, por día y por marca, leídos de los contadores
+ * precalculados.
+ */
+public class PortfolioAggregates {
+    private final Map<CreditStatus, Totals> byStatus;
+    private final Map<LocalDate, Totals> byDay;
+    private final Map<String, Totals> byBrand;
+    private final LocalDateTime lastUpdate;
+    
+    public PortfolioAggregates(Map<CreditStatus, Totals> byStatus, Map<LocalDate, Totals> byDay,
+                               Map<String, Totals> byBrand, LocalDateTime lastUpdate) {
+        this.byStatus = byStatus;
+        this.byDay = byDay;
+        this.byBrand = byBrand;
+        this.lastUpdate = lastUpdate;
+    }
+    
+    // Todos los estados, en cero los que no tienen solicitudes
+    public Map<CreditStatus, Totals> getByStatus() { return byStatus; }
+    
+    // Días con solicitudes desde el inicio de la ventana consultada, en orden cronológico
+    public Map<LocalDate, Totals> getByDay() { return byDay; }
+    
+    // Marcas de mayor a menor número de solicitudes
+    public Map<String, Totals> getByBrand() { return byBrand; }
+    
+    // null si todavía no hay solicitudes
+    public LocalDateTime getLastUpdate() { return lastUpdate; }
+    
+    public long getTotalApplications() {
+        return byStatus.values().stream().mapToLong(Totals::getCount).sum();
+    }
+    
+    public BigDecimal getTotalRequestedAmount() {
+        return byStatus.values().stream().map(Totals::getRequestedAmount).reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+    
+    public static class Totals {
+        public static final Totals ZERO = new Totals(0, BigDecimal.ZERO);
+        
+        private final long count;
+        private final BigDecimal requestedAmount;
+        
+        public Totals(long count, BigDecimal requestedAmount) {
+            this.count = count;
+            this.requestedAmount = requestedAmount;
+        }
+        
+        public long getCount() { return count; }
+        public BigDecimal getRequestedAmount() { return requestedAmount; }
+    }
+}
@@ -0,0 +1,80 @@
+package mx.regional.next.automotive.credit.application.dto;
+
+import jakarta.validation.constraints.*;
+import java.math.BigDecimal;
+
+public class PricingGridRequest {
+    
+    @NotBlank(message = "El documento del cliente es obligatorio")
+    private String customerDocument;
+    
+    @NotBlank(message = "El VIN del vehículo es obligatorio")
+    private String vehicleVin;
+    
+    @NotBlank(message = "La marca del vehículo es obligatoria")
+    private String vehicleBrand;
+    
+    @NotBlank(message = "El modelo del vehículo es obligatorio")
+    private String vehicleModel;
+    
+    private int vehicleYear;
+    
+    @NotNull(message = "El monto mínimo es obligatorio")
+    private BigDecimal minAmount;
+    
+    @NotNull(message = "El monto máximo es obligatorio")
+    private BigDecimal maxAmount;
+    
+    // Número de columnas de monto, incluyendo mínimo y máximo
+    @Min(value = 1, message = "Se requiere al menos un monto")
+    private int amountSteps;
+    
+    // Separación en meses entre plazos, desde 12 hasta 84
+    @Min(value = 1, message = "El paso de plazo debe ser al menos 1 mes")
+    private int termStep;
+    
+    // Constructors
+    public PricingGridRequest() {}
+    
+    public PricingGridRequest(String customerDocument, String vehicleVin, String vehicleBrand,
+                              String vehicleModel, int vehicleYear, BigDecimal minAmount,
+                              BigDecimal maxAmount, int amountSteps, int termStep) {
+        this.customerDocument = customerDocument;
+        this.vehicleVin = vehicleVin;
+        this.vehicleBrand = vehicleBrand;
+        this.vehicleModel = vehicleModel;
+        this.vehicleYear = vehicleYear;
+        this.minAmount = minAmount;
+        this.maxAmount = maxAmount;
+        this.amountSteps = amountSteps;
+        this.termStep = termStep;
+    }
+    
+    // Getters and Setters
+    public String getCustomerDocument() { return customerDocument; }
+    public void setCustomerDocument(String customerDocument) { this.customerDocument = customerDocument; }
+    
+    public String getVehicleVin() { return vehicleVin; }
+    public void setVehicleVin(String vehicleVin) { this.vehicleVin = vehicleVin; }
+    
+    public String getVehicleBrand() { return vehicleBrand; }
+    public void setVehicleBrand(String vehicleBrand) { this.vehicleBrand = vehicleBrand; }
+    
+    public String getVehicleModel() { return vehicleModel; }
+    public void setVehicleModel(String vehicleModel) { this.vehicleModel = vehicleModel; }
+    
+    public int getVehicleYear() { return vehicleYear; }
+    public void setVehicleYear(int vehicleYear) { this.vehicleYear = vehicleYear; }
+    
+    public BigDecimal getMinAmount() { return minAmount; }
+    public void setMinAmount(BigDecimal minAmount) { this.minAmount = minAmount; }
+    
+    public BigDecimal getMaxAmount() { return maxAmount; }
+    public void setMaxAmount(BigDecimal maxAmount) { this.maxAmount = maxAmount; }
+    
+    public int getAmountSteps() { return amountSteps; }
+    public void setAmountSteps(int amountSteps) { this.amountSteps = amountSteps; }
+    
+    public int getTermStep() { return termStep; }
+    public void setTermStep(int termStep) { this.termStep = termStep; }
+}
@@ -0,0 +1,82 @@
+package mx.regional.next.automotive.credit.application.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public class PricingGridResponse {
+    private String customerDocument;
+    private int creditScore;
+    private BigDecimal baseRate;
+    private List<BigDecimal> amounts;
+    private List<Row> rows;
+    
+    // Constructors
+    public PricingGridResponse() {}
+    
+    public PricingGridResponse(String customerDocument, int creditScore, BigDecimal baseRate,
+                               List<BigDecimal> amounts, List<Row> rows) {
+        this.customerDocument = customerDocument;
+        this.creditScore = creditScore;
+        this.baseRate = baseRate;
+        this.amounts = amounts;
+        this.rows = rows;
+    }
+    
+    // Business methods
+    public int getCellCount() {
+        return rows.size() * amounts.size();
+    }
+    
+    // Getters and Setters
+    public String getCustomerDocument() { return customerDocument; }
+    public void setCustomerDocument(String customerDocument) { this.customerDocument = customerDocument; }
+    
+    public int getCreditScore() { return creditScore; }
+    public void setCreditScore(int creditScore) { this.creditScore = creditScore; }
+    
+    public BigDecimal getBaseRate() { return baseRate; }
+    public void setBaseRate(BigDecimal baseRate) { this.baseRate = baseRate; }
+    
+    public List<BigDecimal> getAmounts() { return amounts; }
+    public void setAmounts(List<BigDecimal> amounts) { this.amounts = amounts; }
+    
+    public List<Row> getRows() { return rows; }
+    public void setRows(List<Row> rows) { this.rows = rows; }
+    
+    // Una fila por plazo; las celdas siguen el orden de amounts
+    public static class Row {
+        private int termInMonths;
+        private List<Cell> cells;
+        
+        public Row() {}
+        
+        public Row(int termInMonths, List<Cell> cells) {
+            this.termInMonths = termInMonths;
+            this.cells = cells;
+        }
+        
+        public int getTermInMonths() { return termInMonths; }
+        public void setTermInMonths(int termInMonths) { this.termInMonths = termInMonths; }
+        
+        public List<Cell> getCells() { return cells; }
+        public void setCells(List<Cell> cells) { this.cells = cells; }
+    }
+    
+    public static class Cell {
+        private BigDecimal annualInterestRate;
+        private BigDecimal monthlyInstallment;
+        
+        public Cell() {}
+        
+        public Cell(BigDecimal annualInterestRate, BigDecimal monthlyInstallment) {
+            this.annualInterestRate = annualInterestRate;
+            this.monthlyInstallment = monthlyInstallment;
+        }
+        
+        public BigDecimal getAnnualInterestRate() { return annualInterestRate; }
+        public void setAnnualInterestRate(BigDecimal annualInterestRate) { this.annualInterestRate = annualInterestRate; }
+        
+        public BigDecimal getMonthlyInstallment() { return monthlyInstallment; }
+        public void setMonthlyInstallment(BigDecimal monthlyInstallment) { this.monthlyInstallment = monthlyInstallment; }
+    }
+}
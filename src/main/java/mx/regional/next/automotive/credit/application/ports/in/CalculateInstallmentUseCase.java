@@ -1,11 +1,26 @@
 package mx.regional.next.automotive.credit.application.ports.in;
 
+import mx.regional.next.automotive.credit.application.dto.AmortizationScheduleRow;
 import mx.regional.next.automotive.credit.application.dto.InstallmentCalculationResponse;
 
+import reactor.core.publisher.Flux;
+
 import java.math.BigDecimal;
+import java.util.stream.Stream;
 
 public interface CalculateInstallmentUseCase {
     InstallmentCalculationResponse calculateInstallment(BigDecimal loanAmount, 
                                                       BigDecimal annualRate, 
                                                       int termInMonths);
-}
\ No newline at end of file
+    
+    // Tabla de amortización perezosa: las filas se generan a medida que se consumen
+    Stream<AmortizationScheduleRow> streamAmortizationSchedule(BigDecimal loanAmount,
+                                                               BigDecimal annualRate,
+                                                               int termInMonths);
+    
+    default Flux<AmortizationScheduleRow> fluxAmortizationSchedule(BigDecimal loanAmount,
+                                                                   BigDecimal annualRate,
+                                                                   int termInMonths) {
+        return Flux.fromStream(() -> streamAmortizationSchedule(loanAmount, annualRate, termInMonths));
+    }
+}
@@ -1,7 +1,22 @@
 package mx.regional.next.automotive.credit.application.ports.in;
 
-import mx.regional.next.automotive.credit.application.dto.CreditApplicationResponse;
+import mx.regional.next.automotive.credit.application.dto.CreditStatusPage;
+import mx.regional.next.automotive.credit.application.dto.CreditStatusResponse;
+
+import reactor.core.publisher.Flux;
+
+import java.util.stream.Stream;
 
 public interface GetCreditStatusUseCase {
-    CreditApplicationResponse getCreditStatus(String applicationId);
-}
\ No newline at end of file
+    CreditStatusResponse getCreditStatus(String applicationId);
+    
+    // Página de solicitudes del cliente, más recientes primero; cursor null para la primera
+    CreditStatusPage getCreditStatusByCustomerDocument(String customerDocument, String cursor, int pageSize);
+    
+    // Historial completo para exportaciones, leído por páginas a medida que se consume
+    Stream<CreditStatusResponse> streamCreditStatusByCustomerDocument(String customerDocument);
+    
+    default Flux<CreditStatusResponse> fluxCreditStatusByCustomerDocument(String customerDocument) {
+        return Flux.fromStream(() -> streamCreditStatusByCustomerDocument(customerDocument));
+    }
+}
@@ -0,0 +1,8 @@
+package mx.regional.next.automotive.credit.application.ports.in;
+
+import mx.regional.next.automotive.credit.application.dto.PortfolioAggregates;
+
+public interface GetPortfolioAggregatesUseCase {
+    // Totales vigentes con la serie diaria de la ventana configurada para tableros
+    PortfolioAggregates getPortfolioAggregates();
+}
@@ -0,0 +1,10 @@
+package mx.regional.next.automotive.credit.application.ports.in;
+
+import mx.regional.next.automotive.credit.application.dto.BatchCreditApplicationResponse;
+import mx.regional.next.automotive.credit.application.dto.CreditApplicationRequest;
+
+import java.util.List;
+
+public interface ProcessCreditApplicationBatchUseCase {
+    BatchCreditApplicationResponse processApplications(List<CreditApplicationRequest> requests);
+}
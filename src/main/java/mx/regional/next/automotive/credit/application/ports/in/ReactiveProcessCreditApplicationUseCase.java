@@ -0,0 +1,10 @@
+package mx.regional.next.automotive.credit.application.ports.in;
+
+import mx.regional.next.automotive.credit.application.dto.CreditApplicationRequest;
+import mx.regional.next.automotive.credit.application.dto.CreditApplicationResponse;
+
+import reactor.core.publisher.Mono;
+
+public interface ReactiveProcessCreditApplicationUseCase {
+    Mono<CreditApplicationResponse> processApplication(CreditApplicationRequest request);
+}
@@ -0,0 +1,8 @@
+package mx.regional.next.automotive.credit.application.ports.in;
+
+import mx.regional.next.automotive.credit.application.dto.PricingGridRequest;
+import mx.regional.next.automotive.credit.application.dto.PricingGridResponse;
+
+public interface SimulatePricingGridUseCase {
+    PricingGridResponse simulatePricingGrid(PricingGridRequest request);
+}
@@ -2,10 +2,26 @@ package mx.regional.next.automotive.credit.application.ports.out;
 
 import mx.regional.next.automotive.credit.domain.entities.CreditApplication;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface CreditApplicationRepositoryPort {
     CreditApplication save(CreditApplication application);
     Optional<CreditApplication> findById(String id);
     Optional<CreditApplication> findByCustomerDocumentNumber(String documentNumber);
-}
\ No newline at end of file
+    
+    // Los adaptadores deberían persistir en lote; por defecto guarda una a una
+    default List<CreditApplication> saveAll(List<CreditApplication> applications) {
+        return applications.stream().map(this::save).toList();
+    }
+    
+    // Solicitudes encontradas, sin orden garantizado; los adaptadores deberían cargarlas por lote
+    default List<CreditApplication> findAllById(Collection<String> ids) {
+        return ids.stream()
+            .distinct()
+            .map(this::findById)
+            .flatMap(Optional::stream)
+            .toList();
+    }
+}
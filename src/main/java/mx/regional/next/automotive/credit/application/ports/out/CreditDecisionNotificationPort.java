@@ -0,0 +1,20 @@
+package mx.regional.next.automotive.credit.application.ports.out;
+
+import mx.regional.next.automotive.credit.domain.entities.CreditApplication;
+
+import java.util.List;
+
+/**
+ * Aviso al cliente de la decisión sobre su solicitud. Los adaptadores solo registran el aviso
+ * para envío posterior: el envío no debe ocurrir en el hilo que decide. La persistencia de
+ * solicitudes lo invoca dentro de la transacción que guarda la decisión, así que un fallo
+ * al registrarlo debe propagarse para revertirla.
+ */
+public interface CreditDecisionNotificationPort {
+    void notifyDecision(CreditApplication application);
+
+    // Los adaptadores deberían registrar el lote en una sola escritura; por defecto uno a uno
+    default void notifyDecisions(List<CreditApplication> applications) {
+        applications.forEach(this::notifyDecision);
+    }
+}
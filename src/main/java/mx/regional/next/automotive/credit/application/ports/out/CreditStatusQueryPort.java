@@ -0,0 +1,35 @@
+package mx.regional.next.automotive.credit.application.ports.out;
+
+import mx.regional.next.automotive.credit.application.dto.CreditStatusCursor;
+import mx.regional.next.automotive.credit.application.dto.CreditStatusPage;
+import mx.regional.next.automotive.credit.application.dto.CreditStatusResponse;
+import mx.regional.next.automotive.credit.domain.enums.CreditStatus;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Lado de lectura para consultas de estado: devuelve proyecciones sin hidratar
+ * {@code CreditApplication} ni reejecutar sus validaciones.
+ *
+ * <p>Los listados van de la solicitud más reciente a la más antigua, paginados por llave
+ * (application_date, id): {@code after} es el cursor de la página anterior o {@code null}
+ * para la primera. Los streams recorren el resultado completo de a {@code fetchSize} filas
+ * y solo consultan la siguiente página cuando se consume la anterior.
+ */
+public interface CreditStatusQueryPort {
+    Optional<CreditStatusResponse> findStatusById(String applicationId);
+    
+    CreditStatusPage findStatusesByCustomerDocument(String customerDocument, CreditStatusCursor after, int limit);
+    
+    CreditStatusPage findStatusesByStatus(CreditStatus status, CreditStatusCursor after, int limit);
+    
+    CreditStatusPage findStatusesByApplicationDateBetween(LocalDateTime fromDate, LocalDateTime toDate,
+                                                          CreditStatusCursor after, int limit);
+    
+    Stream<CreditStatusResponse> streamStatusesByCustomerDocument(String customerDocument, int fetchSize);
+    
+    Stream<CreditStatusResponse> streamStatusesByApplicationDateBetween(LocalDateTime fromDate, LocalDateTime toDate,
+                                                                        int fetchSize);
+}
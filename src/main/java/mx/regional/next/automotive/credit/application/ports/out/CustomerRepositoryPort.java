@@ -3,10 +3,22 @@ package mx.regional.next.automotive.credit.application.ports.out;
 import mx.regional.next.automotive.credit.domain.entities.Customer;
 import mx.regional.next.automotive.credit.domain.valueobjects.DocumentNumber;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 public interface CustomerRepositoryPort {
     Optional<Customer> findByDocumentNumber(DocumentNumber documentNumber);
     Customer save(Customer customer);
     boolean existsByDocumentNumber(DocumentNumber documentNumber);
-}
\ No newline at end of file
+    
+    // Los adaptadores deberían resolverlo con una sola consulta; por defecto consulta uno a uno
+    default Map<DocumentNumber, Customer> findAllByDocumentNumbers(Collection<DocumentNumber> documentNumbers) {
+        Map<DocumentNumber, Customer> customers = new HashMap<>();
+        for (DocumentNumber documentNumber : documentNumbers) {
+            findByDocumentNumber(documentNumber).ifPresent(customer -> customers.put(documentNumber, customer));
+        }
+        return customers;
+    }
+}
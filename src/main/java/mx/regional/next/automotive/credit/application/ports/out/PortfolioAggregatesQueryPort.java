@@ -0,0 +1,17 @@
+package mx.regional.next.automotive.credit.application.ports.out;
+
+import mx.regional.next.automotive.credit.application.dto.PortfolioAggregates;
+import mx.regional.next.automotive.credit.domain.enums.CreditStatus;
+
+import java.time.LocalDate;
+
+/**
+ * Lectura de los contadores del portafolio. El costo no depende del número de solicitudes:
+ * los totales se mantienen al escribir, no se calculan al consultar.
+ */
+public interface PortfolioAggregatesQueryPort {
+    // Totales por estado y marca, y por día desde fromDay (inclusive)
+    PortfolioAggregates findAggregates(LocalDate fromDay);
+    
+    long countByStatus(CreditStatus status);
+}
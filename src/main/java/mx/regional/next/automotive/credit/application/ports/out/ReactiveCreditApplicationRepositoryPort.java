@@ -0,0 +1,11 @@
+package mx.regional.next.automotive.credit.application.ports.out;
+
+import mx.regional.next.automotive.credit.domain.entities.CreditApplication;
+
+import reactor.core.publisher.Mono;
+
+public interface ReactiveCreditApplicationRepositoryPort {
+    Mono<CreditApplication> save(CreditApplication application);
+    Mono<CreditApplication> findById(String id);
+    Mono<CreditApplication> findByCustomerDocumentNumber(String documentNumber);
+}
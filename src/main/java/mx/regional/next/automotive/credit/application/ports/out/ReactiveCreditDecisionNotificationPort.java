@@ -0,0 +1,13 @@
+package mx.regional.next.automotive.credit.application.ports.out;
+
+import mx.regional.next.automotive.credit.domain.entities.CreditApplication;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Versión no bloqueante de {@link CreditDecisionNotificationPort}. La persistencia reactiva de
+ * solicitudes la compone dentro de la transacción que guarda la decisión.
+ */
+public interface ReactiveCreditDecisionNotificationPort {
+    Mono<Void> notifyDecision(CreditApplication application);
+}
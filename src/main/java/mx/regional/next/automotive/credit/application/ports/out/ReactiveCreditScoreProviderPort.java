@@ -0,0 +1,10 @@
+package mx.regional.next.automotive.credit.application.ports.out;
+
+import mx.regional.next.automotive.credit.domain.valueobjects.CreditScore;
+import mx.regional.next.automotive.credit.domain.valueobjects.DocumentNumber;
+
+import reactor.core.publisher.Mono;
+
+public interface ReactiveCreditScoreProviderPort {
+    Mono<CreditScore> getCreditScore(DocumentNumber documentNumber);
+}
@@ -0,0 +1,16 @@
+package mx.regional.next.automotive.credit.application.ports.out;
+
+import mx.regional.next.automotive.credit.domain.entities.Customer;
+import mx.regional.next.automotive.credit.domain.valueobjects.DocumentNumber;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+public interface ReactiveCustomerRepositoryPort {
+    Mono<Customer> findByDocumentNumber(DocumentNumber documentNumber);
+    Flux<Customer> findAllByDocumentNumbers(Collection<DocumentNumber> documentNumbers);
+    Mono<Customer> save(Customer customer);
+    Mono<Boolean> existsByDocumentNumber(DocumentNumber documentNumber);
+}
@@ -0,0 +1,16 @@
+package mx.regional.next.automotive.credit.application.ports.out;
+
+import mx.regional.next.automotive.credit.application.ports.out.VehicleValidationPort.VehicleValidationResult;
+
+import reactor.core.publisher.Mono;
+
+public interface ReactiveVehicleValidationPort {
+    Mono<VehicleValidationResult> validateVehicle(String vin, String brand, String model, int year);
+
+    /**
+     * Valida con el kilometraje declarado; ver {@link VehicleValidationPort}.
+     */
+    default Mono<VehicleValidationResult> validateVehicle(String vin, String brand, String model, int year, int kilometers) {
+        return validateVehicle(vin, brand, model, year);
+    }
+}
@@ -5,6 +5,14 @@ import mx.regional.next.automotive.credit.domain.entities.Vehicle;
 public interface VehicleValidationPort {
     VehicleValidationResult validateVehicle(String vin, String brand, String model, int year);
     
+    /**
+     * Valida con el kilometraje declarado, para valuar el vehículo en su banda de kilometraje.
+     * Las implementaciones que no valúan por kilometraje lo ignoran.
+     */
+    default VehicleValidationResult validateVehicle(String vin, String brand, String model, int year, int kilometers) {
+        return validateVehicle(vin, brand, model, year);
+    }
+    
     class VehicleValidationResult {
         private final boolean valid;
         private final String errorMessage;
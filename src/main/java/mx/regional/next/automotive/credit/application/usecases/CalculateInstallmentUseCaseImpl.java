@@ -0,0 +1,70 @@
+package mx.regional.next.automotive.credit.application.usecases;
+
+import mx.regional.next.automotive.credit.application.dto.AmortizationScheduleRow;
+import mx.regional.next.automotive.credit.application.dto.InstallmentCalculationResponse;
+import mx.regional.next.automotive.credit.application.ports.in.CalculateInstallmentUseCase;
+import mx.regional.next.automotive.credit.domain.services.AmortizationSchedule;
+import mx.regional.next.automotive.credit.domain.services.InterestRateCalculationService;
+import mx.regional.next.automotive.credit.domain.valueobjects.CreditAmount;
+import mx.regional.next.automotive.credit.shared.constants.CreditConstants;
+import mx.regional.next.shared.common.annotations.UseCase;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.util.stream.Stream;
+
+@UseCase
+public class CalculateInstallmentUseCaseImpl implements CalculateInstallmentUseCase {
+    
+    private static final Logger log = LoggerFactory.getLogger(CalculateInstallmentUseCaseImpl.class);
+    
+    private final InterestRateCalculationService interestRateCalculationService;
+    
+    public CalculateInstallmentUseCaseImpl(InterestRateCalculationService interestRateCalculationService) {
+        this.interestRateCalculationService = interestRateCalculationService;
+    }
+    
+    @Override
+    public InstallmentCalculationResponse calculateInstallment(BigDecimal loanAmount, 
+                                                             BigDecimal annualRate, 
+                                                             int termInMonths) {
+        CreditAmount amount = new CreditAmount(loanAmount);
+        validateTerm(termInMonths);
+        
+        BigDecimal monthlyInstallment = interestRateCalculationService.calculateMonthlyInstallment(
+            amount, annualRate, termInMonths);
+        
+        return new InstallmentCalculationResponse(loanAmount, annualRate, termInMonths, monthlyInstallment);
+    }
+    
+    /**
+     * Las validaciones se hacen al invocar; las filas se calculan recién al consumir el stream.
+     */
+    @Override
+    public Stream<AmortizationScheduleRow> streamAmortizationSchedule(BigDecimal loanAmount,
+                                                                      BigDecimal annualRate,
+                                                                      int termInMonths) {
+        CreditAmount amount = new CreditAmount(loanAmount);
+        validateTerm(termInMonths);
+        if (annualRate == null || annualRate.compareTo(BigDecimal.ZERO) <= 0) {
+            throw new IllegalArgumentException("La tasa de interés debe ser mayor a 0");
+        }
+        
+        log.debug("Generando tabla de amortización: monto={}, tasa={}, plazo={}", 
+                  loanAmount, annualRate, termInMonths);
+        
+        return AmortizationSchedule.rows(amount.getValue(), annualRate, termInMonths)
+            .map(row -> new AmortizationScheduleRow(
+                row.getMonth(), row.getPayment(), row.getInterest(), row.getPrincipal(), row.getBalance()));
+    }
+    
+    private static void validateTerm(int termInMonths) {
+        if (termInMonths < CreditConstants.TermLimits.MIN_TERM_MONTHS
+                || termInMonths > CreditConstants.TermLimits.MAX_TERM_MONTHS) {
+            throw new IllegalArgumentException(String.format("El plazo debe estar entre %d y %d meses",
+                CreditConstants.TermLimits.MIN_TERM_MONTHS, CreditConstants.TermLimits.MAX_TERM_MONTHS));
+        }
+    }
+}
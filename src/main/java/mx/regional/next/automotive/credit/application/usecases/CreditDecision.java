@@ -0,0 +1,100 @@
+package mx.regional.next.automotive.credit.application.usecases;
+
+import mx.regional.next.automotive.credit.application.dto.CreditApplicationResponse;
+import mx.regional.next.automotive.credit.domain.entities.CreditApplication;
+import mx.regional.next.automotive.credit.domain.entities.Customer;
+import mx.regional.next.automotive.credit.domain.services.CreditEligibilityService;
+import mx.regional.next.automotive.credit.domain.services.InterestRateCalculationService;
+import mx.regional.next.automotive.credit.domain.valueobjects.CreditScore;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.util.concurrent.Callable;
+
+/**
+ * Regla de decisión compartida por los casos de uso bloqueante y reactivo, para que
+ * ambos aprueben o rechacen exactamente con los mismos criterios.
+ */
+final class CreditDecision {
+    
+    private static final Logger log = LoggerFactory.getLogger(CreditDecision.class);
+    
+    private final CreditEligibilityService creditEligibilityService;
+    private final InterestRateCalculationService interestRateCalculationService;
+    
+    CreditDecision(CreditEligibilityService creditEligibilityService,
+                   InterestRateCalculationService interestRateCalculationService) {
+        this.creditEligibilityService = creditEligibilityService;
+        this.interestRateCalculationService = interestRateCalculationService;
+    }
+    
+    /**
+     * Indica si la solicitud supera la elegibilidad, es decir, si su decisión necesitará el
+     * score. Permite al caso reactivo consultar el buró solo cuando hace falta.
+     */
+    boolean isEligible(CreditApplication application) {
+        return creditEligibilityService.isEligible(application);
+    }
+    
+    /**
+     * Evalúa elegibilidad, tasa y score de una solicitud ya construida y aplica la decisión
+     * sobre la entidad. La persistencia queda a cargo del llamador.
+     */
+    CreditApplicationResponse decide(CreditApplication application, 
+                                     Callable<CreditScore> creditScoreLookup) throws Exception {
+        Customer customer = application.getCustomer();
+        
+        // 4. Evaluar elegibilidad
+        if (!creditEligibilityService.isEligible(application)) {
+            application.reject("No cumple criterios de elegibilidad");
+            
+            log.info("Solicitud rechazada por elegibilidad para cliente: {}", 
+                    customer.getDocumentNumber().getValue());
+            
+            return CreditApplicationResponse.rejected(
+                application.getId(),
+                "No cumple con los criterios de elegibilidad"
+            );
+        }
+        
+        // 5. Obtener score crediticio
+        CreditScore creditScore = creditScoreLookup.call();
+        
+        // 6. Calcular tasa de interés
+        BigDecimal interestRate = interestRateCalculationService
+            .calculateInterestRate(application, creditScore);
+        
+        // 7. Tomar decisión
+        if (creditScore.getValue() >= 600) {
+            application.approve(creditScore);
+            
+            CreditApplicationResponse response = CreditApplicationResponse.approved(
+                application.getId(),
+                creditScore.getValue(),
+                application.getRequestedAmount().getValue()
+            );
+            response.setInterestRate(interestRate);
+            response.setCustomerDocument(customer.getDocumentNumber().getValue());
+            response.setRequestedAmount(application.getRequestedAmount().getValue());
+            
+            log.info("Solicitud aprobada para cliente: {}", customer.getDocumentNumber().getValue());
+            
+            return response;
+            
+        } else {
+            String rejectionReason = String.format(
+                "Score crediticio insuficiente: %d (mínimo requerido: 600)", 
+                creditScore.getValue()
+            );
+            
+            application.reject(rejectionReason);
+            
+            log.info("Solicitud rechazada por score para cliente: {}", 
+                    customer.getDocumentNumber().getValue());
+            
+            return CreditApplicationResponse.rejected(application.getId(), rejectionReason);
+        }
+    }
+}
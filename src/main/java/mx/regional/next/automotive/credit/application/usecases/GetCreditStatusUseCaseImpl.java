@@ -0,0 +1,74 @@
+package mx.regional.next.automotive.credit.application.usecases;
+
+import mx.regional.next.automotive.credit.application.dto.CreditStatusCursor;
+import mx.regional.next.automotive.credit.application.dto.CreditStatusPage;
+import mx.regional.next.automotive.credit.application.dto.CreditStatusResponse;
+import mx.regional.next.automotive.credit.application.ports.in.GetCreditStatusUseCase;
+import mx.regional.next.automotive.credit.application.ports.out.CreditStatusQueryPort;
+import mx.regional.next.shared.common.annotations.UseCase;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.util.stream.Stream;
+
+@UseCase
+public class GetCreditStatusUseCaseImpl implements GetCreditStatusUseCase {
+    
+    private static final Logger log = LoggerFactory.getLogger(GetCreditStatusUseCaseImpl.class);
+    
+    private final CreditStatusQueryPort creditStatusQueryPort;
+    private final int maxPageSize;
+    private final int exportFetchSize;
+    
+    public GetCreditStatusUseCaseImpl(
+            CreditStatusQueryPort creditStatusQueryPort,
+            @Value("${credit.status-query.max-page-size:50}") int maxPageSize,
+            @Value("${credit.status-query.export-fetch-size:500}") int exportFetchSize) {
+        this.creditStatusQueryPort = creditStatusQueryPort;
+        this.maxPageSize = maxPageSize;
+        this.exportFetchSize = exportFetchSize;
+    }
+    
+    @Override
+    public CreditStatusResponse getCreditStatus(String applicationId) {
+        if (applicationId == null || applicationId.isBlank()) {
+            throw new IllegalArgumentException("El ID de solicitud es requerido");
+        }
+        
+        log.debug("Consultando estado de solicitud: {}", applicationId);
+        return creditStatusQueryPort.findStatusById(applicationId)
+            .orElseThrow(() -> new IllegalArgumentException("Solicitud de crédito no encontrada: " + applicationId));
+    }
+    
+    /**
+     * El tamaño de página se acota a {@code credit.status-query.max-page-size}.
+     */
+    @Override
+    public CreditStatusPage getCreditStatusByCustomerDocument(String customerDocument, String cursor, int pageSize) {
+        validateDocument(customerDocument);
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("El tamaño de página debe ser mayor a 0");
+        }
+        CreditStatusCursor after = cursor == null || cursor.isBlank() ? null : CreditStatusCursor.decode(cursor.trim());
+        
+        log.debug("Consultando estados de solicitudes por documento: {}", customerDocument);
+        return creditStatusQueryPort.findStatusesByCustomerDocument(
+            customerDocument, after, Math.min(pageSize, maxPageSize));
+    }
+    
+    @Override
+    public Stream<CreditStatusResponse> streamCreditStatusByCustomerDocument(String customerDocument) {
+        validateDocument(customerDocument);
+        
+        log.debug("Recorriendo historial de solicitudes por documento: {}", customerDocument);
+        return creditStatusQueryPort.streamStatusesByCustomerDocument(customerDocument, exportFetchSize);
+    }
+    
+    private void validateDocument(String customerDocument) {
+        if (customerDocument == null || customerDocument.isBlank()) {
+            throw new IllegalArgumentException("El número de documento es requerido");
+        }
+    }
+}
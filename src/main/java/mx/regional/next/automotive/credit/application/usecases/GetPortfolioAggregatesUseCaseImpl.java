@@ -0,0 +1,44 @@
+package mx.regional.next.automotive.credit.application.usecases;
+
+import mx.regional.next.automotive.credit.application.dto.PortfolioAggregates;
+import mx.regional.next.automotive.credit.application.ports.in.GetPortfolioAggregatesUseCase;
+import mx.regional.next.automotive.credit.application.ports.out.PortfolioAggregatesQueryPort;
+import mx.regional.next.shared.common.annotations.UseCase;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+@UseCase
+public class GetPortfolioAggregatesUseCaseImpl implements GetPortfolioAggregatesUseCase {
+    
+    private final PortfolioAggregatesQueryPort portfolioAggregatesQueryPort;
+    private final int dashboardDays;
+    private final Clock clock;
+    
+    @Autowired
+    public GetPortfolioAggregatesUseCaseImpl(
+            PortfolioAggregatesQueryPort portfolioAggregatesQueryPort,
+            @Value("${credit.aggregates.dashboard-days:30}") int dashboardDays) {
+        this(portfolioAggregatesQueryPort, dashboardDays, Clock.systemDefaultZone());
+    }
+    
+    GetPortfolioAggregatesUseCaseImpl(PortfolioAggregatesQueryPort portfolioAggregatesQueryPort,
+                                      int dashboardDays, Clock clock) {
+        this.portfolioAggregatesQueryPort = portfolioAggregatesQueryPort;
+        this.dashboardDays = dashboardDays;
+        this.clock = clock;
+    }
+    
+    /**
+     * La serie diaria cubre los últimos {@code credit.aggregates.dashboard-days} días,
+     * incluido el de hoy.
+     */
+    @Override
+    public PortfolioAggregates getPortfolioAggregates() {
+        LocalDate fromDay = LocalDate.now(clock).minusDays(Math.max(dashboardDays, 1) - 1L);
+        return portfolioAggregatesQueryPort.findAggregates(fromDay);
+    }
+}
@@ -1,5 +1,6 @@
 package mx.regional.next.automotive.credit.application.usecases;
 
+import mx.regional.next.automotive.credit.application.ports.in.ProcessCreditApplicationBatchUseCase;
 import mx.regional.next.automotive.credit.application.ports.in.ProcessCreditApplicationUseCase;
 import mx.regional.next.automotive.credit.application.ports.out.*;
 import mx.regional.next.automotive.credit.application.dto.*;
@@ -11,10 +12,28 @@ import mx.regional.next.shared.common.annotations.UseCase;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import jakarta.annotation.PreDestroy;
 import jakarta.validation.Valid;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
 @UseCase
-public class ProcessCreditApplicationUseCaseImpl implements ProcessCreditApplicationUseCase {
+public class ProcessCreditApplicationUseCaseImpl implements ProcessCreditApplicationUseCase,
+                                                            ProcessCreditApplicationBatchUseCase {
     
     private static final Logger log = LoggerFactory.getLogger(ProcessCreditApplicationUseCaseImpl.class);
     
@@ -24,7 +43,14 @@ public class ProcessCreditApplicationUseCaseImpl implements ProcessCreditApplica
     private final VehicleValidationPort vehicleValidation;
     
     private final CreditEligibilityService creditEligibilityService;
-    private final InterestRateCalculationService interestRateCalculationService;
+    private final CreditDecision creditDecision;
+    
+    // Ejecutor de hilos virtuales para consultas concurrentes y procesamiento por lotes
+    private final ExecutorService lookupExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final boolean concurrentLookupsEnabled;
+    private final boolean speculativeScoreEnabled;
+    private final int maxBatchSize;
+    private final int batchParallelism;
     
     public ProcessCreditApplicationUseCaseImpl(
             CustomerRepositoryPort customerRepository,
@@ -32,14 +58,22 @@ public class ProcessCreditApplicationUseCaseImpl implements ProcessCreditApplica
             CreditScoreProviderPort creditScoreProvider,
             VehicleValidationPort vehicleValidation,
             CreditEligibilityService creditEligibilityService,
-            InterestRateCalculationService interestRateCalculationService) {
+            InterestRateCalculationService interestRateCalculationService,
+            @Value("${credit.processing.concurrent-lookups.enabled:false}") boolean concurrentLookupsEnabled,
+            @Value("${credit.processing.concurrent-lookups.speculative-score:true}") boolean speculativeScoreEnabled,
+            @Value("${credit.processing.batch.max-size:500}") int maxBatchSize,
+            @Value("${credit.processing.batch.parallelism:8}") int batchParallelism) {
         
         this.customerRepository = customerRepository;
         this.creditApplicationRepository = creditApplicationRepository;
         this.creditScoreProvider = creditScoreProvider;
         this.vehicleValidation = vehicleValidation;
         this.creditEligibilityService = creditEligibilityService;
-        this.interestRateCalculationService = interestRateCalculationService;
+        this.creditDecision = new CreditDecision(creditEligibilityService, interestRateCalculationService);
+        this.concurrentLookupsEnabled = concurrentLookupsEnabled;
+        this.speculativeScoreEnabled = speculativeScoreEnabled;
+        this.maxBatchSize = maxBatchSize;
+        this.batchParallelism = batchParallelism;
     }
     
     @Override
@@ -47,73 +81,31 @@ public class ProcessCreditApplicationUseCaseImpl implements ProcessCreditApplica
         log.info("Procesando solicitud de crédito para cliente: {}", request.getCustomerDocument());
         
         try {
-            // 1. Validar y obtener cliente
-            Customer customer = validateAndGetCustomer(request);
-            
-            // 2. Validar vehículo
-            Vehicle vehicle = validateVehicle(request);
+            LookupResults lookups = concurrentLookupsEnabled
+                ? fetchLookupsConcurrently(request)
+                : fetchLookupsSequentially(request);
             
-            // 3. Crear aplicación de crédito
-            CreditApplication application = new CreditApplication(
-                customer, 
-                vehicle, 
-                new CreditAmount(request.getRequestedAmount())
-            );
-            
-            // 4. Evaluar elegibilidad
-            if (!creditEligibilityService.isEligible(application)) {
-                application.reject("No cumple criterios de elegibilidad");
-                creditApplicationRepository.save(application);
-                
-                log.info("Solicitud rechazada por elegibilidad para cliente: {}", 
-                        customer.getDocumentNumber().getValue());
-                
-                return CreditApplicationResponse.rejected(
-                    application.getId(),
-                    "No cumple con los criterios de elegibilidad"
+            CreditApplication application;
+            CreditApplicationResponse response;
+            try {
+                // 3. Crear aplicación de crédito
+                application = new CreditApplication(
+                    lookups.customer(), 
+                    lookups.vehicle(), 
+                    new CreditAmount(request.getRequestedAmount())
                 );
+                
+                // El score solo se usa si la solicitud supera la elegibilidad
+                response = creditDecision.decide(application, scoreLookup(lookups));
+            } finally {
+                // Sin efecto si el score ya se usó; si no (no elegible o error), no queda en curso
+                lookups.cancelSpeculativeScore();
             }
             
-            // 5. Obtener score crediticio
-            CreditScore creditScore = creditScoreProvider.getCreditScore(customer.getDocumentNumber());
-            
-            // 6. Calcular tasa de interés
-            java.math.BigDecimal interestRate = interestRateCalculationService
-                .calculateInterestRate(application, creditScore);
+            // La persistencia registra el aviso de la decisión en la misma transacción
+            creditApplicationRepository.save(application);
             
-            // 7. Tomar decisión
-            if (creditScore.getValue() >= 600) {
-                application.approve(creditScore);
-                
-                CreditApplicationResponse response = CreditApplicationResponse.approved(
-                    application.getId(),
-                    creditScore.getValue(),
-                    application.getRequestedAmount().getValue()
-                );
-                response.setInterestRate(interestRate);
-                response.setCustomerDocument(customer.getDocumentNumber().getValue());
-                response.setRequestedAmount(application.getRequestedAmount().getValue());
-                
-                creditApplicationRepository.save(application);
-                
-                log.info("Solicitud aprobada para cliente: {}", customer.getDocumentNumber().getValue());
-                
-                return response;
-                
-            } else {
-                String rejectionReason = String.format(
-                    "Score crediticio insuficiente: %d (mínimo requerido: 600)", 
-                    creditScore.getValue()
-                );
-                
-                application.reject(rejectionReason);
-                creditApplicationRepository.save(application);
-                
-                log.info("Solicitud rechazada por score para cliente: {}", 
-                        customer.getDocumentNumber().getValue());
-                
-                return CreditApplicationResponse.rejected(application.getId(), rejectionReason);
-            }
+            return response;
             
         } catch (Exception e) {
             log.error("Error procesando solicitud de crédito para cliente: {}", 
@@ -122,6 +114,245 @@ public class ProcessCreditApplicationUseCaseImpl implements ProcessCreditApplica
         }
     }
     
+    /**
+     * Procesa un lote de solicitudes con una sola carga de clientes, una consulta de score
+     * por documento distinto y una persistencia por lotes. Los errores de una solicitud
+     * se reportan en su resultado sin afectar al resto del lote.
+     */
+    @Override
+    public BatchCreditApplicationResponse processApplications(List<CreditApplicationRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("El lote debe contener al menos una solicitud");
+        }
+        if (requests.size() > maxBatchSize) {
+            throw new IllegalArgumentException(String.format(
+                "El lote excede el tamaño máximo permitido: %d (máximo %d)", requests.size(), maxBatchSize));
+        }
+        
+        log.info("Procesando lote de {} solicitudes de crédito", requests.size());
+        
+        int size = requests.size();
+        BatchCreditApplicationResponse.ItemResult[] results = new BatchCreditApplicationResponse.ItemResult[size];
+        Semaphore permits = new Semaphore(batchParallelism);
+        
+        // 1. Normalizar documentos y cargar todos los clientes en una sola consulta
+        DocumentNumber[] documents = new DocumentNumber[size];
+        Set<DocumentNumber> distinctDocuments = new LinkedHashSet<>();
+        for (int i = 0; i < size; i++) {
+            try {
+                documents[i] = new DocumentNumber(requests.get(i).getCustomerDocument());
+                distinctDocuments.add(documents[i]);
+            } catch (Exception e) {
+                results[i] = failedItem(i, requests.get(i), e);
+            }
+        }
+        Map<DocumentNumber, Customer> customers = customerRepository.findAllByDocumentNumbers(distinctDocuments);
+        
+        // Sin cliente la solicitud ya falló: no se valida su vehículo
+        for (int i = 0; i < size; i++) {
+            if (results[i] == null && !customers.containsKey(documents[i])) {
+                results[i] = failedItem(i, requests.get(i),
+                    new RuntimeException("Cliente no encontrado: " + requests.get(i).getCustomerDocument()));
+            }
+        }
+        
+        List<Future<Vehicle>> vehicleFutures = new ArrayList<>(size);
+        Map<DocumentNumber, Future<CreditScore>> scoreFutures = new HashMap<>();
+        try {
+            decideBatch(requests, results, documents, customers, permits, vehicleFutures, scoreFutures);
+        } finally {
+            // Las consultas que nadie va a esperar (error inesperado, hilo interrumpido) no siguen en curso
+            vehicleFutures.stream().filter(Objects::nonNull).forEach(future -> future.cancel(true));
+            scoreFutures.values().forEach(future -> future.cancel(true));
+        }
+        
+        BatchCreditApplicationResponse response = new BatchCreditApplicationResponse(List.of(results));
+        log.info("Lote procesado: {} aprobadas, {} rechazadas, {} con error", 
+                response.getApprovedCount(), response.getRejectedCount(), response.getFailedCount());
+        return response;
+    }
+    
+    /**
+     * Pasos 2 a 5 del lote. Registra en {@code vehicleFutures} y {@code scoreFutures} cada
+     * consulta que lanza para que quien llama las cancele al terminar.
+     */
+    private void decideBatch(List<CreditApplicationRequest> requests,
+                             BatchCreditApplicationResponse.ItemResult[] results,
+                             DocumentNumber[] documents,
+                             Map<DocumentNumber, Customer> customers,
+                             Semaphore permits,
+                             List<Future<Vehicle>> vehicleFutures,
+                             Map<DocumentNumber, Future<CreditScore>> scoreFutures) {
+        int size = requests.size();
+        
+        // 2. Validar vehículos en paralelo con paralelismo acotado
+        for (int i = 0; i < size; i++) {
+            CreditApplicationRequest request = requests.get(i);
+            vehicleFutures.add(results[i] == null
+                ? submitBounded(permits, () -> validateVehicle(request))
+                : null);
+        }
+        
+        // 3. Construir solicitudes y evaluar elegibilidad
+        CreditApplication[] applications = new CreditApplication[size];
+        Set<DocumentNumber> documentsToScore = new LinkedHashSet<>();
+        for (int i = 0; i < size; i++) {
+            if (results[i] != null) {
+                continue;
+            }
+            CreditApplicationRequest request = requests.get(i);
+            try {
+                Vehicle vehicle = awaitLookup(vehicleFutures.get(i));
+                applications[i] = new CreditApplication(customers.get(documents[i]), vehicle,
+                    new CreditAmount(request.getRequestedAmount()));
+                if (creditEligibilityService.isEligible(applications[i])) {
+                    documentsToScore.add(documents[i]);
+                }
+            } catch (Exception e) {
+                results[i] = failedItem(i, request, e);
+            }
+        }
+        
+        // 4. Consultar el score una sola vez por documento distinto
+        for (DocumentNumber documentNumber : documentsToScore) {
+            scoreFutures.put(documentNumber,
+                submitBounded(permits, () -> creditScoreProvider.getCreditScore(documentNumber)));
+        }
+        
+        // 5. Decidir cada solicitud y persistir todas las decisiones en lote
+        List<CreditApplication> decided = new ArrayList<>(size);
+        List<Integer> decidedIndexes = new ArrayList<>(size);
+        CreditApplicationResponse[] responses = new CreditApplicationResponse[size];
+        for (int i = 0; i < size; i++) {
+            if (results[i] != null) {
+                continue;
+            }
+            Future<CreditScore> scoreFuture = scoreFutures.get(documents[i]);
+            try {
+                responses[i] = creditDecision.decide(applications[i], () -> awaitLookup(scoreFuture));
+                decided.add(applications[i]);
+                decidedIndexes.add(i);
+            } catch (Exception e) {
+                results[i] = failedItem(i, requests.get(i), e);
+            }
+        }
+        
+        try {
+            creditApplicationRepository.saveAll(decided);
+            for (int i : decidedIndexes) {
+                results[i] = BatchCreditApplicationResponse.ItemResult.success(
+                    i, requests.get(i).getCustomerDocument(), responses[i]);
+            }
+        } catch (Exception e) {
+            log.error("Error persistiendo lote de {} decisiones de crédito", decided.size(), e);
+            for (int i : decidedIndexes) {
+                results[i] = failedItem(i, requests.get(i), e);
+            }
+        }
+    }
+    
+    private <T> Future<T> submitBounded(Semaphore permits, Callable<T> lookup) {
+        return lookupExecutor.submit(() -> {
+            permits.acquire();
+            try {
+                return lookup.call();
+            } finally {
+                permits.release();
+            }
+        });
+    }
+    
+    private BatchCreditApplicationResponse.ItemResult failedItem(int index, CreditApplicationRequest request, 
+                                                                 Exception error) {
+        log.warn("Solicitud {} del lote falló para cliente {}: {}", 
+                index, request.getCustomerDocument(), error.getMessage());
+        return BatchCreditApplicationResponse.ItemResult.failure(
+            index, request.getCustomerDocument(), error.getMessage());
+    }
+    
+    private LookupResults fetchLookupsSequentially(CreditApplicationRequest request) {
+        // 1. Validar y obtener cliente
+        Customer customer = validateAndGetCustomer(request);
+        
+        // 2. Validar vehículo
+        Vehicle vehicle = validateVehicle(request);
+        
+        return new LookupResults(customer, vehicle, null);
+    }
+    
+    /**
+     * Lanza en paralelo la consulta del cliente, la validación del vehículo y, con
+     * {@code speculative-score} activo, el score del buró, que es la consulta más lenta. El
+     * primer fallo definitivo (cliente inexistente, vehículo inválido) cancela las consultas
+     * hermanas y se propaga igual que en el modo secuencial. Un fallo del score no adelanta
+     * nada: solo se propaga si la solicitud resulta elegible y lo necesita, como en el modo
+     * secuencial.
+     */
+    private LookupResults fetchLookupsConcurrently(CreditApplicationRequest request) throws Exception {
+        // Se esperan en orden de finalización para reaccionar al primer fallo
+        // sin esperar a la consulta más lenta
+        ExecutorCompletionService<Object> lookups = new ExecutorCompletionService<>(lookupExecutor);
+        Future<Object> customerFuture = lookups.submit(() -> validateAndGetCustomer(request));
+        Future<Object> vehicleFuture = lookups.submit(() -> validateVehicle(request));
+        Future<CreditScore> scoreFuture = speculativeScoreEnabled
+            ? lookupExecutor.submit(() -> creditScoreProvider.getCreditScore(
+                new DocumentNumber(request.getCustomerDocument())))
+            : null;
+        
+        try {
+            for (int completed = 0; completed < 2; completed++) {
+                awaitLookup(lookups.take());
+            }
+            Customer customer = (Customer) awaitLookup(customerFuture);
+            Vehicle vehicle = (Vehicle) awaitLookup(vehicleFuture);
+            return new LookupResults(customer, vehicle, scoreFuture);
+        } catch (Exception e) {
+            customerFuture.cancel(true);
+            vehicleFuture.cancel(true);
+            if (scoreFuture != null) {
+                scoreFuture.cancel(true);
+            }
+            throw e;
+        }
+    }
+    
+    private Callable<CreditScore> scoreLookup(LookupResults lookups) {
+        Future<CreditScore> speculativeScore = lookups.speculativeScore();
+        if (speculativeScore != null) {
+            return () -> awaitLookup(speculativeScore);
+        }
+        return () -> creditScoreProvider.getCreditScore(lookups.customer().getDocumentNumber());
+    }
+    
+    @PreDestroy
+    void shutdownLookupExecutor() {
+        lookupExecutor.close();
+    }
+    
+    private static <T> T awaitLookup(Future<T> future) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+    }
+    
+    // speculativeScore es null cuando el score se consulta después de la elegibilidad
+    private record LookupResults(Customer customer, Vehicle vehicle, Future<CreditScore> speculativeScore) {
+        
+        void cancelSpeculativeScore() {
+            if (speculativeScore != null) {
+                speculativeScore.cancel(true);
+            }
+        }
+    }
+    
     private Customer validateAndGetCustomer(CreditApplicationRequest request) {
         DocumentNumber documentNumber = new DocumentNumber(request.getCustomerDocument());
         
@@ -135,7 +366,8 @@ public class ProcessCreditApplicationUseCaseImpl implements ProcessCreditApplica
             request.getVehicleVin(),
             request.getVehicleBrand(),
             request.getVehicleModel(),
-            request.getVehicleYear()
+            request.getVehicleYear(),
+            request.getVehicleKilometers()
         );
         
         if (!validation.isValid()) {
@@ -0,0 +1,110 @@
+package mx.regional.next.automotive.credit.application.usecases;
+
+import mx.regional.next.automotive.credit.application.ports.in.ReactiveProcessCreditApplicationUseCase;
+import mx.regional.next.automotive.credit.application.ports.out.*;
+import mx.regional.next.automotive.credit.application.dto.*;
+import mx.regional.next.automotive.credit.domain.entities.*;
+import mx.regional.next.automotive.credit.domain.valueobjects.*;
+import mx.regional.next.automotive.credit.domain.services.*;
+import mx.regional.next.shared.common.annotations.UseCase;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+/**
+ * Variante no bloqueante de {@link ProcessCreditApplicationUseCaseImpl}. Las consultas de
+ * cliente y vehículo se lanzan a la vez y el score se pide al buró solo si la solicitud
+ * supera la elegibilidad. Ningún hilo queda retenido mientras esperan, por lo que un nodo
+ * puede sostener miles de solicitudes en curso.
+ */
+@UseCase
+public class ReactiveProcessCreditApplicationUseCaseImpl implements ReactiveProcessCreditApplicationUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveProcessCreditApplicationUseCaseImpl.class);
+
+    private final ReactiveCustomerRepositoryPort customerRepository;
+    private final ReactiveCreditApplicationRepositoryPort creditApplicationRepository;
+    private final ReactiveCreditScoreProviderPort creditScoreProvider;
+    private final ReactiveVehicleValidationPort vehicleValidation;
+
+    private final CreditDecision creditDecision;
+
+    public ReactiveProcessCreditApplicationUseCaseImpl(
+            ReactiveCustomerRepositoryPort customerRepository,
+            ReactiveCreditApplicationRepositoryPort creditApplicationRepository,
+            ReactiveCreditScoreProviderPort creditScoreProvider,
+            ReactiveVehicleValidationPort vehicleValidation,
+            CreditEligibilityService creditEligibilityService,
+            InterestRateCalculationService interestRateCalculationService) {
+
+        this.customerRepository = customerRepository;
+        this.creditApplicationRepository = creditApplicationRepository;
+        this.creditScoreProvider = creditScoreProvider;
+        this.vehicleValidation = vehicleValidation;
+        this.creditDecision = new CreditDecision(creditEligibilityService, interestRateCalculationService);
+    }
+
+    @Override
+    public Mono<CreditApplicationResponse> processApplication(CreditApplicationRequest request) {
+        return Mono.defer(() -> {
+            log.info("Procesando solicitud de crédito (reactivo) para cliente: {}", request.getCustomerDocument());
+
+            DocumentNumber documentNumber = new DocumentNumber(request.getCustomerDocument());
+
+            // zip cancela la consulta hermana ante el primer error, igual que el modo concurrente bloqueante
+            return Mono.zip(
+                    findCustomer(documentNumber, request),
+                    validateVehicle(request))
+                .flatMap(lookups -> {
+                    CreditApplication application = new CreditApplication(
+                        lookups.getT1(),
+                        lookups.getT2(),
+                        new CreditAmount(request.getRequestedAmount())
+                    );
+
+                    // El score solo se consulta si la solicitud supera la elegibilidad
+                    Mono<Optional<CreditScore>> creditScore = creditDecision.isEligible(application)
+                        ? creditScoreProvider.getCreditScore(documentNumber).map(Optional::of)
+                        : Mono.just(Optional.empty());
+
+                    return creditScore.flatMap(score -> {
+                        CreditApplicationResponse response;
+                        try {
+                            response = creditDecision.decide(application, score::orElseThrow);
+                        } catch (Exception e) {
+                            return Mono.error(e);
+                        }
+
+                        // La persistencia registra el aviso de la decisión en la misma transacción
+                        return creditApplicationRepository.save(application).thenReturn(response);
+                    });
+                });
+        })
+        .onErrorMap(e -> {
+            log.error("Error procesando solicitud de crédito para cliente: {}",
+                     request.getCustomerDocument(), e);
+            return new RuntimeException("Error procesando solicitud de crédito", e);
+        });
+    }
+
+    private Mono<Customer> findCustomer(DocumentNumber documentNumber, CreditApplicationRequest request) {
+        return customerRepository.findByDocumentNumber(documentNumber)
+            .switchIfEmpty(Mono.error(() -> new RuntimeException(
+                "Cliente no encontrado: " + request.getCustomerDocument())));
+    }
+
+    private Mono<Vehicle> validateVehicle(CreditApplicationRequest request) {
+        return vehicleValidation.validateVehicle(
+                request.getVehicleVin(),
+                request.getVehicleBrand(),
+                request.getVehicleModel(),
+                request.getVehicleYear(),
+                request.getVehicleKilometers())
+            .flatMap(validation -> validation.isValid()
+                ? Mono.just(validation.getVehicle())
+                : Mono.error(new RuntimeException("Vehículo no válido: " + validation.getErrorMessage())));
+    }
+}
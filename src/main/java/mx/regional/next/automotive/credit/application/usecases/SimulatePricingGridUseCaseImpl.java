@@ -0,0 +1,169 @@
+package mx.regional.next.automotive.credit.application.usecases;
+
+import mx.regional.next.automotive.credit.application.dto.PricingGridRequest;
+import mx.regional.next.automotive.credit.application.dto.PricingGridResponse;
+import mx.regional.next.automotive.credit.application.ports.in.SimulatePricingGridUseCase;
+import mx.regional.next.automotive.credit.application.ports.out.CreditScoreProviderPort;
+import mx.regional.next.automotive.credit.application.ports.out.CustomerRepositoryPort;
+import mx.regional.next.automotive.credit.application.ports.out.VehicleValidationPort;
+import mx.regional.next.automotive.credit.domain.entities.Customer;
+import mx.regional.next.automotive.credit.domain.entities.Vehicle;
+import mx.regional.next.automotive.credit.domain.services.InterestRateCalculationService;
+import mx.regional.next.automotive.credit.domain.services.InterestRateCalculationService.PricingGrid;
+import mx.regional.next.automotive.credit.domain.valueobjects.CreditAmount;
+import mx.regional.next.automotive.credit.domain.valueobjects.CreditScore;
+import mx.regional.next.automotive.credit.domain.valueobjects.DocumentNumber;
+import mx.regional.next.automotive.credit.shared.constants.CreditConstants;
+import mx.regional.next.shared.common.annotations.UseCase;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Simula la matriz completa de tasas y cuotas (plazo x monto) para un cliente y vehículo con
+ * una sola consulta de cliente, vehículo y score, en lugar de una simulación por celda.
+ */
+@UseCase
+public class SimulatePricingGridUseCaseImpl implements SimulatePricingGridUseCase {
+    
+    private static final Logger log = LoggerFactory.getLogger(SimulatePricingGridUseCaseImpl.class);
+    
+    private static final int MIN_TERM = CreditConstants.TermLimits.MIN_TERM_MONTHS;
+    private static final int MAX_TERM = CreditConstants.TermLimits.MAX_TERM_MONTHS;
+    
+    private final CustomerRepositoryPort customerRepository;
+    private final CreditScoreProviderPort creditScoreProvider;
+    private final VehicleValidationPort vehicleValidation;
+    private final InterestRateCalculationService interestRateCalculationService;
+    private final int maxAmountSteps;
+    
+    public SimulatePricingGridUseCaseImpl(
+            CustomerRepositoryPort customerRepository,
+            CreditScoreProviderPort creditScoreProvider,
+            VehicleValidationPort vehicleValidation,
+            InterestRateCalculationService interestRateCalculationService,
+            @Value("${credit.pricing-grid.max-amount-steps:20}") int maxAmountSteps) {
+        
+        this.customerRepository = customerRepository;
+        this.creditScoreProvider = creditScoreProvider;
+        this.vehicleValidation = vehicleValidation;
+        this.interestRateCalculationService = interestRateCalculationService;
+        this.maxAmountSteps = maxAmountSteps;
+    }
+    
+    @Override
+    public PricingGridResponse simulatePricingGrid(PricingGridRequest request) {
+        List<CreditAmount> amounts = amountSteps(request);
+        int[] terms = termSteps(request.getTermStep());
+        
+        log.info("Simulando rejilla de precios para cliente: {} ({} montos x {} plazos)", 
+                request.getCustomerDocument(), amounts.size(), terms.length);
+        
+        try {
+            DocumentNumber documentNumber = new DocumentNumber(request.getCustomerDocument());
+            Customer customer = customerRepository.findByDocumentNumber(documentNumber)
+                .orElseThrow(() -> new RuntimeException(
+                    "Cliente no encontrado: " + request.getCustomerDocument()));
+            Vehicle vehicle = validateVehicle(request);
+            CreditScore creditScore = creditScoreProvider.getCreditScore(documentNumber);
+            
+            PricingGrid grid = interestRateCalculationService.calculatePricingGrid(
+                creditScore, customer, vehicle, amounts, terms);
+            
+            return toResponse(request.getCustomerDocument(), creditScore, grid);
+            
+        } catch (Exception e) {
+            log.error("Error simulando rejilla de precios para cliente: {}", request.getCustomerDocument(), e);
+            throw new RuntimeException("Error simulando rejilla de precios", e);
+        }
+    }
+    
+    /**
+     * Montos equiespaciados entre el mínimo y el máximo, redondeados al peso.
+     */
+    List<CreditAmount> amountSteps(PricingGridRequest request) {
+        BigDecimal min = request.getMinAmount();
+        BigDecimal max = request.getMaxAmount();
+        int steps = request.getAmountSteps();
+        
+        if (min == null || max == null || min.compareTo(max) > 0) {
+            throw new IllegalArgumentException("El rango de montos no es válido");
+        }
+        if (steps < 1 || steps > maxAmountSteps) {
+            throw new IllegalArgumentException(String.format(
+                "El número de montos debe estar entre 1 y %d", maxAmountSteps));
+        }
+        
+        List<CreditAmount> amounts = new ArrayList<>(steps);
+        if (steps == 1 || min.compareTo(max) == 0) {
+            amounts.add(new CreditAmount(min));
+            return amounts;
+        }
+        
+        BigDecimal increment = max.subtract(min).divide(BigDecimal.valueOf(steps - 1L), 2, RoundingMode.HALF_UP);
+        for (int i = 0; i < steps - 1; i++) {
+            amounts.add(new CreditAmount(
+                min.add(increment.multiply(BigDecimal.valueOf(i))).setScale(0, RoundingMode.HALF_UP)));
+        }
+        amounts.add(new CreditAmount(max));
+        return amounts;
+    }
+    
+    /**
+     * Plazos desde 12 meses con el paso indicado; el plazo máximo (84) siempre se incluye.
+     */
+    static int[] termSteps(int termStep) {
+        if (termStep < 1 || termStep > MAX_TERM - MIN_TERM) {
+            throw new IllegalArgumentException(String.format(
+                "El paso de plazo debe estar entre 1 y %d meses", MAX_TERM - MIN_TERM));
+        }
+        
+        int count = (MAX_TERM - MIN_TERM) / termStep + 1;
+        boolean includesMaxTerm = (MAX_TERM - MIN_TERM) % termStep == 0;
+        int[] terms = new int[includesMaxTerm ? count : count + 1];
+        for (int i = 0; i < count; i++) {
+            terms[i] = MIN_TERM + i * termStep;
+        }
+        terms[terms.length - 1] = MAX_TERM;
+        return terms;
+    }
+    
+    private Vehicle validateVehicle(PricingGridRequest request) {
+        VehicleValidationPort.VehicleValidationResult validation = vehicleValidation.validateVehicle(
+            request.getVehicleVin(),
+            request.getVehicleBrand(),
+            request.getVehicleModel(),
+            request.getVehicleYear()
+        );
+        
+        if (!validation.isValid()) {
+            throw new RuntimeException("Vehículo no válido: " + validation.getErrorMessage());
+        }
+        
+        return validation.getVehicle();
+    }
+    
+    private static PricingGridResponse toResponse(String customerDocument, CreditScore creditScore, PricingGrid grid) {
+        List<BigDecimal> amounts = new ArrayList<>(grid.getAmountCount());
+        for (int column = 0; column < grid.getAmountCount(); column++) {
+            amounts.add(grid.getAmount(column));
+        }
+        
+        List<PricingGridResponse.Row> rows = new ArrayList<>(grid.getTermCount());
+        for (int row = 0; row < grid.getTermCount(); row++) {
+            List<PricingGridResponse.Cell> cells = new ArrayList<>(grid.getAmountCount());
+            for (int column = 0; column < grid.getAmountCount(); column++) {
+                cells.add(new PricingGridResponse.Cell(grid.getRate(row, column), grid.getInstallment(row, column)));
+            }
+            rows.add(new PricingGridResponse.Row(grid.getTermInMonths(row), cells));
+        }
+        
+        return new PricingGridResponse(customerDocument, creditScore.getValue(), grid.getBaseRate(), amounts, rows);
+    }
+}
@@ -4,12 +4,15 @@ import mx.regional.next.automotive.credit.domain.valueobjects.CreditAmount;
 import mx.regional.next.automotive.credit.domain.valueobjects.CreditScore;
 import mx.regional.next.automotive.credit.domain.enums.CreditStatus;
 import mx.regional.next.automotive.credit.domain.exceptions.InvalidCreditAmountException;
+import mx.regional.next.automotive.credit.shared.utils.TimeOrderedIds;
 
 import java.time.LocalDateTime;
 import java.util.Objects;
-import java.util.UUID;
 
 public class CreditApplication {
+    // Coincide con la restricción de la tabla; el motivo viaja en los índices cubrientes
+    public static final int MAX_REJECTION_REASON_LENGTH = 500;
+    
     private final String id;
     private final Customer customer;
     private final Vehicle vehicle;
@@ -23,7 +26,8 @@ public class CreditApplication {
     public CreditApplication(Customer customer, Vehicle vehicle, CreditAmount requestedAmount) {
         validateConstructorParameters(customer, vehicle, requestedAmount);
         
-        this.id = UUID.randomUUID().toString();
+        // Ordenado por tiempo para que los inserts vayan al final del índice de la llave primaria
+        this.id = TimeOrderedIds.next();
         this.customer = customer;
         this.vehicle = vehicle;
         this.requestedAmount = requestedAmount;
@@ -34,6 +38,35 @@ public class CreditApplication {
         validateBusinessRules();
     }
     
+    private CreditApplication(String id, Customer customer, Vehicle vehicle, CreditAmount requestedAmount,
+                              CreditStatus status, CreditScore creditScore, String rejectionReason,
+                              LocalDateTime applicationDate, LocalDateTime lastUpdateDate) {
+        validateConstructorParameters(customer, vehicle, requestedAmount);
+        
+        this.id = Objects.requireNonNull(id, "El id es obligatorio");
+        this.customer = customer;
+        this.vehicle = vehicle;
+        this.requestedAmount = requestedAmount;
+        this.status = Objects.requireNonNull(status, "El estado es obligatorio");
+        this.creditScore = creditScore;
+        this.rejectionReason = rejectionReason;
+        this.applicationDate = applicationDate;
+        this.lastUpdateDate = lastUpdateDate;
+    }
+    
+    /**
+     * Reconstruye una solicitud ya persistida con su id, estado y fechas. Las reglas de
+     * creación no se vuelven a aplicar: el valor del vehículo o las políticas pudieron cambiar
+     * después de decidirla.
+     */
+    public static CreditApplication restore(String id, Customer customer, Vehicle vehicle,
+                                            CreditAmount requestedAmount, CreditStatus status,
+                                            CreditScore creditScore, String rejectionReason,
+                                            LocalDateTime applicationDate, LocalDateTime lastUpdateDate) {
+        return new CreditApplication(id, customer, vehicle, requestedAmount, status, creditScore,
+            rejectionReason, applicationDate, lastUpdateDate);
+    }
+    
     private void validateConstructorParameters(Customer customer, Vehicle vehicle, 
                                              CreditAmount requestedAmount) {
         if (customer == null) {
@@ -74,6 +107,10 @@ public class CreditApplication {
         if (reason == null || reason.trim().isEmpty()) {
             throw new IllegalArgumentException("El motivo de rechazo es obligatorio");
         }
+        if (reason.length() > MAX_REJECTION_REASON_LENGTH) {
+            throw new IllegalArgumentException(
+                "El motivo de rechazo no puede exceder " + MAX_REJECTION_REASON_LENGTH + " caracteres");
+        }
         
         this.status = CreditStatus.REJECTED;
         this.rejectionReason = reason;
@@ -0,0 +1,204 @@
+package mx.regional.next.automotive.credit.domain.services;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Motor de amortización compartido por los servicios de dominio.
+ *
+ * <p>Reproduce exactamente (al centavo y con la misma escala) el cálculo original con
+ * {@code BigDecimal.pow}: tasa mensual redondeada HALF_UP a 6 decimales y resultado
+ * redondeado HALF_UP a 2 decimales. La tasa mensual se representa en enteros de
+ * millonésimas ({@code k}, r = k / 10^6) y el factor (1+r)^n se evalúa en {@code double}.
+ *
+ * <p>Cota de error: dentro del dominio del camino rápido (r·n ≥ 0.01, n·ln(1+r) ≤ 50,
+ * resultado &lt; 10^15 centavos) el error relativo del cálculo en {@code double} es menor
+ * que 2·10^-12 (≈150 ulp en (1+r)^n, amplificados como máximo 101 veces por q/(q-1)). Si
+ * el valor calculado queda a menos de {@link #RELATIVE_ERROR_BOUND} de una frontera de
+ * redondeo (x.5 centavos) el resultado podría diferir del exacto, así que se recalcula con
+ * {@link BigDecimal}; fuera de esos casos el redondeo coincide con el exacto.
+ *
+ * <p>Las tasas y plazos de la rejilla de {@link AnnuityFactorTable} no recalculan el factor:
+ * la cuota es una búsqueda en arreglo y una multiplicación.
+ */
+public final class AmortizationEngine {
+
+    static final int RATE_SCALE = 6;
+
+    // Cota conservadora (5 veces la cota analítica) del error relativo del camino rápido
+    static final double RELATIVE_ERROR_BOUND = 1e-11;
+
+    private static final double MICROS = 1_000_000d;
+    private static final double MAX_FAST_PATH_VALUE = 1e15;
+    private static final double MAX_GROWTH_EXPONENT = 50d;
+    private static final long MIN_RATE_TERM_PRODUCT = 10_000L; // r·n ≥ 0.01
+    static final long NOT_ROUNDED = Long.MIN_VALUE;
+    private static final BigDecimal TWELVE = BigDecimal.valueOf(12);
+    private static final long[] POWERS_OF_TEN = {1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L};
+
+    private AmortizationEngine() {
+    }
+
+    /**
+     * Tasa mensual en millonésimas, equivalente a {@code annualRate / 12} con escala 6 y HALF_UP.
+     */
+    public static long monthlyRateMicros(BigDecimal annualRate) {
+        int scale = annualRate.scale();
+        if (scale >= 0 && scale <= RATE_SCALE && annualRate.unscaledValue().bitLength() < 40) {
+            long annualMicros = annualRate.unscaledValue().longValue() * POWERS_OF_TEN[RATE_SCALE - scale];
+            long roundedMagnitude = (Math.abs(annualMicros) + 6) / 12;
+            return annualMicros < 0 ? -roundedMagnitude : roundedMagnitude;
+        }
+        return annualRate.divide(TWELVE, RATE_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Cuota fija PMT = P·r·(1+r)^n / ((1+r)^n - 1) con escala 2.
+     */
+    public static BigDecimal monthlyPayment(BigDecimal principal, BigDecimal annualRate, int termInMonths) {
+        AnnuityFactorTable table = AnnuityFactorTable.standard();
+        int cell = table.cellOf(annualRate, termInMonths);
+        if (cell == AnnuityFactorTable.NOT_IN_TABLE) {
+            return monthlyPayment(principal, monthlyRateMicros(annualRate), termInMonths);
+        }
+
+        long centavos = roundHalfUp(principal.doubleValue() * table.paymentFactor(cell) * 100d);
+        if (centavos != NOT_ROUNDED) {
+            return BigDecimal.valueOf(centavos, 2);
+        }
+        return exactMonthlyPayment(principal, BigDecimal.valueOf(table.monthlyRateMicros(cell), RATE_SCALE), termInMonths);
+    }
+
+    public static BigDecimal monthlyPayment(BigDecimal principal, long monthlyRateMicros, int termInMonths) {
+        requirePositive(monthlyRateMicros, termInMonths);
+
+        if (isFastPathDomain(monthlyRateMicros, termInMonths)) {
+            double paymentFactor = paymentFactor(monthlyRateMicros, termInMonths);
+            long centavos = roundHalfUp(principal.doubleValue() * paymentFactor * 100d);
+            if (centavos != NOT_ROUNDED) {
+                return BigDecimal.valueOf(centavos, 2);
+            }
+        }
+        return exactMonthlyPayment(principal, BigDecimal.valueOf(monthlyRateMicros, RATE_SCALE), termInMonths);
+    }
+
+    /**
+     * Cuotas de varios capitales con la misma tasa y plazo. El factor se resuelve una sola
+     * vez y cada cuota coincide con {@link #monthlyPayment(BigDecimal, BigDecimal, int)}.
+     */
+    public static BigDecimal[] monthlyPayments(BigDecimal[] principals, BigDecimal annualRate, int termInMonths) {
+        AnnuityFactorTable table = AnnuityFactorTable.standard();
+        int cell = table.cellOf(annualRate, termInMonths);
+
+        long monthlyRateMicros;
+        double paymentFactor;
+        if (cell != AnnuityFactorTable.NOT_IN_TABLE) {
+            monthlyRateMicros = table.monthlyRateMicros(cell);
+            paymentFactor = table.paymentFactor(cell);
+        } else {
+            monthlyRateMicros = monthlyRateMicros(annualRate);
+            requirePositive(monthlyRateMicros, termInMonths);
+            // NaN hace que roundHalfUp no decida y se use el cálculo exacto
+            paymentFactor = isFastPathDomain(monthlyRateMicros, termInMonths)
+                ? paymentFactor(monthlyRateMicros, termInMonths)
+                : Double.NaN;
+        }
+
+        BigDecimal[] payments = new BigDecimal[principals.length];
+        BigDecimal monthlyRate = null;
+        for (int i = 0; i < principals.length; i++) {
+            long centavos = roundHalfUp(principals[i].doubleValue() * paymentFactor * 100d);
+            if (centavos != NOT_ROUNDED) {
+                payments[i] = BigDecimal.valueOf(centavos, 2);
+                continue;
+            }
+            if (monthlyRate == null) {
+                monthlyRate = BigDecimal.valueOf(monthlyRateMicros, RATE_SCALE);
+            }
+            payments[i] = exactMonthlyPayment(principals[i], monthlyRate, termInMonths);
+        }
+        return payments;
+    }
+
+    /**
+     * Factor de valor presente ((1+r)^n - 1) / (r·(1+r)^n) con escala 2: el capital que
+     * amortiza una cuota de 1 peso.
+     */
+    public static BigDecimal presentValueFactor(BigDecimal annualRate, int termInMonths) {
+        AnnuityFactorTable table = AnnuityFactorTable.standard();
+        int cell = table.cellOf(annualRate, termInMonths);
+        if (cell != AnnuityFactorTable.NOT_IN_TABLE) {
+            return table.presentValueFactor(cell);
+        }
+        return presentValueFactor(monthlyRateMicros(annualRate), termInMonths);
+    }
+
+    public static BigDecimal presentValueFactor(long monthlyRateMicros, int termInMonths) {
+        requirePositive(monthlyRateMicros, termInMonths);
+
+        if (isFastPathDomain(monthlyRateMicros, termInMonths)) {
+            long hundredths = roundHalfUp(100d / paymentFactor(monthlyRateMicros, termInMonths));
+            if (hundredths != NOT_ROUNDED) {
+                return BigDecimal.valueOf(hundredths, 2);
+            }
+        }
+        return exactPresentValueFactor(BigDecimal.valueOf(monthlyRateMicros, RATE_SCALE), termInMonths);
+    }
+
+    /**
+     * r·q / (q - 1) con q = (1+r)^n: la cuota por cada peso de capital.
+     */
+    static double paymentFactor(long monthlyRateMicros, int termInMonths) {
+        double monthlyRate = monthlyRateMicros / MICROS;
+        double growth = Math.exp(termInMonths * Math.log1p(monthlyRate));
+        return monthlyRate * growth / (growth - 1d);
+    }
+
+    static boolean isFastPathDomain(long monthlyRateMicros, int termInMonths) {
+        return monthlyRateMicros * termInMonths >= MIN_RATE_TERM_PRODUCT
+            && termInMonths * Math.log1p(monthlyRateMicros / MICROS) <= MAX_GROWTH_EXPONENT;
+    }
+
+    /**
+     * Redondea HALF_UP a entero o devuelve {@link #NOT_ROUNDED} cuando la cota de error no
+     * permite decidir el lado de la frontera .5.
+     */
+    static long roundHalfUp(double value) {
+        if (!(value >= 0d && value < MAX_FAST_PATH_VALUE)) {
+            return NOT_ROUNDED;
+        }
+        double floor = Math.floor(value);
+        double distanceToHalf = Math.abs(value - floor - 0.5d);
+        if (distanceToHalf <= value * RELATIVE_ERROR_BOUND + 1e-9) {
+            return NOT_ROUNDED;
+        }
+        return value - floor > 0.5d ? (long) floor + 1 : (long) floor;
+    }
+
+    static BigDecimal exactMonthlyPayment(BigDecimal principal, BigDecimal monthlyRate, int termInMonths) {
+        BigDecimal onePlusRPowN = BigDecimal.ONE.add(monthlyRate).pow(termInMonths);
+
+        BigDecimal numerator = principal.multiply(monthlyRate).multiply(onePlusRPowN);
+        BigDecimal denominator = onePlusRPowN.subtract(BigDecimal.ONE);
+
+        return numerator.divide(denominator, 2, RoundingMode.HALF_UP);
+    }
+
+    static BigDecimal exactPresentValueFactor(BigDecimal monthlyRate, int termInMonths) {
+        BigDecimal onePlusRPowN = BigDecimal.ONE.add(monthlyRate).pow(termInMonths);
+
+        BigDecimal numerator = onePlusRPowN.subtract(BigDecimal.ONE);
+        BigDecimal denominator = monthlyRate.multiply(onePlusRPowN);
+
+        return numerator.divide(denominator, 2, RoundingMode.HALF_UP);
+    }
+
+    private static void requirePositive(long monthlyRateMicros, int termInMonths) {
+        if (termInMonths <= 0) {
+            throw new IllegalArgumentException("El plazo debe ser mayor a 0 meses");
+        }
+        if (monthlyRateMicros <= 0) {
+            throw new IllegalArgumentException("La tasa de interés mensual debe ser mayor a 0");
+        }
+    }
+}
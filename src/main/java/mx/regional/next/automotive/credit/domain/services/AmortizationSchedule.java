@@ -0,0 +1,108 @@
+package mx.regional.next.automotive.credit.domain.services;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Tabla de amortización francesa (cuota fija) generada mes a mes bajo demanda.
+ *
+ * <p>La cuota es la de {@link AmortizationEngine#monthlyPayment(BigDecimal, BigDecimal, int)}.
+ * Cada mes el interés es saldo · r redondeado HALF_UP al centavo (r = tasa anual / 12 con
+ * escala 6), el abono a capital es cuota - interés y la última cuota se ajusta para dejar el
+ * saldo en cero. El generador solo guarda el saldo y el mes en curso, así que la memoria es
+ * constante sin importar el plazo ni cuántas tablas se recorran.
+ */
+public final class AmortizationSchedule {
+
+    private static final long MICROS = 1_000_000L;
+
+    private AmortizationSchedule() {
+    }
+
+    /**
+     * Filas de la tabla en orden, producidas de forma perezosa. El capital se redondea al
+     * centavo (HALF_UP) para el saldo inicial.
+     */
+    public static Stream<Row> rows(BigDecimal principal, BigDecimal annualRate, int termInMonths) {
+        BigDecimal payment = AmortizationEngine.monthlyPayment(principal, annualRate, termInMonths);
+        long monthlyRateMicros = AmortizationEngine.monthlyRateMicros(annualRate);
+        long balanceCentavos = principal.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+
+        RowSpliterator rows = new RowSpliterator(
+            balanceCentavos, payment.unscaledValue().longValueExact(), monthlyRateMicros, termInMonths);
+        return StreamSupport.stream(rows, false);
+    }
+
+    // Interés del mes en centavos: saldo · r con HALF_UP, en long mientras no haya desbordamiento
+    static long interestCentavos(long balanceCentavos, long monthlyRateMicros) {
+        if (balanceCentavos <= (Long.MAX_VALUE - MICROS) / monthlyRateMicros) {
+            return (balanceCentavos * monthlyRateMicros + MICROS / 2) / MICROS;
+        }
+        return BigDecimal.valueOf(balanceCentavos)
+            .multiply(BigDecimal.valueOf(monthlyRateMicros, AmortizationEngine.RATE_SCALE))
+            .setScale(0, RoundingMode.HALF_UP)
+            .longValueExact();
+    }
+
+    private static final class RowSpliterator extends Spliterators.AbstractSpliterator<Row> {
+
+        private final long paymentCentavos;
+        private final long monthlyRateMicros;
+        private final int termInMonths;
+        private long balanceCentavos;
+        private int month;
+
+        RowSpliterator(long balanceCentavos, long paymentCentavos, long monthlyRateMicros, int termInMonths) {
+            super(termInMonths, Spliterator.ORDERED | Spliterator.SIZED | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+            this.balanceCentavos = balanceCentavos;
+            this.paymentCentavos = paymentCentavos;
+            this.monthlyRateMicros = monthlyRateMicros;
+            this.termInMonths = termInMonths;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Row> action) {
+            if (month == termInMonths) {
+                return false;
+            }
+            month++;
+
+            long interest = interestCentavos(balanceCentavos, monthlyRateMicros);
+            long principalPaid = month == termInMonths
+                ? balanceCentavos
+                : Math.min(paymentCentavos - interest, balanceCentavos);
+            balanceCentavos -= principalPaid;
+
+            action.accept(new Row(month, interest + principalPaid, interest, principalPaid, balanceCentavos));
+            return true;
+        }
+    }
+
+    // Fila de la tabla; los montos se guardan en centavos
+    public static final class Row {
+        private final int month;
+        private final long paymentCentavos;
+        private final long interestCentavos;
+        private final long principalCentavos;
+        private final long balanceCentavos;
+
+        Row(int month, long paymentCentavos, long interestCentavos, long principalCentavos, long balanceCentavos) {
+            this.month = month;
+            this.paymentCentavos = paymentCentavos;
+            this.interestCentavos = interestCentavos;
+            this.principalCentavos = principalCentavos;
+            this.balanceCentavos = balanceCentavos;
+        }
+
+        public int getMonth() { return month; }
+        public BigDecimal getPayment() { return BigDecimal.valueOf(paymentCentavos, 2); }
+        public BigDecimal getInterest() { return BigDecimal.valueOf(interestCentavos, 2); }
+        public BigDecimal getPrincipal() { return BigDecimal.valueOf(principalCentavos, 2); }
+        public BigDecimal getBalance() { return BigDecimal.valueOf(balanceCentavos, 2); }
+    }
+}
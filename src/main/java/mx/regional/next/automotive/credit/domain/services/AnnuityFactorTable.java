@@ -0,0 +1,101 @@
+package mx.regional.next.automotive.credit.domain.services;
+
+import mx.regional.next.automotive.credit.shared.constants.CreditConstants;
+
+import java.math.BigDecimal;
+
+/**
+ * Tabla inmutable de factores de anualidad indexada por (tasa anual en puntos básicos, plazo).
+ *
+ * <p>Las tasas que produce el negocio caen en una rejilla pequeña (tasas base y ajustes
+ * múltiplos de 0.5%, límites 10%-28%, tasas de referencia 12% y 18%) y los plazos van de
+ * 12 a 84 meses, así que los factores se calculan una sola vez al cargar la clase. Cada
+ * celda guarda el factor de cuota r(1+r)^n / ((1+r)^n - 1) y el factor de valor presente
+ * ya redondeado; las tasas o plazos fuera de la rejilla se calculan directamente.
+ */
+public final class AnnuityFactorTable {
+
+    static final int MIN_RATE_BPS = 500;    // 5% anual
+    static final int MAX_RATE_BPS = 3500;   // 35% anual
+    static final int RATE_STEP_BPS = 5;     // 0.05%
+    static final int MIN_TERM = CreditConstants.TermLimits.MIN_TERM_MONTHS;
+    static final int MAX_TERM = CreditConstants.TermLimits.MAX_TERM_MONTHS;
+
+    static final int NOT_IN_TABLE = -1;
+
+    private static final int RATE_ROWS = (MAX_RATE_BPS - MIN_RATE_BPS) / RATE_STEP_BPS + 1;
+    private static final int TERM_COLUMNS = MAX_TERM - MIN_TERM + 1;
+    private static final long[] POWERS_OF_TEN = {1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L};
+
+    private static final AnnuityFactorTable STANDARD = new AnnuityFactorTable();
+
+    private final long[] monthlyRateMicros = new long[RATE_ROWS];
+    private final double[] paymentFactors = new double[RATE_ROWS * TERM_COLUMNS];
+    private final BigDecimal[] presentValueFactors = new BigDecimal[RATE_ROWS * TERM_COLUMNS];
+
+    private AnnuityFactorTable() {
+        for (int row = 0; row < RATE_ROWS; row++) {
+            int rateBps = MIN_RATE_BPS + row * RATE_STEP_BPS;
+            long rateMicros = AmortizationEngine.monthlyRateMicros(BigDecimal.valueOf(rateBps, 4));
+            monthlyRateMicros[row] = rateMicros;
+
+            for (int term = MIN_TERM; term <= MAX_TERM; term++) {
+                int cell = row * TERM_COLUMNS + (term - MIN_TERM);
+                paymentFactors[cell] = AmortizationEngine.paymentFactor(rateMicros, term);
+                presentValueFactors[cell] = AmortizationEngine.presentValueFactor(rateMicros, term);
+            }
+        }
+    }
+
+    public static AnnuityFactorTable standard() {
+        return STANDARD;
+    }
+
+    /**
+     * Índice de la celda para la tasa anual y plazo dados, o {@link #NOT_IN_TABLE} si están
+     * fuera de la rejilla. Acepta cualquier escala (0.155 y 0.155000 caen en la misma celda).
+     */
+    public int cellOf(BigDecimal annualRate, int termInMonths) {
+        if (termInMonths < MIN_TERM || termInMonths > MAX_TERM) {
+            return NOT_IN_TABLE;
+        }
+        int scale = annualRate.scale();
+        if (scale < 0 || scale > 10 || annualRate.unscaledValue().bitLength() > 40) {
+            return NOT_IN_TABLE;
+        }
+
+        long unscaled = annualRate.unscaledValue().longValue();
+        long rateBps;
+        if (scale <= 4) {
+            rateBps = unscaled * POWERS_OF_TEN[4 - scale];
+        } else {
+            long divisor = POWERS_OF_TEN[scale - 4];
+            if (unscaled % divisor != 0) {
+                return NOT_IN_TABLE;
+            }
+            rateBps = unscaled / divisor;
+        }
+
+        if (rateBps < MIN_RATE_BPS || rateBps > MAX_RATE_BPS || rateBps % RATE_STEP_BPS != 0) {
+            return NOT_IN_TABLE;
+        }
+        int row = (int) (rateBps - MIN_RATE_BPS) / RATE_STEP_BPS;
+        return row * TERM_COLUMNS + (termInMonths - MIN_TERM);
+    }
+
+    public double paymentFactor(int cell) {
+        return paymentFactors[cell];
+    }
+
+    public BigDecimal presentValueFactor(int cell) {
+        return presentValueFactors[cell];
+    }
+
+    public long monthlyRateMicros(int cell) {
+        return monthlyRateMicros[cell / TERM_COLUMNS];
+    }
+
+    public int termInMonths(int cell) {
+        return MIN_TERM + cell % TERM_COLUMNS;
+    }
+}
@@ -7,6 +7,7 @@ import mx.regional.next.automotive.credit.domain.valueobjects.CreditAmount;
 import mx.regional.next.shared.common.annotations.DomainService;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 
 @DomainService
 public class CreditEligibilityService {
@@ -18,25 +19,78 @@ public class CreditEligibilityService {
                debtToIncomeRatioAcceptable(application);
     }
     
+    // Políticas de capacidad de pago usadas en la precalificación
+    private static final BigDecimal MAX_PAYMENT_TO_INCOME = BigDecimal.valueOf(0.30);  // 30% del ingreso
+    private static final BigDecimal MAX_DEBT_TO_INCOME = BigDecimal.valueOf(0.40);     // 40% con la nueva cuota
+    private static final BigDecimal MAX_FINANCING_RATIO = BigDecimal.valueOf(0.90);    // 90% del valor del vehículo
+    private static final BigDecimal STANDARD_ANNUAL_RATE = BigDecimal.valueOf(0.12);   // 12% anual
+    private static final int STANDARD_TERM_MONTHS = 60;                                // 5 años estándar
+    
     public CreditAmount calculateMaxEligibleAmount(Customer customer, Vehicle vehicle) {
-        BigDecimal monthlyIncome = customer.getMonthlyIncome().getValue();
-        BigDecimal maxMonthlyPayment = monthlyIncome.multiply(BigDecimal.valueOf(0.30)); // 30% del ingreso
-        
-        // Usar tasa de interés estándar para calcular monto máximo
-        BigDecimal annualInterestRate = BigDecimal.valueOf(0.12); // 12% anual
-        int termInMonths = 60; // 5 años estándar
+        // Se mantiene el cálculo sin deudas actuales, igual que antes de la precalificación
+        BigDecimal finalAmount = calculateMaxEligibleAmount(
+            customer.getMonthlyIncome().getValue(),
+            BigDecimal.ZERO,
+            vehicle.getValue().getValue(),
+            STANDARD_ANNUAL_RATE,
+            STANDARD_TERM_MONTHS);
         
+        return new CreditAmount(finalAmount);
+    }
+    
+    /**
+     * Monto máximo financiable en O(1): la cuota máxima es el menor entre el 30% del ingreso
+     * y el 40% del ingreso menos las deudas actuales, y se convierte en capital con el factor
+     * de valor presente de {@link AmortizationEngine} (tabulado para la rejilla estándar).
+     * Sin valor de vehículo no se aplica el límite de financiación.
+     */
+    public BigDecimal calculateMaxEligibleAmount(BigDecimal monthlyIncome,
+                                                 BigDecimal monthlyDebts,
+                                                 BigDecimal vehicleValue,
+                                                 BigDecimal annualInterestRate,
+                                                 int termInMonths) {
+        BigDecimal maxMonthlyPayment = calculateMaxMonthlyPayment(monthlyIncome, monthlyDebts);
         BigDecimal maxCreditAmount = calculateLoanAmount(maxMonthlyPayment, 
                                                         annualInterestRate, 
                                                         termInMonths);
         
+        if (vehicleValue == null) {
+            return maxCreditAmount;
+        }
         // No puede exceder el valor del vehículo
-        BigDecimal vehicleValue = vehicle.getValue().getValue();
-        BigDecimal maxByVehicle = vehicleValue.multiply(BigDecimal.valueOf(0.90)); // 90% del valor
+        BigDecimal maxByVehicle = vehicleValue.multiply(MAX_FINANCING_RATIO);
+        return maxCreditAmount.min(maxByVehicle);
+    }
+    
+    /**
+     * Ingreso mensual mínimo para que {@link #calculateMaxEligibleAmount(BigDecimal, BigDecimal,
+     * BigDecimal, BigDecimal, int)} alcance el monto pedido, redondeado al centavo hacia arriba.
+     * No considera el límite por valor del vehículo.
+     */
+    public BigDecimal calculateMinimumMonthlyIncome(BigDecimal requestedAmount,
+                                                    BigDecimal monthlyDebts,
+                                                    BigDecimal annualInterestRate,
+                                                    int termInMonths) {
+        BigDecimal factor = AmortizationEngine.presentValueFactor(annualInterestRate, termInMonths);
+        if (factor.signum() <= 0) {
+            throw new IllegalArgumentException("El plazo y la tasa no permiten financiar ningún monto");
+        }
         
-        BigDecimal finalAmount = maxCreditAmount.min(maxByVehicle);
+        BigDecimal requiredPayment = requestedAmount.divide(factor, 2, RoundingMode.CEILING);
+        BigDecimal byPaymentRatio = requiredPayment.divide(MAX_PAYMENT_TO_INCOME, 2, RoundingMode.CEILING);
+        BigDecimal byDebtRatio = requiredPayment.add(monthlyDebts)
+            .divide(MAX_DEBT_TO_INCOME, 2, RoundingMode.CEILING);
         
-        return new CreditAmount(finalAmount);
+        return byPaymentRatio.max(byDebtRatio);
+    }
+    
+    private BigDecimal calculateMaxMonthlyPayment(BigDecimal monthlyIncome, BigDecimal monthlyDebts) {
+        BigDecimal byPaymentRatio = monthlyIncome.multiply(MAX_PAYMENT_TO_INCOME);
+        if (monthlyDebts.signum() == 0) {
+            return byPaymentRatio;
+        }
+        BigDecimal byDebtRatio = monthlyIncome.multiply(MAX_DEBT_TO_INCOME).subtract(monthlyDebts);
+        return byPaymentRatio.min(byDebtRatio).max(BigDecimal.ZERO);
     }
     
     private boolean hasMinimumIncome(CreditApplication application) {
@@ -70,14 +124,7 @@ public class CreditEligibilityService {
     private BigDecimal calculateLoanAmount(BigDecimal monthlyPayment, 
                                          BigDecimal annualRate, 
                                          int termInMonths) {
-        // Fórmula de cálculo de préstamo
-        BigDecimal monthlyRate = annualRate.divide(BigDecimal.valueOf(12), 6, BigDecimal.ROUND_HALF_UP);
-        BigDecimal onePlusR = BigDecimal.ONE.add(monthlyRate);
-        BigDecimal onePlusRPowN = onePlusR.pow(termInMonths);
-        
-        BigDecimal denominator = monthlyRate.multiply(onePlusRPowN);
-        BigDecimal numerator = onePlusRPowN.subtract(BigDecimal.ONE);
-        
-        return monthlyPayment.multiply(numerator.divide(denominator, 2, BigDecimal.ROUND_HALF_UP));
+        // Fórmula de cálculo de préstamo: P = PMT * [(1+r)^n - 1] / [r(1+r)^n]
+        return monthlyPayment.multiply(AmortizationEngine.presentValueFactor(annualRate, termInMonths));
     }
 }
\ No newline at end of file
@@ -11,6 +11,9 @@ import lombok.extern.slf4j.Slf4j;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.Year;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
 
@@ -114,17 +117,9 @@ public class InterestRateCalculationService {
             throw new IllegalArgumentException("La tasa de interés debe ser mayor a 0");
         }
         
-        BigDecimal monthlyRate = annualInterestRate.divide(BigDecimal.valueOf(12), 6, RoundingMode.HALF_UP);
-        BigDecimal principal = loanAmount.getValue();
-        
         // Fórmula de amortización: PMT = P * [r(1+r)^n] / [(1+r)^n - 1]
-        BigDecimal onePlusR = BigDecimal.ONE.add(monthlyRate);
-        BigDecimal onePlusRPowN = onePlusR.pow(termInMonths);
-        
-        BigDecimal numerator = principal.multiply(monthlyRate).multiply(onePlusRPowN);
-        BigDecimal denominator = onePlusRPowN.subtract(BigDecimal.ONE);
-        
-        BigDecimal monthlyPayment = numerator.divide(denominator, 2, RoundingMode.HALF_UP);
+        BigDecimal monthlyPayment = AmortizationEngine.monthlyPayment(
+            loanAmount.getValue(), annualInterestRate, termInMonths);
         
         log.debug("Cuota mensual calculada: {}", monthlyPayment);
         return monthlyPayment;
@@ -136,21 +131,86 @@ public class InterestRateCalculationService {
             throw new IllegalArgumentException("Parámetros de cálculo inválidos");
         }
         
-        BigDecimal monthlyRate = annualRate.divide(BigDecimal.valueOf(12), 6, RoundingMode.HALF_UP);
+        long monthlyRateMicros = AmortizationEngine.monthlyRateMicros(annualRate);
         
-        if (monthlyRate.compareTo(BigDecimal.ZERO) == 0) {
+        if (monthlyRateMicros == 0) {
             return loanAmount.divide(BigDecimal.valueOf(termInMonths), 2, RoundingMode.HALF_UP);
         }
         
-        BigDecimal onePlusR = BigDecimal.ONE.add(monthlyRate);
-        BigDecimal onePlusRPowN = onePlusR.pow(termInMonths);
-        
-        BigDecimal numerator = loanAmount.multiply(monthlyRate).multiply(onePlusRPowN);
-        BigDecimal denominator = onePlusRPowN.subtract(BigDecimal.ONE);
+        if (monthlyRateMicros < 0) {
+            return AmortizationEngine.exactMonthlyPayment(
+                loanAmount, BigDecimal.valueOf(monthlyRateMicros, AmortizationEngine.RATE_SCALE), termInMonths);
+        }
         
-        return numerator.divide(denominator, 2, RoundingMode.HALF_UP);
+        return AmortizationEngine.monthlyPayment(loanAmount, annualRate, termInMonths);
     }
     
+    /**
+     * Rejilla de tasas y cuotas para varios plazos y montos del mismo cliente y vehículo.
+     * La tasa base y los ajustes por vehículo y cliente se calculan una vez, el ajuste por
+     * monto una vez por columna y el de plazo una vez por fila; cada celda coincide con
+     * {@link #calculateInterestRate(CreditScore, Customer, Vehicle, CreditAmount, int)} y
+     * {@link #calculateMonthlyInstallment(CreditAmount, BigDecimal, int)}.
+     */
+    public PricingGrid calculatePricingGrid(
+            CreditScore creditScore,
+            Customer customer,
+            Vehicle vehicle,
+            List<CreditAmount> amounts,
+            int[] termsInMonths) {
+
+        if (amounts.isEmpty() || termsInMonths.length == 0) {
+            throw new IllegalArgumentException("La rejilla requiere al menos un monto y un plazo");
+        }
+
+        log.info("Calculando rejilla de precios para score: {}, {} montos x {} plazos",
+                 creditScore.getValue(), amounts.size(), termsInMonths.length);
+
+        BigDecimal baseRate = getBaseRateByScore(creditScore);
+        BigDecimal profileRate = baseRate
+            .add(calculateVehicleAdjustment(vehicle))
+            .add(calculateCustomerAdjustment(customer));
+
+        int columns = amounts.size();
+        BigDecimal[] principals = new BigDecimal[columns];
+        BigDecimal[] amountAdjustments = new BigDecimal[columns];
+        for (int column = 0; column < columns; column++) {
+            principals[column] = amounts.get(column).getValue();
+            amountAdjustments[column] = calculateAmountAdjustment(amounts.get(column));
+        }
+
+        BigDecimal[][] rates = new BigDecimal[termsInMonths.length][columns];
+        BigDecimal[][] installments = new BigDecimal[termsInMonths.length][columns];
+        for (int row = 0; row < termsInMonths.length; row++) {
+            int term = termsInMonths[row];
+            if (term <= 0) {
+                throw new IllegalArgumentException("El plazo debe ser mayor a 0 meses");
+            }
+            BigDecimal rowRate = profileRate.add(calculateTermAdjustment(term));
+
+            // Las columnas con la misma tasa comparten el factor de amortización
+            Map<BigDecimal, List<Integer>> columnsByRate = new LinkedHashMap<>();
+            for (int column = 0; column < columns; column++) {
+                BigDecimal rate = applyRateLimits(rowRate.add(amountAdjustments[column]));
+                rates[row][column] = rate;
+                columnsByRate.computeIfAbsent(rate, r -> new ArrayList<>()).add(column);
+            }
+            for (Map.Entry<BigDecimal, List<Integer>> group : columnsByRate.entrySet()) {
+                List<Integer> groupColumns = group.getValue();
+                BigDecimal[] groupPrincipals = new BigDecimal[groupColumns.size()];
+                for (int i = 0; i < groupPrincipals.length; i++) {
+                    groupPrincipals[i] = principals[groupColumns.get(i)];
+                }
+                BigDecimal[] payments = AmortizationEngine.monthlyPayments(groupPrincipals, group.getKey(), term);
+                for (int i = 0; i < payments.length; i++) {
+                    installments[row][groupColumns.get(i)] = payments[i];
+                }
+            }
+        }
+
+        return new PricingGrid(baseRate, termsInMonths.clone(), principals, rates, installments);
+    }
+
     private BigDecimal getBaseRateByScore(CreditScore creditScore) {
         int score = creditScore.getValue();
         
@@ -230,6 +290,32 @@ public class InterestRateCalculationService {
                   .toString() + "%";
     }
     
+    // Clase interna para la rejilla de precios, indexada [plazo][monto]
+    public static class PricingGrid {
+        private final BigDecimal baseRate;
+        private final int[] termsInMonths;
+        private final BigDecimal[] amounts;
+        private final BigDecimal[][] rates;
+        private final BigDecimal[][] installments;
+
+        PricingGrid(BigDecimal baseRate, int[] termsInMonths, BigDecimal[] amounts,
+                    BigDecimal[][] rates, BigDecimal[][] installments) {
+            this.baseRate = baseRate;
+            this.termsInMonths = termsInMonths;
+            this.amounts = amounts;
+            this.rates = rates;
+            this.installments = installments;
+        }
+
+        public int getTermCount() { return termsInMonths.length; }
+        public int getAmountCount() { return amounts.length; }
+        public int getTermInMonths(int row) { return termsInMonths[row]; }
+        public BigDecimal getAmount(int column) { return amounts[column]; }
+        public BigDecimal getRate(int row, int column) { return rates[row][column]; }
+        public BigDecimal getInstallment(int row, int column) { return installments[row][column]; }
+        public BigDecimal getBaseRate() { return baseRate; }
+    }
+
     // Clase interna para el cálculo de tasas
     public static class InterestRateCalculation {
         private BigDecimal baseRate;
@@ -0,0 +1,98 @@
+package mx.regional.next.automotive.credit.domain.services;
+
+import mx.regional.next.automotive.credit.domain.entities.CreditApplication;
+import mx.regional.next.automotive.credit.domain.valueobjects.CreditScore;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+/**
+ * Cartera de solicitudes en formato columnar: una columna primitiva por dato de entrada
+ * del cálculo de riesgo. Los montos van en centavos. Las columnas se usan sin copiar, así
+ * que no deben modificarse mientras se califica el lote.
+ */
+public final class RiskBatch {
+
+    private final long[] monthlyIncomeCentavos;
+    private final long[] monthlyDebtsCentavos;
+    private final long[] requestedAmountCentavos;
+    private final int[] vehicleYears;
+    private final int[] vehicleKilometers;
+    private final int[] creditScores;
+
+    public RiskBatch(long[] monthlyIncomeCentavos,
+                     long[] monthlyDebtsCentavos,
+                     long[] requestedAmountCentavos,
+                     int[] vehicleYears,
+                     int[] vehicleKilometers,
+                     int[] creditScores) {
+        int size = monthlyIncomeCentavos.length;
+        if (monthlyDebtsCentavos.length != size || requestedAmountCentavos.length != size
+                || vehicleYears.length != size || vehicleKilometers.length != size || creditScores.length != size) {
+            throw new IllegalArgumentException("Todas las columnas del lote deben tener el mismo tamaño");
+        }
+        for (int i = 0; i < size; i++) {
+            if (monthlyIncomeCentavos[i] <= 0) {
+                throw new IllegalArgumentException("Ingreso mensual no válido en la posición " + i);
+            }
+            if (monthlyDebtsCentavos[i] < 0 || requestedAmountCentavos[i] < 0) {
+                throw new IllegalArgumentException("Monto negativo en la posición " + i);
+            }
+        }
+
+        this.monthlyIncomeCentavos = monthlyIncomeCentavos;
+        this.monthlyDebtsCentavos = monthlyDebtsCentavos;
+        this.requestedAmountCentavos = requestedAmountCentavos;
+        this.vehicleYears = vehicleYears;
+        this.vehicleKilometers = vehicleKilometers;
+        this.creditScores = creditScores;
+    }
+
+    /**
+     * Arma el lote a partir de las entidades. Las deudas se toman en cero, igual que
+     * {@link RiskCalculationService#calculateRisk} mientras no se use {@code getCurrentMonthlyDebts()}.
+     */
+    public static RiskBatch of(List<CreditApplication> applications, List<CreditScore> scores) {
+        if (applications.size() != scores.size()) {
+            throw new IllegalArgumentException("Se requiere un score por solicitud");
+        }
+        int size = applications.size();
+        long[] incomes = new long[size];
+        long[] debts = new long[size];
+        long[] amounts = new long[size];
+        int[] years = new int[size];
+        int[] kilometers = new int[size];
+        int[] creditScores = new int[size];
+
+        for (int i = 0; i < size; i++) {
+            CreditApplication application = applications.get(i);
+            incomes[i] = toCentavos(application.getCustomer().getMonthlyIncome().getValue());
+            amounts[i] = toCentavos(application.getRequestedAmount().getValue());
+            years[i] = application.getVehicle().getYear();
+            kilometers[i] = application.getVehicle().getKilometers();
+            creditScores[i] = scores.get(i).getValue();
+        }
+        return new RiskBatch(incomes, debts, amounts, years, kilometers, creditScores);
+    }
+
+    private static long toCentavos(BigDecimal amount) {
+        try {
+            return amount.setScale(2, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Monto no representable en centavos: " + amount, e);
+        }
+    }
+
+    public int size() {
+        return monthlyIncomeCentavos.length;
+    }
+
+    // Getters
+    public long[] getMonthlyIncomeCentavos() { return monthlyIncomeCentavos; }
+    public long[] getMonthlyDebtsCentavos() { return monthlyDebtsCentavos; }
+    public long[] getRequestedAmountCentavos() { return requestedAmountCentavos; }
+    public int[] getVehicleYears() { return vehicleYears; }
+    public int[] getVehicleKilometers() { return vehicleKilometers; }
+    public int[] getCreditScores() { return creditScores; }
+}
@@ -0,0 +1,71 @@
+package mx.regional.next.automotive.credit.domain.services;
+
+import mx.regional.next.automotive.credit.domain.services.RiskCalculationService.RiskLevel;
+
+import java.math.BigDecimal;
+
+/**
+ * Resultado columnar de {@link RiskBatchScorer}: por solicitud, el score de riesgo en
+ * centésimas, el nivel general (ordinal de {@link RiskLevel}), la aprobación y el puntaje y
+ * nivel de cada factor, indexados por las constantes de {@link RiskBatchScorer}.
+ */
+public final class RiskBatchResult {
+
+    private static final RiskLevel[] LEVELS = RiskLevel.values();
+
+    final int[] riskScoreHundredths;
+    final byte[] riskLevels;
+    final boolean[] approved;
+    final int[][] factorScores;
+    final byte[][] factorLevels;
+
+    RiskBatchResult(int size) {
+        this.riskScoreHundredths = new int[size];
+        this.riskLevels = new byte[size];
+        this.approved = new boolean[size];
+        this.factorScores = new int[RiskBatchScorer.FACTOR_COUNT][size];
+        this.factorLevels = new byte[RiskBatchScorer.FACTOR_COUNT][size];
+    }
+
+    public int size() {
+        return approved.length;
+    }
+
+    /**
+     * Score de riesgo con escala 2, igual a {@code RiskAssessment.getRiskScore()}.
+     */
+    public BigDecimal riskScore(int index) {
+        return BigDecimal.valueOf(riskScoreHundredths[index], 2);
+    }
+
+    public RiskLevel riskLevel(int index) {
+        return LEVELS[riskLevels[index]];
+    }
+
+    public boolean isApproved(int index) {
+        return approved[index];
+    }
+
+    public int factorScore(int factor, int index) {
+        return factorScores[factor][index];
+    }
+
+    public RiskLevel factorLevel(int factor, int index) {
+        return LEVELS[factorLevels[factor][index]];
+    }
+
+    public int approvedCount() {
+        int count = 0;
+        for (boolean isApproved : approved) {
+            count += isApproved ? 1 : 0;
+        }
+        return count;
+    }
+
+    // Columnas sin copiar
+    public int[] getRiskScoreHundredths() { return riskScoreHundredths; }
+    public byte[] getRiskLevels() { return riskLevels; }
+    public boolean[] getApproved() { return approved; }
+    public int[] getFactorScores(int factor) { return factorScores[factor]; }
+    public byte[] getFactorLevels(int factor) { return factorLevels[factor]; }
+}
@@ -0,0 +1,284 @@
+package mx.regional.next.automotive.credit.domain.services;
+
+import mx.regional.next.automotive.credit.domain.services.RiskCalculationService.RiskAssessment;
+import mx.regional.next.automotive.credit.domain.services.RiskCalculationService.RiskFactor;
+import mx.regional.next.automotive.credit.domain.services.RiskCalculationService.RiskLevel;
+import mx.regional.next.automotive.credit.domain.services.RiskRuleEngine.AdjustmentTable;
+import mx.regional.next.automotive.credit.domain.services.RiskRuleEngine.BandTable;
+
+import java.math.BigDecimal;
+import java.time.Year;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Calificación de riesgo por lotes sobre un {@link RiskBatch} columnar, con los mismos
+ * resultados que {@link RiskRuleEngine#evaluate} solicitud por solicitud.
+ *
+ * <p>Cada tramo del lote se recorre una vez por factor con ciclos sin objetos: las bandas se
+ * obtienen contando límites superados (sin saltos, apto para auto-vectorización) y los
+ * resultados se escriben en arreglos primitivos. Los lotes grandes se dividen en tramos de
+ * {@link #DEFAULT_LEAF_SIZE} solicitudes que se procesan en paralelo con fork/join.
+ */
+public final class RiskBatchScorer {
+
+    public static final int CREDIT_SCORE = 0;
+    public static final int PAYMENT_CAPACITY = 1;
+    public static final int VEHICLE_RISK = 2;
+    public static final int DEBT_TO_INCOME = 3;
+    public static final int EMPLOYMENT_STABILITY = 4;
+    public static final int CREDIT_HISTORY = 5;
+    static final int FACTOR_COUNT = 6;
+
+    // Unas 18 columnas de 16K posiciones caben en la caché L2 de un núcleo
+    static final int DEFAULT_LEAF_SIZE = 16_384;
+
+    private static final byte LOW = (byte) RiskLevel.LOW.ordinal();
+    private static final byte MEDIUM = (byte) RiskLevel.MEDIUM.ordinal();
+    private static final byte HIGH = (byte) RiskLevel.HIGH.ordinal();
+
+    private final int[] creditScoreFloors;
+    private final int[] creditScorePoints;
+    private final byte[] creditScoreLevels;
+    private final int[] paymentCapacityCeilings;
+    private final int[] paymentCapacityPoints;
+    private final byte[] paymentCapacityLevels;
+    private final int[] debtToIncomeCeilings;
+    private final int[] debtToIncomePoints;
+    private final byte[] debtToIncomeLevels;
+
+    private final long paymentRateMicros;
+    private final int paymentTermMonths;
+    private final double paymentFactor;
+
+    private final int vehicleBaseScore;
+    private final int vehicleLowRiskMinScore;
+    private final int vehicleMediumRiskMinScore;
+    private final int[] vehicleAgeLimits;
+    private final int[] vehicleAgeDeltas;
+    private final int[] vehicleKilometerLimits;
+    private final int[] vehicleKilometerDeltas;
+
+    private final int employmentStabilityScore;
+    private final byte employmentStabilityLevel;
+    private final int creditHistoryScore;
+    private final byte creditHistoryLevel;
+
+    private final int lowRiskMinHundredths;
+    private final int mediumRiskMinHundredths;
+    private final int leafSize;
+
+    public RiskBatchScorer(RiskRuleEngine engine) {
+        this(engine, DEFAULT_LEAF_SIZE);
+    }
+
+    RiskBatchScorer(RiskRuleEngine engine, int leafSize) {
+        this.creditScoreFloors = engine.creditScore.limits;
+        this.creditScorePoints = engine.creditScore.scores;
+        this.creditScoreLevels = ordinals(engine.creditScore);
+        this.paymentCapacityCeilings = engine.paymentCapacity.limits;
+        this.paymentCapacityPoints = engine.paymentCapacity.scores;
+        this.paymentCapacityLevels = ordinals(engine.paymentCapacity);
+        this.debtToIncomeCeilings = engine.debtToIncome.limits;
+        this.debtToIncomePoints = engine.debtToIncome.scores;
+        this.debtToIncomeLevels = ordinals(engine.debtToIncome);
+
+        // Mismo factor que usa AmortizationEngine; NaN obliga al cálculo exacto
+        this.paymentRateMicros = AmortizationEngine.monthlyRateMicros(engine.paymentEstimateAnnualRate);
+        this.paymentTermMonths = engine.paymentEstimateTermMonths;
+        this.paymentFactor = AmortizationEngine.isFastPathDomain(paymentRateMicros, paymentTermMonths)
+            ? AmortizationEngine.paymentFactor(paymentRateMicros, paymentTermMonths)
+            : Double.NaN;
+
+        // La relación préstamo/valor todavía es constante, así que su ajuste va en la base
+        AdjustmentTable loanToValue = engine.loanToValue;
+        this.vehicleBaseScore = engine.vehicleBaseScore
+            + loanToValue.deltas[loanToValue.bandOf(RiskRuleEngine.PLACEHOLDER_LOAN_TO_VALUE_BPS)];
+        this.vehicleLowRiskMinScore = engine.vehicleLowRiskMinScore;
+        this.vehicleMediumRiskMinScore = engine.vehicleMediumRiskMinScore;
+        this.vehicleAgeLimits = engine.vehicleAge.limits;
+        this.vehicleAgeDeltas = engine.vehicleAge.deltas;
+        this.vehicleKilometerLimits = engine.vehicleKilometers.limits;
+        this.vehicleKilometerDeltas = engine.vehicleKilometers.deltas;
+
+        RiskFactor employment = RiskRuleEngine.EMPLOYMENT_STABILITY;
+        RiskFactor history = RiskRuleEngine.CREDIT_HISTORY;
+        this.employmentStabilityScore = employment.getScore();
+        this.employmentStabilityLevel = (byte) employment.getLevel().ordinal();
+        this.creditHistoryScore = history.getScore();
+        this.creditHistoryLevel = (byte) history.getLevel().ordinal();
+
+        this.lowRiskMinHundredths = RiskAssessment.LOW_RISK_MIN_SCORE.movePointRight(2).intValueExact();
+        this.mediumRiskMinHundredths = RiskAssessment.MEDIUM_RISK_MIN_SCORE.movePointRight(2).intValueExact();
+        this.leafSize = leafSize;
+    }
+
+    public RiskBatchResult score(RiskBatch batch) {
+        return score(batch, ForkJoinPool.commonPool());
+    }
+
+    public RiskBatchResult score(RiskBatch batch, ForkJoinPool pool) {
+        RiskBatchResult result = new RiskBatchResult(batch.size());
+        int currentYear = Year.now().getValue();
+
+        if (batch.size() <= leafSize) {
+            scoreRange(batch, result, currentYear, 0, batch.size());
+        } else {
+            pool.invoke(new ScoreTask(batch, result, currentYear, 0, batch.size()));
+        }
+        return result;
+    }
+
+    private void scoreRange(RiskBatch batch, RiskBatchResult result, int currentYear, int from, int to) {
+        scoreCreditScore(batch.getCreditScores(), result, from, to);
+        scorePaymentCapacity(batch.getRequestedAmountCentavos(), batch.getMonthlyIncomeCentavos(), result, from, to);
+        scoreVehicle(batch.getVehicleYears(), batch.getVehicleKilometers(), currentYear, result, from, to);
+        scoreDebtToIncome(batch.getMonthlyDebtsCentavos(), batch.getMonthlyIncomeCentavos(), result, from, to);
+
+        Arrays.fill(result.factorScores[EMPLOYMENT_STABILITY], from, to, employmentStabilityScore);
+        Arrays.fill(result.factorLevels[EMPLOYMENT_STABILITY], from, to, employmentStabilityLevel);
+        Arrays.fill(result.factorScores[CREDIT_HISTORY], from, to, creditHistoryScore);
+        Arrays.fill(result.factorLevels[CREDIT_HISTORY], from, to, creditHistoryLevel);
+
+        combine(result, from, to);
+    }
+
+    private void scoreCreditScore(int[] creditScores, RiskBatchResult result, int from, int to) {
+        int[] scores = result.factorScores[CREDIT_SCORE];
+        byte[] levels = result.factorLevels[CREDIT_SCORE];
+        for (int i = from; i < to; i++) {
+            int band = countBelow(creditScores[i], creditScoreFloors);
+            scores[i] = creditScorePoints[band];
+            levels[i] = creditScoreLevels[band];
+        }
+    }
+
+    private void scorePaymentCapacity(long[] amounts, long[] incomes, RiskBatchResult result, int from, int to) {
+        int[] scores = result.factorScores[PAYMENT_CAPACITY];
+        byte[] levels = result.factorLevels[PAYMENT_CAPACITY];
+        for (int i = from; i < to; i++) {
+            // Mismo orden de operaciones que AmortizationEngine: P·factor·100
+            long paymentCentavos = AmortizationEngine.roundHalfUp(amounts[i] / 100d * paymentFactor * 100d);
+            if (paymentCentavos == AmortizationEngine.NOT_ROUNDED) {
+                paymentCentavos = exactPaymentCentavos(amounts[i]);
+            }
+            int band = countAbove(RiskRuleEngine.ratioBasisPoints(paymentCentavos, incomes[i]), paymentCapacityCeilings);
+            scores[i] = paymentCapacityPoints[band];
+            levels[i] = paymentCapacityLevels[band];
+        }
+    }
+
+    private void scoreVehicle(int[] years, int[] kilometers, int currentYear, RiskBatchResult result, int from, int to) {
+        int[] scores = result.factorScores[VEHICLE_RISK];
+        byte[] levels = result.factorLevels[VEHICLE_RISK];
+        for (int i = from; i < to; i++) {
+            int score = vehicleBaseScore
+                + vehicleAgeDeltas[countAbove(currentYear - years[i], vehicleAgeLimits)]
+                + vehicleKilometerDeltas[countAbove(kilometers[i], vehicleKilometerLimits)];
+            scores[i] = score;
+            levels[i] = score >= vehicleLowRiskMinScore ? LOW : score >= vehicleMediumRiskMinScore ? MEDIUM : HIGH;
+        }
+    }
+
+    private void scoreDebtToIncome(long[] debts, long[] incomes, RiskBatchResult result, int from, int to) {
+        int[] scores = result.factorScores[DEBT_TO_INCOME];
+        byte[] levels = result.factorLevels[DEBT_TO_INCOME];
+        for (int i = from; i < to; i++) {
+            int band = countAbove(RiskRuleEngine.ratioBasisPoints(debts[i], incomes[i]), debtToIncomeCeilings);
+            scores[i] = debtToIncomePoints[band];
+            levels[i] = debtToIncomeLevels[band];
+        }
+    }
+
+    // Mismo criterio que RiskAssessment.calculateFinalRisk
+    private void combine(RiskBatchResult result, int from, int to) {
+        int[][] factorScores = result.factorScores;
+        byte[][] factorLevels = result.factorLevels;
+        for (int i = from; i < to; i++) {
+            int total = 0;
+            int highRiskFactors = 0;
+            for (int factor = 0; factor < FACTOR_COUNT; factor++) {
+                total += factorScores[factor][i];
+                highRiskFactors += factorLevels[factor][i] == HIGH ? 1 : 0;
+            }
+
+            int hundredths = averageHundredths(total);
+            boolean critical = highRiskFactors >= RiskAssessment.CRITICAL_HIGH_RISK_FACTORS;
+            byte level = critical ? HIGH
+                : hundredths >= lowRiskMinHundredths ? LOW
+                : hundredths >= mediumRiskMinHundredths ? MEDIUM : HIGH;
+
+            result.riskScoreHundredths[i] = hundredths;
+            result.riskLevels[i] = level;
+            result.approved[i] = level != HIGH;
+        }
+    }
+
+    // total / FACTOR_COUNT con escala 2 y HALF_UP
+    private static int averageHundredths(int total) {
+        int magnitude = (Math.abs(total) * 200 + FACTOR_COUNT) / (2 * FACTOR_COUNT);
+        return total < 0 ? -magnitude : magnitude;
+    }
+
+    private long exactPaymentCentavos(long amountCentavos) {
+        return AmortizationEngine.exactMonthlyPayment(
+                BigDecimal.valueOf(amountCentavos, 2),
+                BigDecimal.valueOf(paymentRateMicros, AmortizationEngine.RATE_SCALE),
+                paymentTermMonths)
+            .unscaledValue().longValueExact();
+    }
+
+    // Banda de un factor con límites inferiores decrecientes
+    private static int countBelow(int value, int[] floors) {
+        int band = 0;
+        for (int floor : floors) {
+            band += value < floor ? 1 : 0;
+        }
+        return band;
+    }
+
+    // Banda de un factor con límites superiores crecientes
+    private static int countAbove(long value, int[] ceilings) {
+        int band = 0;
+        for (int ceiling : ceilings) {
+            band += value > ceiling ? 1 : 0;
+        }
+        return band;
+    }
+
+    private static byte[] ordinals(BandTable table) {
+        byte[] ordinals = new byte[table.levels.length];
+        for (int band = 0; band < ordinals.length; band++) {
+            ordinals[band] = (byte) table.levels[band].ordinal();
+        }
+        return ordinals;
+    }
+
+    private final class ScoreTask extends RecursiveAction {
+        private final RiskBatch batch;
+        private final RiskBatchResult result;
+        private final int currentYear;
+        private final int from;
+        private final int to;
+
+        ScoreTask(RiskBatch batch, RiskBatchResult result, int currentYear, int from, int to) {
+            this.batch = batch;
+            this.result = result;
+            this.currentYear = currentYear;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= leafSize) {
+                scoreRange(batch, result, currentYear, from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ScoreTask(batch, result, currentYear, from, middle),
+                      new ScoreTask(batch, result, currentYear, middle, to));
+        }
+    }
+}
@@ -0,0 +1,294 @@
+package mx.regional.next.automotive.credit.domain.services;
+
+import mx.regional.next.automotive.credit.domain.entities.CreditApplication;
+import mx.regional.next.automotive.credit.domain.entities.Customer;
+import mx.regional.next.automotive.credit.domain.entities.Vehicle;
+import mx.regional.next.automotive.credit.domain.services.RiskCalculationService.RiskAssessment;
+import mx.regional.next.automotive.credit.domain.services.RiskCalculationService.RiskFactor;
+import mx.regional.next.automotive.credit.domain.services.RiskCalculationService.RiskLevel;
+import mx.regional.next.automotive.credit.domain.services.RiskRulePolicy.Adjustment;
+import mx.regional.next.automotive.credit.domain.services.RiskRulePolicy.Band;
+import mx.regional.next.automotive.credit.domain.valueobjects.CreditScore;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Year;
+import java.util.List;
+
+/**
+ * Reglas de riesgo compiladas a partir de una {@link RiskRulePolicy}.
+ *
+ * <p>Cada factor se reduce a un arreglo de límites {@code int} recorrido en orden, con el
+ * nivel, puntaje y descripción de cada banda en arreglos paralelos. Las razones se comparan
+ * en puntos básicos enteros, calculados con el mismo redondeo (HALF_UP a 4 decimales) que
+ * la versión con {@link BigDecimal}. El detalle legible de cada factor se arma solo cuando
+ * alguien llama {@link RiskFactor#getDetails()}.
+ */
+public final class RiskRuleEngine {
+
+    private static final String PAYMENT_CAPACITY_DETAIL = "%s (%.1f%% del ingreso)";
+    private static final String DEBT_TO_INCOME_DETAIL = "%s (%.1f%%)";
+
+    // TODO: Reemplazar por el cálculo del monto solicitado vs valor del vehículo
+    static final int PLACEHOLDER_LOAN_TO_VALUE_BPS = 8000;
+
+    static final RiskFactor EMPLOYMENT_STABILITY = new RiskFactor("EMPLOYMENT_STABILITY",
+        RiskLevel.MEDIUM, 70, "Estabilidad laboral a evaluar con documentación");
+    static final RiskFactor CREDIT_HISTORY = new RiskFactor("CREDIT_HISTORY",
+        RiskLevel.MEDIUM, 70, "Historial crediticio a evaluar con centrales de riesgo");
+
+    // Máximo numerador en centavos para que numerador·20000 no desborde un long
+    private static final long MAX_FAST_RATIO_NUMERATOR = 400_000_000_000_000L;
+
+    final BandTable creditScore;
+    private final String[] creditScoreDetails;
+    final BigDecimal paymentEstimateAnnualRate;
+    final int paymentEstimateTermMonths;
+    final BandTable paymentCapacity;
+    final BandTable debtToIncome;
+    final int vehicleBaseScore;
+    final int vehicleLowRiskMinScore;
+    final int vehicleMediumRiskMinScore;
+    final AdjustmentTable vehicleAge;
+    final AdjustmentTable vehicleKilometers;
+    final AdjustmentTable loanToValue;
+
+    private RiskRuleEngine(RiskRulePolicy policy) {
+        this.creditScore = BandTable.descending("creditScore", policy.getCreditScoreBands());
+        this.creditScoreDetails = creditScoreDetails(creditScore);
+        this.paymentEstimateAnnualRate = policy.getPaymentEstimateAnnualRate();
+        this.paymentEstimateTermMonths = policy.getPaymentEstimateTermMonths();
+        this.paymentCapacity = BandTable.ascending("paymentCapacity", policy.getPaymentCapacityBands());
+        this.debtToIncome = BandTable.ascending("debtToIncome", policy.getDebtToIncomeBands());
+        this.vehicleBaseScore = policy.getVehicleBaseScore();
+        this.vehicleLowRiskMinScore = policy.getVehicleLowRiskMinScore();
+        this.vehicleMediumRiskMinScore = policy.getVehicleMediumRiskMinScore();
+        this.vehicleAge = new AdjustmentTable("vehicleAge", policy.getVehicleAgeAdjustments());
+        this.vehicleKilometers = new AdjustmentTable("vehicleKilometers", policy.getVehicleKilometerAdjustments());
+        this.loanToValue = new AdjustmentTable("loanToValue", policy.getLoanToValueAdjustments());
+
+        if (paymentEstimateAnnualRate == null || paymentEstimateAnnualRate.signum() <= 0) {
+            throw new IllegalArgumentException("La tasa estimada para capacidad de pago debe ser mayor a 0");
+        }
+        if (paymentEstimateTermMonths <= 0) {
+            throw new IllegalArgumentException("El plazo estimado para capacidad de pago debe ser mayor a 0 meses");
+        }
+    }
+
+    public static RiskRuleEngine compile(RiskRulePolicy policy) {
+        return new RiskRuleEngine(policy);
+    }
+
+    public RiskAssessment evaluate(CreditApplication application, CreditScore score) {
+        Customer customer = application.getCustomer();
+
+        RiskAssessment assessment = new RiskAssessment();
+        assessment.addFactor(evaluateCreditScore(score.getValue()));
+        assessment.addFactor(evaluatePaymentCapacity(application, customer));
+        assessment.addFactor(evaluateVehicleRisk(application.getVehicle()));
+        assessment.addFactor(evaluateDebtToIncomeRatio(customer));
+        assessment.addFactor(EMPLOYMENT_STABILITY);
+        assessment.addFactor(CREDIT_HISTORY);
+        assessment.calculateFinalRisk();
+        return assessment;
+    }
+
+    RiskFactor evaluateCreditScore(int score) {
+        int band = creditScore.bandOfFloor(score);
+        return new RiskFactor("CREDIT_SCORE", creditScore.levels[band], creditScore.scores[band],
+            creditScoreDetails[band]);
+    }
+
+    RiskFactor evaluatePaymentCapacity(CreditApplication application, Customer customer) {
+        BigDecimal monthlyPayment = AmortizationEngine.monthlyPayment(
+            application.getRequestedAmount().getValue(), paymentEstimateAnnualRate, paymentEstimateTermMonths);
+        long ratioBps = ratioBasisPoints(monthlyPayment, customer.getMonthlyIncome().getValue());
+
+        int band = paymentCapacity.bandOfCeiling(ratioBps);
+        String description = paymentCapacity.descriptions[band];
+        return new RiskFactor("PAYMENT_CAPACITY", paymentCapacity.levels[band], paymentCapacity.scores[band],
+            () -> String.format(PAYMENT_CAPACITY_DETAIL, description, BigDecimal.valueOf(ratioBps, 2)));
+    }
+
+    RiskFactor evaluateVehicleRisk(Vehicle vehicle) {
+        int vehicleAgeYears = Year.now().getValue() - vehicle.getYear();
+
+        int ageBand = vehicleAge.bandOf(vehicleAgeYears);
+        int kilometerBand = vehicleKilometers.bandOf(vehicle.getKilometers());
+        int loanToValueBand = loanToValue.bandOf(PLACEHOLDER_LOAN_TO_VALUE_BPS);
+
+        int score = vehicleBaseScore
+            + vehicleAge.deltas[ageBand]
+            + vehicleKilometers.deltas[kilometerBand]
+            + loanToValue.deltas[loanToValueBand];
+        RiskLevel level = score >= vehicleLowRiskMinScore ? RiskLevel.LOW
+            : score >= vehicleMediumRiskMinScore ? RiskLevel.MEDIUM : RiskLevel.HIGH;
+
+        return new RiskFactor("VEHICLE_RISK", level, score, () ->
+            vehicleAge.descriptions[ageBand] + " "
+                + vehicleKilometers.descriptions[kilometerBand] + " "
+                + loanToValue.descriptions[loanToValueBand]);
+    }
+
+    RiskFactor evaluateDebtToIncomeRatio(Customer customer) {
+        BigDecimal currentDebts = BigDecimal.ZERO; // TODO: Implementar getCurrentMonthlyDebts()
+        long ratioBps = ratioBasisPoints(currentDebts, customer.getMonthlyIncome().getValue());
+
+        int band = debtToIncome.bandOfCeiling(ratioBps);
+        String description = debtToIncome.descriptions[band];
+        return new RiskFactor("DEBT_TO_INCOME", debtToIncome.levels[band], debtToIncome.scores[band],
+            () -> String.format(DEBT_TO_INCOME_DETAIL, description, BigDecimal.valueOf(ratioBps, 2)));
+    }
+
+    /**
+     * {@code numerator / denominator} en puntos básicos, igual a
+     * {@code divide(denominator, 4, HALF_UP)} expresado sin escala.
+     */
+    static long ratioBasisPoints(BigDecimal numerator, BigDecimal denominator) {
+        long numeratorCentavos = toCentavos(numerator);
+        long denominatorCentavos = toCentavos(denominator);
+        if (numeratorCentavos >= 0 && denominatorCentavos > 0) {
+            return ratioBasisPoints(numeratorCentavos, denominatorCentavos);
+        }
+        return numerator.divide(denominator, 4, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Igual que la versión {@link BigDecimal} para montos en centavos, numerador no negativo
+     * y denominador positivo.
+     */
+    static long ratioBasisPoints(long numeratorCentavos, long denominatorCentavos) {
+        if (numeratorCentavos <= MAX_FAST_RATIO_NUMERATOR) {
+            return (numeratorCentavos * 20_000L + denominatorCentavos) / (2 * denominatorCentavos);
+        }
+        return BigDecimal.valueOf(numeratorCentavos)
+            .divide(BigDecimal.valueOf(denominatorCentavos), 4, RoundingMode.HALF_UP)
+            .unscaledValue().longValueExact();
+    }
+
+    private static long toCentavos(BigDecimal amount) {
+        int scale = amount.scale();
+        if (scale < 0 || scale > 2 || amount.unscaledValue().bitLength() > 50) {
+            return -1;
+        }
+        long unscaled = amount.unscaledValue().longValue();
+        return scale == 2 ? unscaled : scale == 1 ? unscaled * 10 : unscaled * 100;
+    }
+
+    private static String[] creditScoreDetails(BandTable table) {
+        int bands = table.levels.length;
+        String[] details = new String[bands];
+        for (int band = 0; band < bands; band++) {
+            String range;
+            if (band == bands - 1) {
+                range = "<" + table.limits[band - 1];
+            } else if (band == 0) {
+                range = "≥" + table.limits[0];
+            } else {
+                range = table.limits[band] + "-" + (table.limits[band - 1] - 1);
+            }
+            details[band] = "Score crediticio " + table.descriptions[band] + " (" + range + ")";
+        }
+        return details;
+    }
+
+    static final class BandTable {
+        final int[] limits;
+        final RiskLevel[] levels;
+        final int[] scores;
+        final String[] descriptions;
+
+        private BandTable(String name, List<Band> bands, boolean ascending) {
+            if (bands == null || bands.size() < 2) {
+                throw new IllegalArgumentException("El factor " + name + " requiere al menos dos bandas");
+            }
+            int size = bands.size();
+            this.limits = new int[size - 1];
+            this.levels = new RiskLevel[size];
+            this.scores = new int[size];
+            this.descriptions = new String[size];
+
+            for (int i = 0; i < size; i++) {
+                Band band = bands.get(i);
+                if (band.level() == null || band.description() == null) {
+                    throw new IllegalArgumentException("Banda incompleta en el factor " + name + ": " + band);
+                }
+                levels[i] = band.level();
+                scores[i] = band.score();
+                descriptions[i] = band.description();
+                if (i < size - 1) {
+                    limits[i] = band.limit();
+                    if (i > 0 && (ascending ? limits[i] <= limits[i - 1] : limits[i] >= limits[i - 1])) {
+                        throw new IllegalArgumentException("Los límites del factor " + name + " deben ser "
+                            + (ascending ? "crecientes" : "decrecientes"));
+                    }
+                }
+            }
+        }
+
+        static BandTable ascending(String name, List<Band> bands) {
+            return new BandTable(name, bands, true);
+        }
+
+        static BandTable descending(String name, List<Band> bands) {
+            return new BandTable(name, bands, false);
+        }
+
+        // Primera banda cuyo límite inferior se alcanza
+        int bandOfFloor(int value) {
+            int band = 0;
+            while (band < limits.length && value < limits[band]) {
+                band++;
+            }
+            return band;
+        }
+
+        // Primera banda cuyo límite superior no se supera
+        int bandOfCeiling(long value) {
+            int band = 0;
+            while (band < limits.length && value > limits[band]) {
+                band++;
+            }
+            return band;
+        }
+    }
+
+    static final class AdjustmentTable {
+        final int[] limits;
+        final int[] deltas;
+        final String[] descriptions;
+
+        private AdjustmentTable(String name, List<Adjustment> adjustments) {
+            if (adjustments == null || adjustments.size() < 2) {
+                throw new IllegalArgumentException("El factor " + name + " requiere al menos dos ajustes");
+            }
+            int size = adjustments.size();
+            this.limits = new int[size - 1];
+            this.deltas = new int[size];
+            this.descriptions = new String[size];
+
+            for (int i = 0; i < size; i++) {
+                Adjustment adjustment = adjustments.get(i);
+                if (adjustment.description() == null) {
+                    throw new IllegalArgumentException("Ajuste sin descripción en el factor " + name);
+                }
+                deltas[i] = adjustment.delta();
+                descriptions[i] = adjustment.description();
+                if (i < size - 1) {
+                    limits[i] = adjustment.limit();
+                    if (i > 0 && limits[i] <= limits[i - 1]) {
+                        throw new IllegalArgumentException("Los límites del factor " + name + " deben ser crecientes");
+                    }
+                }
+            }
+        }
+
+        int bandOf(int value) {
+            int band = 0;
+            while (band < limits.length && value > limits[band]) {
+                band++;
+            }
+            return band;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package mx.regional.next.automotive.credit.domain.services;
+
+import mx.regional.next.automotive.credit.domain.services.RiskCalculationService.RiskLevel;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Umbrales de los factores de riesgo tal como se publican en la política de crédito
+ * ({@code creditPolicies.riskFactors} en {@code credit-policies.json}).
+ *
+ * <p>Las razones (cuota/ingreso, deuda/ingreso, préstamo/valor) se expresan en puntos
+ * básicos: 3000 = 30%. En cada lista la última banda es la residual y su límite se ignora.
+ * {@link RiskRuleEngine#compile(RiskRulePolicy)} valida el orden de los límites.
+ */
+public final class RiskRulePolicy {
+
+    /**
+     * Banda de un factor: valor límite, nivel y puntaje asignados y descripción para el detalle.
+     */
+    public record Band(int limit, RiskLevel level, int score, String description) {
+    }
+
+    /**
+     * Ajuste al puntaje base del vehículo para valores hasta {@code limit}.
+     */
+    public record Adjustment(int limit, int delta, String description) {
+    }
+
+    private static final RiskRulePolicy DEFAULTS = new RiskRulePolicy(
+        // Score crediticio: límite inferior, de mayor a menor
+        List.of(
+            new Band(750, RiskLevel.LOW, 85, "excelente"),
+            new Band(700, RiskLevel.LOW, 75, "muy bueno"),
+            new Band(650, RiskLevel.MEDIUM, 60, "bueno"),
+            new Band(600, RiskLevel.MEDIUM, 45, "aceptable"),
+            new Band(0, RiskLevel.HIGH, 20, "insuficiente")),
+        new BigDecimal("0.18"),
+        60,
+        // Cuota/ingreso: límite superior en puntos básicos
+        List.of(
+            new Band(2000, RiskLevel.LOW, 90, "Excelente capacidad de pago"),
+            new Band(2500, RiskLevel.LOW, 80, "Buena capacidad de pago"),
+            new Band(3000, RiskLevel.MEDIUM, 65, "Capacidad de pago aceptable"),
+            new Band(0, RiskLevel.HIGH, 30, "Capacidad de pago insuficiente")),
+        // Deuda/ingreso: límite superior en puntos básicos
+        List.of(
+            new Band(2000, RiskLevel.LOW, 90, "Baja relación deuda/ingreso"),
+            new Band(3000, RiskLevel.MEDIUM, 70, "Relación deuda/ingreso moderada"),
+            new Band(4000, RiskLevel.MEDIUM, 50, "Relación deuda/ingreso alta"),
+            new Band(0, RiskLevel.HIGH, 25, "Relación deuda/ingreso excesiva")),
+        70,
+        80,
+        60,
+        // Antigüedad del vehículo en años
+        List.of(
+            new Adjustment(2, 15, "Vehículo nuevo/seminuevo."),
+            new Adjustment(4, 5, "Vehículo reciente."),
+            new Adjustment(6, -5, "Vehículo usado."),
+            new Adjustment(0, -20, "Vehículo muy antiguo.")),
+        // Kilometraje
+        List.of(
+            new Adjustment(50_000, 10, "Bajo kilometraje."),
+            new Adjustment(80_000, 5, "Kilometraje moderado."),
+            new Adjustment(100_000, -5, "Alto kilometraje."),
+            new Adjustment(0, -15, "Kilometraje excesivo.")),
+        // Préstamo/valor en puntos básicos
+        List.of(
+            new Adjustment(7000, 10, "Baja relación préstamo/valor."),
+            new Adjustment(8500, 5, "Relación préstamo/valor moderada."),
+            new Adjustment(0, -10, "Alta relación préstamo/valor.")));
+
+    private final List<Band> creditScoreBands;
+    private final BigDecimal paymentEstimateAnnualRate;
+    private final int paymentEstimateTermMonths;
+    private final List<Band> paymentCapacityBands;
+    private final List<Band> debtToIncomeBands;
+    private final int vehicleBaseScore;
+    private final int vehicleLowRiskMinScore;
+    private final int vehicleMediumRiskMinScore;
+    private final List<Adjustment> vehicleAgeAdjustments;
+    private final List<Adjustment> vehicleKilometerAdjustments;
+    private final List<Adjustment> loanToValueAdjustments;
+
+    public RiskRulePolicy(List<Band> creditScoreBands,
+                          BigDecimal paymentEstimateAnnualRate,
+                          int paymentEstimateTermMonths,
+                          List<Band> paymentCapacityBands,
+                          List<Band> debtToIncomeBands,
+                          int vehicleBaseScore,
+                          int vehicleLowRiskMinScore,
+                          int vehicleMediumRiskMinScore,
+                          List<Adjustment> vehicleAgeAdjustments,
+                          List<Adjustment> vehicleKilometerAdjustments,
+                          List<Adjustment> loanToValueAdjustments) {
+        this.creditScoreBands = List.copyOf(creditScoreBands);
+        this.paymentEstimateAnnualRate = paymentEstimateAnnualRate;
+        this.paymentEstimateTermMonths = paymentEstimateTermMonths;
+        this.paymentCapacityBands = List.copyOf(paymentCapacityBands);
+        this.debtToIncomeBands = List.copyOf(debtToIncomeBands);
+        this.vehicleBaseScore = vehicleBaseScore;
+        this.vehicleLowRiskMinScore = vehicleLowRiskMinScore;
+        this.vehicleMediumRiskMinScore = vehicleMediumRiskMinScore;
+        this.vehicleAgeAdjustments = List.copyOf(vehicleAgeAdjustments);
+        this.vehicleKilometerAdjustments = List.copyOf(vehicleKilometerAdjustments);
+        this.loanToValueAdjustments = List.copyOf(loanToValueAdjustments);
+    }
+
+    /**
+     * Política vigente antes de externalizar los umbrales; se usa cuando no hay configuración.
+     */
+    public static RiskRulePolicy defaults() {
+        return DEFAULTS;
+    }
+
+    // Getters
+    public List<Band> getCreditScoreBands() { return creditScoreBands; }
+    public BigDecimal getPaymentEstimateAnnualRate() { return paymentEstimateAnnualRate; }
+    public int getPaymentEstimateTermMonths() { return paymentEstimateTermMonths; }
+    public List<Band> getPaymentCapacityBands() { return paymentCapacityBands; }
+    public List<Band> getDebtToIncomeBands() { return debtToIncomeBands; }
+    public int getVehicleBaseScore() { return vehicleBaseScore; }
+    public int getVehicleLowRiskMinScore() { return vehicleLowRiskMinScore; }
+    public int getVehicleMediumRiskMinScore() { return vehicleMediumRiskMinScore; }
+    public List<Adjustment> getVehicleAgeAdjustments() { return vehicleAgeAdjustments; }
+    public List<Adjustment> getVehicleKilometerAdjustments() { return vehicleKilometerAdjustments; }
+    public List<Adjustment> getLoanToValueAdjustments() { return loanToValueAdjustments; }
+}
@@ -3,6 +3,8 @@ package mx.regional.next.automotive.credit.infrastructure.adapters.external.adap
 import mx.regional.next.automotive.credit.application.ports.out.CreditScoreProviderPort;
 import mx.regional.next.automotive.credit.domain.valueobjects.CreditScore;
 import mx.regional.next.automotive.credit.domain.valueobjects.DocumentNumber;
+import mx.regional.next.automotive.credit.infrastructure.adapters.external.cache.CreditScoreCache;
+import mx.regional.next.automotive.credit.infrastructure.adapters.external.cache.CreditScoreCache.ScoreLookup;
 import mx.regional.next.automotive.credit.infrastructure.adapters.external.clients.CreditScoreServiceClient;
 import mx.regional.next.automotive.credit.infrastructure.adapters.external.dto.request.CreditScoreRequestDto;
 import mx.regional.next.automotive.credit.infrastructure.adapters.external.dto.response.CreditScoreResponseDto;
@@ -18,16 +20,24 @@ public class CreditScoreProviderAdapter implements CreditScoreProviderPort {
     private static final Logger log = LoggerFactory.getLogger(CreditScoreProviderAdapter.class);
     
     private final CreditScoreServiceClient creditScoreServiceClient;
+    private final CreditScoreCache creditScoreCache;
     
     @Value("${security.default-auth-token:default-token}")
     private String defaultAuthToken;
     
-    public CreditScoreProviderAdapter(CreditScoreServiceClient creditScoreServiceClient) {
+    public CreditScoreProviderAdapter(CreditScoreServiceClient creditScoreServiceClient,
+                                      CreditScoreCache creditScoreCache) {
         this.creditScoreServiceClient = creditScoreServiceClient;
+        this.creditScoreCache = creditScoreCache;
     }
     
     @Override
     public CreditScore getCreditScore(DocumentNumber documentNumber) {
+        return creditScoreCache.get(documentNumber, this::queryCreditScore);
+    }
+    
+    // Los scores por defecto se marcan como fallback para que la caché no los guarde
+    private ScoreLookup queryCreditScore(DocumentNumber documentNumber) {
         try {
             log.info("Consultando score crediticio para documento: {}", documentNumber.getValue());
             
@@ -51,7 +61,7 @@ public class CreditScoreProviderAdapter implements CreditScoreProviderPort {
                 if (response.getCreditScore() != null) {
                     // Si el fallback proporcionó un score por defecto, usarlo
                     log.info("Usando score por defecto debido a error en servicio: {}", response.getCreditScore());
-                    return new CreditScore(response.getCreditScore());
+                    return ScoreLookup.fallback(new CreditScore(response.getCreditScore()));
                 } else {
                     throw new RuntimeException("Error obteniendo score crediticio: " + response.getErrorMessage());
                 }
@@ -64,14 +74,17 @@ public class CreditScoreProviderAdapter implements CreditScoreProviderPort {
             log.info("Score crediticio obtenido exitosamente: {} - Score: {}", 
                     documentNumber.getValue(), response.getCreditScore());
             
-            return new CreditScore(response.getCreditScore());
+            CreditScore score = new CreditScore(response.getCreditScore());
+            return response.isFallbackActivated()
+                ? ScoreLookup.fallback(score)
+                : ScoreLookup.real(score, response.getCalculationDate());
             
         } catch (Exception e) {
             log.error("Error consultando score crediticio para documento: {}", documentNumber.getValue(), e);
             
             // En caso de error total, usar un score por defecto conservador
             log.warn("Usando score por defecto debido a error: 620");
-            return new CreditScore(620);
+            return ScoreLookup.fallback(new CreditScore(620));
         }
     }
 }
\ No newline at end of file
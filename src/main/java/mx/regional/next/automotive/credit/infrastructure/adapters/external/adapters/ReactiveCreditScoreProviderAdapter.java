@@ -0,0 +1,85 @@
+package mx.regional.next.automotive.credit.infrastructure.adapters.external.adapters;
+
+import mx.regional.next.automotive.credit.application.ports.out.ReactiveCreditScoreProviderPort;
+import mx.regional.next.automotive.credit.domain.valueobjects.CreditScore;
+import mx.regional.next.automotive.credit.domain.valueobjects.DocumentNumber;
+import mx.regional.next.automotive.credit.infrastructure.adapters.external.dto.request.CreditScoreRequestDto;
+import mx.regional.next.automotive.credit.infrastructure.adapters.external.dto.response.CreditScoreResponseDto;
+import mx.regional.next.shared.common.annotations.Adapter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+/**
+ * Versión no bloqueante de {@link CreditScoreProviderAdapter} sobre WebClient. Conserva la
+ * misma política: score por defecto del servicio si lo informa y 620 ante cualquier error.
+ */
+@Adapter
+public class ReactiveCreditScoreProviderAdapter implements ReactiveCreditScoreProviderPort {
+    
+    private static final Logger log = LoggerFactory.getLogger(ReactiveCreditScoreProviderAdapter.class);
+    
+    private static final int DEFAULT_CREDIT_SCORE = 620;
+    
+    private final WebClient creditScoreWebClient;
+    
+    @Value("${security.default-auth-token:default-token}")
+    private String defaultAuthToken;
+    
+    public ReactiveCreditScoreProviderAdapter(@Qualifier("creditScoreWebClient") WebClient creditScoreWebClient) {
+        this.creditScoreWebClient = creditScoreWebClient;
+    }
+    
+    @Override
+    public Mono<CreditScore> getCreditScore(DocumentNumber documentNumber) {
+        CreditScoreRequestDto request = CreditScoreRequestDto.builder()
+            .documentNumber(documentNumber.getValue())
+            .documentType("CEDULA")
+            .includeCreditHistory(true)
+            .includePaymentBehavior(true)
+            .build();
+        
+        return creditScoreWebClient.post()
+            .uri("/api/v1/credit-score/calculate")
+            .header(HttpHeaders.AUTHORIZATION, "Bearer " + defaultAuthToken)
+            .bodyValue(request)
+            .retrieve()
+            .bodyToMono(CreditScoreResponseDto.class)
+            .doOnSubscribe(s -> log.info("Consultando score crediticio para documento: {}", documentNumber.getValue()))
+            .map(response -> toCreditScore(documentNumber, response))
+            .onErrorResume(e -> {
+                log.error("Error consultando score crediticio para documento: {}", documentNumber.getValue(), e);
+                log.warn("Usando score por defecto debido a error: {}", DEFAULT_CREDIT_SCORE);
+                return Mono.just(new CreditScore(DEFAULT_CREDIT_SCORE));
+            });
+    }
+    
+    private CreditScore toCreditScore(DocumentNumber documentNumber, CreditScoreResponseDto response) {
+        if (response.isFallbackActivated()) {
+            log.warn("Fallback activado para score crediticio - documento: {} - usando score por defecto: {}", 
+                    documentNumber.getValue(), response.getCreditScore());
+        }
+        
+        if (!response.isValid()) {
+            if (response.getCreditScore() != null) {
+                log.info("Usando score por defecto debido a error en servicio: {}", response.getCreditScore());
+                return new CreditScore(response.getCreditScore());
+            }
+            throw new RuntimeException("Error obteniendo score crediticio: " + response.getErrorMessage());
+        }
+        
+        if (response.getCreditScore() == null) {
+            throw new RuntimeException("Score crediticio no disponible para documento: " + documentNumber.getValue());
+        }
+        
+        log.info("Score crediticio obtenido exitosamente: {} - Score: {}", 
+                documentNumber.getValue(), response.getCreditScore());
+        
+        return new CreditScore(response.getCreditScore());
+    }
+}
@@ -0,0 +1,38 @@
+package mx.regional.next.automotive.credit.infrastructure.adapters.external.adapters;
+
+import mx.regional.next.automotive.credit.application.ports.out.ReactiveVehicleValidationPort;
+import mx.regional.next.automotive.credit.application.ports.out.VehicleValidationPort;
+import mx.regional.next.automotive.credit.application.ports.out.VehicleValidationPort.VehicleValidationResult;
+import mx.regional.next.shared.common.annotations.Adapter;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Versión no bloqueante de {@link VehicleValidationPort}. Las reglas de VIN, marca y año son
+ * en memoria, pero la valuación pasa por la caché de valuación y, en un fallo de caché con
+ * {@code credit.vehicle-valuation.remote.enabled=true}, por una llamada HTTP bloqueante al
+ * servicio de valuación. Por eso la validación corre en el scheduler elástico y no en el
+ * hilo del event loop que se suscribe.
+ */
+@Adapter
+public class ReactiveVehicleValidationAdapter implements ReactiveVehicleValidationPort {
+    
+    private final VehicleValidationPort vehicleValidation;
+    
+    public ReactiveVehicleValidationAdapter(VehicleValidationPort vehicleValidation) {
+        this.vehicleValidation = vehicleValidation;
+    }
+    
+    @Override
+    public Mono<VehicleValidationResult> validateVehicle(String vin, String brand, String model, int year) {
+        return Mono.fromSupplier(() -> vehicleValidation.validateVehicle(vin, brand, model, year))
+            .subscribeOn(Schedulers.boundedElastic());
+    }
+    
+    @Override
+    public Mono<VehicleValidationResult> validateVehicle(String vin, String brand, String model, int year, int kilometers) {
+        return Mono.fromSupplier(() -> vehicleValidation.validateVehicle(vin, brand, model, year, kilometers))
+            .subscribeOn(Schedulers.boundedElastic());
+    }
+}
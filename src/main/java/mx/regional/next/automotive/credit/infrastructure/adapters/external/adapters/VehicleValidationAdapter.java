@@ -5,6 +5,7 @@ import mx.regional.next.automotive.credit.domain.entities.Vehicle;
 import mx.regional.next.automotive.credit.domain.valueobjects.VehicleVIN;
 import mx.regional.next.automotive.credit.domain.valueobjects.CreditAmount;
 import mx.regional.next.automotive.credit.domain.enums.VehicleType;
+import mx.regional.next.automotive.credit.infrastructure.adapters.external.valuation.VehicleValuationCache;
 import mx.regional.next.shared.common.annotations.Adapter;
 
 import org.slf4j.Logger;
@@ -13,7 +14,6 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.core.io.ClassPathResource;
 
 import java.math.BigDecimal;
-import java.util.Map;
 import java.util.Set;
 
 @Adapter
@@ -26,16 +26,24 @@ public class VehicleValidationAdapter implements VehicleValidationPort {
     );
     
     private final ObjectMapper objectMapper;
+    private final VehicleValuationCache valuationCache;
     
-    public VehicleValidationAdapter(ObjectMapper objectMapper) {
+    public VehicleValidationAdapter(ObjectMapper objectMapper, VehicleValuationCache valuationCache) {
         this.objectMapper = objectMapper;
+        this.valuationCache = valuationCache;
     }
     
     @Override
     public VehicleValidationResult validateVehicle(String vin, String brand, String model, int year) {
+        // Sin kilometraje se valúa en la primera banda
+        return validateVehicle(vin, brand, model, year, 0);
+    }
+    
+    @Override
+    public VehicleValidationResult validateVehicle(String vin, String brand, String model, int year, int kilometers) {
         try {
-            log.info("Validando vehículo - VIN: {}, Marca: {}, Modelo: {}, Año: {}", 
-                    vin, brand, model, year);
+            log.info("Validando vehículo - VIN: {}, Marca: {}, Modelo: {}, Año: {}, Km: {}", 
+                    vin, brand, model, year, kilometers);
             
             // Validar VIN
             if (!isValidVIN(vin)) {
@@ -53,7 +61,7 @@ public class VehicleValidationAdapter implements VehicleValidationPort {
             }
             
             // Estimar valor del vehículo
-            BigDecimal estimatedValue = estimateVehicleValue(brand, model, year);
+            BigDecimal estimatedValue = estimateVehicleValue(brand, model, year, kilometers);
             
             if (estimatedValue.compareTo(BigDecimal.valueOf(50_000_000)) < 0) {
                 return VehicleValidationResult.invalid("Valor del vehículo inferior al mínimo requerido");
@@ -67,7 +75,7 @@ public class VehicleValidationAdapter implements VehicleValidationPort {
                 year,
                 determineVehicleType(model),
                 new CreditAmount(estimatedValue),
-                0, // kilometros no especificados
+                0, // el kilometraje declarado solo interviene en la valuación
                 "N/A", // color
                 "N/A", // motor
                 "N/A"  // transmisión
@@ -107,30 +115,9 @@ public class VehicleValidationAdapter implements VehicleValidationPort {
         return year >= 2018 && year <= currentYear;
     }
     
-    private BigDecimal estimateVehicleValue(String brand, String model, int year) {
+    private BigDecimal estimateVehicleValue(String brand, String model, int year, int kilometers) {
         try {
-            // En un entorno real, esto consultaría un servicio externo o base de datos
-            // Por ahora, usaremos valores estimados basados en el catálogo
-            
-            Map<String, BigDecimal> baseValues = Map.of(
-                "TOYOTA", BigDecimal.valueOf(80_000_000),
-                "CHEVROLET", BigDecimal.valueOf(70_000_000),
-                "RENAULT", BigDecimal.valueOf(60_000_000),
-                "NISSAN", BigDecimal.valueOf(75_000_000),
-                "HYUNDAI", BigDecimal.valueOf(65_000_000),
-                "KIA", BigDecimal.valueOf(65_000_000),
-                "MAZDA", BigDecimal.valueOf(75_000_000),
-                "FORD", BigDecimal.valueOf(70_000_000)
-            );
-            
-            BigDecimal baseValue = baseValues.getOrDefault(brand.toUpperCase(), BigDecimal.valueOf(60_000_000));
-            
-            // Aplicar depreciación por año
-            int currentYear = java.time.LocalDate.now().getYear();
-            int vehicleAge = currentYear - year;
-            BigDecimal depreciationFactor = BigDecimal.valueOf(Math.pow(0.85, vehicleAge)); // 15% anual
-            
-            return baseValue.multiply(depreciationFactor);
+            return valuationCache.marketValue(brand, model, year, kilometers);
             
         } catch (Exception e) {
             log.warn("Error estimando valor del vehículo, usando valor por defecto", e);
@@ -0,0 +1,177 @@
+package mx.regional.next.automotive.credit.infrastructure.adapters.external.cache;
+
+import mx.regional.next.automotive.credit.domain.valueobjects.CreditScore;
+import mx.regional.next.automotive.credit.domain.valueobjects.DocumentNumber;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Caché de scores del buró por documento, acotada por tamaño.
+ *
+ * <p>La política de vigencia se mide desde la fecha de cálculo que reporta el buró: un score
+ * se sirve desde caché mientras tenga menos de {@code ttl} de antigüedad, así que uno
+ * calculado hace tiempo vive menos en caché que uno recién calculado. Los scores por defecto
+ * de un fallback no se guardan nunca.
+ *
+ * <p>Las consultas concurrentes del mismo documento comparten una sola llamada al buró; la
+ * primera la ejecuta en su propio hilo y las demás reciben su resultado, también cuando es
+ * un score por defecto.
+ *
+ * <p>Aciertos, fallos y expulsiones se publican en Micrometer como {@code cache.*} con la
+ * etiqueta {@code cache=credit-score}.
+ */
+@Component
+public class CreditScoreCache {
+
+    static final String CACHE_NAME = "credit-score";
+
+    private final AsyncCache<String, Entry> cache;
+    private final Duration ttl;
+    private final Clock clock;
+    private final Counter coalescedLookups;
+
+    @Autowired
+    public CreditScoreCache(
+            MeterRegistry meterRegistry,
+            @Value("${credit.cache.credit-score.max-size:20000}") long maxSize,
+            @Value("${credit.cache.credit-score.ttl-minutes:1440}") long ttlMinutes) {
+        this(meterRegistry, maxSize, Duration.ofMinutes(ttlMinutes), Clock.systemDefaultZone(), Ticker.systemTicker());
+    }
+
+    CreditScoreCache(MeterRegistry meterRegistry, long maxSize, Duration ttl, Clock clock, Ticker ticker) {
+        this.ttl = ttl;
+        this.clock = clock;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfter(new RemainingValidity())
+            .ticker(ticker)
+            .recordStats()
+            .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        this.coalescedLookups = Counter.builder("credit.score.cache.coalesced")
+            .description("Consultas de score que esperaron una llamada al buró ya en curso")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Score vigente en caché o el que devuelva {@code lookup}, que solo se invoca si no hay
+     * una consulta del mismo documento en curso.
+     */
+    public CreditScore get(DocumentNumber documentNumber, Function<DocumentNumber, ScoreLookup> lookup) {
+        CompletableFuture<Entry> loading = new CompletableFuture<>();
+        CompletableFuture<Entry> entry = cache.get(documentNumber.getValue(), (key, executor) -> loading);
+
+        if (entry == loading) {
+            // Cualquier fallo, incluso un Error, debe completar la entrada o los que esperan no despiertan
+            try {
+                loading.complete(toEntry(lookup.apply(documentNumber)));
+            } catch (Throwable e) {
+                loading.completeExceptionally(e);
+                throw e;
+            }
+        } else if (!entry.isDone()) {
+            coalescedLookups.increment();
+        }
+
+        try {
+            return entry.join().score;
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new RuntimeException("Error consultando score crediticio", e.getCause());
+        }
+    }
+
+    public void invalidate(DocumentNumber documentNumber) {
+        cache.synchronous().invalidate(documentNumber.getValue());
+    }
+
+    // Vigencia restante según la antigüedad del cálculo; cero para fallbacks y scores vencidos
+    private Entry toEntry(ScoreLookup lookup) {
+        if (lookup.isFallback()) {
+            return new Entry(lookup.getScore(), 0);
+        }
+        LocalDateTime calculatedAt = lookup.getCalculatedAt() != null
+            ? lookup.getCalculatedAt()
+            : LocalDateTime.now(clock);
+        Duration age = Duration.between(calculatedAt, LocalDateTime.now(clock));
+        Duration remaining = age.isNegative() ? ttl : ttl.minus(age);
+        return new Entry(lookup.getScore(), Math.max(0, remaining.toNanos()));
+    }
+
+    /**
+     * Resultado de consultar el buró: un score real con su fecha de cálculo (puede faltar)
+     * o un score por defecto de fallback.
+     */
+    public static final class ScoreLookup {
+        private final CreditScore score;
+        private final LocalDateTime calculatedAt;
+        private final boolean fallback;
+
+        private ScoreLookup(CreditScore score, LocalDateTime calculatedAt, boolean fallback) {
+            this.score = score;
+            this.calculatedAt = calculatedAt;
+            this.fallback = fallback;
+        }
+
+        public static ScoreLookup real(CreditScore score, LocalDateTime calculatedAt) {
+            return new ScoreLookup(score, calculatedAt, false);
+        }
+
+        public static ScoreLookup fallback(CreditScore score) {
+            return new ScoreLookup(score, null, true);
+        }
+
+        public CreditScore getScore() { return score; }
+        public LocalDateTime getCalculatedAt() { return calculatedAt; }
+        public boolean isFallback() { return fallback; }
+    }
+
+    private static final class Entry {
+        private final CreditScore score;
+        private final long ttlNanos;
+
+        private Entry(CreditScore score, long ttlNanos) {
+            this.score = score;
+            this.ttlNanos = ttlNanos;
+        }
+    }
+
+    private static final class RemainingValidity implements Expiry<String, Entry> {
+        @Override
+        public long expireAfterCreate(String key, Entry value, long currentTime) {
+            return value.ttlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Entry value, long currentTime, long currentDuration) {
+            return value.ttlNanos;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Entry value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package mx.regional.next.automotive.credit.infrastructure.adapters.external.valuation;
+
+import java.util.Locale;
+
+/**
+ * Llave normalizada de una valuación: marca y modelo en mayúsculas sin espacios repetidos,
+ * año y banda de kilometraje. Dos vehículos de la misma banda comparten la valuación.
+ */
+public record ValuationKey(String brand, String model, int year, int mileageBand) {
+
+    // Bandas de 20,000 km; la última agrupa todo lo que supera el máximo elegible del catálogo
+    static final int BAND_WIDTH_KM = 20_000;
+    static final int MAX_BAND = 5;
+
+    public static ValuationKey of(String brand, String model, int year, int mileage) {
+        return new ValuationKey(normalize(brand), normalize(model), year, bandOf(mileage));
+    }
+
+    static int bandOf(int mileage) {
+        return Math.min(Math.max(mileage, 0) / BAND_WIDTH_KM, MAX_BAND);
+    }
+
+    // Misma marca, modelo y año en la primera banda, donde quedan los valores del catálogo
+    ValuationKey firstBand() {
+        return mileageBand == 0 ? this : new ValuationKey(brand, model, year, 0);
+    }
+
+    // Kilometraje con el que se consulta la banda al servicio remoto: su punto medio
+    int representativeMileage() {
+        return mileageBand * BAND_WIDTH_KM + BAND_WIDTH_KM / 2;
+    }
+
+    static String normalize(String value) {
+        return value == null ? "" : value.trim().replaceAll("\\s+", " ").toUpperCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,184 @@
+package mx.regional.next.automotive.credit.infrastructure.adapters.external.valuation;
+
+import mx.regional.next.automotive.credit.infrastructure.external.clients.VehicleValuationClient;
+import mx.regional.next.automotive.credit.infrastructure.external.dto.VehicleValuationResponse;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Valor de mercado de vehículos en dos niveles: una caché LRU en proceso por
+ * marca/modelo/año/banda de kilometraje delante del servicio de valuación, y la
+ * {@link VehicleValuationTable} precalculada para cuando el servicio no está habilitado o no
+ * responde.
+ *
+ * <p>Los valores del servicio viven en caché {@code ttl}; los de la tabla también cuando no
+ * hay servicio remoto, pero si el servicio falló no se guardan para volver a consultarlo en
+ * la siguiente petición. Las consultas concurrentes de la misma llave comparten una sola
+ * llamada al servicio.
+ *
+ * <p>Aciertos, fallos y expulsiones se publican en Micrometer como {@code cache.*} con la
+ * etiqueta {@code cache=vehicle-valuation}.
+ */
+public class VehicleValuationCache {
+
+    private static final Logger log = LoggerFactory.getLogger(VehicleValuationCache.class);
+
+    static final String CACHE_NAME = "vehicle-valuation";
+
+    private final AsyncCache<ValuationKey, Entry> cache;
+    private final VehicleValuationTable table;
+    private final VehicleValuationClient client;
+    private final long ttlNanos;
+    private final Clock clock;
+    private final Counter coalescedLookups;
+    private final Counter remoteFallbacks;
+
+    /**
+     * @param client servicio de valuación; {@code null} si la consulta remota está deshabilitada
+     */
+    public VehicleValuationCache(VehicleValuationTable table,
+                                 VehicleValuationClient client,
+                                 MeterRegistry meterRegistry,
+                                 long maxSize,
+                                 Duration ttl) {
+        this(table, client, meterRegistry, maxSize, ttl, Clock.systemDefaultZone(), Ticker.systemTicker());
+    }
+
+    VehicleValuationCache(VehicleValuationTable table,
+                          VehicleValuationClient client,
+                          MeterRegistry meterRegistry,
+                          long maxSize,
+                          Duration ttl,
+                          Clock clock,
+                          Ticker ticker) {
+        this.table = table;
+        this.client = client;
+        this.ttlNanos = ttl.toNanos();
+        this.clock = clock;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfter(new PerEntryTtl())
+            .ticker(ticker)
+            .recordStats()
+            .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        this.coalescedLookups = Counter.builder("credit.vehicle.valuation.cache.coalesced")
+            .description("Valuaciones que esperaron una consulta al servicio ya en curso")
+            .register(meterRegistry);
+        this.remoteFallbacks = Counter.builder("credit.vehicle.valuation.remote.fallbacks")
+            .description("Valuaciones resueltas con la tabla porque el servicio no respondió")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Precarga los valores del catálogo en la primera banda de kilometraje.
+     */
+    public void warm() {
+        Map<ValuationKey, BigDecimal> catalogValues = table.catalogValues();
+        catalogValues.forEach((key, value) ->
+            cache.put(key, CompletableFuture.completedFuture(new Entry(value, ttlNanos))));
+        log.info("Caché de valuación precargada con {} valores del catálogo", catalogValues.size());
+    }
+
+    /**
+     * Valor de mercado para el vehículo; {@code mileage} en kilómetros, 0 si no se conoce.
+     */
+    public BigDecimal marketValue(String brand, String model, int year, int mileage) {
+        ValuationKey key = ValuationKey.of(brand, model, year, mileage);
+
+        CompletableFuture<Entry> loading = new CompletableFuture<>();
+        CompletableFuture<Entry> entry = cache.get(key, (k, executor) -> loading);
+
+        if (entry == loading) {
+            // Cualquier fallo, incluso un Error, debe completar la entrada o los que esperan no despiertan
+            try {
+                loading.complete(load(key));
+            } catch (Throwable e) {
+                loading.completeExceptionally(e);
+                throw e;
+            }
+        } else if (!entry.isDone()) {
+            coalescedLookups.increment();
+        }
+
+        try {
+            return entry.join().value;
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new RuntimeException("Error consultando valuación del vehículo", e.getCause());
+        }
+    }
+
+    private Entry load(ValuationKey key) {
+        if (client == null) {
+            return new Entry(tableValue(key), ttlNanos);
+        }
+
+        try {
+            VehicleValuationResponse response = client.getMarketValue(
+                key.brand(), key.model(), key.year(), key.representativeMileage());
+            if (response != null && response.getCommercialValue() != null
+                    && !"SERVICE_UNAVAILABLE".equals(response.getStatus())) {
+                return new Entry(response.getCommercialValue(), ttlNanos);
+            }
+            log.warn("Servicio de valuación sin valor para {}, se usa la tabla", key);
+        } catch (RuntimeException e) {
+            log.warn("Error consultando servicio de valuación para {}, se usa la tabla", key, e);
+        }
+        remoteFallbacks.increment();
+        return new Entry(tableValue(key), 0);
+    }
+
+    private BigDecimal tableValue(ValuationKey key) {
+        return table.valueOf(key, LocalDate.now(clock).getYear());
+    }
+
+    private static final class Entry {
+        private final BigDecimal value;
+        private final long ttlNanos;
+
+        private Entry(BigDecimal value, long ttlNanos) {
+            this.value = value;
+            this.ttlNanos = ttlNanos;
+        }
+    }
+
+    private static final class PerEntryTtl implements Expiry<ValuationKey, Entry> {
+        @Override
+        public long expireAfterCreate(ValuationKey key, Entry value, long currentTime) {
+            return value.ttlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(ValuationKey key, Entry value, long currentTime, long currentDuration) {
+            return value.ttlNanos;
+        }
+
+        @Override
+        public long expireAfterRead(ValuationKey key, Entry value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
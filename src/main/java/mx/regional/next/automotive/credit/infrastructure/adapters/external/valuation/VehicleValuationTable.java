@@ -0,0 +1,97 @@
+package mx.regional.next.automotive.credit.infrastructure.adapters.external.valuation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Valores de referencia calculados una sola vez: los del catálogo de vehículos por
+ * marca/modelo/año y, para lo que el catálogo no cubre, el valor base de la marca con
+ * depreciación del 15% anual tomada de una tabla por antigüedad.
+ */
+public final class VehicleValuationTable {
+
+    static final BigDecimal DEFAULT_BASE_VALUE = BigDecimal.valueOf(60_000_000);
+
+    private static final Map<String, BigDecimal> BASE_VALUES = Map.of(
+        "TOYOTA", BigDecimal.valueOf(80_000_000),
+        "CHEVROLET", BigDecimal.valueOf(70_000_000),
+        "RENAULT", BigDecimal.valueOf(60_000_000),
+        "NISSAN", BigDecimal.valueOf(75_000_000),
+        "HYUNDAI", BigDecimal.valueOf(65_000_000),
+        "KIA", BigDecimal.valueOf(65_000_000),
+        "MAZDA", BigDecimal.valueOf(75_000_000),
+        "FORD", BigDecimal.valueOf(70_000_000)
+    );
+
+    // 0.85^antigüedad para 0..MAX_TABLE_AGE años; fuera de ese rango se calcula al vuelo
+    static final int MAX_TABLE_AGE = 30;
+    private static final BigDecimal[] DEPRECIATION = new BigDecimal[MAX_TABLE_AGE + 1];
+
+    static {
+        for (int age = 0; age <= MAX_TABLE_AGE; age++) {
+            DEPRECIATION[age] = BigDecimal.valueOf(Math.pow(0.85, age));
+        }
+    }
+
+    private final Map<ValuationKey, BigDecimal> catalogValues;
+
+    private VehicleValuationTable(Map<ValuationKey, BigDecimal> catalogValues) {
+        this.catalogValues = Collections.unmodifiableMap(catalogValues);
+    }
+
+    /**
+     * Tabla a partir de {@code vehicleCatalog.approvedBrands}: cada {@code usedAAAA} es el
+     * valor del año AAAA y {@code new} el del año de {@code lastUpdated}. El catálogo no
+     * distingue kilometraje, así que sus valores quedan en la primera banda.
+     */
+    public static VehicleValuationTable fromCatalog(JsonNode vehicleCatalog) {
+        Map<ValuationKey, BigDecimal> values = new HashMap<>();
+        int catalogYear = LocalDate.parse(vehicleCatalog.path("lastUpdated").asText()).getYear();
+
+        for (Map.Entry<String, JsonNode> brand : vehicleCatalog.path("approvedBrands").properties()) {
+            for (JsonNode model : brand.getValue().path("models")) {
+                for (Map.Entry<String, JsonNode> estimate : model.path("estimatedValue").properties()) {
+                    int year = "new".equals(estimate.getKey())
+                        ? catalogYear
+                        : Integer.parseInt(estimate.getKey().substring("used".length()));
+                    values.put(ValuationKey.of(brand.getKey(), model.path("name").asText(), year, 0),
+                        estimate.getValue().decimalValue());
+                }
+            }
+        }
+        return new VehicleValuationTable(values);
+    }
+
+    static VehicleValuationTable empty() {
+        return new VehicleValuationTable(Map.of());
+    }
+
+    public Map<ValuationKey, BigDecimal> catalogValues() {
+        return catalogValues;
+    }
+
+    /**
+     * Valor del catálogo para la marca, modelo y año (el catálogo no distingue banda de
+     * kilometraje) o, si no está, el valor base de la marca depreciado según la antigüedad
+     * respecto a {@code currentYear}.
+     */
+    public BigDecimal valueOf(ValuationKey key, int currentYear) {
+        BigDecimal catalogValue = catalogValues.get(key.firstBand());
+        if (catalogValue != null) {
+            return catalogValue;
+        }
+        BigDecimal baseValue = BASE_VALUES.getOrDefault(key.brand(), DEFAULT_BASE_VALUE);
+        return baseValue.multiply(depreciationFactor(currentYear - key.year()));
+    }
+
+    static BigDecimal depreciationFactor(int age) {
+        return age >= 0 && age <= MAX_TABLE_AGE
+            ? DEPRECIATION[age]
+            : BigDecimal.valueOf(Math.pow(0.85, age));
+    }
+}
@@ -0,0 +1,170 @@
+package mx.regional.next.automotive.credit.infrastructure.adapters.notification;
+
+import mx.regional.next.automotive.credit.infrastructure.external.dto.NotificationRequest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Acceso a notification_outbox. Los avisos se registran como PENDING y el despachador los
+ * reclama por lotes; reclamar un aviso solo aplaza su {@code next_attempt_at} por la duración
+ * del arrendamiento, así que si la instancia cae a mitad del envío el aviso vuelve a vencer y
+ * otra lo reenvía (entrega al menos una vez, el servicio deduplica por notificationId).
+ */
+public class NotificationOutbox {
+
+    static final int MAX_ERROR_LENGTH = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+
+    public NotificationOutbox(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this(jdbcTemplate, objectMapper, Clock.systemDefaultZone());
+    }
+
+    NotificationOutbox(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+    }
+
+    /**
+     * Registra los avisos en una sola escritura por lotes. Un notificationId ya registrado se ignora.
+     */
+    public void enqueue(List<OutboxMessage> messages) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now(clock));
+        jdbcTemplate.batchUpdate("""
+            INSERT INTO notification_outbox (notification_id, application_id, payload, next_attempt_at, created_at)
+            VALUES (?, ?, ?, ?, ?)
+            ON CONFLICT (notification_id) DO NOTHING
+            """, messages, messages.size(), (statement, message) -> {
+                statement.setString(1, message.notificationId());
+                statement.setString(2, message.applicationId());
+                statement.setString(3, toJson(message.request()));
+                statement.setTimestamp(4, now);
+                statement.setTimestamp(5, now);
+            });
+    }
+
+    /**
+     * Hasta {@code limit} avisos vencidos, del más antiguo al más reciente. Las filas bloqueadas
+     * por otra instancia se saltan y las reclamadas no vuelven a vencer hasta pasado {@code lease}.
+     */
+    public List<OutboxMessage> claimDue(int limit, Duration lease) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        return jdbcTemplate.query("""
+            UPDATE notification_outbox o
+            SET next_attempt_at = ?
+            FROM (
+                SELECT notification_id
+                FROM notification_outbox
+                WHERE status = 'PENDING' AND next_attempt_at <= ?
+                ORDER BY next_attempt_at
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            ) due
+            WHERE o.notification_id = due.notification_id
+            RETURNING o.notification_id, o.application_id, o.payload, o.attempts
+            """, this::toMessage, Timestamp.valueOf(now.plus(lease)), Timestamp.valueOf(now), limit);
+    }
+
+    public void markSent(Collection<String> notificationIds) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now(clock));
+        jdbcTemplate.batchUpdate("""
+            UPDATE notification_outbox
+            SET status = 'SENT', sent_at = ?, last_error = NULL
+            WHERE notification_id = ? AND status = 'PENDING'
+            """, notificationIds, notificationIds.size(), (statement, notificationId) -> {
+                statement.setTimestamp(1, now);
+                statement.setString(2, notificationId);
+            });
+    }
+
+    /**
+     * Registra los intentos fallidos: los que tienen {@code nextAttemptAt} vuelven a la cola
+     * para esa hora y los demás quedan FAILED hasta un reproceso.
+     */
+    public void recordFailures(List<FailedAttempt> failures) {
+        jdbcTemplate.batchUpdate("""
+            UPDATE notification_outbox
+            SET status = ?, attempts = ?, next_attempt_at = COALESCE(?, next_attempt_at), last_error = ?
+            WHERE notification_id = ? AND status = 'PENDING'
+            """, failures, failures.size(), (statement, failure) -> {
+                statement.setString(1, failure.nextAttemptAt() != null ? "PENDING" : "FAILED");
+                statement.setInt(2, failure.attempts());
+                statement.setTimestamp(3, failure.nextAttemptAt() != null ? Timestamp.valueOf(failure.nextAttemptAt()) : null);
+                statement.setString(4, truncate(failure.error()));
+                statement.setString(5, failure.notificationId());
+            });
+    }
+
+    /**
+     * Devuelve a la cola, con los intentos en cero, hasta {@code limit} avisos FAILED empezando
+     * por los más antiguos. Regresa cuántos se reencolaron.
+     */
+    public int replayFailed(int limit) {
+        return jdbcTemplate.update("""
+            UPDATE notification_outbox
+            SET status = 'PENDING', attempts = 0, next_attempt_at = ?, last_error = NULL
+            WHERE notification_id IN (
+                SELECT notification_id
+                FROM notification_outbox
+                WHERE status = 'FAILED'
+                ORDER BY created_at
+                LIMIT ?
+            )
+            """, Timestamp.valueOf(LocalDateTime.now(clock)), limit);
+    }
+
+    public int purgeSentBefore(LocalDateTime before) {
+        return jdbcTemplate.update(
+            "DELETE FROM notification_outbox WHERE status = 'SENT' AND sent_at < ?", Timestamp.valueOf(before));
+    }
+
+    private OutboxMessage toMessage(ResultSet rs, int rowNum) throws SQLException {
+        try {
+            return new OutboxMessage(
+                rs.getString("notification_id"),
+                rs.getString("application_id"),
+                objectMapper.readValue(rs.getString("payload"), NotificationRequest.class),
+                rs.getInt("attempts"));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Error leyendo aviso " + rs.getString("notification_id") + " de la bandeja", e);
+        }
+    }
+
+    private String toJson(NotificationRequest request) {
+        try {
+            return objectMapper.writeValueAsString(request);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Error serializando aviso " + request.getNotificationId(), e);
+        }
+    }
+
+    private static String truncate(String error) {
+        return error == null || error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    /**
+     * Aviso de la bandeja con los intentos ya hechos.
+     */
+    public record OutboxMessage(String notificationId, String applicationId, NotificationRequest request, int attempts) {
+    }
+
+    /**
+     * Resultado de un intento fallido; sin {@code nextAttemptAt} el aviso se da por agotado.
+     */
+    public record FailedAttempt(String notificationId, int attempts, LocalDateTime nextAttemptAt, String error) {
+    }
+}
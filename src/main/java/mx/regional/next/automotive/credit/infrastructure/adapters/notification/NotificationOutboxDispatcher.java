@@ -0,0 +1,228 @@
+package mx.regional.next.automotive.credit.infrastructure.adapters.notification;
+
+import mx.regional.next.automotive.credit.infrastructure.adapters.notification.NotificationOutbox.FailedAttempt;
+import mx.regional.next.automotive.credit.infrastructure.adapters.notification.NotificationOutbox.OutboxMessage;
+import mx.regional.next.automotive.credit.infrastructure.external.clients.NotificationClient;
+import mx.regional.next.automotive.credit.infrastructure.external.dto.NotificationRequest;
+import mx.regional.next.automotive.credit.infrastructure.external.dto.NotificationResponse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Envía los avisos vencidos de notification_outbox con
+ * {@link NotificationClient#sendBatchNotifications(NotificationRequest[])}, un lote de hasta
+ * {@code batchSize} avisos por llamada.
+ *
+ * <p>El resultado es por aviso: los que el servicio acepta quedan SENT; los rechazados, los
+ * que faltan en la respuesta y todos los del lote si la llamada falla se reintentan con
+ * retroceso exponencial ({@code initialBackoff}, el doble en cada intento, hasta
+ * {@code maxBackoff}). Al llegar a {@code maxAttempts} el aviso queda FAILED en la bandeja
+ * para reprocesarlo con {@link #replayFailed()}.
+ */
+public class NotificationOutboxDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationOutboxDispatcher.class);
+
+    private static final Set<String> REJECTED_STATUSES = Set.of("FAILED", "REJECTED");
+
+    private final NotificationOutbox outbox;
+    private final NotificationClient client;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+    private final Duration sentRetention;
+    private final boolean replayFailedOnStartup;
+    private final Clock clock;
+    private final Counter sent;
+    private final Counter retried;
+    private final Counter exhausted;
+
+    public NotificationOutboxDispatcher(NotificationOutbox outbox,
+                                       NotificationClient client,
+                                       MeterRegistry meterRegistry,
+                                       Settings settings) {
+        this(outbox, client, meterRegistry, settings, Clock.systemDefaultZone());
+    }
+
+    NotificationOutboxDispatcher(NotificationOutbox outbox,
+                                 NotificationClient client,
+                                 MeterRegistry meterRegistry,
+                                 Settings settings,
+                                 Clock clock) {
+        this.outbox = outbox;
+        this.client = client;
+        this.batchSize = settings.batchSize();
+        this.maxBatchesPerRun = settings.maxBatchesPerRun();
+        this.maxAttempts = settings.maxAttempts();
+        this.initialBackoff = settings.initialBackoff();
+        this.maxBackoff = settings.maxBackoff();
+        this.lease = settings.lease();
+        this.sentRetention = settings.sentRetention();
+        this.replayFailedOnStartup = settings.replayFailedOnStartup();
+        this.clock = clock;
+
+        this.sent = Counter.builder("credit.notifications.sent")
+            .description("Avisos aceptados por el servicio de notificaciones")
+            .register(meterRegistry);
+        this.retried = Counter.builder("credit.notifications.retried")
+            .description("Intentos de envío fallidos que se reprogramaron")
+            .register(meterRegistry);
+        this.exhausted = Counter.builder("credit.notifications.exhausted")
+            .description("Avisos que agotaron sus intentos y quedaron FAILED")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Envía lotes mientras haya avisos vencidos, hasta {@code maxBatchesPerRun} por ejecución.
+     */
+    @Scheduled(fixedDelayString = "${credit.notifications.dispatch-interval-millis:1000}")
+    public void dispatchDue() {
+        try {
+            for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+                if (dispatchBatch() < batchSize) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            // Los avisos reclamados vuelven a vencer al terminar el arrendamiento
+            log.error("Error despachando avisos de la bandeja", e);
+        }
+    }
+
+    /**
+     * Reclama y envía un lote. Regresa cuántos avisos reclamó.
+     */
+    int dispatchBatch() {
+        List<OutboxMessage> due = outbox.claimDue(batchSize, lease);
+        if (due.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, NotificationResponse> byNotificationId = new HashMap<>();
+        String batchError = null;
+        try {
+            NotificationResponse[] responses = client.sendBatchNotifications(
+                due.stream().map(OutboxMessage::request).toArray(NotificationRequest[]::new));
+            if (responses != null) {
+                for (NotificationResponse response : responses) {
+                    if (response != null && response.getNotificationId() != null) {
+                        byNotificationId.put(response.getNotificationId(), response);
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Error enviando lote de {} avisos, se reintentará", due.size(), e);
+            batchError = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+        }
+
+        List<String> accepted = new ArrayList<>();
+        List<FailedAttempt> failures = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now(clock);
+        for (OutboxMessage message : due) {
+            NotificationResponse response = byNotificationId.get(message.notificationId());
+            if (batchError == null && isAccepted(response)) {
+                accepted.add(message.notificationId());
+                continue;
+            }
+
+            int attempts = message.attempts() + 1;
+            String error = batchError != null ? batchError : rejectionOf(response);
+            if (attempts >= maxAttempts) {
+                exhausted.increment();
+                log.error("Aviso {} de la solicitud {} agotó {} intentos: {}",
+                    message.notificationId(), message.applicationId(), attempts, error);
+                failures.add(new FailedAttempt(message.notificationId(), attempts, null, error));
+            } else {
+                retried.increment();
+                failures.add(new FailedAttempt(message.notificationId(), attempts, now.plus(backoff(attempts)), error));
+            }
+        }
+
+        if (!accepted.isEmpty()) {
+            outbox.markSent(accepted);
+            sent.increment(accepted.size());
+        }
+        if (!failures.isEmpty()) {
+            outbox.recordFailures(failures);
+        }
+        return due.size();
+    }
+
+    /**
+     * Reencola todos los avisos FAILED. Regresa cuántos se reencolaron.
+     */
+    public int replayFailed() {
+        int replayed = 0;
+        int batch;
+        do {
+            batch = outbox.replayFailed(batchSize);
+            replayed += batch;
+        } while (batch == batchSize);
+        log.info("Avisos FAILED reencolados: {}", replayed);
+        return replayed;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void replayFailedOnStartup() {
+        if (replayFailedOnStartup) {
+            replayFailed();
+        }
+    }
+
+    @Scheduled(cron = "${credit.notifications.purge-cron:0 30 3 * * *}")
+    public void purgeSent() {
+        int purged = outbox.purgeSentBefore(LocalDateTime.now(clock).minus(sentRetention));
+        if (purged > 0) {
+            log.info("Avisos enviados depurados de la bandeja: {}", purged);
+        }
+    }
+
+    // initialBackoff * 2^(intento - 1), acotado por maxBackoff
+    Duration backoff(int attempts) {
+        int doublings = Math.min(attempts - 1, 30);
+        Duration delay = initialBackoff.multipliedBy(1L << doublings);
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private static boolean isAccepted(NotificationResponse response) {
+        return response != null && !REJECTED_STATUSES.contains(response.getStatus());
+    }
+
+    private static String rejectionOf(NotificationResponse response) {
+        if (response == null) {
+            return "Sin respuesta del servicio de notificaciones";
+        }
+        return response.getErrorMessage() != null ? response.getErrorMessage() : response.getStatus();
+    }
+
+    /**
+     * Parámetros del despachador, tomados de {@code credit.notifications.*}.
+     */
+    public record Settings(int batchSize,
+                           int maxBatchesPerRun,
+                           int maxAttempts,
+                           Duration initialBackoff,
+                           Duration maxBackoff,
+                           Duration lease,
+                           Duration sentRetention,
+                           boolean replayFailedOnStartup) {
+    }
+}
@@ -0,0 +1,78 @@
+package mx.regional.next.automotive.credit.infrastructure.adapters.notification;
+
+import mx.regional.next.automotive.credit.application.ports.out.CreditDecisionNotificationPort;
+import mx.regional.next.automotive.credit.domain.entities.CreditApplication;
+import mx.regional.next.automotive.credit.domain.enums.CreditStatus;
+import mx.regional.next.automotive.credit.infrastructure.adapters.notification.NotificationOutbox.OutboxMessage;
+import mx.regional.next.automotive.credit.infrastructure.external.dto.NotificationRequest;
+import mx.regional.next.shared.common.annotations.Adapter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Registra el aviso de decisión en notification_outbox; el envío lo hace
+ * {@link NotificationOutboxDispatcher} fuera del hilo de la solicitud. Escribe con la
+ * transacción en curso, así que el aviso se confirma o se revierte con la decisión.
+ */
+@Adapter
+public class OutboxDecisionNotificationAdapter implements CreditDecisionNotificationPort {
+
+    static final String TEMPLATE_PREFIX = "credit-decision-";
+
+    private final NotificationOutbox outbox;
+
+    public OutboxDecisionNotificationAdapter(NotificationOutbox outbox) {
+        this.outbox = outbox;
+    }
+
+    @Override
+    public void notifyDecision(CreditApplication application) {
+        notifyDecisions(List.of(application));
+    }
+
+    @Override
+    public void notifyDecisions(List<CreditApplication> applications) {
+        outbox.enqueue(applications.stream()
+            .map(application -> {
+                NotificationRequest request = toRequest(application);
+                return new OutboxMessage(request.getNotificationId(), application.getId(), request, 0);
+            })
+            .toList());
+    }
+
+    static NotificationRequest toRequest(CreditApplication application) {
+        CreditStatus status = application.getStatus();
+
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("applicationId", application.getId());
+        variables.put("customerName", application.getCustomer().getFirstName());
+        variables.put("status", status.name());
+        variables.put("requestedAmount", application.getRequestedAmount().getValue());
+        if (application.getRejectionReason() != null) {
+            variables.put("rejectionReason", application.getRejectionReason());
+        }
+
+        return NotificationRequest.builder()
+            .notificationId(notificationId(application))
+            .notificationType("EMAIL")
+            .recipient(application.getCustomer().getEmail())
+            .subject("Solicitud de crédito automotriz " + application.getId() + ": " + status.getDisplayName())
+            .message(String.format("Hola %s, tu solicitud de crédito automotriz %s quedó en estado %s. %s",
+                application.getCustomer().getFirstName(), application.getId(),
+                status.getDisplayName(), status.getDescription()))
+            .templateId(TEMPLATE_PREFIX + status.name().toLowerCase(Locale.ROOT))
+            .templateVariables(variables)
+            .build();
+    }
+
+    // Una decisión tiene un único aviso: reescribirla (volcado repetido, reintento) no lo duplica
+    static String notificationId(CreditApplication application) {
+        String key = application.getId() + ":" + application.getStatus().name();
+        return UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8)).toString();
+    }
+}
@@ -0,0 +1,57 @@
+package mx.regional.next.automotive.credit.infrastructure.adapters.notification;
+
+import mx.regional.next.automotive.credit.application.ports.out.ReactiveCreditDecisionNotificationPort;
+import mx.regional.next.automotive.credit.domain.entities.CreditApplication;
+import mx.regional.next.automotive.credit.infrastructure.external.dto.NotificationRequest;
+import mx.regional.next.shared.common.annotations.Adapter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+/**
+ * Registra el aviso de decisión en notification_outbox mediante R2DBC, con la misma fila que
+ * escribe {@link NotificationOutbox#enqueue(java.util.List)}; el envío lo hace
+ * {@link NotificationOutboxDispatcher}. Escribe con la transacción reactiva en curso.
+ */
+@Adapter
+public class ReactiveOutboxDecisionNotificationAdapter implements ReactiveCreditDecisionNotificationPort {
+
+    private static final String INSERT_MESSAGE = """
+        INSERT INTO notification_outbox (notification_id, application_id, payload, next_attempt_at, created_at)
+        VALUES (:notificationId, :applicationId, :payload, :now, :now)
+        ON CONFLICT (notification_id) DO NOTHING
+        """;
+
+    private final DatabaseClient databaseClient;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+
+    public ReactiveOutboxDecisionNotificationAdapter(DatabaseClient databaseClient, ObjectMapper objectMapper) {
+        this(databaseClient, objectMapper, Clock.systemDefaultZone());
+    }
+
+    ReactiveOutboxDecisionNotificationAdapter(DatabaseClient databaseClient, ObjectMapper objectMapper, Clock clock) {
+        this.databaseClient = databaseClient;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+    }
+
+    @Override
+    public Mono<Void> notifyDecision(CreditApplication application) {
+        return Mono.fromCallable(() -> {
+                NotificationRequest request = OutboxDecisionNotificationAdapter.toRequest(application);
+                return databaseClient.sql(INSERT_MESSAGE)
+                    .bind("notificationId", request.getNotificationId())
+                    .bind("applicationId", application.getId())
+                    .bind("payload", objectMapper.writeValueAsString(request))
+                    .bind("now", LocalDateTime.now(clock));
+            })
+            .flatMap(spec -> spec.fetch().rowsUpdated())
+            .then()
+            .onErrorMap(e -> new RuntimeException("Error registrando aviso de la solicitud " + application.getId(), e));
+    }
+}
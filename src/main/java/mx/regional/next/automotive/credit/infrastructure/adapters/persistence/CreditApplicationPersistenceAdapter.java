@@ -1,41 +1,77 @@
 package mx.regional.next.automotive.credit.infrastructure.adapters.persistence;
 
 import mx.regional.next.automotive.credit.application.ports.out.CreditApplicationRepositoryPort;
+import mx.regional.next.automotive.credit.application.ports.out.CreditDecisionNotificationPort;
 import mx.regional.next.automotive.credit.domain.entities.CreditApplication;
 import mx.regional.next.automotive.credit.domain.entities.Customer;
-import mx.regional.next.automotive.credit.domain.entities.Vehicle;
-import mx.regional.next.automotive.credit.domain.valueobjects.*;
-import mx.regional.next.automotive.credit.domain.enums.DocumentType;
-import mx.regional.next.automotive.credit.domain.enums.VehicleType;
+import mx.regional.next.automotive.credit.infrastructure.adapters.persistence.cache.CreditApplicationStatusCache;
 import mx.regional.next.automotive.credit.infrastructure.adapters.persistence.jpa.entities.CreditApplicationJpaEntity;
+import mx.regional.next.automotive.credit.infrastructure.adapters.persistence.jpa.entities.CustomerJpaEntity;
+import mx.regional.next.automotive.credit.infrastructure.adapters.persistence.mappers.CreditApplicationEntityMapper;
+import mx.regional.next.automotive.credit.infrastructure.adapters.persistence.mappers.CustomerEntityMapper;
 import mx.regional.next.automotive.credit.infrastructure.adapters.persistence.jpa.repositories.CreditApplicationJpaRepository;
+import mx.regional.next.automotive.credit.infrastructure.adapters.persistence.jpa.repositories.CustomerJpaRepository;
 import mx.regional.next.shared.common.annotations.Adapter;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
+/**
+ * Persistencia JPA de solicitudes. Guardar una solicitud registra también su aviso de
+ * decisión en la misma transacción: si falla cualquiera de las dos escrituras se revierten
+ * ambas y el error llega a quien guarda.
+ */
 @Adapter
 public class CreditApplicationPersistenceAdapter implements CreditApplicationRepositoryPort {
     
     private static final Logger log = LoggerFactory.getLogger(CreditApplicationPersistenceAdapter.class);
     
     private final CreditApplicationJpaRepository jpaRepository;
+    private final CreditApplicationEntityMapper mapper;
+    private final CreditApplicationStatusCache statusCache;
+    private final CustomerJpaRepository customerJpaRepository;
+    private final CustomerEntityMapper customerMapper;
+    private final CreditDecisionNotificationPort decisionNotifications;
     
-    public CreditApplicationPersistenceAdapter(CreditApplicationJpaRepository jpaRepository) {
+    public CreditApplicationPersistenceAdapter(CreditApplicationJpaRepository jpaRepository,
+                                               CreditApplicationEntityMapper mapper,
+                                               CreditApplicationStatusCache statusCache,
+                                               CustomerJpaRepository customerJpaRepository,
+                                               CustomerEntityMapper customerMapper,
+                                               CreditDecisionNotificationPort decisionNotifications) {
         this.jpaRepository = jpaRepository;
+        this.mapper = mapper;
+        this.statusCache = statusCache;
+        this.customerJpaRepository = customerJpaRepository;
+        this.customerMapper = customerMapper;
+        this.decisionNotifications = decisionNotifications;
     }
     
     @Override
+    @Transactional
     public CreditApplication save(CreditApplication application) {
         try {
             log.debug("Guardando aplicación de crédito: {}", application.getId());
             
-            CreditApplicationJpaEntity entity = mapToEntity(application);
+            CreditApplicationJpaEntity entity = mapper.toEntity(application);
             CreditApplicationJpaEntity savedEntity = jpaRepository.save(entity);
+            decisionNotifications.notifyDecision(application);
+            cacheAfterCommit(List.of(savedEntity));
             
             log.debug("Aplicación de crédito guardada exitosamente: {}", savedEntity.getId());
-            return mapToDomain(savedEntity);
+            return application;
             
         } catch (Exception e) {
             log.error("Error guardando aplicación de crédito: {}", application.getId(), e);
@@ -43,16 +79,88 @@ public class CreditApplicationPersistenceAdapter implements CreditApplicationRep
         }
     }
     
+    /**
+     * Persiste las solicitudes en una sola transacción. Las nuevas se marcan como tales para
+     * que Hibernate las agrupe en lotes JDBC (hibernate.jdbc.batch_size) en lugar de hacer
+     * un SELECT + INSERT por fila.
+     */
+    @Override
+    @Transactional
+    public List<CreditApplication> saveAll(List<CreditApplication> applications) {
+        if (applications.isEmpty()) {
+            return List.of();
+        }
+        persistBatch(applications.stream()
+            .map(mapper::toEntity)
+            .toList(), () -> applications);
+        return applications;
+    }
+    
+    /**
+     * Igual que {@link #saveAll(List)} pero con filas ya mapeadas, para quien las tiene
+     * serializadas (escritura diferida). Reescribir una fila existente la actualiza; su aviso
+     * se reconstruye con el cliente de la base y, como su id depende solo de la solicitud y
+     * el estado, un volcado repetido no lo duplica.
+     */
+    @Transactional
+    public void persistAll(List<CreditApplicationJpaEntity> entities) {
+        if (entities.isEmpty()) {
+            return;
+        }
+        persistBatch(entities, () -> hydrate(entities));
+    }
+    
+    private void persistBatch(List<CreditApplicationJpaEntity> entities,
+                              Supplier<List<CreditApplication>> decisions) {
+        try {
+            log.debug("Guardando lote de {} aplicaciones de crédito", entities.size());
+            
+            Set<String> existingIds = jpaRepository.findAllById(
+                    entities.stream().map(CreditApplicationJpaEntity::getId).toList())
+                .stream()
+                .map(CreditApplicationJpaEntity::getId)
+                .collect(Collectors.toSet());
+            
+            entities.stream()
+                .filter(entity -> !existingIds.contains(entity.getId()))
+                .forEach(CreditApplicationJpaEntity::markAsNew);
+            
+            jpaRepository.saveAll(entities);
+            decisionNotifications.notifyDecisions(decisions.get());
+            cacheAfterCommit(entities);
+            
+            log.debug("Lote de {} aplicaciones de crédito guardado exitosamente", entities.size());
+            
+        } catch (Exception e) {
+            log.error("Error guardando lote de {} aplicaciones de crédito", entities.size(), e);
+            throw new RuntimeException("Error persistiendo lote de aplicaciones de crédito", e);
+        }
+    }
+    
+    /**
+     * Un acierto en la caché de estado con cliente y vehículo ya materializados no consulta la
+     * base; la primera lectura de una fila los reconstruye y los deja en la caché.
+     */
     @Override
     public Optional<CreditApplication> findById(String id) {
         try {
             log.debug("Buscando aplicación de crédito por ID: {}", id);
             
-            Optional<CreditApplicationJpaEntity> entity = jpaRepository.findById(id);
+            Optional<CreditApplicationStatusCache.CachedApplication> cached =
+                statusCache.getApplication(id, jpaRepository::findPrunedLastUpdateDateById);
+            if (cached.isPresent()) {
+                CreditApplicationStatusCache.CachedApplication hit = cached.get();
+                return Optional.of(hit.isHydrated()
+                    ? mapper.toDomain(hit.row(), hit.customer(), hit.vehicle())
+                    : hydrateCached(hit.row()));
+            }
+            
+            Optional<CreditApplicationJpaEntity> entity = jpaRepository.findPrunedById(id);
             
             if (entity.isPresent()) {
                 log.debug("Aplicación de crédito encontrada: {}", id);
-                return Optional.of(mapToDomain(entity.get()));
+                statusCache.put(entity.get());
+                return Optional.of(hydrateCached(entity.get()));
             } else {
                 log.debug("Aplicación de crédito no encontrada: {}", id);
                 return Optional.empty();
@@ -64,16 +172,106 @@ public class CreditApplicationPersistenceAdapter implements CreditApplicationRep
         }
     }
     
+    /**
+     * Carga las solicitudes en dos consultas fijas (solicitudes y clientes), sin importar
+     * cuántos IDs se pidan. No pasa por la caché de estado: quien pide un lote ya paga una
+     * ida a la base y así todas las filas salen de la misma lectura.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<CreditApplication> findAllById(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        try {
+            log.debug("Buscando {} aplicaciones de crédito por ID", ids.size());
+            
+            List<CreditApplicationJpaEntity> entities = jpaRepository.findAllById(Set.copyOf(ids));
+            entities.forEach(statusCache::put);
+            return hydrate(entities);
+            
+        } catch (Exception e) {
+            log.error("Error buscando {} aplicaciones de crédito por ID", ids.size(), e);
+            throw new RuntimeException("Error consultando aplicaciones de crédito", e);
+        }
+    }
+    
+    /**
+     * Reconstruye las solicitudes con sus clientes reales. Los documentos distintos se cargan
+     * en una sola consulta IN y cada cliente se materializa una vez, así que solicitudes del
+     * mismo cliente comparten la instancia. Una solicitud sin cliente es un dato corrupto
+     * (customer_document es FK) y se reporta en lugar de inventar uno.
+     */
+    public List<CreditApplication> hydrate(List<CreditApplicationJpaEntity> entities) {
+        if (entities.isEmpty()) {
+            return List.of();
+        }
+        Set<String> documents = entities.stream()
+            .map(CreditApplicationJpaEntity::getCustomerDocument)
+            .collect(Collectors.toSet());
+        
+        Map<String, Customer> customers = new HashMap<>(documents.size() * 2);
+        for (CustomerJpaEntity customer : customerJpaRepository.findAllById(documents)) {
+            customers.put(customer.getDocumentNumber(), customerMapper.toDomain(customer));
+        }
+        
+        return entities.stream()
+            .map(entity -> {
+                Customer customer = customers.get(entity.getCustomerDocument());
+                if (customer == null) {
+                    throw new IllegalStateException("Cliente " + entity.getCustomerDocument()
+                        + " no encontrado para la solicitud " + entity.getId());
+                }
+                return mapper.toDomain(entity, customer);
+            })
+            .toList();
+    }
+    
+    private CreditApplication hydrate(CreditApplicationJpaEntity entity) {
+        return hydrate(List.of(entity)).get(0);
+    }
+    
+    private CreditApplication hydrateCached(CreditApplicationJpaEntity entity) {
+        CreditApplication application = hydrate(entity);
+        statusCache.putHydration(entity.getId(), entity.getLastUpdateDate(),
+            application.getCustomer(), application.getVehicle());
+        return application;
+    }
+    
+    /**
+     * Actualiza la caché con las filas guardadas. Dentro de una transacción espera al commit
+     * para no publicar cambios que luego se revierten; si se revierte, descarta las entradas.
+     */
+    private void cacheAfterCommit(List<CreditApplicationJpaEntity> entities) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            entities.forEach(statusCache::put);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                entities.forEach(statusCache::put);
+            }
+            
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    entities.forEach(entity -> statusCache.invalidate(entity.getId()));
+                }
+            }
+        });
+    }
+    
     @Override
     public Optional<CreditApplication> findByCustomerDocumentNumber(String documentNumber) {
         try {
             log.debug("Buscando aplicación de crédito por documento: {}", documentNumber);
             
-            Optional<CreditApplicationJpaEntity> entity = jpaRepository.findByCustomerDocument(documentNumber);
+            Optional<CreditApplicationJpaEntity> entity = jpaRepository.findFirstByCustomerDocumentOrderByApplicationDateDescIdDesc(documentNumber);
             
             if (entity.isPresent()) {
                 log.debug("Aplicación de crédito encontrada para documento: {}", documentNumber);
-                return Optional.of(mapToDomain(entity.get()));
+                return Optional.of(hydrate(entity.get()));
             } else {
                 log.debug("Aplicación de crédito no encontrada para documento: {}", documentNumber);
                 return Optional.empty();
@@ -84,90 +282,4 @@ public class CreditApplicationPersistenceAdapter implements CreditApplicationRep
             throw new RuntimeException("Error consultando aplicación de crédito", e);
         }
     }
-    
-    private CreditApplicationJpaEntity mapToEntity(CreditApplication application) {
-        CreditApplicationJpaEntity entity = new CreditApplicationJpaEntity();
-        
-        entity.setId(application.getId());
-        entity.setCustomerDocument(application.getCustomer().getDocumentNumber().getValue());
-        entity.setVehicleVin(application.getVehicle().getVin().getValue());
-        entity.setRequestedAmount(application.getRequestedAmount().getValue());
-        entity.setStatus(application.getStatus());
-        entity.setApplicationDate(application.getApplicationDate());
-        entity.setLastUpdateDate(application.getLastUpdateDate());
-        
-        // Vehicle information
-        entity.setVehicleBrand(application.getVehicle().getBrand());
-        entity.setVehicleModel(application.getVehicle().getModel());
-        entity.setVehicleYear(application.getVehicle().getYear());
-        entity.setVehicleValue(application.getVehicle().getValue().getValue());
-        entity.setVehicleKilometers(application.getVehicle().getKilometers());
-        
-        // Credit score (if available)
-        if (application.getCreditScore() != null) {
-            entity.setCreditScore(application.getCreditScore().getValue());
-        }
-        
-        // Rejection reason (if available)
-        entity.setRejectionReason(application.getRejectionReason());
-        
-        return entity;
-    }
-    
-    private CreditApplication mapToDomain(CreditApplicationJpaEntity entity) {
-        // Create Customer (simplified - in real scenario you might fetch from Customer repository)
-        Customer customer = createSimplifiedCustomer(entity.getCustomerDocument());
-        
-        // Create Vehicle
-        Vehicle vehicle = new Vehicle(
-            new VehicleVIN(entity.getVehicleVin()),
-            entity.getVehicleBrand(),
-            entity.getVehicleModel(),
-            entity.getVehicleYear(),
-            VehicleType.SEDAN, // Default - in real scenario this should be stored
-            new CreditAmount(entity.getVehicleValue()),
-            entity.getVehicleKilometers(),
-            "N/A", // color
-            "N/A", // engine
-            "N/A"  // transmission
-        );
-        
-        // Create CreditApplication
-        CreditApplication application = new CreditApplication(
-            customer,
-            vehicle,
-            new CreditAmount(entity.getRequestedAmount())
-        );
-        
-        // Set state from entity
-        if (entity.getCreditScore() != null) {
-            CreditScore creditScore = new CreditScore(entity.getCreditScore());
-            if (entity.getStatus().name().equals("APPROVED")) {
-                application.approve(creditScore);
-            }
-        }
-        
-        if (entity.getStatus().name().equals("REJECTED") && entity.getRejectionReason() != null) {
-            application.reject(entity.getRejectionReason());
-        }
-        
-        return application;
-    }
-    
-    private Customer createSimplifiedCustomer(String documentNumber) {
-        // This is a simplified version - in a real scenario you would fetch from CustomerRepository
-        return new Customer(
-            new DocumentNumber(documentNumber),
-            DocumentType.CEDULA,
-            "Customer",
-            "Name",
-            "customer@email.com",
-            "1234567890",
-            java.time.LocalDate.of(1990, 1, 1),
-            new CreditAmount(java.math.BigDecimal.valueOf(3000000)),
-            new CreditAmount(java.math.BigDecimal.valueOf(500000)),
-            "Empleado",
-            24
-        );
-    }
-}
\ No newline at end of file
+}
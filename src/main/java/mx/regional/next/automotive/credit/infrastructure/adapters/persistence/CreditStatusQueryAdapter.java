@@ -0,0 +1,177 @@
+package mx.regional.next.automotive.credit.infrastructure.adapters.persistence;
+
+import mx.regional.next.automotive.credit.application.dto.CreditStatusCursor;
+import mx.regional.next.automotive.credit.application.dto.CreditStatusPage;
+import mx.regional.next.automotive.credit.application.dto.CreditStatusResponse;
+import mx.regional.next.automotive.credit.application.ports.out.CreditStatusQueryPort;
+import mx.regional.next.automotive.credit.domain.enums.CreditStatus;
+import mx.regional.next.automotive.credit.infrastructure.adapters.persistence.cache.CreditApplicationStatusCache;
+import mx.regional.next.automotive.credit.infrastructure.adapters.persistence.jpa.repositories.CreditApplicationJpaRepository;
+import mx.regional.next.shared.common.annotations.Adapter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Consultas de estado sobre proyecciones JPQL: la base solo devuelve las columnas del modelo
+ * de lectura y no se crean entidades administradas ni objetos de dominio. Por ID se consulta
+ * primero la caché que mantiene {@link CreditApplicationPersistenceAdapter} y, si no está, la
+ * proyección leída se guarda en esa misma caché.
+ *
+ * <p>Los listados piden {@code limit + 1} filas para saber si hay otra página sin un COUNT, y
+ * los streams encadenan esas páginas: cada consulta es corta, así que no se retiene una
+ * conexión ni una transacción mientras el consumidor procesa las filas.
+ */
+@Adapter
+public class CreditStatusQueryAdapter implements CreditStatusQueryPort {
+    
+    private static final Logger log = LoggerFactory.getLogger(CreditStatusQueryAdapter.class);
+    
+    private final CreditApplicationJpaRepository jpaRepository;
+    private final CreditApplicationStatusCache statusCache;
+    
+    public CreditStatusQueryAdapter(CreditApplicationJpaRepository jpaRepository,
+                                    CreditApplicationStatusCache statusCache) {
+        this.jpaRepository = jpaRepository;
+        this.statusCache = statusCache;
+    }
+    
+    @Override
+    public Optional<CreditStatusResponse> findStatusById(String applicationId) {
+        try {
+            Optional<CreditStatusResponse> cached = statusCache.getStatus(
+                applicationId, jpaRepository::findPrunedLastUpdateDateById);
+            if (cached.isPresent()) {
+                return cached;
+            }
+            
+            log.debug("Consultando proyección de estado por ID: {}", applicationId);
+            Optional<CreditStatusResponse> status = jpaRepository.findPrunedStatusById(applicationId);
+            status.ifPresent(statusCache::putStatus);
+            return status;
+            
+        } catch (Exception e) {
+            log.error("Error consultando estado de solicitud: {}", applicationId, e);
+            throw new RuntimeException("Error consultando estado de solicitud de crédito", e);
+        }
+    }
+    
+    @Override
+    public CreditStatusPage findStatusesByCustomerDocument(String customerDocument, CreditStatusCursor after,
+                                                          int limit) {
+        log.debug("Consultando página de estados por documento: {}", customerDocument);
+        return page(after, limit,
+            fetch -> jpaRepository.findStatusPageByCustomerDocument(customerDocument, fetch),
+            (cursor, fetch) -> jpaRepository.findStatusPageByCustomerDocumentAfter(
+                customerDocument, cursor.getApplicationDate(), cursor.getApplicationId(), fetch));
+    }
+    
+    @Override
+    public CreditStatusPage findStatusesByStatus(CreditStatus status, CreditStatusCursor after, int limit) {
+        log.debug("Consultando página de solicitudes en estado: {}", status);
+        return page(after, limit,
+            fetch -> jpaRepository.findStatusPageByStatus(status, fetch),
+            (cursor, fetch) -> jpaRepository.findStatusPageByStatusAfter(
+                status, cursor.getApplicationDate(), cursor.getApplicationId(), fetch));
+    }
+    
+    @Override
+    public CreditStatusPage findStatusesByApplicationDateBetween(LocalDateTime fromDate, LocalDateTime toDate,
+                                                                 CreditStatusCursor after, int limit) {
+        log.debug("Consultando página de solicitudes entre {} y {}", fromDate, toDate);
+        return page(after, limit,
+            fetch -> jpaRepository.findStatusPageByApplicationDateBetween(fromDate, toDate, fetch),
+            (cursor, fetch) -> jpaRepository.findStatusPageByApplicationDateBetweenAfter(
+                fromDate, toDate, cursor.getApplicationDate(), cursor.getApplicationId(), fetch));
+    }
+    
+    @Override
+    public Stream<CreditStatusResponse> streamStatusesByCustomerDocument(String customerDocument, int fetchSize) {
+        return stream(after -> findStatusesByCustomerDocument(customerDocument, after, fetchSize));
+    }
+    
+    @Override
+    public Stream<CreditStatusResponse> streamStatusesByApplicationDateBetween(LocalDateTime fromDate,
+                                                                               LocalDateTime toDate,
+                                                                               int fetchSize) {
+        return stream(after -> findStatusesByApplicationDateBetween(fromDate, toDate, after, fetchSize));
+    }
+    
+    private CreditStatusPage page(CreditStatusCursor after, int limit,
+                                  Function<Limit, List<CreditStatusResponse>> firstPage,
+                                  PageAfter nextPage) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("El tamaño de página debe ser mayor a 0");
+        }
+        try {
+            Limit fetch = Limit.of(limit + 1);
+            List<CreditStatusResponse> rows = after == null
+                ? firstPage.apply(fetch)
+                : nextPage.fetch(after, fetch);
+            
+            if (rows.size() <= limit) {
+                return new CreditStatusPage(rows, null);
+            }
+            List<CreditStatusResponse> items = rows.subList(0, limit);
+            return new CreditStatusPage(items, CreditStatusCursor.after(items.get(limit - 1)));
+            
+        } catch (Exception e) {
+            log.error("Error consultando página de estados de solicitudes", e);
+            throw new RuntimeException("Error consultando estados de solicitudes de crédito", e);
+        }
+    }
+    
+    private Stream<CreditStatusResponse> stream(Function<CreditStatusCursor, CreditStatusPage> pages) {
+        return StreamSupport.stream(new PageSpliterator(pages), false);
+    }
+    
+    @FunctionalInterface
+    private interface PageAfter {
+        List<CreditStatusResponse> fetch(CreditStatusCursor after, Limit limit);
+    }
+    
+    /**
+     * Recorre las páginas de una en una: la primera se consulta al empezar a consumir y cada
+     * siguiente al agotar la anterior, así que en memoria solo hay una página.
+     */
+    private static final class PageSpliterator extends Spliterators.AbstractSpliterator<CreditStatusResponse> {
+        
+        private final Function<CreditStatusCursor, CreditStatusPage> pages;
+        private Iterator<CreditStatusResponse> current = Collections.emptyIterator();
+        private CreditStatusCursor next;
+        private boolean started;
+        
+        private PageSpliterator(Function<CreditStatusCursor, CreditStatusPage> pages) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.pages = pages;
+        }
+        
+        @Override
+        public boolean tryAdvance(Consumer<? super CreditStatusResponse> action) {
+            while (!current.hasNext()) {
+                if (started && next == null) {
+                    return false;
+                }
+                CreditStatusPage page = pages.apply(next);
+                started = true;
+                current = page.getItems().iterator();
+                next = page.getNextCursor();
+            }
+            action.accept(current.next());
+            return true;
+        }
+    }
+}
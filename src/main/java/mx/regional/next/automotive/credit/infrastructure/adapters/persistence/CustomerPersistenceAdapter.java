@@ -0,0 +1,86 @@
+package mx.regional.next.automotive.credit.infrastructure.adapters.persistence;
+
+import mx.regional.next.automotive.credit.application.ports.out.CustomerRepositoryPort;
+import mx.regional.next.automotive.credit.domain.entities.Customer;
+import mx.regional.next.automotive.credit.domain.valueobjects.DocumentNumber;
+import mx.regional.next.automotive.credit.infrastructure.adapters.persistence.jpa.entities.CustomerJpaEntity;
+import mx.regional.next.automotive.credit.infrastructure.adapters.persistence.jpa.repositories.CustomerJpaRepository;
+import mx.regional.next.automotive.credit.infrastructure.adapters.persistence.mappers.CustomerEntityMapper;
+import mx.regional.next.shared.common.annotations.Adapter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Adapter
+public class CustomerPersistenceAdapter implements CustomerRepositoryPort {
+
+    private static final Logger log = LoggerFactory.getLogger(CustomerPersistenceAdapter.class);
+
+    private final CustomerJpaRepository jpaRepository;
+    private final CustomerEntityMapper mapper;
+
+    public CustomerPersistenceAdapter(CustomerJpaRepository jpaRepository, CustomerEntityMapper mapper) {
+        this.jpaRepository = jpaRepository;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public Optional<Customer> findByDocumentNumber(DocumentNumber documentNumber) {
+        try {
+            log.debug("Buscando cliente por documento: {}", documentNumber.getValue());
+
+            return jpaRepository.findById(documentNumber.getValue())
+                .map(mapper::toDomain);
+
+        } catch (Exception e) {
+            log.error("Error buscando cliente por documento: {}", documentNumber.getValue(), e);
+            throw new RuntimeException("Error consultando cliente", e);
+        }
+    }
+
+    @Override
+    public Map<DocumentNumber, Customer> findAllByDocumentNumbers(Collection<DocumentNumber> documentNumbers) {
+        try {
+            log.debug("Buscando {} clientes por documento en una sola consulta", documentNumbers.size());
+
+            List<String> ids = documentNumbers.stream().map(DocumentNumber::getValue).toList();
+            Map<DocumentNumber, Customer> customers = new HashMap<>();
+
+            for (CustomerJpaEntity entity : jpaRepository.findAllById(ids)) {
+                Customer customer = mapper.toDomain(entity);
+                customers.put(customer.getDocumentNumber(), customer);
+            }
+
+            return customers;
+
+        } catch (Exception e) {
+            log.error("Error buscando clientes por documento", e);
+            throw new RuntimeException("Error consultando clientes", e);
+        }
+    }
+
+    @Override
+    public Customer save(Customer customer) {
+        try {
+            log.debug("Guardando cliente: {}", customer.getDocumentNumber().getValue());
+
+            CustomerJpaEntity savedEntity = jpaRepository.save(mapper.toEntity(customer));
+            return mapper.toDomain(savedEntity);
+
+        } catch (Exception e) {
+            log.error("Error guardando cliente: {}", customer.getDocumentNumber().getValue(), e);
+            throw new RuntimeException("Error persistiendo cliente", e);
+        }
+    }
+
+    @Override
+    public boolean existsByDocumentNumber(DocumentNumber documentNumber) {
+        return jpaRepository.existsByDocumentNumber(documentNumber.getValue());
+    }
+}
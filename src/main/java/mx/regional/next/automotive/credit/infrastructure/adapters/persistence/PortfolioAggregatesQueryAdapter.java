@@ -0,0 +1,106 @@
+package mx.regional.next.automotive.credit.infrastructure.adapters.persistence;
+
+import mx.regional.next.automotive.credit.application.dto.PortfolioAggregates;
+import mx.regional.next.automotive.credit.application.dto.PortfolioAggregates.Totals;
+import mx.regional.next.automotive.credit.application.ports.out.PortfolioAggregatesQueryPort;
+import mx.regional.next.automotive.credit.domain.enums.CreditStatus;
+import mx.regional.next.automotive.credit.infrastructure.adapters.persistence.jpa.entities.CreditApplicationAggregateJpaEntity;
+import mx.regional.next.automotive.credit.infrastructure.adapters.persistence.jpa.repositories.CreditApplicationAggregateJpaRepository;
+import mx.regional.next.shared.common.annotations.Adapter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static mx.regional.next.automotive.credit.infrastructure.adapters.persistence.jpa.entities.CreditApplicationAggregateJpaEntity.BRAND;
+import static mx.regional.next.automotive.credit.infrastructure.adapters.persistence.jpa.entities.CreditApplicationAggregateJpaEntity.DAY;
+import static mx.regional.next.automotive.credit.infrastructure.adapters.persistence.jpa.entities.CreditApplicationAggregateJpaEntity.STATUS;
+
+/**
+ * Lee credit_application_aggregates: una sola consulta sobre unas decenas de filas en lugar
+ * de contar sobre credit_applications.
+ */
+@Adapter
+public class PortfolioAggregatesQueryAdapter implements PortfolioAggregatesQueryPort {
+    
+    private static final Logger log = LoggerFactory.getLogger(PortfolioAggregatesQueryAdapter.class);
+    
+    private final CreditApplicationAggregateJpaRepository aggregateRepository;
+    
+    public PortfolioAggregatesQueryAdapter(CreditApplicationAggregateJpaRepository aggregateRepository) {
+        this.aggregateRepository = aggregateRepository;
+    }
+    
+    @Override
+    public PortfolioAggregates findAggregates(LocalDate fromDay) {
+        try {
+            log.debug("Consultando agregados del portafolio desde {}", fromDay);
+            return toAggregates(aggregateRepository.findDashboardRows(fromDay.toString()));
+            
+        } catch (Exception e) {
+            log.error("Error consultando agregados del portafolio", e);
+            throw new RuntimeException("Error consultando agregados del portafolio", e);
+        }
+    }
+    
+    @Override
+    public long countByStatus(CreditStatus status) {
+        try {
+            return aggregateRepository.findById(new CreditApplicationAggregateJpaEntity.Key(STATUS, status.name()))
+                .map(CreditApplicationAggregateJpaEntity::getApplicationCount)
+                .orElse(0L);
+            
+        } catch (Exception e) {
+            log.error("Error consultando contador de estado {}", status, e);
+            throw new RuntimeException("Error consultando agregados del portafolio", e);
+        }
+    }
+    
+    static PortfolioAggregates toAggregates(List<CreditApplicationAggregateJpaEntity> rows) {
+        Map<CreditStatus, Totals> byStatus = new EnumMap<>(CreditStatus.class);
+        for (CreditStatus status : CreditStatus.values()) {
+            byStatus.put(status, Totals.ZERO);
+        }
+        Map<LocalDate, Totals> byDay = new TreeMap<>();
+        Map<String, Totals> brands = new LinkedHashMap<>();
+        LocalDateTime lastUpdate = null;
+        
+        for (CreditApplicationAggregateJpaEntity row : rows) {
+            Totals totals = new Totals(row.getApplicationCount(), row.getRequestedAmount());
+            switch (row.getDimension()) {
+                case STATUS -> putStatus(byStatus, row.getDimensionKey(), totals);
+                case DAY -> byDay.put(LocalDate.parse(row.getDimensionKey()), totals);
+                case BRAND -> brands.put(row.getDimensionKey(), totals);
+                default -> log.warn("Dimensión de agregado desconocida: {}", row.getDimension());
+            }
+            if (lastUpdate == null || row.getLastUpdateDate().isAfter(lastUpdate)) {
+                lastUpdate = row.getLastUpdateDate();
+            }
+        }
+        
+        Map<String, Totals> byBrand = new LinkedHashMap<>();
+        brands.entrySet().stream()
+            .filter(brand -> brand.getValue().getCount() > 0)
+            .sorted(Map.Entry.<String, Totals>comparingByValue(Comparator.comparingLong(Totals::getCount)).reversed()
+                .thenComparing(Map.Entry.comparingByKey()))
+            .forEachOrdered(brand -> byBrand.put(brand.getKey(), brand.getValue()));
+        
+        return new PortfolioAggregates(byStatus, byDay, byBrand, lastUpdate);
+    }
+    
+    private static void putStatus(Map<CreditStatus, Totals> byStatus, String status, Totals totals) {
+        try {
+            byStatus.put(CreditStatus.valueOf(status), totals);
+        } catch (IllegalArgumentException e) {
+            log.warn("Estado de agregado desconocido: {}", status);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package mx.regional.next.automotive.credit.infrastructure.adapters.persistence;
+
+import mx.regional.next.automotive.credit.application.ports.out.ReactiveCreditApplicationRepositoryPort;
+import mx.regional.next.automotive.credit.application.ports.out.ReactiveCreditDecisionNotificationPort;
+import mx.regional.next.automotive.credit.domain.entities.CreditApplication;
+import mx.regional.next.automotive.credit.domain.enums.CreditStatus;
+import mx.regional.next.automotive.credit.infrastructure.adapters.persistence.jpa.entities.CreditApplicationJpaEntity;
+import mx.regional.next.automotive.credit.infrastructure.adapters.persistence.mappers.CreditApplicationEntityMapper;
+import mx.regional.next.automotive.credit.infrastructure.adapters.persistence.mappers.CustomerEntityMapper;
+import mx.regional.next.automotive.credit.infrastructure.adapters.persistence.partitioning.ApplicationDateWindow;
+import mx.regional.next.shared.common.annotations.Adapter;
+
+import io.r2dbc.spi.Readable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static mx.regional.next.automotive.credit.infrastructure.adapters.persistence.ReactiveCustomerPersistenceAdapter.bindNullable;
+import static mx.regional.next.automotive.credit.infrastructure.adapters.persistence.ReactiveCustomerPersistenceAdapter.readCustomer;
+
+/**
+ * Acceso no bloqueante a la tabla credit_applications mediante R2DBC. Como en
+ * {@link CreditApplicationPersistenceAdapter}, guardar una solicitud registra su aviso de
+ * decisión en la misma transacción.
+ */
+@Adapter
+public class ReactiveCreditApplicationPersistenceAdapter implements ReactiveCreditApplicationRepositoryPort {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveCreditApplicationPersistenceAdapter.class);
+
+    private static final String SELECT_APPLICATION = """
+        SELECT ca.id, ca.customer_document, ca.vehicle_vin, ca.requested_amount, ca.status, ca.credit_score,
+               ca.rejection_reason, ca.application_date, ca.last_update_date, ca.vehicle_brand,
+               ca.vehicle_model, ca.vehicle_year, ca.vehicle_value, ca.vehicle_kilometers,
+               c.document_number, c.document_type, c.first_name, c.last_name, c.email, c.phone_number,
+               c.birth_date, c.monthly_income, c.current_monthly_debts, c.occupation,
+               c.work_experience_months
+        FROM credit_applications ca
+        JOIN customers c ON c.document_number = ca.customer_document
+        """;
+
+    private static final String UPSERT_APPLICATION = """
+        INSERT INTO credit_applications (id, customer_document, vehicle_vin, requested_amount, status,
+                                         credit_score, rejection_reason, application_date, last_update_date,
+                                         vehicle_brand, vehicle_model, vehicle_year, vehicle_value,
+                                         vehicle_kilometers)
+        VALUES (:id, :customerDocument, :vehicleVin, :requestedAmount, :status,
+                :creditScore, :rejectionReason, :applicationDate, :lastUpdateDate,
+                :vehicleBrand, :vehicleModel, :vehicleYear, :vehicleValue,
+                :vehicleKilometers)
+        ON CONFLICT (id, application_date) DO UPDATE SET
+            status = EXCLUDED.status,
+            credit_score = EXCLUDED.credit_score,
+            rejection_reason = EXCLUDED.rejection_reason,
+            last_update_date = EXCLUDED.last_update_date
+        """;
+
+    private final DatabaseClient databaseClient;
+    private final CreditApplicationEntityMapper mapper;
+    private final CustomerEntityMapper customerMapper;
+    private final ReactiveCreditDecisionNotificationPort decisionNotifications;
+    private final TransactionalOperator transactionalOperator;
+
+    public ReactiveCreditApplicationPersistenceAdapter(DatabaseClient databaseClient,
+                                                       CreditApplicationEntityMapper mapper,
+                                                       CustomerEntityMapper customerMapper,
+                                                       ReactiveCreditDecisionNotificationPort decisionNotifications,
+                                                       TransactionalOperator transactionalOperator) {
+        this.databaseClient = databaseClient;
+        this.mapper = mapper;
+        this.customerMapper = customerMapper;
+        this.decisionNotifications = decisionNotifications;
+        this.transactionalOperator = transactionalOperator;
+    }
+
+    @Override
+    public Mono<CreditApplication> save(CreditApplication application) {
+        CreditApplicationJpaEntity entity = mapper.toEntity(application);
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(UPSERT_APPLICATION)
+            .bind("id", entity.getId())
+            .bind("customerDocument", entity.getCustomerDocument())
+            .bind("vehicleVin", entity.getVehicleVin())
+            .bind("requestedAmount", entity.getRequestedAmount())
+            .bind("status", entity.getStatus().name())
+            .bind("applicationDate", entity.getApplicationDate())
+            .bind("lastUpdateDate", entity.getLastUpdateDate());
+        spec = bindNullable(spec, "creditScore", entity.getCreditScore(), Integer.class);
+        spec = bindNullable(spec, "rejectionReason", entity.getRejectionReason(), String.class);
+        spec = bindNullable(spec, "vehicleBrand", entity.getVehicleBrand(), String.class);
+        spec = bindNullable(spec, "vehicleModel", entity.getVehicleModel(), String.class);
+        spec = bindNullable(spec, "vehicleYear", entity.getVehicleYear(), Integer.class);
+        spec = bindNullable(spec, "vehicleValue", entity.getVehicleValue(), BigDecimal.class);
+        spec = bindNullable(spec, "vehicleKilometers", entity.getVehicleKilometers(), Integer.class);
+
+        return spec.fetch()
+            .rowsUpdated()
+            .then(decisionNotifications.notifyDecision(application))
+            .thenReturn(application)
+            .as(transactionalOperator::transactional)
+            .doOnSubscribe(s -> log.debug("Guardando aplicación de crédito: {}", entity.getId()))
+            .onErrorMap(e -> new RuntimeException("Error persistiendo aplicación de crédito", e));
+    }
+
+    @Override
+    public Mono<CreditApplication> findById(String id) {
+        Optional<ApplicationDateWindow> window = ApplicationDateWindow.forId(id);
+        DatabaseClient.GenericExecuteSpec spec = window.isPresent()
+            ? databaseClient.sql(SELECT_APPLICATION
+                    + "WHERE ca.id = :id AND ca.application_date >= :windowFrom AND ca.application_date < :windowTo")
+                .bind("windowFrom", window.get().getFrom())
+                .bind("windowTo", window.get().getTo())
+            : databaseClient.sql(SELECT_APPLICATION + "WHERE ca.id = :id");
+        return spec.bind("id", id)
+            .map(this::readApplication)
+            .one()
+            .doOnSubscribe(s -> log.debug("Buscando aplicación de crédito por ID: {}", id))
+            .onErrorMap(e -> new RuntimeException("Error consultando aplicación de crédito", e));
+    }
+
+    @Override
+    public Mono<CreditApplication> findByCustomerDocumentNumber(String documentNumber) {
+        return databaseClient.sql(SELECT_APPLICATION
+                + "WHERE ca.customer_document = :documentNumber ORDER BY ca.application_date DESC, ca.id DESC LIMIT 1")
+            .bind("documentNumber", documentNumber)
+            .map(this::readApplication)
+            .one()
+            .doOnSubscribe(s -> log.debug("Buscando aplicación de crédito por documento: {}", documentNumber))
+            .onErrorMap(e -> new RuntimeException("Error consultando aplicación de crédito", e));
+    }
+
+    // La fila trae solicitud y cliente (JOIN), así que no hay una segunda consulta por cliente
+    private CreditApplication readApplication(Readable row) {
+        return mapper.toDomain(readEntity(row), customerMapper.toDomain(readCustomer(row)));
+    }
+
+    private CreditApplicationJpaEntity readEntity(Readable row) {
+        CreditApplicationJpaEntity entity = new CreditApplicationJpaEntity(
+            row.get("id", String.class),
+            row.get("customer_document", String.class),
+            row.get("vehicle_vin", String.class),
+            row.get("requested_amount", BigDecimal.class),
+            CreditStatus.valueOf(row.get("status", String.class)),
+            row.get("application_date", LocalDateTime.class),
+            row.get("last_update_date", LocalDateTime.class)
+        );
+        entity.setCreditScore(row.get("credit_score", Integer.class));
+        entity.setRejectionReason(row.get("rejection_reason", String.class));
+        entity.setVehicleBrand(row.get("vehicle_brand", String.class));
+        entity.setVehicleModel(row.get("vehicle_model", String.class));
+        entity.setVehicleYear(row.get("vehicle_year", Integer.class));
+        entity.setVehicleValue(row.get("vehicle_value", BigDecimal.class));
+        entity.setVehicleKilometers(row.get("vehicle_kilometers", Integer.class));
+        return entity;
+    }
+}
@@ -0,0 +1,143 @@
+package mx.regional.next.automotive.credit.infrastructure.adapters.persistence;
+
+import mx.regional.next.automotive.credit.application.ports.out.ReactiveCustomerRepositoryPort;
+import mx.regional.next.automotive.credit.domain.entities.Customer;
+import mx.regional.next.automotive.credit.domain.enums.DocumentType;
+import mx.regional.next.automotive.credit.domain.valueobjects.DocumentNumber;
+import mx.regional.next.automotive.credit.infrastructure.adapters.persistence.jpa.entities.CustomerJpaEntity;
+import mx.regional.next.automotive.credit.infrastructure.adapters.persistence.mappers.CustomerEntityMapper;
+import mx.regional.next.shared.common.annotations.Adapter;
+
+import io.r2dbc.spi.Readable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+
+/**
+ * Acceso no bloqueante a la tabla customers mediante R2DBC.
+ */
+@Adapter
+public class ReactiveCustomerPersistenceAdapter implements ReactiveCustomerRepositoryPort {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveCustomerPersistenceAdapter.class);
+
+    private static final String SELECT_CUSTOMER = """
+        SELECT document_number, document_type, first_name, last_name, email, phone_number,
+               birth_date, monthly_income, current_monthly_debts, occupation, work_experience_months
+        FROM customers
+        """;
+
+    private static final String UPSERT_CUSTOMER = """
+        INSERT INTO customers (document_number, document_type, first_name, last_name, email, phone_number,
+                               birth_date, monthly_income, current_monthly_debts, occupation,
+                               work_experience_months, last_updated)
+        VALUES (:documentNumber, :documentType, :firstName, :lastName, :email, :phoneNumber,
+                :birthDate, :monthlyIncome, :currentMonthlyDebts, :occupation,
+                :workExperienceMonths, CURRENT_DATE)
+        ON CONFLICT (document_number) DO UPDATE SET
+            document_type = EXCLUDED.document_type,
+            first_name = EXCLUDED.first_name,
+            last_name = EXCLUDED.last_name,
+            email = EXCLUDED.email,
+            phone_number = EXCLUDED.phone_number,
+            birth_date = EXCLUDED.birth_date,
+            monthly_income = EXCLUDED.monthly_income,
+            current_monthly_debts = EXCLUDED.current_monthly_debts,
+            occupation = EXCLUDED.occupation,
+            work_experience_months = EXCLUDED.work_experience_months,
+            last_updated = CURRENT_DATE
+        """;
+
+    private final DatabaseClient databaseClient;
+    private final CustomerEntityMapper mapper;
+
+    public ReactiveCustomerPersistenceAdapter(DatabaseClient databaseClient, CustomerEntityMapper mapper) {
+        this.databaseClient = databaseClient;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public Mono<Customer> findByDocumentNumber(DocumentNumber documentNumber) {
+        return databaseClient.sql(SELECT_CUSTOMER + "WHERE document_number = :documentNumber")
+            .bind("documentNumber", documentNumber.getValue())
+            .map(ReactiveCustomerPersistenceAdapter::readCustomer)
+            .one()
+            .map(mapper::toDomain)
+            .doOnSubscribe(s -> log.debug("Buscando cliente por documento: {}", documentNumber.getValue()))
+            .onErrorMap(e -> new RuntimeException("Error consultando cliente", e));
+    }
+
+    @Override
+    public Flux<Customer> findAllByDocumentNumbers(Collection<DocumentNumber> documentNumbers) {
+        if (documentNumbers.isEmpty()) {
+            return Flux.empty();
+        }
+        return databaseClient.sql(SELECT_CUSTOMER + "WHERE document_number IN (:documentNumbers)")
+            .bind("documentNumbers", documentNumbers.stream().map(DocumentNumber::getValue).toList())
+            .map(ReactiveCustomerPersistenceAdapter::readCustomer)
+            .all()
+            .map(mapper::toDomain)
+            .onErrorMap(e -> new RuntimeException("Error consultando clientes", e));
+    }
+
+    @Override
+    public Mono<Customer> save(Customer customer) {
+        CustomerJpaEntity entity = mapper.toEntity(customer);
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(UPSERT_CUSTOMER)
+            .bind("documentNumber", entity.getDocumentNumber())
+            .bind("documentType", entity.getDocumentType().name())
+            .bind("firstName", entity.getFirstName())
+            .bind("lastName", entity.getLastName())
+            .bind("email", entity.getEmail())
+            .bind("birthDate", entity.getBirthDate())
+            .bind("monthlyIncome", entity.getMonthlyIncome())
+            .bind("occupation", entity.getOccupation());
+        spec = bindNullable(spec, "phoneNumber", entity.getPhoneNumber(), String.class);
+        spec = bindNullable(spec, "currentMonthlyDebts", entity.getCurrentMonthlyDebts(), BigDecimal.class);
+        spec = bindNullable(spec, "workExperienceMonths", entity.getWorkExperienceMonths(), Integer.class);
+
+        return spec.fetch()
+            .rowsUpdated()
+            .thenReturn(customer)
+            .doOnSubscribe(s -> log.debug("Guardando cliente: {}", entity.getDocumentNumber()))
+            .onErrorMap(e -> new RuntimeException("Error persistiendo cliente", e));
+    }
+
+    @Override
+    public Mono<Boolean> existsByDocumentNumber(DocumentNumber documentNumber) {
+        return databaseClient.sql("SELECT 1 FROM customers WHERE document_number = :documentNumber")
+            .bind("documentNumber", documentNumber.getValue())
+            .map(row -> Boolean.TRUE)
+            .first()
+            .defaultIfEmpty(Boolean.FALSE);
+    }
+
+    // Compartido con las consultas de solicitudes que traen al cliente en el mismo JOIN
+    static CustomerJpaEntity readCustomer(Readable row) {
+        return new CustomerJpaEntity(
+            row.get("document_number", String.class),
+            DocumentType.valueOf(row.get("document_type", String.class)),
+            row.get("first_name", String.class),
+            row.get("last_name", String.class),
+            row.get("email", String.class),
+            row.get("phone_number", String.class),
+            row.get("birth_date", LocalDate.class),
+            row.get("monthly_income", BigDecimal.class),
+            row.get("current_monthly_debts", BigDecimal.class),
+            row.get("occupation", String.class),
+            row.get("work_experience_months", Integer.class)
+        );
+    }
+
+    static <T> DatabaseClient.GenericExecuteSpec bindNullable(DatabaseClient.GenericExecuteSpec spec,
+                                                              String name, T value, Class<T> type) {
+        return value != null ? spec.bind(name, value) : spec.bindNull(name, type);
+    }
+}
@@ -0,0 +1,187 @@
+package mx.regional.next.automotive.credit.infrastructure.adapters.persistence.cache;
+
+import mx.regional.next.automotive.credit.application.ports.out.CustomerRepositoryPort;
+import mx.regional.next.automotive.credit.domain.entities.Customer;
+import mx.regional.next.automotive.credit.domain.valueobjects.DocumentNumber;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Caché de perfiles de cliente delante de {@link CustomerRepositoryPort}, acotada por tamaño.
+ *
+ * <p>Los documentos inexistentes también se guardan, con un TTL más corto que los clientes
+ * encontrados, para que las consultas repetidas de documentos desconocidos no lleguen a la
+ * base. Las búsquedas concurrentes del mismo documento comparten una sola consulta: la
+ * primera registra una entrada en curso y la resuelve en su propio hilo, las demás esperan
+ * ese resultado. Un error no se guarda; todas las que esperaban lo reciben.
+ *
+ * <p>{@code save} invalida la entrada del documento, incluida una búsqueda aún en curso,
+ * cuyo resultado ya no llega a la caché. Un cliente creado por otro nodo se ve como
+ * inexistente aquí hasta que vence la entrada negativa.
+ *
+ * <p>Aciertos, fallos y expulsiones se publican en Micrometer como {@code cache.*} con la
+ * etiqueta {@code cache=customer-profile}.
+ */
+public class CachingCustomerRepository implements CustomerRepositoryPort {
+
+    private static final Logger log = LoggerFactory.getLogger(CachingCustomerRepository.class);
+
+    static final String CACHE_NAME = "customer-profile";
+
+    private final CustomerRepositoryPort delegate;
+    private final AsyncCache<String, Optional<Customer>> cache;
+    private final Counter coalescedLookups;
+
+    public CachingCustomerRepository(CustomerRepositoryPort delegate, MeterRegistry meterRegistry,
+                                     long maxSize, Duration ttl, Duration negativeTtl) {
+        this(delegate, meterRegistry, maxSize, ttl, negativeTtl, Ticker.systemTicker());
+    }
+
+    CachingCustomerRepository(CustomerRepositoryPort delegate, MeterRegistry meterRegistry,
+                              long maxSize, Duration ttl, Duration negativeTtl, Ticker ticker) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfter(new ProfileExpiry(ttl, negativeTtl))
+            .ticker(ticker)
+            .recordStats()
+            .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        this.coalescedLookups = Counter.builder("credit.customer.cache.coalesced")
+            .description("Búsquedas de cliente que esperaron una consulta ya en curso")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public Optional<Customer> findByDocumentNumber(DocumentNumber documentNumber) {
+        CompletableFuture<Optional<Customer>> loading = new CompletableFuture<>();
+        CompletableFuture<Optional<Customer>> entry = cache.get(documentNumber.getValue(), (key, executor) -> loading);
+
+        if (entry == loading) {
+            // Cualquier fallo, incluso un Error, debe completar la entrada o los que esperan no despiertan
+            try {
+                loading.complete(delegate.findByDocumentNumber(documentNumber));
+            } catch (Throwable e) {
+                loading.completeExceptionally(e);
+                throw e;
+            }
+        } else if (!entry.isDone()) {
+            coalescedLookups.increment();
+        }
+        return join(entry);
+    }
+
+    /**
+     * Responde los documentos en caché y busca el resto con una sola llamada al delegado.
+     * Los documentos que otra búsqueda ya está resolviendo se esperan en lugar de repetirse.
+     */
+    @Override
+    public Map<DocumentNumber, Customer> findAllByDocumentNumbers(Collection<DocumentNumber> documentNumbers) {
+        Map<DocumentNumber, CompletableFuture<Optional<Customer>>> entries = new LinkedHashMap<>();
+        Map<DocumentNumber, CompletableFuture<Optional<Customer>>> owned = new LinkedHashMap<>();
+
+        for (DocumentNumber documentNumber : documentNumbers) {
+            if (entries.containsKey(documentNumber)) {
+                continue;
+            }
+            CompletableFuture<Optional<Customer>> loading = new CompletableFuture<>();
+            CompletableFuture<Optional<Customer>> entry = cache.get(documentNumber.getValue(), (key, executor) -> loading);
+            entries.put(documentNumber, entry);
+            if (entry == loading) {
+                owned.put(documentNumber, loading);
+            } else if (!entry.isDone()) {
+                coalescedLookups.increment();
+            }
+        }
+
+        if (!owned.isEmpty()) {
+            log.debug("Buscando {} de {} clientes fuera de la caché", owned.size(), entries.size());
+            try {
+                Map<DocumentNumber, Customer> loaded = delegate.findAllByDocumentNumbers(owned.keySet());
+                owned.forEach((documentNumber, loading) ->
+                    loading.complete(Optional.ofNullable(loaded.get(documentNumber))));
+            } catch (Throwable e) {
+                owned.values().forEach(loading -> loading.completeExceptionally(e));
+                throw e;
+            }
+        }
+
+        Map<DocumentNumber, Customer> customers = new HashMap<>();
+        entries.forEach((documentNumber, entry) ->
+            join(entry).ifPresent(customer -> customers.put(documentNumber, customer)));
+        return customers;
+    }
+
+    @Override
+    public Customer save(Customer customer) {
+        try {
+            return delegate.save(customer);
+        } finally {
+            cache.synchronous().invalidate(customer.getDocumentNumber().getValue());
+        }
+    }
+
+    // Aprovecha las entradas negativas: un documento desconocido no vuelve a consultarse
+    @Override
+    public boolean existsByDocumentNumber(DocumentNumber documentNumber) {
+        return findByDocumentNumber(documentNumber).isPresent();
+    }
+
+    // Las búsquedas que esperaban reciben la misma excepción que la que consultó
+    private static Optional<Customer> join(CompletableFuture<Optional<Customer>> entry) {
+        try {
+            return entry.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new RuntimeException("Error consultando cliente", e.getCause());
+        }
+    }
+
+    private static final class ProfileExpiry implements Expiry<String, Optional<Customer>> {
+        private final long ttlNanos;
+        private final long negativeTtlNanos;
+
+        private ProfileExpiry(Duration ttl, Duration negativeTtl) {
+            this.ttlNanos = ttl.toNanos();
+            this.negativeTtlNanos = negativeTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(String key, Optional<Customer> value, long currentTime) {
+            return value.isPresent() ? ttlNanos : negativeTtlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Optional<Customer> value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Optional<Customer> value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package mx.regional.next.automotive.credit.infrastructure.adapters.persistence.cache;
+
+import mx.regional.next.automotive.credit.application.dto.CreditStatusResponse;
+import mx.regional.next.automotive.credit.domain.entities.Customer;
+import mx.regional.next.automotive.credit.domain.entities.Vehicle;
+import mx.regional.next.automotive.credit.infrastructure.adapters.persistence.jpa.entities.CreditApplicationJpaEntity;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Caché en proceso de solicitudes de crédito leídas por ID, acotada por tamaño y TTL.
+ *
+ * <p>Guarda copias desacopladas de la fila, o solo de su proyección de estado cuando la
+ * lectura vino de {@code CreditStatusQueryAdapter}, y nunca reemplaza una versión por otra con
+ * {@code lastUpdateDate} anterior, así que una lectura lenta no pisa una escritura reciente
+ * del mismo nodo. Las escrituras de otros nodos no invalidan esta caché: una entrada con más
+ * de {@code revalidate-after} desde su última verificación se compara contra la
+ * {@code last_update_date} de la base antes de servirse, lo que acota la desactualización
+ * entre nodos a ese intervalo (0 verifica en cada lectura).
+ *
+ * <p>Las filas pueden llevar además el cliente y el vehículo ya materializados (ambos
+ * inmutables), para que un acierto no vuelva a consultar al cliente ni a validar el VIN. El
+ * cliente se conserva mientras la fila no cambie, así que sus datos pueden atrasarse hasta el TTL.
+ *
+ * <p>Aciertos, fallos y expulsiones se publican en Micrometer como {@code cache.*} con la
+ * etiqueta {@code cache=credit-application-status}.
+ */
+@Component
+public class CreditApplicationStatusCache {
+
+    private static final Logger log = LoggerFactory.getLogger(CreditApplicationStatusCache.class);
+
+    static final String CACHE_NAME = "credit-application-status";
+
+    private final Cache<String, Snapshot> cache;
+    private final Ticker ticker;
+    private final long revalidateAfterNanos;
+    private final Counter unchangedRevalidations;
+    private final Counter changedRevalidations;
+
+    @Autowired
+    public CreditApplicationStatusCache(
+            MeterRegistry meterRegistry,
+            @Value("${credit.cache.application-status.max-size:10000}") long maxSize,
+            @Value("${credit.cache.application-status.ttl-seconds:300}") long ttlSeconds,
+            @Value("${credit.cache.application-status.revalidate-after-millis:2000}") long revalidateAfterMillis) {
+        this(meterRegistry, maxSize, Duration.ofSeconds(ttlSeconds), Duration.ofMillis(revalidateAfterMillis),
+             Ticker.systemTicker());
+    }
+
+    CreditApplicationStatusCache(MeterRegistry meterRegistry, long maxSize, Duration ttl,
+                                 Duration revalidateAfter, Ticker ticker) {
+        this.ticker = ticker;
+        this.revalidateAfterNanos = revalidateAfter.toNanos();
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttl)
+            .ticker(ticker)
+            .recordStats()
+            .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        this.unchangedRevalidations = Counter.builder("credit.application.status.cache.revalidations")
+            .tag("result", "unchanged")
+            .register(meterRegistry);
+        this.changedRevalidations = Counter.builder("credit.application.status.cache.revalidations")
+            .tag("result", "changed")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Copia de la solicitud en caché o vacío si no está, cambió en la base o solo se guardó su
+     * estado. La función recibe el ID y devuelve la {@code lastUpdateDate} vigente; solo se
+     * invoca para revalidar entradas antiguas.
+     */
+    public Optional<CreditApplicationJpaEntity> get(String id,
+                                                    Function<String, Optional<LocalDateTime>> currentLastUpdate) {
+        return getApplication(id, currentLastUpdate).map(CachedApplication::row);
+    }
+    
+    /**
+     * Igual que {@link #get(String, Function)} pero con el cliente y el vehículo materializados
+     * si ya se registraron con {@link #putHydration}.
+     */
+    public Optional<CachedApplication> getApplication(String id,
+                                                      Function<String, Optional<LocalDateTime>> currentLastUpdate) {
+        return current(id, currentLastUpdate)
+            .filter(snapshot -> snapshot.entity != null)
+            .map(snapshot -> {
+                Hydration hydration = snapshot.hydration;
+                return hydration == null
+                    ? new CachedApplication(snapshot.entity.copy(), null, null)
+                    : new CachedApplication(snapshot.entity.copy(), hydration.customer, hydration.vehicle);
+            });
+    }
+    
+    /**
+     * Copia del estado de la solicitud en caché, venga de la fila completa o de la proyección.
+     */
+    public Optional<CreditStatusResponse> getStatus(String id,
+                                                    Function<String, Optional<LocalDateTime>> currentLastUpdate) {
+        return current(id, currentLastUpdate).map(snapshot -> copy(snapshot.status));
+    }
+    
+    private Optional<Snapshot> current(String id, Function<String, Optional<LocalDateTime>> currentLastUpdate) {
+        Snapshot snapshot = cache.getIfPresent(id);
+        if (snapshot == null) {
+            return Optional.empty();
+        }
+
+        long now = ticker.read();
+        if (now - snapshot.verifiedAtNanos < revalidateAfterNanos) {
+            return Optional.of(snapshot);
+        }
+
+        Optional<LocalDateTime> lastUpdate = currentLastUpdate.apply(id);
+        if (lastUpdate.isPresent() && lastUpdate.get().equals(snapshot.lastUpdate())) {
+            snapshot.verifiedAtNanos = now;
+            unchangedRevalidations.increment();
+            return Optional.of(snapshot);
+        }
+
+        log.debug("Solicitud {} modificada fuera de este nodo, se descarta de la caché", id);
+        changedRevalidations.increment();
+        cache.asMap().remove(id, snapshot);
+        return Optional.empty();
+    }
+
+    /**
+     * Guarda una copia de la fila salvo que ya haya una versión más reciente.
+     */
+    public void put(CreditApplicationJpaEntity entity) {
+        CreditApplicationJpaEntity row = entity.copy();
+        merge(new Snapshot(row, row.toStatus(), ticker.read()));
+    }
+    
+    /**
+     * Guarda solo el estado leído por la proyección, con la misma llave y TTL que las filas.
+     * No reemplaza una fila completa de la misma versión.
+     */
+    public void putStatus(CreditStatusResponse status) {
+        merge(new Snapshot(null, copy(status), ticker.read()));
+    }
+    
+    /**
+     * Asocia el cliente y el vehículo reconstruidos a la fila en caché, solo si sigue siendo la
+     * versión {@code lastUpdate} de la que salieron.
+     */
+    public void putHydration(String id, LocalDateTime lastUpdate, Customer customer, Vehicle vehicle) {
+        Snapshot snapshot = cache.asMap().get(id);
+        if (snapshot != null && snapshot.entity != null && Objects.equals(snapshot.lastUpdate(), lastUpdate)) {
+            snapshot.hydration = new Hydration(customer, vehicle);
+        }
+    }
+    
+    private void merge(Snapshot candidate) {
+        cache.asMap().merge(candidate.status.getApplicationId(), candidate, CreditApplicationStatusCache::newer);
+    }
+    
+    private static Snapshot newer(Snapshot current, Snapshot incoming) {
+        if (incoming.isOlderThan(current)) {
+            return current;
+        }
+        boolean sameVersion = Objects.equals(incoming.lastUpdate(), current.lastUpdate());
+        if (sameVersion && current.entity != null) {
+            if (incoming.entity == null) {
+                return current;
+            }
+            incoming.hydration = current.hydration;
+        }
+        return incoming;
+    }
+
+    public void invalidate(String id) {
+        cache.invalidate(id);
+    }
+
+    // Ejecuta el mantenimiento pendiente (expulsiones) de inmediato; usado en pruebas
+    void cleanUp() {
+        cache.cleanUp();
+    }
+
+    private static CreditStatusResponse copy(CreditStatusResponse status) {
+        return new CreditStatusResponse(
+            status.getApplicationId(), status.getCustomerDocument(), status.getStatus(), status.getRequestedAmount(),
+            status.getCreditScore(), status.getRejectionReason(), status.getApplicationDate(), status.getLastUpdate());
+    }
+
+    /**
+     * Fila en caché; {@code customer} y {@code vehicle} son {@code null} mientras no se hayan
+     * materializado.
+     */
+    public record CachedApplication(CreditApplicationJpaEntity row, Customer customer, Vehicle vehicle) {
+        public boolean isHydrated() {
+            return customer != null;
+        }
+    }
+
+    private record Hydration(Customer customer, Vehicle vehicle) {
+    }
+
+    private static final class Snapshot {
+        // null si solo se guardó la proyección de estado
+        private final CreditApplicationJpaEntity entity;
+        private final CreditStatusResponse status;
+        private volatile Hydration hydration;
+        private volatile long verifiedAtNanos;
+
+        private Snapshot(CreditApplicationJpaEntity entity, CreditStatusResponse status, long verifiedAtNanos) {
+            this.entity = entity;
+            this.status = status;
+            this.verifiedAtNanos = verifiedAtNanos;
+        }
+
+        private LocalDateTime lastUpdate() {
+            return status.getLastUpdate();
+        }
+
+        private boolean isOlderThan(Snapshot other) {
+            LocalDateTime mine = lastUpdate();
+            LocalDateTime theirs = other.lastUpdate();
+            return mine != null && theirs != null && mine.isBefore(theirs);
+        }
+    }
+}
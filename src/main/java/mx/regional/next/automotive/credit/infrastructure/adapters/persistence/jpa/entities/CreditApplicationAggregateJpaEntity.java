@@ -0,0 +1,82 @@
+package mx.regional.next.automotive.credit.infrastructure.adapters.persistence.jpa.entities;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Contador precalculado de credit_application_aggregates. Solo lectura: los disparadores de
+ * credit_applications lo mantienen en la misma transacción que cada escritura.
+ */
+@Entity
+@Immutable
+@Table(name = "credit_application_aggregates")
+@IdClass(CreditApplicationAggregateJpaEntity.Key.class)
+public class CreditApplicationAggregateJpaEntity {
+    
+    public static final String STATUS = "STATUS";
+    public static final String DAY = "DAY";
+    public static final String BRAND = "BRAND";
+    
+    @Id
+    @Column(name = "dimension")
+    private String dimension;
+    
+    // Estado, fecha yyyy-mm-dd o marca en mayúsculas según la dimensión
+    @Id
+    @Column(name = "dimension_key")
+    private String dimensionKey;
+    
+    @Column(name = "application_count", nullable = false)
+    private long applicationCount;
+    
+    @Column(name = "requested_amount", nullable = false, precision = 18, scale = 2)
+    private BigDecimal requestedAmount;
+    
+    @Column(name = "last_update_date", nullable = false)
+    private LocalDateTime lastUpdateDate;
+    
+    protected CreditApplicationAggregateJpaEntity() {}
+    
+    public CreditApplicationAggregateJpaEntity(String dimension, String dimensionKey, long applicationCount,
+                                               BigDecimal requestedAmount, LocalDateTime lastUpdateDate) {
+        this.dimension = dimension;
+        this.dimensionKey = dimensionKey;
+        this.applicationCount = applicationCount;
+        this.requestedAmount = requestedAmount;
+        this.lastUpdateDate = lastUpdateDate;
+    }
+    
+    public String getDimension() { return dimension; }
+    public String getDimensionKey() { return dimensionKey; }
+    public long getApplicationCount() { return applicationCount; }
+    public BigDecimal getRequestedAmount() { return requestedAmount; }
+    public LocalDateTime getLastUpdateDate() { return lastUpdateDate; }
+    
+    public static class Key implements Serializable {
+        private String dimension;
+        private String dimensionKey;
+        
+        protected Key() {}
+        
+        public Key(String dimension, String dimensionKey) {
+            this.dimension = dimension;
+            this.dimensionKey = dimensionKey;
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key other)) return false;
+            return Objects.equals(dimension, other.dimension) && Objects.equals(dimensionKey, other.dimensionKey);
+        }
+        
+        @Override
+        public int hashCode() {
+            return Objects.hash(dimension, dimensionKey);
+        }
+    }
+}
@@ -1,13 +1,15 @@
 package mx.regional.next.automotive.credit.infrastructure.adapters.persistence.jpa.entities;
 
+import mx.regional.next.automotive.credit.application.dto.CreditStatusResponse;
 import mx.regional.next.automotive.credit.domain.enums.CreditStatus;
 import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "credit_applications")
-public class CreditApplicationJpaEntity {
+public class CreditApplicationJpaEntity implements Persistable<String> {
     
     @Id
     private String id;
@@ -52,6 +54,10 @@ public class CreditApplicationJpaEntity {
     @Column(name = "vehicle_kilometers")
     private Integer vehicleKilometers;
     
+    // Permite insertar en lote sin el SELECT previo que hace merge() con IDs asignados
+    @Transient
+    private boolean newEntity;
+    
     // Constructors
     public CreditApplicationJpaEntity() {}
     
@@ -67,7 +73,46 @@ public class CreditApplicationJpaEntity {
         this.lastUpdateDate = lastUpdateDate;
     }
     
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+    
+    public void markAsNew() {
+        this.newEntity = true;
+    }
+    
+    @PostLoad
+    @PostPersist
+    void markAsPersisted() {
+        this.newEntity = false;
+    }
+    
+    // Copia desacoplada del contexto de persistencia, para guardarla en caché
+    public CreditApplicationJpaEntity copy() {
+        CreditApplicationJpaEntity copy = new CreditApplicationJpaEntity(
+            id, customerDocument, vehicleVin, requestedAmount, status, applicationDate, lastUpdateDate);
+        copy.creditScore = creditScore;
+        copy.rejectionReason = rejectionReason;
+        copy.vehicleBrand = vehicleBrand;
+        copy.vehicleModel = vehicleModel;
+        copy.vehicleYear = vehicleYear;
+        copy.vehicleValue = vehicleValue;
+        copy.vehicleKilometers = vehicleKilometers;
+        return copy;
+    }
+    
+    /**
+     * Estado de la fila con la misma forma que la proyección {@code STATUS_PROJECTION}.
+     */
+    public CreditStatusResponse toStatus() {
+        return new CreditStatusResponse(
+            id, customerDocument, status, requestedAmount, creditScore, rejectionReason,
+            applicationDate, lastUpdateDate);
+    }
+    
     // Getters and Setters
+    @Override
     public String getId() { return id; }
     public void setId(String id) { this.id = id; }
     
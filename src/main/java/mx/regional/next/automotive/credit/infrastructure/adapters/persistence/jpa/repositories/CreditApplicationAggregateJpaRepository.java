@@ -0,0 +1,20 @@
+package mx.regional.next.automotive.credit.infrastructure.adapters.persistence.jpa.repositories;
+
+import mx.regional.next.automotive.credit.infrastructure.adapters.persistence.jpa.entities.CreditApplicationAggregateJpaEntity;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CreditApplicationAggregateJpaRepository
+        extends JpaRepository<CreditApplicationAggregateJpaEntity, CreditApplicationAggregateJpaEntity.Key> {
+    
+    // Estados y marcas completos más los días desde fromDay (yyyy-mm-dd ordena igual que la fecha)
+    @Query("SELECT a FROM CreditApplicationAggregateJpaEntity a " +
+           "WHERE a.dimension <> 'DAY' OR a.dimensionKey >= :fromDay")
+    List<CreditApplicationAggregateJpaEntity> findDashboardRows(@Param("fromDay") String fromDay);
+}
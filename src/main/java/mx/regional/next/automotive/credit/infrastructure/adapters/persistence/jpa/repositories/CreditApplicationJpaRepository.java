@@ -1,7 +1,10 @@
 package mx.regional.next.automotive.credit.infrastructure.adapters.persistence.jpa.repositories;
 
+import mx.regional.next.automotive.credit.application.dto.CreditStatusResponse;
 import mx.regional.next.automotive.credit.infrastructure.adapters.persistence.jpa.entities.CreditApplicationJpaEntity;
+import mx.regional.next.automotive.credit.infrastructure.adapters.persistence.partitioning.ApplicationDateWindow;
 import mx.regional.next.automotive.credit.domain.enums.CreditStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -14,20 +17,100 @@ import java.util.Optional;
 @Repository
 public interface CreditApplicationJpaRepository extends JpaRepository<CreditApplicationJpaEntity, String> {
     
-    Optional<CreditApplicationJpaEntity> findByCustomerDocument(String customerDocument);
+    String STATUS_PROJECTION = "SELECT new mx.regional.next.automotive.credit.application.dto.CreditStatusResponse(" +
+        "ca.id, ca.customerDocument, ca.status, ca.requestedAmount, ca.creditScore, " +
+        "ca.rejectionReason, ca.applicationDate, ca.lastUpdateDate) FROM CreditApplicationJpaEntity ca ";
     
-    List<CreditApplicationJpaEntity> findByStatus(CreditStatus status);
+    // Filas posteriores al cursor en orden (application_date DESC, id DESC)
+    String AFTER_CURSOR = "(ca.applicationDate < :afterDate OR (ca.applicationDate = :afterDate AND ca.id < :afterId)) ";
     
-    List<CreditApplicationJpaEntity> findByCustomerDocumentAndStatus(String customerDocument, CreditStatus status);
+    String NEWEST_FIRST = "ORDER BY ca.applicationDate DESC, ca.id DESC";
     
-    @Query("SELECT ca FROM CreditApplicationJpaEntity ca WHERE ca.applicationDate >= :fromDate AND ca.applicationDate <= :toDate")
-    List<CreditApplicationJpaEntity> findByApplicationDateBetween(
-        @Param("fromDate") LocalDateTime fromDate, 
-        @Param("toDate") LocalDateTime toDate
-    );
+    // Búsqueda por ID que el planificador limita a las particiones del rango de fechas
+    String IN_ID_WINDOW = "ca.id = :id AND ca.applicationDate >= :windowFrom AND ca.applicationDate < :windowTo";
     
+    // Un cliente puede tener varias solicitudes; se toma la más reciente
+    Optional<CreditApplicationJpaEntity> findFirstByCustomerDocumentOrderByApplicationDateDescIdDesc(String customerDocument);
+    
+    // Recorre el índice del estado; los tableros leen PortfolioAggregatesQueryPort. Sirve para conciliar contadores
     @Query("SELECT COUNT(ca) FROM CreditApplicationJpaEntity ca WHERE ca.status = :status")
     long countByStatus(@Param("status") CreditStatus status);
     
+    // Consulta mínima para revalidar entradas de caché sin cargar la fila completa
+    @Query("SELECT ca.lastUpdateDate FROM CreditApplicationJpaEntity ca WHERE ca.id = :id")
+    Optional<LocalDateTime> findLastUpdateDateById(@Param("id") String id);
+    
+    // Proyecciones de estado: solo las columnas del modelo de lectura, sin entidad administrada
+    @Query(STATUS_PROJECTION + "WHERE ca.id = :id")
+    Optional<CreditStatusResponse> findStatusById(@Param("id") String id);
+    
+    @Query("SELECT ca FROM CreditApplicationJpaEntity ca WHERE " + IN_ID_WINDOW)
+    Optional<CreditApplicationJpaEntity> findByIdWithin(
+        @Param("id") String id,
+        @Param("windowFrom") LocalDateTime windowFrom, @Param("windowTo") LocalDateTime windowTo);
+    
+    @Query("SELECT ca.lastUpdateDate FROM CreditApplicationJpaEntity ca WHERE " + IN_ID_WINDOW)
+    Optional<LocalDateTime> findLastUpdateDateByIdWithin(
+        @Param("id") String id,
+        @Param("windowFrom") LocalDateTime windowFrom, @Param("windowTo") LocalDateTime windowTo);
+    
+    @Query(STATUS_PROJECTION + "WHERE " + IN_ID_WINDOW)
+    Optional<CreditStatusResponse> findStatusByIdWithin(
+        @Param("id") String id,
+        @Param("windowFrom") LocalDateTime windowFrom, @Param("windowTo") LocalDateTime windowTo);
+    
+    // Lecturas por ID para credit_applications particionada: con UUIDv7 tocan una o dos
+    // particiones; con IDs anteriores recorren el índice de cada una
+    default Optional<CreditApplicationJpaEntity> findPrunedById(String id) {
+        Optional<ApplicationDateWindow> window = ApplicationDateWindow.forId(id);
+        return window.isPresent()
+            ? findByIdWithin(id, window.get().getFrom(), window.get().getTo())
+            : findById(id);
+    }
+    
+    default Optional<LocalDateTime> findPrunedLastUpdateDateById(String id) {
+        Optional<ApplicationDateWindow> window = ApplicationDateWindow.forId(id);
+        return window.isPresent()
+            ? findLastUpdateDateByIdWithin(id, window.get().getFrom(), window.get().getTo())
+            : findLastUpdateDateById(id);
+    }
+    
+    default Optional<CreditStatusResponse> findPrunedStatusById(String id) {
+        Optional<ApplicationDateWindow> window = ApplicationDateWindow.forId(id);
+        return window.isPresent()
+            ? findStatusByIdWithin(id, window.get().getFrom(), window.get().getTo())
+            : findStatusById(id);
+    }
+    
+    // Páginas por llave: la primera sin cursor y las siguientes a partir de la última fila leída.
+    // Las de cliente y las de estados activos son Index Only Scan (V6); CreditApplicationQueryPlanTest lo vigila
+    @Query(STATUS_PROJECTION + "WHERE ca.customerDocument = :customerDocument " + NEWEST_FIRST)
+    List<CreditStatusResponse> findStatusPageByCustomerDocument(
+        @Param("customerDocument") String customerDocument, Limit limit);
+    
+    @Query(STATUS_PROJECTION + "WHERE ca.customerDocument = :customerDocument AND " + AFTER_CURSOR + NEWEST_FIRST)
+    List<CreditStatusResponse> findStatusPageByCustomerDocumentAfter(
+        @Param("customerDocument") String customerDocument,
+        @Param("afterDate") LocalDateTime afterDate, @Param("afterId") String afterId, Limit limit);
+    
+    @Query(STATUS_PROJECTION + "WHERE ca.status = :status " + NEWEST_FIRST)
+    List<CreditStatusResponse> findStatusPageByStatus(@Param("status") CreditStatus status, Limit limit);
+    
+    @Query(STATUS_PROJECTION + "WHERE ca.status = :status AND " + AFTER_CURSOR + NEWEST_FIRST)
+    List<CreditStatusResponse> findStatusPageByStatusAfter(
+        @Param("status") CreditStatus status,
+        @Param("afterDate") LocalDateTime afterDate, @Param("afterId") String afterId, Limit limit);
+    
+    @Query(STATUS_PROJECTION + "WHERE ca.applicationDate >= :fromDate AND ca.applicationDate <= :toDate " + NEWEST_FIRST)
+    List<CreditStatusResponse> findStatusPageByApplicationDateBetween(
+        @Param("fromDate") LocalDateTime fromDate, @Param("toDate") LocalDateTime toDate, Limit limit);
+    
+    @Query(STATUS_PROJECTION + "WHERE ca.applicationDate >= :fromDate AND ca.applicationDate <= :toDate AND " +
+           AFTER_CURSOR + NEWEST_FIRST)
+    List<CreditStatusResponse> findStatusPageByApplicationDateBetweenAfter(
+        @Param("fromDate") LocalDateTime fromDate, @Param("toDate") LocalDateTime toDate,
+        @Param("afterDate") LocalDateTime afterDate, @Param("afterId") String afterId, Limit limit);
+    
+    // Se resuelve con el índice cubriente por cliente sin leer la tabla
     boolean existsByCustomerDocumentAndStatus(String customerDocument, CreditStatus status);
-}
\ No newline at end of file
+}
@@ -0,0 +1,89 @@
+package mx.regional.next.automotive.credit.infrastructure.adapters.persistence.mappers;
+
+import mx.regional.next.automotive.credit.domain.entities.CreditApplication;
+import mx.regional.next.automotive.credit.domain.entities.Customer;
+import mx.regional.next.automotive.credit.domain.entities.Vehicle;
+import mx.regional.next.automotive.credit.domain.valueobjects.*;
+import mx.regional.next.automotive.credit.domain.enums.VehicleType;
+import mx.regional.next.automotive.credit.infrastructure.adapters.persistence.jpa.entities.CreditApplicationJpaEntity;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Conversión entre la entidad de dominio y la fila de credit_applications, compartida por
+ * los adaptadores JPA y R2DBC.
+ */
+@Component
+public class CreditApplicationEntityMapper {
+    
+    public CreditApplicationJpaEntity toEntity(CreditApplication application) {
+        CreditApplicationJpaEntity entity = new CreditApplicationJpaEntity();
+        
+        entity.setId(application.getId());
+        entity.setCustomerDocument(application.getCustomer().getDocumentNumber().getValue());
+        entity.setVehicleVin(application.getVehicle().getVin().getValue());
+        entity.setRequestedAmount(application.getRequestedAmount().getValue());
+        entity.setStatus(application.getStatus());
+        entity.setApplicationDate(application.getApplicationDate());
+        entity.setLastUpdateDate(application.getLastUpdateDate());
+        
+        // Vehicle information
+        entity.setVehicleBrand(application.getVehicle().getBrand());
+        entity.setVehicleModel(application.getVehicle().getModel());
+        entity.setVehicleYear(application.getVehicle().getYear());
+        entity.setVehicleValue(application.getVehicle().getValue().getValue());
+        entity.setVehicleKilometers(application.getVehicle().getKilometers());
+        
+        // Credit score (if available)
+        if (application.getCreditScore() != null) {
+            entity.setCreditScore(application.getCreditScore().getValue());
+        }
+        
+        // Rejection reason (if available)
+        entity.setRejectionReason(application.getRejectionReason());
+        
+        return entity;
+    }
+    
+    /**
+     * Reconstruye la solicitud con su cliente. Los adaptadores cargan los clientes por lote
+     * (o en la misma consulta), nunca uno por fila.
+     */
+    public CreditApplication toDomain(CreditApplicationJpaEntity entity, Customer customer) {
+        return toDomain(entity, customer, toVehicle(entity));
+    }
+    
+    /**
+     * Reconstruye la solicitud con un cliente y un vehículo ya materializados (por ejemplo, los
+     * que guarda la caché de estado), sin volver a validar el VIN.
+     */
+    public CreditApplication toDomain(CreditApplicationJpaEntity entity, Customer customer, Vehicle vehicle) {
+        // Conserva id, estado y fechas de la fila: el aviso de decisión y la caché dependen de ellos
+        return CreditApplication.restore(
+            entity.getId(),
+            customer,
+            vehicle,
+            new CreditAmount(entity.getRequestedAmount()),
+            entity.getStatus(),
+            entity.getCreditScore() != null ? new CreditScore(entity.getCreditScore()) : null,
+            entity.getRejectionReason(),
+            entity.getApplicationDate(),
+            entity.getLastUpdateDate()
+        );
+    }
+    
+    private Vehicle toVehicle(CreditApplicationJpaEntity entity) {
+        return new Vehicle(
+            new VehicleVIN(entity.getVehicleVin()),
+            entity.getVehicleBrand(),
+            entity.getVehicleModel(),
+            entity.getVehicleYear(),
+            VehicleType.SEDAN, // Default - in real scenario this should be stored
+            new CreditAmount(entity.getVehicleValue()),
+            entity.getVehicleKilometers(),
+            "N/A", // color
+            "N/A", // engine
+            "N/A"  // transmission
+        );
+    }
+}
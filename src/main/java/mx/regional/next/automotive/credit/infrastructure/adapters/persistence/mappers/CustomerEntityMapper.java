@@ -0,0 +1,48 @@
+package mx.regional.next.automotive.credit.infrastructure.adapters.persistence.mappers;
+
+import mx.regional.next.automotive.credit.domain.entities.Customer;
+import mx.regional.next.automotive.credit.domain.valueobjects.CreditAmount;
+import mx.regional.next.automotive.credit.domain.valueobjects.DocumentNumber;
+import mx.regional.next.automotive.credit.infrastructure.adapters.persistence.jpa.entities.CustomerJpaEntity;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Conversión entre el cliente de dominio y la fila de customers, compartida por los
+ * adaptadores JPA y R2DBC.
+ */
+@Component
+public class CustomerEntityMapper {
+
+    public CustomerJpaEntity toEntity(Customer customer) {
+        return new CustomerJpaEntity(
+            customer.getDocumentNumber().getValue(),
+            customer.getDocumentType(),
+            customer.getFirstName(),
+            customer.getLastName(),
+            customer.getEmail(),
+            customer.getPhoneNumber(),
+            customer.getBirthDate(),
+            customer.getMonthlyIncome().getValue(),
+            customer.getCurrentMonthlyDebts().getValue(),
+            customer.getOccupation(),
+            customer.getWorkExperienceMonths()
+        );
+    }
+
+    public Customer toDomain(CustomerJpaEntity entity) {
+        return new Customer(
+            new DocumentNumber(entity.getDocumentNumber()),
+            entity.getDocumentType(),
+            entity.getFirstName(),
+            entity.getLastName(),
+            entity.getEmail(),
+            entity.getPhoneNumber(),
+            entity.getBirthDate(),
+            new CreditAmount(entity.getMonthlyIncome()),
+            entity.getCurrentMonthlyDebts() != null ? new CreditAmount(entity.getCurrentMonthlyDebts()) : null,
+            entity.getOccupation(),
+            entity.getWorkExperienceMonths() != null ? entity.getWorkExperienceMonths() : 0
+        );
+    }
+}
@@ -0,0 +1,55 @@
+package mx.regional.next.automotive.credit.infrastructure.adapters.persistence.partitioning;
+
+import mx.regional.next.automotive.credit.shared.utils.TimeOrderedIds;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Rango de application_date en el que puede estar una solicitud según su ID, para que las
+ * búsquedas por ID lleguen solo a una o dos particiones mensuales.
+ *
+ * <p>La solicitud toma el ID (UUIDv7) y la fecha en el mismo instante, la fecha como hora
+ * local. El margen cubre cualquier desfase de zona horaria entre ambos. Los IDs que no son
+ * UUIDv7 (solicitudes anteriores a V3) no tienen rango y se buscan en todas las particiones.
+ */
+public final class ApplicationDateWindow {
+
+    static final Duration MARGIN = Duration.ofHours(26);
+
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+
+    private ApplicationDateWindow(LocalDateTime from, LocalDateTime to) {
+        this.from = from;
+        this.to = to;
+    }
+
+    public static Optional<ApplicationDateWindow> forId(String applicationId) {
+        return forId(applicationId, ZoneId.systemDefault());
+    }
+
+    static Optional<ApplicationDateWindow> forId(String applicationId, ZoneId zone) {
+        UUID id;
+        try {
+            id = UUID.fromString(applicationId);
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        if (id.version() != 7) {
+            return Optional.empty();
+        }
+        LocalDateTime created = LocalDateTime.ofInstant(Instant.ofEpochMilli(TimeOrderedIds.timestampMillis(id)), zone);
+        return Optional.of(new ApplicationDateWindow(created.minus(MARGIN), created.plus(MARGIN)));
+    }
+
+    // Inclusive
+    public LocalDateTime getFrom() { return from; }
+
+    // Exclusiva
+    public LocalDateTime getTo() { return to; }
+}
@@ -0,0 +1,254 @@
+package mx.regional.next.automotive.credit.infrastructure.adapters.persistence.partitioning;
+
+import mx.regional.next.automotive.credit.domain.enums.CreditStatus;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Archiva las solicitudes finalizadas de los meses que salieron de la ventana de retención.
+ *
+ * <p>Por cada partición vencida exporta sus filas finalizadas a un CSV comprimido con GZIP
+ * ({@code credit_applications_yyyy_MM_<marca>.csv.gz}), lo deja en disco con fsync y luego
+ * borra esas filas en la misma transacción REPEATABLE READ que las leyó: una fila que cambie
+ * entre la exportación y el borrado hace fallar la transacción, no se pierde. Si el archivo no
+ * se puede escribir no se borra nada. La partición que queda vacía se desprende y se elimina;
+ * si conserva solicitudes pendientes se revisa de nuevo en la siguiente ejecución.
+ *
+ * <p>Las filas se borran directamente de la partición, así que los contadores de
+ * credit_application_aggregates conservan las solicitudes archivadas.
+ */
+@Component
+@ConditionalOnProperty(prefix = "credit.archival", name = "enabled", havingValue = "true")
+public class CreditApplicationArchiver {
+    
+    private static final Logger log = LoggerFactory.getLogger(CreditApplicationArchiver.class);
+    
+    private static final Pattern PARTITION_NAME = Pattern.compile("credit_applications_(\\d{4})_(\\d{2})");
+    private static final DateTimeFormatter FILE_STAMP = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+    
+    static final List<String> COLUMNS = List.of(
+        "id", "customer_document", "vehicle_vin", "requested_amount", "status", "credit_score",
+        "rejection_reason", "application_date", "last_update_date", "vehicle_brand", "vehicle_model",
+        "vehicle_year", "vehicle_value", "vehicle_kilometers");
+    
+    private static final String FINAL_STATUSES = Arrays.stream(CreditStatus.values())
+        .filter(CreditStatus::isFinal)
+        .map(status -> "'" + status.name() + "'")
+        .collect(Collectors.joining(", ", "(", ")"));
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Path archiveDirectory;
+    private final int retentionMonths;
+    private final int fetchSize;
+    private final Clock clock;
+    
+    @Autowired
+    public CreditApplicationArchiver(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${credit.archival.directory:data/archive}") String archiveDirectory,
+            @Value("${credit.archival.retention-months:24}") int retentionMonths,
+            @Value("${credit.archival.fetch-size:1000}") int fetchSize) {
+        this(jdbcTemplate, transactionManager, Path.of(archiveDirectory), retentionMonths, fetchSize,
+             Clock.systemDefaultZone());
+    }
+    
+    CreditApplicationArchiver(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                              Path archiveDirectory, int retentionMonths, int fetchSize, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.archiveDirectory = archiveDirectory;
+        this.retentionMonths = retentionMonths;
+        this.fetchSize = fetchSize;
+        this.clock = clock;
+    }
+    
+    @Scheduled(cron = "${credit.archival.cron:0 45 2 * * *}")
+    public void archiveExpiredPartitions() {
+        List<String> partitions = jdbcTemplate.queryForList("""
+            SELECT c.relname
+            FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            WHERE i.inhparent = 'credit_applications'::regclass
+            """, String.class);
+        
+        for (YearMonth month : expiredMonths(partitions, YearMonth.now(clock), retentionMonths)) {
+            try {
+                archive(month);
+            } catch (Exception e) {
+                // Se reintenta en la siguiente ejecución; las filas siguen en la base
+                log.error("Error archivando solicitudes de {}", month, e);
+            }
+        }
+    }
+    
+    /**
+     * Meses con partición propia que terminaron antes del inicio de la ventana de retención
+     * (el mes en curso y los {@code retentionMonths - 1} anteriores), del más antiguo al más
+     * reciente.
+     */
+    static List<YearMonth> expiredMonths(Collection<String> partitionNames, YearMonth current, int retentionMonths) {
+        YearMonth oldestRetained = current.minusMonths(Math.max(retentionMonths, 1) - 1L);
+        return partitionNames.stream()
+            .map(CreditApplicationArchiver::monthOf)
+            .flatMap(Optional::stream)
+            .filter(month -> month.isBefore(oldestRetained))
+            .sorted()
+            .toList();
+    }
+    
+    static Optional<YearMonth> monthOf(String partitionName) {
+        Matcher matcher = PARTITION_NAME.matcher(partitionName);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        return Optional.of(YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2))));
+    }
+    
+    static String partitionName(YearMonth month) {
+        return String.format("credit_applications_%04d_%02d", month.getYear(), month.getMonthValue());
+    }
+    
+    private void archive(YearMonth month) throws IOException {
+        String partition = partitionName(month);
+        Files.createDirectories(archiveDirectory);
+        Path archive = archiveDirectory.resolve(partition + "_" + LocalDateTime.now(clock).format(FILE_STAMP) + ".csv.gz");
+        Path temp = archiveDirectory.resolve(archive.getFileName() + ".tmp");
+        
+        try {
+            Integer archived = transactionTemplate.execute(status -> {
+                int exported = export(partition, temp);
+                if (exported > 0) {
+                    publish(temp, archive);
+                }
+                
+                int deleted = jdbcTemplate.update("DELETE FROM " + partition + " WHERE status IN " + FINAL_STATUSES);
+                if (deleted != exported) {
+                    throw new IllegalStateException("Se exportaron " + exported + " solicitudes de " + month
+                        + " pero se borrarían " + deleted);
+                }
+                
+                Boolean empty = jdbcTemplate.queryForObject(
+                    "SELECT NOT EXISTS (SELECT 1 FROM " + partition + ")", Boolean.class);
+                if (Boolean.TRUE.equals(empty)) {
+                    jdbcTemplate.execute("ALTER TABLE credit_applications DETACH PARTITION " + partition);
+                    jdbcTemplate.execute("DROP TABLE " + partition);
+                    log.info("Partición {} vacía, eliminada", partition);
+                }
+                return exported;
+            });
+            
+            if (archived != null && archived > 0) {
+                log.info("{} solicitudes finalizadas de {} archivadas en {}", archived, month, archive);
+            }
+            
+        } catch (RuntimeException e) {
+            // Sin commit las filas siguen en la base: el archivo publicado las duplicaría
+            Files.deleteIfExists(archive);
+            throw e;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+    
+    private int export(String partition, Path target) {
+        try (OutputStream file = Files.newOutputStream(target);
+             GZIPOutputStream gzip = new GZIPOutputStream(file, 64 * 1024);
+             BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(gzip, StandardCharsets.UTF_8))) {
+            
+            writer.write(String.join(",", COLUMNS));
+            writer.newLine();
+            
+            String sql = "SELECT " + String.join(", ", COLUMNS) + " FROM " + partition
+                + " WHERE status IN " + FINAL_STATUSES + " ORDER BY application_date, id";
+            int[] rows = {0};
+            // Dentro de la transacción el driver lee por bloques de fetchSize en lugar de todo el mes
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(sql);
+                statement.setFetchSize(fetchSize);
+                return statement;
+            }, (RowCallbackHandler) row -> {
+                writeRow(writer, row);
+                rows[0]++;
+            });
+            return rows[0];
+            
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error escribiendo archivo de solicitudes " + target, e);
+        }
+    }
+    
+    private static void writeRow(BufferedWriter writer, ResultSet row) throws SQLException {
+        try {
+            for (int column = 1; column <= COLUMNS.size(); column++) {
+                if (column > 1) {
+                    writer.write(',');
+                }
+                writer.write(csvField(row.getString(column)));
+            }
+            writer.newLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    // Vacío para NULL; entre comillas si contiene separadores, comillas o saltos de línea
+    static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.isEmpty() || value.chars().anyMatch(c -> c == ',' || c == '"' || c == '\n' || c == '\r')) {
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+        return value;
+    }
+    
+    private static void publish(Path temp, Path archive) {
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            channel.force(true);
+            Files.move(temp, archive, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error publicando archivo de solicitudes " + archive, e);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package mx.regional.next.automotive.credit.infrastructure.adapters.persistence.partitioning;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.Clock;
+import java.time.YearMonth;
+
+/**
+ * Mantiene creadas las particiones mensuales de credit_applications del mes en curso y los
+ * {@code months-ahead} siguientes, para que los inserts no caigan en la partición por defecto.
+ * Si alguno cae ahí, {@code create_credit_application_partition} lo traslada al crear el mes.
+ */
+@Component
+public class CreditApplicationPartitionMaintenance {
+    
+    private static final Logger log = LoggerFactory.getLogger(CreditApplicationPartitionMaintenance.class);
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final int monthsAhead;
+    private final Clock clock = Clock.systemDefaultZone();
+    
+    public CreditApplicationPartitionMaintenance(
+            JdbcTemplate jdbcTemplate,
+            @Value("${credit.partitioning.months-ahead:3}") int monthsAhead) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.monthsAhead = monthsAhead;
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${credit.partitioning.maintenance-cron:0 15 2 * * *}")
+    public void ensureUpcomingPartitions() {
+        YearMonth current = YearMonth.now(clock);
+        for (int offset = 0; offset <= monthsAhead; offset++) {
+            YearMonth month = current.plusMonths(offset);
+            try {
+                Boolean created = jdbcTemplate.queryForObject(
+                    "SELECT create_credit_application_partition(?)", Boolean.class, Date.valueOf(month.atDay(1)));
+                if (Boolean.TRUE.equals(created)) {
+                    log.info("Partición de solicitudes creada para {}", month);
+                }
+            } catch (Exception e) {
+                // Sin la partición los inserts siguen entrando por la partición por defecto
+                log.error("Error creando partición de solicitudes para {}", month, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package mx.regional.next.automotive.credit.infrastructure.adapters.persistence.writebehind;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Log local de solo anexado sobre un archivo mapeado en memoria, para las decisiones que
+ * aún no llegan a la base.
+ *
+ * <p>Formato: cabecera {@code [magic int][versión int][checkpoint long]} y luego registros
+ * {@code [longitud int][crc32 int][datos]}, siempre seguidos de una longitud 0 que marca el
+ * final. Al anexar, la longitud se escribe al último, así que un registro a medio escribir
+ * queda invisible; el CRC descarta páginas que el sistema operativo no alcanzó a bajar a disco.
+ * El checkpoint apunta al primer registro no volcado y es desde donde se recupera al reiniciar.
+ *
+ * <p>Las posiciones que devuelve {@link #append(byte[])} son lógicas (crecen siempre) para que
+ * sigan siendo válidas cuando el log se compacta moviendo los registros pendientes al inicio.
+ */
+public class DecisionLog implements Closeable {
+    
+    static final int HEADER_BYTES = 16;
+    private static final int MAGIC = 0x44434c47;
+    private static final int VERSION = 1;
+    private static final int CHECKPOINT_OFFSET = 8;
+    private static final int RECORD_HEADER_BYTES = 8;
+    private static final int TERMINATOR_BYTES = 4;
+    
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final boolean fsyncOnAppend;
+    private final List<Entry> recovered;
+    
+    // Posición lógica del byte físico 0; aumenta con cada compactación
+    private long base;
+    private int writePosition;
+    private int flushedPosition;
+    
+    public DecisionLog(Path path, int capacityBytes, boolean fsyncOnAppend) throws IOException {
+        if (capacityBytes < HEADER_BYTES + RECORD_HEADER_BYTES + TERMINATOR_BYTES) {
+            throw new IllegalArgumentException("Capacidad de log insuficiente: " + capacityBytes);
+        }
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        this.channel = FileChannel.open(path,
+            StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacityBytes);
+        this.capacity = capacityBytes;
+        this.fsyncOnAppend = fsyncOnAppend;
+        
+        if (buffer.getInt(0) != MAGIC) {
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, VERSION);
+            buffer.putLong(CHECKPOINT_OFFSET, HEADER_BYTES);
+            buffer.putInt(HEADER_BYTES, 0);
+            buffer.force();
+        } else if (buffer.getInt(4) != VERSION) {
+            throw new IOException("Versión de log de decisiones no soportada: " + buffer.getInt(4));
+        }
+        
+        this.flushedPosition = (int) buffer.getLong(CHECKPOINT_OFFSET);
+        this.recovered = scan();
+    }
+    
+    /**
+     * Registros válidos que quedaron sin volcar en la ejecución anterior, en orden de escritura.
+     */
+    public List<Entry> recovered() {
+        return recovered;
+    }
+    
+    /**
+     * Anexa un registro y devuelve su posición lógica final, o -1 si no cabe hasta que se
+     * libere espacio volcando registros anteriores.
+     */
+    public synchronized long append(byte[] payload) {
+        int recordBytes = RECORD_HEADER_BYTES + payload.length;
+        if ((long) writePosition + recordBytes + TERMINATOR_BYTES > capacity) {
+            return -1;
+        }
+        
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        buffer.put(writePosition + RECORD_HEADER_BYTES, payload);
+        buffer.putInt(writePosition + 4, (int) crc.getValue());
+        buffer.putInt(writePosition + recordBytes, 0);
+        // La longitud al final: hasta aquí el registro no existe para la recuperación
+        buffer.putInt(writePosition, payload.length);
+        
+        if (fsyncOnAppend) {
+            buffer.force(writePosition, recordBytes + TERMINATOR_BYTES);
+        }
+        writePosition += recordBytes;
+        return base + writePosition;
+    }
+    
+    /**
+     * Avanza el checkpoint hasta la posición lógica dada (ya persistida en la base) y compacta
+     * el log cuando el espacio volcado lo justifica.
+     */
+    public synchronized void markFlushed(long logicalPosition) {
+        int position = (int) (logicalPosition - base);
+        if (position <= flushedPosition) {
+            return;
+        }
+        flushedPosition = position;
+        buffer.putLong(CHECKPOINT_OFFSET, position);
+        compactIfWorthwhile();
+    }
+    
+    public synchronized int pendingBytes() {
+        return writePosition - flushedPosition;
+    }
+    
+    @Override
+    public synchronized void close() throws IOException {
+        buffer.force();
+        channel.close();
+    }
+    
+    /**
+     * Mueve los registros pendientes al inicio. Solo se hace si el destino no se solapa con
+     * ellos: si el proceso cae a mitad de la copia, el checkpoint todavía apunta a los
+     * originales intactos; el nuevo checkpoint se escribe al final.
+     */
+    private void compactIfWorthwhile() {
+        int tail = writePosition - flushedPosition;
+        int reclaimable = flushedPosition - HEADER_BYTES;
+        boolean drained = tail == 0;
+        if (!drained && reclaimable < capacity / 2) {
+            return;
+        }
+        if (tail + TERMINATOR_BYTES > reclaimable) {
+            return;
+        }
+        
+        if (!drained) {
+            buffer.put(HEADER_BYTES, buffer, flushedPosition, tail);
+        }
+        buffer.putInt(HEADER_BYTES + tail, 0);
+        if (fsyncOnAppend) {
+            buffer.force();
+        }
+        buffer.putLong(CHECKPOINT_OFFSET, HEADER_BYTES);
+        
+        base += reclaimable;
+        writePosition = HEADER_BYTES + tail;
+        flushedPosition = HEADER_BYTES;
+    }
+    
+    // Lee desde el checkpoint hasta el primer registro vacío, truncado o con CRC inválido
+    private List<Entry> scan() {
+        List<Entry> entries = new ArrayList<>();
+        int position = flushedPosition;
+        while (position + RECORD_HEADER_BYTES + TERMINATOR_BYTES <= capacity) {
+            int length = buffer.getInt(position);
+            int recordBytes = RECORD_HEADER_BYTES + length;
+            if (length <= 0 || (long) position + recordBytes + TERMINATOR_BYTES > capacity) {
+                break;
+            }
+            byte[] payload = new byte[length];
+            buffer.get(position + RECORD_HEADER_BYTES, payload);
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+            if ((int) crc.getValue() != buffer.getInt(position + 4)) {
+                break;
+            }
+            position += recordBytes;
+            entries.add(new Entry(payload, position));
+        }
+        // Lo que siga al último registro válido se descarta
+        writePosition = position;
+        buffer.putInt(position, 0);
+        return List.copyOf(entries);
+    }
+    
+    public record Entry(byte[] payload, long endPosition) {
+    }
+}
@@ -0,0 +1,99 @@
+package mx.regional.next.automotive.credit.infrastructure.adapters.persistence.writebehind;
+
+import mx.regional.next.automotive.credit.domain.enums.CreditStatus;
+import mx.regional.next.automotive.credit.infrastructure.adapters.persistence.jpa.entities.CreditApplicationJpaEntity;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Formato binario de una fila de credit_applications dentro del {@link DecisionLog}. Los
+ * campos opcionales llevan un byte de presencia; el primer byte es la versión del formato.
+ */
+final class DecisionRecordCodec {
+    
+    private static final byte FORMAT_VERSION = 1;
+    
+    private DecisionRecordCodec() {
+    }
+    
+    static byte[] encode(CreditApplicationJpaEntity entity) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeByte(FORMAT_VERSION);
+            out.writeUTF(entity.getId());
+            out.writeUTF(entity.getCustomerDocument());
+            out.writeUTF(entity.getVehicleVin());
+            out.writeUTF(entity.getRequestedAmount().toPlainString());
+            out.writeUTF(entity.getStatus().name());
+            writeNullable(out, entity.getCreditScore());
+            writeNullable(out, entity.getRejectionReason());
+            out.writeUTF(entity.getApplicationDate().toString());
+            out.writeUTF(entity.getLastUpdateDate().toString());
+            writeNullable(out, entity.getVehicleBrand());
+            writeNullable(out, entity.getVehicleModel());
+            writeNullable(out, entity.getVehicleYear());
+            writeNullable(out, entity.getVehicleValue() != null ? entity.getVehicleValue().toPlainString() : null);
+            writeNullable(out, entity.getVehicleKilometers());
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error codificando decisión " + entity.getId(), e);
+        }
+    }
+    
+    static CreditApplicationJpaEntity decode(byte[] payload) {
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+            byte version = in.readByte();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Versión de registro no soportada: " + version);
+            }
+            CreditApplicationJpaEntity entity = new CreditApplicationJpaEntity(
+                in.readUTF(), in.readUTF(), in.readUTF(), new BigDecimal(in.readUTF()),
+                CreditStatus.valueOf(in.readUTF()), null, null);
+            entity.setCreditScore(readNullableInt(in));
+            entity.setRejectionReason(readNullableString(in));
+            entity.setApplicationDate(LocalDateTime.parse(in.readUTF()));
+            entity.setLastUpdateDate(LocalDateTime.parse(in.readUTF()));
+            entity.setVehicleBrand(readNullableString(in));
+            entity.setVehicleModel(readNullableString(in));
+            entity.setVehicleYear(readNullableInt(in));
+            String vehicleValue = readNullableString(in);
+            entity.setVehicleValue(vehicleValue != null ? new BigDecimal(vehicleValue) : null);
+            entity.setVehicleKilometers(readNullableInt(in));
+            return entity;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error decodificando decisión del log", e);
+        }
+    }
+    
+    private static void writeNullable(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+    
+    private static void writeNullable(DataOutputStream out, Integer value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeInt(value);
+        }
+    }
+    
+    private static String readNullableString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+    
+    private static Integer readNullableInt(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readInt() : null;
+    }
+}
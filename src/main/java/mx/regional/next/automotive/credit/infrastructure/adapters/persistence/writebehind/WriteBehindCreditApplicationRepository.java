@@ -0,0 +1,297 @@
+package mx.regional.next.automotive.credit.infrastructure.adapters.persistence.writebehind;
+
+import mx.regional.next.automotive.credit.application.dto.CreditStatusResponse;
+import mx.regional.next.automotive.credit.application.ports.out.CreditApplicationRepositoryPort;
+import mx.regional.next.automotive.credit.domain.entities.CreditApplication;
+import mx.regional.next.automotive.credit.infrastructure.adapters.persistence.CreditApplicationPersistenceAdapter;
+import mx.regional.next.automotive.credit.infrastructure.adapters.persistence.jpa.entities.CreditApplicationJpaEntity;
+import mx.regional.next.automotive.credit.infrastructure.adapters.persistence.mappers.CreditApplicationEntityMapper;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Escritura diferida de decisiones: {@code save} anexa la fila al {@link DecisionLog} y
+ * responde de inmediato; un hilo de fondo la vuelca a Postgres en lotes JDBC a través de
+ * {@link CreditApplicationPersistenceAdapter#persistAll(List)}.
+ *
+ * <p>Al arrancar se reencolan los registros que el log tenga después de su checkpoint, así que
+ * una caída antes del volcado no pierde decisiones confirmadas. Reescribir una fila ya
+ * persistida la actualiza, por lo que reintentar un lote es seguro.
+ *
+ * <p>El rezago máximo acota cuánto puede atrasarse la base: si la decisión pendiente más
+ * antigua supera {@code maxLag} (o el log está lleno), {@code save} espera al volcador hasta
+ * ese mismo tiempo y luego falla, en lugar de seguir acumulando sin límite.
+ *
+ * <p>Las lecturas por ID o documento ven primero las decisiones aún no volcadas, y la consulta
+ * de estado por ID también, a través de {@link WriteBehindCreditStatusQueryAdapter}. El volcador
+ * de fondo arranca con {@link #start()} y se detiene con {@link #close()}.
+ */
+public class WriteBehindCreditApplicationRepository implements CreditApplicationRepositoryPort, Closeable {
+    
+    private static final Logger log = LoggerFactory.getLogger(WriteBehindCreditApplicationRepository.class);
+    
+    private final CreditApplicationPersistenceAdapter delegate;
+    private final CreditApplicationEntityMapper mapper;
+    private final DecisionLog decisionLog;
+    private final int batchSize;
+    private final long maxLagNanos;
+    private final Duration flushInterval;
+    private ScheduledExecutorService flusher;
+    
+    // Ordena el anexado al log con el encolado, y el volcador avisa aquí al liberar espacio
+    private final Object lock = new Object();
+    private final ArrayDeque<Pending> queue = new ArrayDeque<>();
+    private final Map<String, CreditApplicationJpaEntity> unflushed = new ConcurrentHashMap<>();
+    
+    public WriteBehindCreditApplicationRepository(CreditApplicationPersistenceAdapter delegate,
+                                                  CreditApplicationEntityMapper mapper,
+                                                  DecisionLog decisionLog,
+                                                  int batchSize,
+                                                  Duration flushInterval,
+                                                  Duration maxLag) {
+        this.delegate = delegate;
+        this.mapper = mapper;
+        this.decisionLog = decisionLog;
+        this.batchSize = batchSize;
+        this.maxLagNanos = maxLag.toNanos();
+        this.flushInterval = flushInterval;
+        
+        recover();
+    }
+    
+    /**
+     * Arranca el volcador de fondo. Se separa del constructor para no publicar la instancia
+     * a otro hilo antes de que termine de construirse.
+     */
+    @PostConstruct
+    public synchronized void start() {
+        if (flusher != null) {
+            return;
+        }
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "credit-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = flushInterval.toMillis();
+        flusher.scheduleWithFixedDelay(this::drain, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+    
+    @Override
+    public CreditApplication save(CreditApplication application) {
+        saveAll(List.of(application));
+        return application;
+    }
+    
+    @Override
+    public List<CreditApplication> saveAll(List<CreditApplication> applications) {
+        try {
+            List<CreditApplicationJpaEntity> entities = applications.stream().map(mapper::toEntity).toList();
+            List<byte[]> payloads = entities.stream().map(DecisionRecordCodec::encode).toList();
+            
+            synchronized (lock) {
+                for (int i = 0; i < entities.size(); i++) {
+                    long endPosition = appendWithinLag(payloads.get(i));
+                    enqueue(entities.get(i), endPosition);
+                }
+            }
+            
+            log.debug("{} decisiones anexadas al log de escritura diferida", entities.size());
+            return applications;
+            
+        } catch (Exception e) {
+            log.error("Error anexando {} decisiones al log de escritura diferida", applications.size(), e);
+            throw new RuntimeException("Error persistiendo aplicación de crédito", e);
+        }
+    }
+    
+    @Override
+    public Optional<CreditApplication> findById(String id) {
+        CreditApplicationJpaEntity pending = unflushed.get(id);
+        if (pending != null) {
+            return Optional.of(delegate.hydrate(List.of(pending)).get(0));
+        }
+        return delegate.findById(id);
+    }
+    
+    @Override
+    public List<CreditApplication> findAllById(Collection<String> ids) {
+        List<CreditApplicationJpaEntity> pending = new ArrayList<>();
+        List<String> flushed = new ArrayList<>();
+        for (String id : Set.copyOf(ids)) {
+            CreditApplicationJpaEntity entity = unflushed.get(id);
+            if (entity != null) {
+                pending.add(entity);
+            } else {
+                flushed.add(id);
+            }
+        }
+        List<CreditApplication> found = new ArrayList<>(delegate.hydrate(pending));
+        found.addAll(delegate.findAllById(flushed));
+        return found;
+    }
+    
+    @Override
+    public Optional<CreditApplication> findByCustomerDocumentNumber(String documentNumber) {
+        Optional<CreditApplicationJpaEntity> pending = unflushed.values().stream()
+            .filter(entity -> entity.getCustomerDocument().equals(documentNumber))
+            .max(Comparator.comparing(CreditApplicationJpaEntity::getApplicationDate)
+                .thenComparing(CreditApplicationJpaEntity::getId));
+        if (pending.isPresent()) {
+            return Optional.of(delegate.hydrate(List.of(pending.get())).get(0));
+        }
+        return delegate.findByCustomerDocumentNumber(documentNumber);
+    }
+    
+    /**
+     * Estado de la decisión aún no volcada para ese ID, si la hay.
+     */
+    public Optional<CreditStatusResponse> findPendingStatus(String id) {
+        return Optional.ofNullable(unflushed.get(id)).map(CreditApplicationJpaEntity::toStatus);
+    }
+    
+    /**
+     * Vuelca un lote de hasta {@code batchSize} decisiones y devuelve cuántas se persistieron.
+     * Solo lo invoca el hilo volcador (o el cierre, después de detenerlo).
+     */
+    int flushBatch() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        synchronized (lock) {
+            Iterator<Pending> pending = queue.iterator();
+            while (pending.hasNext() && batch.size() < batchSize) {
+                batch.add(pending.next());
+            }
+        }
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        
+        // Una fila por ID dentro del lote: gana la última decisión
+        Map<String, CreditApplicationJpaEntity> latest = new LinkedHashMap<>();
+        batch.forEach(pending -> latest.put(pending.entity.getId(), pending.entity));
+        delegate.persistAll(new ArrayList<>(latest.values()));
+        
+        synchronized (lock) {
+            for (int i = 0; i < batch.size(); i++) {
+                queue.pollFirst();
+            }
+            decisionLog.markFlushed(batch.get(batch.size() - 1).endPosition);
+            batch.forEach(pending -> unflushed.remove(pending.entity.getId(), pending.entity));
+            lock.notifyAll();
+        }
+        
+        log.debug("Lote de {} decisiones volcado a la base", batch.size());
+        return batch.size();
+    }
+    
+    int pendingCount() {
+        synchronized (lock) {
+            return queue.size();
+        }
+    }
+    
+    /**
+     * Detiene el volcador e intenta un último volcado; lo que no alcance a persistirse queda
+     * en el log y se recupera en el siguiente arranque.
+     */
+    @Override
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        if (flusher != null) {
+            flusher.shutdown();
+            try {
+                if (!flusher.awaitTermination(5, TimeUnit.SECONDS)) {
+                    log.warn("El volcador de escritura diferida no terminó a tiempo");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        drain();
+        decisionLog.close();
+    }
+    
+    private void drain() {
+        try {
+            while (flushBatch() == batchSize) {
+                // Sigue mientras haya lotes completos pendientes
+            }
+        } catch (Exception e) {
+            log.warn("No se pudo volcar el log de escritura diferida; {} decisiones pendientes, se reintentará",
+                     pendingCount(), e);
+        }
+    }
+    
+    private void recover() {
+        List<DecisionLog.Entry> entries = decisionLog.recovered();
+        if (entries.isEmpty()) {
+            return;
+        }
+        synchronized (lock) {
+            entries.forEach(entry -> enqueue(DecisionRecordCodec.decode(entry.payload()), entry.endPosition()));
+        }
+        log.info("Recuperadas {} decisiones sin volcar del log de escritura diferida", entries.size());
+    }
+    
+    // Debe llamarse con el lock tomado
+    private long appendWithinLag(byte[] payload) throws InterruptedException {
+        long deadline = System.nanoTime() + maxLagNanos;
+        while (true) {
+            Pending oldest = queue.peekFirst();
+            boolean lagging = oldest != null && System.nanoTime() - oldest.enqueuedAtNanos > maxLagNanos;
+            if (!lagging) {
+                long endPosition = decisionLog.append(payload);
+                if (endPosition >= 0) {
+                    return endPosition;
+                }
+            }
+            
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                throw new IllegalStateException(String.format(
+                    "Escritura diferida sobre el rezago máximo: %d decisiones y %d bytes pendientes",
+                    queue.size(), decisionLog.pendingBytes()));
+            }
+            lock.wait(TimeUnit.NANOSECONDS.toMillis(remaining) + 1);
+        }
+    }
+    
+    // Debe llamarse con el lock tomado
+    private void enqueue(CreditApplicationJpaEntity entity, long endPosition) {
+        queue.addLast(new Pending(entity, endPosition, System.nanoTime()));
+        unflushed.put(entity.getId(), entity);
+    }
+    
+    private static final class Pending {
+        private final CreditApplicationJpaEntity entity;
+        private final long endPosition;
+        private final long enqueuedAtNanos;
+        
+        private Pending(CreditApplicationJpaEntity entity, long endPosition, long enqueuedAtNanos) {
+            this.entity = entity;
+            this.endPosition = endPosition;
+            this.enqueuedAtNanos = enqueuedAtNanos;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package mx.regional.next.automotive.credit.infrastructure.adapters.persistence.writebehind;
+
+import mx.regional.next.automotive.credit.application.dto.CreditStatusCursor;
+import mx.regional.next.automotive.credit.application.dto.CreditStatusPage;
+import mx.regional.next.automotive.credit.application.dto.CreditStatusResponse;
+import mx.regional.next.automotive.credit.application.ports.out.CreditStatusQueryPort;
+import mx.regional.next.automotive.credit.domain.enums.CreditStatus;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Consultas de estado con escritura diferida activa. Por ID responde primero con la decisión
+ * que sigue en el {@link DecisionLog}, así que una solicitud recién procesada no aparece como
+ * inexistente mientras espera el volcado. Los listados se delegan tal cual: paginan por llave
+ * sobre la base e incluyen la decisión una vez volcada.
+ */
+public class WriteBehindCreditStatusQueryAdapter implements CreditStatusQueryPort {
+    
+    private final WriteBehindCreditApplicationRepository writeBehindRepository;
+    private final CreditStatusQueryPort delegate;
+    
+    public WriteBehindCreditStatusQueryAdapter(WriteBehindCreditApplicationRepository writeBehindRepository,
+                                               CreditStatusQueryPort delegate) {
+        this.writeBehindRepository = writeBehindRepository;
+        this.delegate = delegate;
+    }
+    
+    @Override
+    public Optional<CreditStatusResponse> findStatusById(String applicationId) {
+        Optional<CreditStatusResponse> pending = writeBehindRepository.findPendingStatus(applicationId);
+        return pending.isPresent() ? pending : delegate.findStatusById(applicationId);
+    }
+    
+    @Override
+    public CreditStatusPage findStatusesByCustomerDocument(String customerDocument, CreditStatusCursor after,
+                                                          int limit) {
+        return delegate.findStatusesByCustomerDocument(customerDocument, after, limit);
+    }
+    
+    @Override
+    public CreditStatusPage findStatusesByStatus(CreditStatus status, CreditStatusCursor after, int limit) {
+        return delegate.findStatusesByStatus(status, after, limit);
+    }
+    
+    @Override
+    public CreditStatusPage findStatusesByApplicationDateBetween(LocalDateTime fromDate, LocalDateTime toDate,
+                                                                 CreditStatusCursor after, int limit) {
+        return delegate.findStatusesByApplicationDateBetween(fromDate, toDate, after, limit);
+    }
+    
+    @Override
+    public Stream<CreditStatusResponse> streamStatusesByCustomerDocument(String customerDocument, int fetchSize) {
+        return delegate.streamStatusesByCustomerDocument(customerDocument, fetchSize);
+    }
+    
+    @Override
+    public Stream<CreditStatusResponse> streamStatusesByApplicationDateBetween(LocalDateTime fromDate,
+                                                                               LocalDateTime toDate,
+                                                                               int fetchSize) {
+        return delegate.streamStatusesByApplicationDateBetween(fromDate, toDate, fetchSize);
+    }
+}
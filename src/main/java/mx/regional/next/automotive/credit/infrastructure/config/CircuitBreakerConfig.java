@@ -10,6 +10,8 @@ import io.github.resilience4j.timelimiter.TimeLimiterConfig;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,7 +42,9 @@ public class CircuitBreakerConfig {
                     org.springframework.web.client.ResourceAccessException.class,
                     java.net.SocketTimeoutException.class,
                     java.net.ConnectException.class,
-                    feign.FeignException.class
+                    feign.FeignException.class,
+                    WebClientRequestException.class,
+                    WebClientResponseException.class
                 )
                 .ignoreExceptions(
                     IllegalArgumentException.class,
@@ -79,7 +83,9 @@ public class CircuitBreakerConfig {
                 .recordExceptions(
                     org.springframework.web.client.ResourceAccessException.class,
                     java.net.SocketTimeoutException.class,
-                    feign.FeignException.class
+                    feign.FeignException.class,
+                    WebClientRequestException.class,
+                    WebClientResponseException.class
                 )
                 .build();
         
@@ -111,6 +117,8 @@ public class CircuitBreakerConfig {
                     org.springframework.web.client.ResourceAccessException.class,
                     java.net.SocketTimeoutException.class,
                     feign.FeignException.class,
+                    WebClientRequestException.class,
+                    WebClientResponseException.class,
                     java.io.IOException.class
                 )
                 .build();
@@ -141,7 +149,9 @@ public class CircuitBreakerConfig {
                 .automaticTransitionFromOpenToHalfOpenEnabled(true)
                 .recordExceptions(
                     org.springframework.web.client.ResourceAccessException.class,
-                    feign.FeignException.class
+                    feign.FeignException.class,
+                    WebClientRequestException.class,
+                    WebClientResponseException.class
                 )
                 .build();
         
@@ -166,7 +176,8 @@ public class CircuitBreakerConfig {
                 throwable instanceof org.springframework.web.client.ResourceAccessException ||
                 throwable instanceof java.net.SocketTimeoutException ||
                 (throwable instanceof feign.FeignException && 
-                 ((feign.FeignException) throwable).status() >= 500))
+                 ((feign.FeignException) throwable).status() >= 500) ||
+                isRetryableWebClientError(throwable))
             .build();
         
         Retry retry = Retry.of("creditScoreService", config);
@@ -186,7 +197,8 @@ public class CircuitBreakerConfig {
             .retryOnException(throwable -> 
                 throwable instanceof org.springframework.web.client.ResourceAccessException ||
                 (throwable instanceof feign.FeignException && 
-                 ((feign.FeignException) throwable).status() >= 500))
+                 ((feign.FeignException) throwable).status() >= 500) ||
+                isRetryableWebClientError(throwable))
             .build();
         
         Retry retry = Retry.of("vehicleValidationService", config);
@@ -198,6 +210,49 @@ public class CircuitBreakerConfig {
         return retry;
     }
     
+    // Mismos reintentos que el Retryer de EmploymentVerificationClientConfig, para el cliente reactivo
+    @Bean
+    public Retry documentValidationServiceRetry() {
+        RetryConfig config = RetryConfig.custom()
+            .maxAttempts(2)                                     // Máximo 2 intentos
+            .waitDuration(Duration.ofSeconds(1))                // Esperar 1s entre intentos
+            .retryOnException(CircuitBreakerConfig::isRetryableWebClientError)
+            .build();
+        
+        Retry retry = Retry.of("documentValidationService", config);
+        
+        retry.getEventPublisher().onRetry(event -> 
+            log.warn("Reintentando llamada a documentValidationService, intento {} de {}", 
+                    event.getNumberOfRetryAttempts(), config.getMaxAttempts()));
+        
+        return retry;
+    }
+    
+    // Mismos reintentos que el Retryer de NotificationClientConfig, para el cliente reactivo
+    @Bean
+    public Retry notificationServiceRetry() {
+        RetryConfig config = RetryConfig.custom()
+            .maxAttempts(3)                                     // Máximo 3 intentos
+            .waitDuration(Duration.ofMillis(500))               // Esperar 500ms entre intentos
+            .retryOnException(CircuitBreakerConfig::isRetryableWebClientError)
+            .build();
+        
+        Retry retry = Retry.of("notificationService", config);
+        
+        retry.getEventPublisher().onRetry(event -> 
+            log.warn("Reintentando llamada a notificationService, intento {} de {}", 
+                    event.getNumberOfRetryAttempts(), config.getMaxAttempts()));
+        
+        return retry;
+    }
+    
+    // Errores de conexión o 5xx de los clientes WebClient
+    static boolean isRetryableWebClientError(Throwable throwable) {
+        return throwable instanceof WebClientRequestException ||
+            (throwable instanceof WebClientResponseException response && 
+             response.getStatusCode().is5xxServerError());
+    }
+    
     // Configuración de TimeLimiter
     @Bean
     public TimeLimiter creditScoreServiceTimeLimiter() {
@@ -0,0 +1,35 @@
+package mx.regional.next.automotive.credit.infrastructure.config;
+
+import mx.regional.next.automotive.credit.infrastructure.external.batching.CreditBureauRequestCoalescer;
+import mx.regional.next.automotive.credit.infrastructure.external.clients.CreditBureauClient;
+import mx.regional.next.automotive.credit.infrastructure.external.fallbacks.CreditBureauClientFallback;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Cliente del buró y el agrupador que convierte consultas individuales en llamadas por lote.
+ * Las consultas al buró deben pasar por {@link CreditBureauRequestCoalescer}.
+ */
+@Configuration
+@EnableFeignClients(clients = CreditBureauClient.class)
+public class CreditBureauBatchingConfig {
+
+    @Bean(destroyMethod = "close")
+    public CreditBureauRequestCoalescer creditBureauRequestCoalescer(
+            CreditBureauClient creditBureauClient,
+            CreditBureauClientFallback fallback,
+            MeterRegistry meterRegistry,
+            @Value("${credit.bureau.batching.window-millis:10}") long windowMillis,
+            @Value("${credit.bureau.batching.max-batch-size:50}") int maxBatchSize,
+            @Value("${credit.bureau.batching.max-concurrent-batches:4}") int maxConcurrentBatches) {
+
+        return new CreditBureauRequestCoalescer(creditBureauClient, fallback, meterRegistry,
+            Duration.ofMillis(windowMillis), maxBatchSize, maxConcurrentBatches);
+    }
+}
@@ -0,0 +1,35 @@
+package mx.regional.next.automotive.credit.infrastructure.config;
+
+import mx.regional.next.automotive.credit.infrastructure.adapters.persistence.CustomerPersistenceAdapter;
+import mx.regional.next.automotive.credit.infrastructure.adapters.persistence.cache.CachingCustomerRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+
+/**
+ * El puerto de clientes resuelve a la caché de perfiles delante del adaptador JPA; con
+ * {@code credit.cache.customer.enabled=false} se usa el adaptador directo.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "credit.cache.customer", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CustomerCacheConfig {
+
+    @Bean
+    @Primary
+    public CachingCustomerRepository cachingCustomerRepository(
+            CustomerPersistenceAdapter persistenceAdapter,
+            MeterRegistry meterRegistry,
+            @Value("${credit.cache.customer.max-size:50000}") long maxSize,
+            @Value("${credit.cache.customer.ttl-seconds:300}") long ttlSeconds,
+            @Value("${credit.cache.customer.negative-ttl-seconds:30}") long negativeTtlSeconds) {
+
+        return new CachingCustomerRepository(persistenceAdapter, meterRegistry, maxSize,
+            Duration.ofSeconds(ttlSeconds), Duration.ofSeconds(negativeTtlSeconds));
+    }
+}
@@ -0,0 +1,56 @@
+package mx.regional.next.automotive.credit.infrastructure.config;
+
+import mx.regional.next.automotive.credit.infrastructure.adapters.notification.NotificationOutbox;
+import mx.regional.next.automotive.credit.infrastructure.adapters.notification.NotificationOutboxDispatcher;
+import mx.regional.next.automotive.credit.infrastructure.external.clients.NotificationClient;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+
+/**
+ * Bandeja de salida de avisos de decisión y su despachador. Con
+ * {@code credit.notifications.dispatch.enabled=false} los avisos se siguen registrando en la
+ * bandeja pero no se envían, hasta que otra instancia con el despachador activo los tome.
+ */
+@Configuration
+public class NotificationOutboxConfig {
+
+    @Bean
+    public NotificationOutbox notificationOutbox(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        return new NotificationOutbox(jdbcTemplate, objectMapper);
+    }
+
+    @Configuration
+    @ConditionalOnProperty(prefix = "credit.notifications.dispatch", name = "enabled", matchIfMissing = true)
+    @EnableFeignClients(clients = NotificationClient.class)
+    static class DispatcherConfig {
+
+        @Bean
+        public NotificationOutboxDispatcher notificationOutboxDispatcher(
+                NotificationOutbox notificationOutbox,
+                NotificationClient notificationClient,
+                MeterRegistry meterRegistry,
+                @Value("${credit.notifications.batch-size:100}") int batchSize,
+                @Value("${credit.notifications.max-batches-per-run:10}") int maxBatchesPerRun,
+                @Value("${credit.notifications.max-attempts:8}") int maxAttempts,
+                @Value("${credit.notifications.initial-backoff-seconds:30}") long initialBackoffSeconds,
+                @Value("${credit.notifications.max-backoff-minutes:60}") long maxBackoffMinutes,
+                @Value("${credit.notifications.lease-seconds:120}") long leaseSeconds,
+                @Value("${credit.notifications.sent-retention-days:30}") long sentRetentionDays,
+                @Value("${credit.notifications.replay-failed-on-startup:false}") boolean replayFailedOnStartup) {
+
+            return new NotificationOutboxDispatcher(notificationOutbox, notificationClient, meterRegistry,
+                new NotificationOutboxDispatcher.Settings(batchSize, maxBatchesPerRun, maxAttempts,
+                    Duration.ofSeconds(initialBackoffSeconds), Duration.ofMinutes(maxBackoffMinutes),
+                    Duration.ofSeconds(leaseSeconds), Duration.ofDays(sentRetentionDays), replayFailedOnStartup));
+        }
+    }
+}
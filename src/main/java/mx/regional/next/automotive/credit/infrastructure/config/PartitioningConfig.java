@@ -0,0 +1,14 @@
+package mx.regional.next.automotive.credit.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Tareas periódicas sobre credit_applications particionada: creación anticipada de
+ * particiones mensuales y, con {@code credit.archival.enabled=true}, archivo de los meses
+ * vencidos.
+ */
+@Configuration
+@EnableScheduling
+public class PartitioningConfig {
+}
@@ -0,0 +1,139 @@
+package mx.regional.next.automotive.credit.infrastructure.config;
+
+import mx.regional.next.automotive.credit.infrastructure.external.fallbacks.CreditBureauClientFallback;
+import mx.regional.next.automotive.credit.infrastructure.external.fallbacks.EmploymentVerificationClientFallback;
+import mx.regional.next.automotive.credit.infrastructure.external.fallbacks.NotificationClientFallback;
+import mx.regional.next.automotive.credit.infrastructure.external.fallbacks.VehicleValuationClientFallback;
+import mx.regional.next.automotive.credit.infrastructure.external.reactive.ReactiveCreditBureauClient;
+import mx.regional.next.automotive.credit.infrastructure.external.reactive.ReactiveEmploymentVerificationClient;
+import mx.regional.next.automotive.credit.infrastructure.external.reactive.ReactiveNotificationClient;
+import mx.regional.next.automotive.credit.infrastructure.external.reactive.ReactiveResilience;
+import mx.regional.next.automotive.credit.infrastructure.external.reactive.ReactiveVehicleValuationClient;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.retry.Retry;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * Versiones WebClient de los clientes Feign de servicios externos. Comparten un pool de
+ * conexiones keep-alive de Reactor Netty; los servicios por HTTPS negocian HTTP/2 por ALPN y
+ * vuelven a HTTP/1.1 si el servidor no lo ofrece. Los de HTTP plano se quedan en HTTP/1.1:
+ * la actualización a h2c no es segura con peticiones que llevan cuerpo.
+ *
+ * <p>Cada cliente usa los mismos timeouts de {@code external.services.*} que su versión Feign,
+ * el circuit breaker y los reintentos de {@link CircuitBreakerConfig} y el fallback Feign
+ * correspondiente.
+ */
+@Configuration
+public class ReactiveExternalClientsConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider externalServicesConnectionProvider(
+            @Value("${external.reactive.pool.max-connections:200}") int maxConnections,
+            @Value("${external.reactive.pool.pending-acquire-timeout-millis:5000}") long pendingAcquireTimeoutMillis,
+            @Value("${external.reactive.pool.max-idle-seconds:30}") long maxIdleSeconds,
+            @Value("${external.reactive.pool.max-life-seconds:300}") long maxLifeSeconds) {
+
+        return ConnectionProvider.builder("external-services")
+            .maxConnections(maxConnections)
+            .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMillis))
+            .maxIdleTime(Duration.ofSeconds(maxIdleSeconds))
+            .maxLifeTime(Duration.ofSeconds(maxLifeSeconds))
+            .evictInBackground(Duration.ofSeconds(maxIdleSeconds))
+            .metrics(true)
+            .build();
+    }
+
+    @Bean
+    public ReactiveCreditBureauClient reactiveCreditBureauClient(
+            WebClient.Builder builder,
+            ConnectionProvider externalServicesConnectionProvider,
+            @Value("${external.services.credit-bureau.url}") String url,
+            @Value("${external.services.credit-bureau.timeout.connect:5000}") int connectTimeout,
+            @Value("${external.services.credit-bureau.timeout.read:30000}") int readTimeout,
+            @Qualifier("creditScoreServiceCircuitBreaker") CircuitBreaker circuitBreaker,
+            @Qualifier("creditScoreServiceRetry") Retry retry,
+            CreditBureauClientFallback fallback) {
+
+        return new ReactiveCreditBureauClient(
+            webClient(builder, externalServicesConnectionProvider, url, connectTimeout, readTimeout),
+            new ReactiveResilience(circuitBreaker, retry), fallback);
+    }
+
+    @Bean
+    public ReactiveEmploymentVerificationClient reactiveEmploymentVerificationClient(
+            WebClient.Builder builder,
+            ConnectionProvider externalServicesConnectionProvider,
+            @Value("${external.services.employment-verification.url}") String url,
+            @Value("${external.services.employment-verification.timeout.connect:5000}") int connectTimeout,
+            @Value("${external.services.employment-verification.timeout.read:20000}") int readTimeout,
+            @Qualifier("documentValidationServiceCircuitBreaker") CircuitBreaker circuitBreaker,
+            @Qualifier("documentValidationServiceRetry") Retry retry,
+            EmploymentVerificationClientFallback fallback) {
+
+        return new ReactiveEmploymentVerificationClient(
+            webClient(builder, externalServicesConnectionProvider, url, connectTimeout, readTimeout),
+            new ReactiveResilience(circuitBreaker, retry), fallback);
+    }
+
+    @Bean
+    public ReactiveVehicleValuationClient reactiveVehicleValuationClient(
+            WebClient.Builder builder,
+            ConnectionProvider externalServicesConnectionProvider,
+            @Value("${external.services.vehicle-valuation.url}") String url,
+            @Value("${external.services.vehicle-valuation.timeout.connect:5000}") int connectTimeout,
+            @Value("${external.services.vehicle-valuation.timeout.read:25000}") int readTimeout,
+            @Qualifier("vehicleValidationServiceCircuitBreaker") CircuitBreaker circuitBreaker,
+            @Qualifier("vehicleValidationServiceRetry") Retry retry,
+            VehicleValuationClientFallback fallback) {
+
+        return new ReactiveVehicleValuationClient(
+            webClient(builder, externalServicesConnectionProvider, url, connectTimeout, readTimeout),
+            new ReactiveResilience(circuitBreaker, retry), fallback);
+    }
+
+    @Bean
+    public ReactiveNotificationClient reactiveNotificationClient(
+            WebClient.Builder builder,
+            ConnectionProvider externalServicesConnectionProvider,
+            @Value("${external.services.notification.url}") String url,
+            @Value("${external.services.notification.timeout.connect:3000}") int connectTimeout,
+            @Value("${external.services.notification.timeout.read:10000}") int readTimeout,
+            @Qualifier("notificationServiceCircuitBreaker") CircuitBreaker circuitBreaker,
+            @Qualifier("notificationServiceRetry") Retry retry,
+            NotificationClientFallback fallback) {
+
+        return new ReactiveNotificationClient(
+            webClient(builder, externalServicesConnectionProvider, url, connectTimeout, readTimeout),
+            new ReactiveResilience(circuitBreaker, retry), fallback);
+    }
+
+    static WebClient webClient(WebClient.Builder builder, ConnectionProvider connectionProvider,
+                               String baseUrl, int connectTimeout, int readTimeout) {
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeout)
+            .option(ChannelOption.SO_KEEPALIVE, true)
+            .keepAlive(true)
+            .responseTimeout(Duration.ofMillis(readTimeout));
+
+        if (baseUrl.startsWith("https:")) {
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11).secure();
+        }
+
+        return builder.clone()
+            .baseUrl(baseUrl)
+            .clientConnector(new ReactorClientHttpConnector(httpClient))
+            .build();
+    }
+}
@@ -0,0 +1,124 @@
+package mx.regional.next.automotive.credit.infrastructure.config;
+
+import mx.regional.next.automotive.credit.domain.services.RiskCalculationService.RiskLevel;
+import mx.regional.next.automotive.credit.domain.services.RiskRuleEngine;
+import mx.regional.next.automotive.credit.domain.services.RiskRulePolicy;
+import mx.regional.next.automotive.credit.domain.services.RiskRulePolicy.Adjustment;
+import mx.regional.next.automotive.credit.domain.services.RiskRulePolicy.Band;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Compila las reglas de riesgo a partir de la sección {@code creditPolicies.riskFactors} de
+ * la política de crédito. Si la sección no existe se usan los umbrales por defecto.
+ */
+@Configuration
+public class RiskPolicyConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(RiskPolicyConfig.class);
+
+    @Value("${credit.risk.policy-location:classpath:mcp/policies/credit-policies.json}")
+    private Resource policyLocation;
+
+    @Bean
+    public RiskRuleEngine riskRuleEngine(ObjectMapper objectMapper) {
+        RiskRulePolicy policy = loadPolicy(objectMapper, policyLocation);
+        return RiskRuleEngine.compile(policy);
+    }
+
+    static RiskRulePolicy loadPolicy(ObjectMapper objectMapper, Resource location) {
+        try (InputStream input = location.getInputStream()) {
+            JsonNode riskFactors = objectMapper.readTree(input).path("creditPolicies").path("riskFactors");
+            if (riskFactors.isMissingNode()) {
+                log.warn("La política {} no define riskFactors, se usan los umbrales por defecto", location);
+                return RiskRulePolicy.defaults();
+            }
+
+            RiskRulePolicy policy = readPolicy(riskFactors);
+            log.info("Reglas de riesgo cargadas desde {}", location);
+            return policy;
+        } catch (IOException | RuntimeException e) {
+            throw new RuntimeException("Error cargando políticas de riesgo desde " + location, e);
+        }
+    }
+
+    static RiskRulePolicy readPolicy(JsonNode riskFactors) {
+        JsonNode paymentCapacity = riskFactors.path("paymentCapacity");
+        JsonNode vehicle = riskFactors.path("vehicle");
+
+        return new RiskRulePolicy(
+            bands(riskFactors.path("creditScore").path("bands"), band -> requiredInt(band, "minScore")),
+            requiredDecimal(paymentCapacity, "estimatedAnnualRate"),
+            requiredInt(paymentCapacity, "estimatedTermMonths"),
+            bands(paymentCapacity.path("bands"), band -> basisPoints(band, "maxRatio")),
+            bands(riskFactors.path("debtToIncome").path("bands"), band -> basisPoints(band, "maxRatio")),
+            requiredInt(vehicle, "baseScore"),
+            requiredInt(vehicle, "lowRiskMinScore"),
+            requiredInt(vehicle, "mediumRiskMinScore"),
+            adjustments(vehicle.path("age"), adjustment -> requiredInt(adjustment, "maxYears")),
+            adjustments(vehicle.path("kilometers"), adjustment -> requiredInt(adjustment, "maxKilometers")),
+            adjustments(vehicle.path("loanToValue"), adjustment -> basisPoints(adjustment, "maxRatio")));
+    }
+
+    // La última banda es la residual y no lleva límite
+    private static List<Band> bands(JsonNode nodes, Function<JsonNode, Integer> limit) {
+        List<Band> bands = new ArrayList<>();
+        for (int i = 0; i < nodes.size(); i++) {
+            JsonNode node = nodes.get(i);
+            bands.add(new Band(
+                i < nodes.size() - 1 ? limit.apply(node) : 0,
+                RiskLevel.valueOf(node.path("level").asText()),
+                requiredInt(node, "score"),
+                node.path("description").asText()));
+        }
+        return bands;
+    }
+
+    private static List<Adjustment> adjustments(JsonNode nodes, Function<JsonNode, Integer> limit) {
+        List<Adjustment> adjustments = new ArrayList<>();
+        for (int i = 0; i < nodes.size(); i++) {
+            JsonNode node = nodes.get(i);
+            adjustments.add(new Adjustment(
+                i < nodes.size() - 1 ? limit.apply(node) : 0,
+                requiredInt(node, "adjustment"),
+                node.path("description").asText()));
+        }
+        return adjustments;
+    }
+
+    private static int requiredInt(JsonNode node, String field) {
+        JsonNode value = node.path(field);
+        if (!value.canConvertToExactIntegral() || !value.canConvertToInt()) {
+            throw new IllegalArgumentException("Valor entero requerido en riskFactors: " + field);
+        }
+        return value.intValue();
+    }
+
+    private static BigDecimal requiredDecimal(JsonNode node, String field) {
+        JsonNode value = node.path(field);
+        if (!value.isNumber()) {
+            throw new IllegalArgumentException("Valor numérico requerido en riskFactors: " + field);
+        }
+        return value.decimalValue();
+    }
+
+    // 0.30 -> 3000 puntos básicos; se rechazan razones con más de 4 decimales
+    private static int basisPoints(JsonNode node, String field) {
+        return requiredDecimal(node, field).movePointRight(4).setScale(0, RoundingMode.UNNECESSARY).intValueExact();
+    }
+}
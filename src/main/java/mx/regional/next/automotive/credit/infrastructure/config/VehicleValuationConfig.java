@@ -0,0 +1,79 @@
+package mx.regional.next.automotive.credit.infrastructure.config;
+
+import mx.regional.next.automotive.credit.infrastructure.adapters.external.valuation.VehicleValuationCache;
+import mx.regional.next.automotive.credit.infrastructure.adapters.external.valuation.VehicleValuationTable;
+import mx.regional.next.automotive.credit.infrastructure.external.clients.VehicleValuationClient;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+
+/**
+ * Tabla de valuación a partir de {@code vehicleCatalog} y la caché que la pone detrás del
+ * servicio de valuación. El servicio solo se consulta con
+ * {@code credit.vehicle-valuation.remote.enabled=true}; sin él la caché sirve la tabla.
+ */
+@Configuration
+public class VehicleValuationConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(VehicleValuationConfig.class);
+
+    @Value("${credit.vehicle-valuation.catalog-location:classpath:mcp/policies/vehicle-catalog.json}")
+    private Resource catalogLocation;
+
+    @Bean
+    public VehicleValuationTable vehicleValuationTable(ObjectMapper objectMapper) {
+        return loadTable(objectMapper, catalogLocation);
+    }
+
+    @Bean
+    public VehicleValuationCache vehicleValuationCache(
+            VehicleValuationTable vehicleValuationTable,
+            ObjectProvider<VehicleValuationClient> vehicleValuationClient,
+            MeterRegistry meterRegistry,
+            @Value("${credit.vehicle-valuation.remote.enabled:false}") boolean remoteEnabled,
+            @Value("${credit.vehicle-valuation.cache.max-size:10000}") long maxSize,
+            @Value("${credit.vehicle-valuation.cache.ttl-minutes:720}") long ttlMinutes) {
+
+        // Sin servicio remoto no se usa el cliente: el único bean disponible sería el fallback
+        VehicleValuationClient client = remoteEnabled ? vehicleValuationClient.getIfAvailable() : null;
+        VehicleValuationCache cache = new VehicleValuationCache(vehicleValuationTable, client, meterRegistry,
+            maxSize, Duration.ofMinutes(ttlMinutes));
+        cache.warm();
+        return cache;
+    }
+
+    static VehicleValuationTable loadTable(ObjectMapper objectMapper, Resource location) {
+        try (InputStream input = location.getInputStream()) {
+            JsonNode vehicleCatalog = objectMapper.readTree(input).path("vehicleCatalog");
+            if (vehicleCatalog.isMissingNode()) {
+                throw new IllegalArgumentException("El catálogo no define vehicleCatalog");
+            }
+
+            VehicleValuationTable table = VehicleValuationTable.fromCatalog(vehicleCatalog);
+            log.info("Tabla de valuación cargada desde {} ({} valores)", location, table.catalogValues().size());
+            return table;
+        } catch (IOException | RuntimeException e) {
+            throw new RuntimeException("Error cargando catálogo de vehículos desde " + location, e);
+        }
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "credit.vehicle-valuation.remote.enabled", havingValue = "true")
+    @EnableFeignClients(clients = VehicleValuationClient.class)
+    static class RemoteValuationConfig {
+    }
+}
@@ -0,0 +1,37 @@
+package mx.regional.next.automotive.credit.infrastructure.config;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+
+import java.time.Duration;
+
+@Configuration
+public class WebClientConfig {
+    
+    @Value("${services.credit-score.url}")
+    private String creditScoreServiceUrl;
+    
+    @Value("${services.credit-score.timeout.connect:3000}")
+    private int creditScoreConnectTimeout;
+    
+    @Value("${services.credit-score.timeout.read:8000}")
+    private int creditScoreReadTimeout;
+    
+    // Cliente no bloqueante para el servicio de score (equivalente a CreditScoreServiceClient)
+    @Bean
+    public WebClient creditScoreWebClient(WebClient.Builder builder) {
+        HttpClient httpClient = HttpClient.create()
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, creditScoreConnectTimeout)
+            .responseTimeout(Duration.ofMillis(creditScoreReadTimeout));
+        
+        return builder
+            .baseUrl(creditScoreServiceUrl)
+            .clientConnector(new ReactorClientHttpConnector(httpClient))
+            .build();
+    }
+}
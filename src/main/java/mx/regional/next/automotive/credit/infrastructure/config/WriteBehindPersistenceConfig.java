@@ -0,0 +1,54 @@
+package mx.regional.next.automotive.credit.infrastructure.config;
+
+import mx.regional.next.automotive.credit.infrastructure.adapters.persistence.CreditApplicationPersistenceAdapter;
+import mx.regional.next.automotive.credit.infrastructure.adapters.persistence.CreditStatusQueryAdapter;
+import mx.regional.next.automotive.credit.infrastructure.adapters.persistence.mappers.CreditApplicationEntityMapper;
+import mx.regional.next.automotive.credit.infrastructure.adapters.persistence.writebehind.DecisionLog;
+import mx.regional.next.automotive.credit.infrastructure.adapters.persistence.writebehind.WriteBehindCreditApplicationRepository;
+import mx.regional.next.automotive.credit.infrastructure.adapters.persistence.writebehind.WriteBehindCreditStatusQueryAdapter;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Modo opcional de escritura diferida: con {@code credit.write-behind.enabled=true} el puerto
+ * de solicitudes resuelve al repositorio con log local en lugar del adaptador JPA directo, y el
+ * de consultas de estado a uno que también ve las decisiones aún no volcadas.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "credit.write-behind", name = "enabled", havingValue = "true")
+public class WriteBehindPersistenceConfig {
+    
+    @Bean
+    @Primary
+    public WriteBehindCreditApplicationRepository writeBehindCreditApplicationRepository(
+            CreditApplicationPersistenceAdapter persistenceAdapter,
+            CreditApplicationEntityMapper mapper,
+            @Value("${credit.write-behind.log-path:data/credit-decisions.log}") String logPath,
+            @Value("${credit.write-behind.capacity-mb:64}") int capacityMb,
+            @Value("${credit.write-behind.fsync-on-append:false}") boolean fsyncOnAppend,
+            @Value("${credit.write-behind.batch-size:500}") int batchSize,
+            @Value("${credit.write-behind.flush-interval-millis:200}") long flushIntervalMillis,
+            @Value("${credit.write-behind.max-lag-millis:5000}") long maxLagMillis) throws IOException {
+        
+        DecisionLog decisionLog = new DecisionLog(Path.of(logPath), capacityMb * 1024 * 1024, fsyncOnAppend);
+        return new WriteBehindCreditApplicationRepository(
+            persistenceAdapter, mapper, decisionLog, batchSize,
+            Duration.ofMillis(flushIntervalMillis), Duration.ofMillis(maxLagMillis));
+    }
+    
+    @Bean
+    @Primary
+    public WriteBehindCreditStatusQueryAdapter writeBehindCreditStatusQueryAdapter(
+            WriteBehindCreditApplicationRepository writeBehindRepository,
+            CreditStatusQueryAdapter creditStatusQueryAdapter) {
+        return new WriteBehindCreditStatusQueryAdapter(writeBehindRepository, creditStatusQueryAdapter);
+    }
+}
@@ -0,0 +1,226 @@
+package mx.regional.next.automotive.credit.infrastructure.external.batching;
+
+import mx.regional.next.automotive.credit.infrastructure.external.clients.CreditBureauClient;
+import mx.regional.next.automotive.credit.infrastructure.external.dto.CreditBureauRequest;
+import mx.regional.next.automotive.credit.infrastructure.external.dto.CreditBureauResponse;
+import mx.regional.next.automotive.credit.infrastructure.external.fallbacks.CreditBureauClientFallback;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Agrupa consultas individuales al buró en llamadas a
+ * {@link CreditBureauClient#getBatchCreditReports(CreditBureauRequest[])}.
+ *
+ * <p>La primera consulta de un lote abre una ventana de {@code window}; el lote se envía al
+ * cerrarse la ventana o en cuanto junta {@code maxBatchSize} consultas, lo que ocurra antes.
+ * Las respuestas se reparten por {@code requestId} (se asigna uno si la consulta no lo trae)
+ * y una misma consulta repetida dentro de la ventana viaja una sola vez.
+ *
+ * <p>El fallback es por consulta: si el lote falla, o la respuesta no incluye alguna de las
+ * consultas, esas reciben la respuesta de {@link CreditBureauClientFallback} y las demás
+ * conservan la del buró. Como mucho {@code maxConcurrentBatches} lotes están en vuelo a la vez.
+ */
+public class CreditBureauRequestCoalescer implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(CreditBureauRequestCoalescer.class);
+
+    private final CreditBureauClient client;
+    private final CreditBureauClientFallback fallback;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService timer;
+    private final ExecutorService senders;
+    private final DistributionSummary batchSizes;
+    private final Counter fallbackItems;
+
+    private final Object lock = new Object();
+    private Batch current;
+
+    public CreditBureauRequestCoalescer(CreditBureauClient client,
+                                        CreditBureauClientFallback fallback,
+                                        MeterRegistry meterRegistry,
+                                        Duration window,
+                                        int maxBatchSize,
+                                        int maxConcurrentBatches) {
+        this.client = client;
+        this.fallback = fallback;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.timer = Executors.newSingleThreadScheduledExecutor(runnable -> daemon(runnable, "credit-bureau-batch-timer"));
+        this.senders = Executors.newFixedThreadPool(maxConcurrentBatches,
+            runnable -> daemon(runnable, "credit-bureau-batch-sender"));
+
+        this.batchSizes = DistributionSummary.builder("credit.bureau.batch.size")
+            .description("Consultas distintas por llamada de lote al buró")
+            .register(meterRegistry);
+        this.fallbackItems = Counter.builder("credit.bureau.batch.fallbacks")
+            .description("Consultas resueltas con la respuesta de fallback")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Reporte del buró para la consulta; bloquea hasta que su lote regresa.
+     */
+    public CreditBureauResponse getCreditReport(CreditBureauRequest request) {
+        try {
+            return submit(request).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new RuntimeException("Error consultando buró de crédito", e.getCause());
+        }
+    }
+
+    /**
+     * Encola la consulta en el lote abierto. El futuro siempre se completa con una respuesta,
+     * del buró o de fallback. Una consulta sin requestId viaja como copia con uno asignado;
+     * la del llamador no se modifica.
+     */
+    public CompletableFuture<CreditBureauResponse> submit(CreditBureauRequest request) {
+        if (request.getRequestId() == null) {
+            request = request.toBuilder().requestId(UUID.randomUUID().toString()).build();
+        }
+
+        Batch full = null;
+        CompletableFuture<CreditBureauResponse> response;
+        synchronized (lock) {
+            if (current == null) {
+                Batch opened = new Batch();
+                opened.timeout = timer.schedule(() -> flush(opened), windowNanos, TimeUnit.NANOSECONDS);
+                current = opened;
+            }
+            response = current.add(request);
+            if (current.size() >= maxBatchSize) {
+                full = current;
+                current = null;
+            }
+        }
+
+        if (full != null) {
+            full.timeout.cancel(false);
+            dispatch(full);
+        }
+        return response;
+    }
+
+    // Cierre por ventana: solo si el lote sigue abierto (no se llenó antes)
+    private void flush(Batch batch) {
+        synchronized (lock) {
+            if (current != batch) {
+                return;
+            }
+            current = null;
+        }
+        dispatch(batch);
+    }
+
+    private void dispatch(Batch batch) {
+        senders.execute(() -> send(batch));
+    }
+
+    private void send(Batch batch) {
+        List<CreditBureauRequest> requests = batch.requests();
+        batchSizes.record(requests.size());
+
+        Map<String, CreditBureauResponse> byRequestId = new HashMap<>();
+        try {
+            CreditBureauResponse[] responses = client.getBatchCreditReports(requests.toArray(CreditBureauRequest[]::new));
+            if (responses != null) {
+                for (CreditBureauResponse response : responses) {
+                    if (response != null && response.getRequestId() != null) {
+                        byRequestId.put(response.getRequestId(), response);
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("Error en consulta por lote al buró ({} solicitudes), se usa fallback por solicitud",
+                requests.size(), e);
+        }
+
+        for (CreditBureauRequest request : requests) {
+            List<CompletableFuture<CreditBureauResponse>> waiters = batch.waiters.get(request.getRequestId());
+            try {
+                CreditBureauResponse response = byRequestId.get(request.getRequestId());
+                if (response == null) {
+                    fallbackItems.increment();
+                    response = fallback.getCreditReport(request);
+                }
+                for (CompletableFuture<CreditBureauResponse> waiter : waiters) {
+                    waiter.complete(response);
+                }
+            } catch (RuntimeException e) {
+                waiters.forEach(waiter -> waiter.completeExceptionally(e));
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        Batch pending;
+        synchronized (lock) {
+            pending = current;
+            current = null;
+        }
+        if (pending != null) {
+            pending.timeout.cancel(false);
+            dispatch(pending);
+        }
+        timer.shutdownNow();
+        senders.shutdown();
+        try {
+            if (!senders.awaitTermination(10, TimeUnit.SECONDS)) {
+                log.warn("Quedaron lotes al buró sin terminar al cerrar");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private static final class Batch {
+        private final Map<String, CreditBureauRequest> requests = new LinkedHashMap<>();
+        private final Map<String, List<CompletableFuture<CreditBureauResponse>>> waiters = new HashMap<>();
+        private ScheduledFuture<?> timeout;
+
+        private CompletableFuture<CreditBureauResponse> add(CreditBureauRequest request) {
+            CompletableFuture<CreditBureauResponse> response = new CompletableFuture<>();
+            requests.putIfAbsent(request.getRequestId(), request);
+            waiters.computeIfAbsent(request.getRequestId(), id -> new ArrayList<>()).add(response);
+            return response;
+        }
+
+        private int size() {
+            return requests.size();
+        }
+
+        private List<CreditBureauRequest> requests() {
+            return new ArrayList<>(requests.values());
+        }
+    }
+}
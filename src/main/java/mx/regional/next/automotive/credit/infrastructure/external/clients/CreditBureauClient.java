@@ -1,8 +1,10 @@
 package mx.regional.next.automotive.credit.infrastructure.external.clients;
 
+import mx.regional.next.automotive.credit.infrastructure.external.config.CreditBureauClientConfig;
 import mx.regional.next.automotive.credit.infrastructure.external.dto.CreditBureauRequest;
 import mx.regional.next.automotive.credit.infrastructure.external.dto.CreditBureauResponse;
 import mx.regional.next.automotive.credit.infrastructure.external.dto.CreditScoreResponse;
+import mx.regional.next.automotive.credit.infrastructure.external.fallbacks.CreditBureauClientFallback;
 
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.*;
@@ -3,6 +3,8 @@ package mx.regional.next.automotive.credit.infrastructure.external.clients;
 import mx.regional.next.automotive.credit.infrastructure.external.dto.EmploymentVerificationRequest;
 import mx.regional.next.automotive.credit.infrastructure.external.dto.EmploymentVerificationResponse;
 import mx.regional.next.automotive.credit.infrastructure.external.dto.IncomeVerificationResponse;
+import mx.regional.next.automotive.credit.infrastructure.external.config.EmploymentVerificationClientConfig;
+import mx.regional.next.automotive.credit.infrastructure.external.fallbacks.EmploymentVerificationClientFallback;
 
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.*;
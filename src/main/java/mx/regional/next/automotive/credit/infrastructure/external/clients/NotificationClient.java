@@ -1,9 +1,11 @@
 package mx.regional.next.automotive.credit.infrastructure.external.clients;
 
+import mx.regional.next.automotive.credit.infrastructure.external.config.NotificationClientConfig;
 import mx.regional.next.automotive.credit.infrastructure.external.dto.NotificationRequest;
 import mx.regional.next.automotive.credit.infrastructure.external.dto.NotificationResponse;
 import mx.regional.next.automotive.credit.infrastructure.external.dto.EmailRequest;
 import mx.regional.next.automotive.credit.infrastructure.external.dto.SmsRequest;
+import mx.regional.next.automotive.credit.infrastructure.external.fallbacks.NotificationClientFallback;
 
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.*;
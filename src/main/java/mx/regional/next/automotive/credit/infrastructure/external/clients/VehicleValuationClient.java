@@ -1,8 +1,10 @@
 package mx.regional.next.automotive.credit.infrastructure.external.clients;
 
+import mx.regional.next.automotive.credit.infrastructure.external.config.VehicleValuationClientConfig;
 import mx.regional.next.automotive.credit.infrastructure.external.dto.VehicleValuationRequest;
 import mx.regional.next.automotive.credit.infrastructure.external.dto.VehicleValuationResponse;
 import mx.regional.next.automotive.credit.infrastructure.external.dto.VehicleHistoryResponse;
+import mx.regional.next.automotive.credit.infrastructure.external.fallbacks.VehicleValuationClientFallback;
 
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.*;
@@ -10,7 +10,7 @@ import jakarta.validation.constraints.Pattern;
 import java.time.LocalDateTime;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @Jacksonized
 public class CreditBureauRequest {
 
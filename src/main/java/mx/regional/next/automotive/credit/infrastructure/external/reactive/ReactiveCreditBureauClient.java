@@ -0,0 +1,73 @@
+package mx.regional.next.automotive.credit.infrastructure.external.reactive;
+
+import mx.regional.next.automotive.credit.infrastructure.external.clients.CreditBureauClient;
+import mx.regional.next.automotive.credit.infrastructure.external.dto.CreditBureauRequest;
+import mx.regional.next.automotive.credit.infrastructure.external.dto.CreditBureauResponse;
+import mx.regional.next.automotive.credit.infrastructure.external.dto.CreditScoreResponse;
+import mx.regional.next.automotive.credit.infrastructure.external.fallbacks.CreditBureauClientFallback;
+
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+/**
+ * Versión no bloqueante de {@link CreditBureauClient} sobre WebClient, con las mismas rutas y
+ * las respuestas de {@link CreditBureauClientFallback} cuando el buró falla.
+ */
+public class ReactiveCreditBureauClient {
+
+    private final WebClient webClient;
+    private final ReactiveResilience resilience;
+    private final CreditBureauClientFallback fallback;
+
+    public ReactiveCreditBureauClient(WebClient webClient,
+                                      ReactiveResilience resilience,
+                                      CreditBureauClientFallback fallback) {
+        this.webClient = webClient;
+        this.resilience = resilience;
+        this.fallback = fallback;
+    }
+
+    public Mono<CreditBureauResponse> getCreditReport(CreditBureauRequest request) {
+        return resilience.protect(
+            webClient.post()
+                .uri("/api/v1/credit-report")
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(CreditBureauResponse.class),
+            () -> fallback.getCreditReport(request),
+            "consulta de reporte al buró");
+    }
+
+    public Mono<CreditScoreResponse> getCreditScore(String documentNumber, String documentType) {
+        return resilience.protect(
+            webClient.get()
+                .uri(uri -> uri.path("/api/v1/credit-score/{documentNumber}")
+                    .queryParam("documentType", documentType)
+                    .build(documentNumber))
+                .retrieve()
+                .bodyToMono(CreditScoreResponse.class),
+            () -> fallback.getCreditScore(documentNumber, documentType),
+            "consulta de score al buró");
+    }
+
+    public Mono<CreditBureauResponse[]> getBatchCreditReports(CreditBureauRequest[] requests) {
+        return resilience.protect(
+            webClient.post()
+                .uri("/api/v1/batch-credit-check")
+                .bodyValue(requests)
+                .retrieve()
+                .bodyToMono(CreditBureauResponse[].class),
+            () -> fallback.getBatchCreditReports(requests),
+            "consulta por lote al buró");
+    }
+
+    public Mono<String> healthCheck() {
+        return resilience.protect(
+            webClient.get()
+                .uri("/api/v1/health")
+                .retrieve()
+                .bodyToMono(String.class),
+            fallback::healthCheck,
+            "health check del buró");
+    }
+}
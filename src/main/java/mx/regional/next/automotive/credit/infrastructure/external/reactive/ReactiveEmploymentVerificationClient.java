@@ -0,0 +1,82 @@
+package mx.regional.next.automotive.credit.infrastructure.external.reactive;
+
+import mx.regional.next.automotive.credit.infrastructure.external.clients.EmploymentVerificationClient;
+import mx.regional.next.automotive.credit.infrastructure.external.dto.EmploymentVerificationRequest;
+import mx.regional.next.automotive.credit.infrastructure.external.dto.EmploymentVerificationResponse;
+import mx.regional.next.automotive.credit.infrastructure.external.dto.IncomeVerificationResponse;
+import mx.regional.next.automotive.credit.infrastructure.external.fallbacks.EmploymentVerificationClientFallback;
+
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+/**
+ * Versión no bloqueante de {@link EmploymentVerificationClient} sobre WebClient, con las mismas
+ * rutas y las respuestas de {@link EmploymentVerificationClientFallback} cuando el servicio falla.
+ */
+public class ReactiveEmploymentVerificationClient {
+
+    private final WebClient webClient;
+    private final ReactiveResilience resilience;
+    private final EmploymentVerificationClientFallback fallback;
+
+    public ReactiveEmploymentVerificationClient(WebClient webClient,
+                                                ReactiveResilience resilience,
+                                                EmploymentVerificationClientFallback fallback) {
+        this.webClient = webClient;
+        this.resilience = resilience;
+        this.fallback = fallback;
+    }
+
+    public Mono<EmploymentVerificationResponse> verifyEmployment(EmploymentVerificationRequest request) {
+        return resilience.protect(
+            webClient.post()
+                .uri("/api/v1/employment-verification")
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(EmploymentVerificationResponse.class),
+            () -> fallback.verifyEmployment(request),
+            "verificación laboral");
+    }
+
+    public Mono<IncomeVerificationResponse> verifyIncome(EmploymentVerificationRequest request) {
+        return resilience.protect(
+            webClient.post()
+                .uri("/api/v1/income-verification")
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(IncomeVerificationResponse.class),
+            () -> fallback.verifyIncome(request),
+            "verificación de ingresos");
+    }
+
+    public Mono<EmploymentVerificationResponse> getCompanyInfo(String companyId) {
+        return resilience.protect(
+            webClient.get()
+                .uri("/api/v1/company-info/{companyId}", companyId)
+                .retrieve()
+                .bodyToMono(EmploymentVerificationResponse.class),
+            () -> fallback.getCompanyInfo(companyId),
+            "consulta de empresa");
+    }
+
+    public Mono<EmploymentVerificationResponse[]> getBatchEmploymentVerifications(EmploymentVerificationRequest[] requests) {
+        return resilience.protect(
+            webClient.post()
+                .uri("/api/v1/batch-employment-verification")
+                .bodyValue(requests)
+                .retrieve()
+                .bodyToMono(EmploymentVerificationResponse[].class),
+            () -> fallback.getBatchEmploymentVerifications(requests),
+            "verificación laboral por lote");
+    }
+
+    public Mono<String> healthCheck() {
+        return resilience.protect(
+            webClient.get()
+                .uri("/api/v1/health")
+                .retrieve()
+                .bodyToMono(String.class),
+            fallback::healthCheck,
+            "health check de verificación laboral");
+    }
+}
@@ -0,0 +1,94 @@
+package mx.regional.next.automotive.credit.infrastructure.external.reactive;
+
+import mx.regional.next.automotive.credit.infrastructure.external.clients.NotificationClient;
+import mx.regional.next.automotive.credit.infrastructure.external.dto.EmailRequest;
+import mx.regional.next.automotive.credit.infrastructure.external.dto.NotificationRequest;
+import mx.regional.next.automotive.credit.infrastructure.external.dto.NotificationResponse;
+import mx.regional.next.automotive.credit.infrastructure.external.dto.SmsRequest;
+import mx.regional.next.automotive.credit.infrastructure.external.fallbacks.NotificationClientFallback;
+
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+/**
+ * Versión no bloqueante de {@link NotificationClient} sobre WebClient, con las mismas rutas y
+ * las respuestas de {@link NotificationClientFallback} cuando el servicio falla.
+ */
+public class ReactiveNotificationClient {
+
+    private final WebClient webClient;
+    private final ReactiveResilience resilience;
+    private final NotificationClientFallback fallback;
+
+    public ReactiveNotificationClient(WebClient webClient,
+                                      ReactiveResilience resilience,
+                                      NotificationClientFallback fallback) {
+        this.webClient = webClient;
+        this.resilience = resilience;
+        this.fallback = fallback;
+    }
+
+    public Mono<NotificationResponse> sendEmail(EmailRequest request) {
+        return resilience.protect(
+            webClient.post()
+                .uri("/api/v1/send-email")
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(NotificationResponse.class),
+            () -> fallback.sendEmail(request),
+            "envío de correo");
+    }
+
+    public Mono<NotificationResponse> sendSms(SmsRequest request) {
+        return resilience.protect(
+            webClient.post()
+                .uri("/api/v1/send-sms")
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(NotificationResponse.class),
+            () -> fallback.sendSms(request),
+            "envío de SMS");
+    }
+
+    public Mono<NotificationResponse> sendNotification(NotificationRequest request) {
+        return resilience.protect(
+            webClient.post()
+                .uri("/api/v1/send-notification")
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(NotificationResponse.class),
+            () -> fallback.sendNotification(request),
+            "envío de notificación");
+    }
+
+    public Mono<NotificationResponse[]> sendBatchNotifications(NotificationRequest[] requests) {
+        return resilience.protect(
+            webClient.post()
+                .uri("/api/v1/send-batch-notifications")
+                .bodyValue(requests)
+                .retrieve()
+                .bodyToMono(NotificationResponse[].class),
+            () -> fallback.sendBatchNotifications(requests),
+            "envío de notificaciones por lote");
+    }
+
+    public Mono<NotificationResponse> getNotificationStatus(String notificationId) {
+        return resilience.protect(
+            webClient.get()
+                .uri("/api/v1/notification-status/{notificationId}", notificationId)
+                .retrieve()
+                .bodyToMono(NotificationResponse.class),
+            () -> fallback.getNotificationStatus(notificationId),
+            "estado de notificación");
+    }
+
+    public Mono<String> healthCheck() {
+        return resilience.protect(
+            webClient.get()
+                .uri("/api/v1/health")
+                .retrieve()
+                .bodyToMono(String.class),
+            fallback::healthCheck,
+            "health check de notificaciones");
+    }
+}
@@ -0,0 +1,47 @@
+package mx.regional.next.automotive.credit.infrastructure.external.reactive;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.github.resilience4j.reactor.retry.RetryOperator;
+import io.github.resilience4j.retry.Retry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Supplier;
+
+/**
+ * Protección común de los clientes reactivos: circuit breaker alrededor de cada intento,
+ * reintentos (si el servicio tiene {@link Retry}) alrededor del circuito y, ante cualquier
+ * error que quede, la respuesta del fallback del cliente Feign equivalente.
+ */
+public final class ReactiveResilience {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveResilience.class);
+
+    private final CircuitBreaker circuitBreaker;
+    private final Retry retry;
+
+    /**
+     * @param retry reintentos del servicio; {@code null} para un solo intento
+     */
+    public ReactiveResilience(CircuitBreaker circuitBreaker, Retry retry) {
+        this.circuitBreaker = circuitBreaker;
+        this.retry = retry;
+    }
+
+    /**
+     * Aplica la protección a {@code call}, que debe ser diferida (una llamada por suscripción)
+     * para que los reintentos repitan la petición. El fallback se evalúa solo si hace falta.
+     */
+    public <T> Mono<T> protect(Mono<T> call, Supplier<T> fallback, String operation) {
+        Mono<T> guarded = call.transformDeferred(CircuitBreakerOperator.of(circuitBreaker));
+        if (retry != null) {
+            guarded = guarded.transformDeferred(RetryOperator.of(retry));
+        }
+        return guarded.onErrorResume(e -> {
+            log.warn("Error en {} ({}), se usa fallback: {}", operation, circuitBreaker.getName(), e.toString());
+            return Mono.fromSupplier(fallback);
+        });
+    }
+}
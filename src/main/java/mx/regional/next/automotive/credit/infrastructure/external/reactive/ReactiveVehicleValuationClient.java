@@ -0,0 +1,85 @@
+package mx.regional.next.automotive.credit.infrastructure.external.reactive;
+
+import mx.regional.next.automotive.credit.infrastructure.external.clients.VehicleValuationClient;
+import mx.regional.next.automotive.credit.infrastructure.external.dto.VehicleHistoryResponse;
+import mx.regional.next.automotive.credit.infrastructure.external.dto.VehicleValuationRequest;
+import mx.regional.next.automotive.credit.infrastructure.external.dto.VehicleValuationResponse;
+import mx.regional.next.automotive.credit.infrastructure.external.fallbacks.VehicleValuationClientFallback;
+
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+/**
+ * Versión no bloqueante de {@link VehicleValuationClient} sobre WebClient, con las mismas rutas
+ * y las respuestas de {@link VehicleValuationClientFallback} cuando el servicio falla.
+ */
+public class ReactiveVehicleValuationClient {
+
+    private final WebClient webClient;
+    private final ReactiveResilience resilience;
+    private final VehicleValuationClientFallback fallback;
+
+    public ReactiveVehicleValuationClient(WebClient webClient,
+                                          ReactiveResilience resilience,
+                                          VehicleValuationClientFallback fallback) {
+        this.webClient = webClient;
+        this.resilience = resilience;
+        this.fallback = fallback;
+    }
+
+    public Mono<VehicleValuationResponse> getVehicleValuation(VehicleValuationRequest request) {
+        return resilience.protect(
+            webClient.post()
+                .uri("/api/v1/vehicle-valuation")
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(VehicleValuationResponse.class),
+            () -> fallback.getVehicleValuation(request),
+            "valuación de vehículo");
+    }
+
+    public Mono<VehicleHistoryResponse> getVehicleHistory(String vin) {
+        return resilience.protect(
+            webClient.get()
+                .uri("/api/v1/vehicle-history/{vin}", vin)
+                .retrieve()
+                .bodyToMono(VehicleHistoryResponse.class),
+            () -> fallback.getVehicleHistory(vin),
+            "historial de vehículo");
+    }
+
+    public Mono<VehicleValuationResponse> getMarketValue(String brand, String model, Integer year, Integer mileage) {
+        return resilience.protect(
+            webClient.get()
+                .uri(uri -> uri.path("/api/v1/market-value/{brand}/{model}/{year}")
+                    .queryParamIfPresent("mileage", Optional.ofNullable(mileage))
+                    .build(brand, model, year))
+                .retrieve()
+                .bodyToMono(VehicleValuationResponse.class),
+            () -> fallback.getMarketValue(brand, model, year, mileage),
+            "valor de mercado de vehículo");
+    }
+
+    public Mono<VehicleValuationResponse[]> getBatchValuations(VehicleValuationRequest[] requests) {
+        return resilience.protect(
+            webClient.post()
+                .uri("/api/v1/batch-valuation")
+                .bodyValue(requests)
+                .retrieve()
+                .bodyToMono(VehicleValuationResponse[].class),
+            () -> fallback.getBatchValuations(requests),
+            "valuación de vehículos por lote");
+    }
+
+    public Mono<String> healthCheck() {
+        return resilience.protect(
+            webClient.get()
+                .uri("/api/v1/health")
+                .retrieve()
+                .bodyToMono(String.class),
+            fallback::healthCheck,
+            "health check de valuación");
+    }
+}
@@ -46,6 +46,37 @@ public class CreditApplicationMcpMapper {
         }
     }
     
+    public List<CreditApplicationRequest> mapToApplicationRequests(String applicationsJson) {
+        try {
+            TypeReference<List<ApplicationDto>> typeRef = new TypeReference<List<ApplicationDto>>() {};
+            List<ApplicationDto> applicationDtos = objectMapper.readValue(applicationsJson, typeRef);
+            
+            return applicationDtos.stream()
+                .map(dto -> new CreditApplicationRequest(
+                    dto.customerDocument,
+                    dto.requestedAmount,
+                    dto.vehicleVin,
+                    dto.vehicleBrand,
+                    dto.vehicleModel,
+                    dto.vehicleYear,
+                    dto.vehicleValue,
+                    dto.vehicleKilometers,
+                    null, // color
+                    null, // engine
+                    null, // transmission
+                    dto.documents != null
+                        ? dto.documents.stream()
+                            .map(doc -> new CreditApplicationRequest.DocumentRequest(doc.type, doc.content))
+                            .toList()
+                        : new ArrayList<>()
+                ))
+                .toList();
+                
+        } catch (Exception e) {
+            throw new RuntimeException("Error mapeando lote de solicitudes MCP", e);
+        }
+    }
+    
     private List<CreditApplicationRequest.DocumentRequest> parseDocuments(String documentsJson) {
         try {
             if (documentsJson == null || documentsJson.trim().isEmpty()) {
@@ -71,4 +102,16 @@ public class CreditApplicationMcpMapper {
         public String type;
         public String content;
     }
+    
+    private static class ApplicationDto {
+        public String customerDocument;
+        public BigDecimal requestedAmount;
+        public String vehicleVin;
+        public String vehicleBrand;
+        public String vehicleModel;
+        public int vehicleYear;
+        public BigDecimal vehicleValue;
+        public int vehicleKilometers;
+        public List<DocumentDto> documents;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,109 @@
+package mx.regional.next.automotive.credit.infrastructure.mcp.resources;
+
+import mx.regional.next.automotive.credit.application.dto.PortfolioAggregates;
+import mx.regional.next.automotive.credit.application.dto.PortfolioAggregates.Totals;
+import mx.regional.next.automotive.credit.application.ports.in.GetPortfolioAggregatesUseCase;
+import mx.regional.next.automotive.credit.domain.enums.CreditStatus;
+
+import com.logaritex.mcp.annotation.McpResource;
+import org.springframework.stereotype.Component;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+
+@Component
+public class PortfolioAggregatesResource {
+    
+    private static final Logger log = LoggerFactory.getLogger(PortfolioAggregatesResource.class);
+    
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final DateTimeFormatter UPDATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss");
+    
+    private final GetPortfolioAggregatesUseCase getPortfolioAggregatesUseCase;
+    
+    public PortfolioAggregatesResource(GetPortfolioAggregatesUseCase getPortfolioAggregatesUseCase) {
+        this.getPortfolioAggregatesUseCase = getPortfolioAggregatesUseCase;
+    }
+    
+    @McpResource(
+        uri = "credit://portfolio/aggregates",
+        name = "Portfolio Aggregates",
+        description = "Totales en vivo del portafolio de solicitudes de crédito por estado, día y marca de vehículo"
+    )
+    public String getPortfolioAggregates() {
+        log.debug("Proporcionando agregados del portafolio");
+        
+        try {
+            return format(getPortfolioAggregatesUseCase.getPortfolioAggregates());
+            
+        } catch (Exception e) {
+            log.error("Error obteniendo agregados del portafolio", e);
+            return """
+                ⚠️ **AGREGADOS DEL PORTAFOLIO NO DISPONIBLES**
+                
+                ❌ **Error:** %s
+                """.formatted(e.getMessage());
+        }
+    }
+    
+    private String format(PortfolioAggregates aggregates) {
+        StringBuilder result = new StringBuilder();
+        result.append("📊 **PORTAFOLIO DE CRÉDITO AUTOMOTRIZ**\n\n");
+        result.append("📋 **Total de Solicitudes:** ").append(aggregates.getTotalApplications()).append("\n");
+        result.append("💰 **Monto Total Solicitado:** ").append(amount(aggregates.getTotalRequestedAmount())).append("\n");
+        if (aggregates.getLastUpdate() != null) {
+            result.append("🔄 **Última Actualización:** ").append(aggregates.getLastUpdate().format(UPDATE_FORMAT)).append("\n");
+        }
+        
+        result.append("\n## 🔄 Por Estado\n\n");
+        result.append("| Estado | Solicitudes | Monto Solicitado |\n");
+        result.append("|--------|-------------|------------------|\n");
+        aggregates.getByStatus().forEach((status, totals) -> row(result, statusLabel(status), totals));
+        
+        result.append("\n## 📅 Por Día\n\n");
+        if (aggregates.getByDay().isEmpty()) {
+            result.append("Sin solicitudes en el período.\n");
+        } else {
+            result.append("| Día | Solicitudes | Monto Solicitado |\n");
+            result.append("|-----|-------------|------------------|\n");
+            aggregates.getByDay().forEach((day, totals) -> row(result, day.format(DAY_FORMAT), totals));
+        }
+        
+        result.append("\n## 🚗 Por Marca\n\n");
+        if (aggregates.getByBrand().isEmpty()) {
+            result.append("Sin solicitudes registradas.\n");
+        } else {
+            result.append("| Marca | Solicitudes | Monto Solicitado |\n");
+            result.append("|-------|-------------|------------------|\n");
+            for (Map.Entry<String, Totals> brand : aggregates.getByBrand().entrySet()) {
+                row(result, brand.getKey(), brand.getValue());
+            }
+        }
+        return result.toString();
+    }
+    
+    private static void row(StringBuilder result, String label, Totals totals) {
+        result.append("| ").append(label)
+            .append(" | ").append(totals.getCount())
+            .append(" | ").append(amount(totals.getRequestedAmount()))
+            .append(" |\n");
+    }
+    
+    private static String amount(BigDecimal value) {
+        return "$" + String.format("%,.0f", value);
+    }
+    
+    private static String statusLabel(CreditStatus status) {
+        String emoji = switch (status) {
+            case PENDING -> "🟡";
+            case APPROVED -> "✅";
+            case REJECTED -> "❌";
+            case EXPIRED -> "⌛";
+            case CANCELLED -> "🚫";
+        };
+        return emoji + " " + status.getDisplayName();
+    }
+}
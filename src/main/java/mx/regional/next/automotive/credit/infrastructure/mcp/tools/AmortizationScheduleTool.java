@@ -0,0 +1,127 @@
+package mx.regional.next.automotive.credit.infrastructure.mcp.tools;
+
+import mx.regional.next.automotive.credit.application.ports.in.CalculateInstallmentUseCase;
+import mx.regional.next.automotive.credit.application.dto.*;
+
+import org.springframework.ai.tool.annotation.Tool;
+import org.springframework.ai.tool.annotation.ToolParam;
+import org.springframework.stereotype.Component;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.NumberFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+@Component
+public class AmortizationScheduleTool {
+
+    private static final Logger log = LoggerFactory.getLogger(AmortizationScheduleTool.class);
+
+    private static final int DEFAULT_PAGE_SIZE = 12;
+
+    private final CalculateInstallmentUseCase calculateInstallmentUseCase;
+
+    public AmortizationScheduleTool(CalculateInstallmentUseCase calculateInstallmentUseCase) {
+        this.calculateInstallmentUseCase = calculateInstallmentUseCase;
+    }
+
+    @Tool(name = "get_amortization_schedule",
+          description = "Genera la tabla de amortización mes a mes (cuota, interés, abono a capital y saldo) de un crédito automotriz. Devuelve una página de filas; usa page para recorrer el resto del plazo.")
+    public String getAmortizationSchedule(
+            @ToolParam(description = "Monto del crédito en pesos colombianos - OBLIGATORIO", required = true)
+            String loanAmount,
+
+            @ToolParam(description = "Tasa de interés anual en porcentaje (ej: 15.5) - OBLIGATORIO", required = true)
+            String annualInterestRate,
+
+            @ToolParam(description = "Plazo en meses (12-84) - OBLIGATORIO", required = true)
+            String termInMonths,
+
+            @ToolParam(description = "Número de página, empezando en 1 (por defecto 1)", required = false)
+            String page,
+
+            @ToolParam(description = "Filas por página (por defecto 12)", required = false)
+            String pageSize) {
+
+        try {
+            BigDecimal amount = new BigDecimal(loanAmount.trim());
+            BigDecimal rate = new BigDecimal(annualInterestRate.trim()).divide(BigDecimal.valueOf(100), 6, RoundingMode.HALF_UP);
+            int months = Integer.parseInt(termInMonths.trim());
+            int pageNumber = parseOrDefault(page, 1);
+            int rowsPerPage = parseOrDefault(pageSize, DEFAULT_PAGE_SIZE);
+
+            if (pageNumber < 1 || rowsPerPage < 1) {
+                return "❌ **Error:** La página y el tamaño de página deben ser mayores a 0";
+            }
+
+            log.info("Generando tabla de amortización vía MCP: monto={}, tasa={}, plazo={}, página={}",
+                     loanAmount, annualInterestRate, months, pageNumber);
+
+            int totalPages = (months + rowsPerPage - 1) / rowsPerPage;
+            if (pageNumber > totalPages) {
+                return String.format("❌ **Error:** La página %d no existe; la tabla tiene %d páginas", pageNumber, totalPages);
+            }
+
+            // Solo se generan las filas hasta el final de la página solicitada
+            List<AmortizationScheduleRow> rows;
+            try (Stream<AmortizationScheduleRow> schedule =
+                     calculateInstallmentUseCase.streamAmortizationSchedule(amount, rate, months)) {
+                rows = schedule.skip((long) (pageNumber - 1) * rowsPerPage).limit(rowsPerPage).toList();
+            }
+
+            return formatResponseForAgent(amount, rate, months, pageNumber, totalPages, rows);
+
+        } catch (NumberFormatException e) {
+            return "❌ **Error:** El monto, la tasa, el plazo y la paginación deben ser valores numéricos";
+        } catch (IllegalArgumentException e) {
+            log.warn("Tabla de amortización rechazada: {}", e.getMessage());
+            return "❌ **Error:** " + e.getMessage();
+        } catch (Exception e) {
+            log.error("Error generando tabla de amortización vía MCP", e);
+            return "❌ **Error generando tabla de amortización:** " + e.getMessage();
+        }
+    }
+
+    private String formatResponseForAgent(BigDecimal amount, BigDecimal rate, int months,
+                                          int pageNumber, int totalPages, List<AmortizationScheduleRow> rows) {
+        StringBuilder result = new StringBuilder();
+
+        result.append("📅 **TABLA DE AMORTIZACIÓN**\n\n");
+        result.append("💰 **Monto:** ").append(formatCurrency(amount))
+              .append(" | Tasa: ").append(rate.multiply(BigDecimal.valueOf(100)).setScale(2, RoundingMode.HALF_UP)).append("% EA")
+              .append(" | Plazo: ").append(months).append(" meses\n");
+        result.append("📄 **Página ").append(pageNumber).append(" de ").append(totalPages).append("**\n\n");
+
+        result.append("| Mes | Cuota | Interés | Capital | Saldo |\n");
+        result.append("|-----|-------|---------|---------|-------|\n");
+        for (AmortizationScheduleRow row : rows) {
+            result.append("| ").append(row.getMonth())
+                  .append(" | ").append(formatCurrency(row.getPayment()))
+                  .append(" | ").append(formatCurrency(row.getInterest()))
+                  .append(" | ").append(formatCurrency(row.getPrincipal()))
+                  .append(" | ").append(formatCurrency(row.getBalance()))
+                  .append(" |\n");
+        }
+
+        if (pageNumber < totalPages) {
+            result.append("\n➡️ Para ver los siguientes meses, solicita la página ").append(pageNumber + 1).append('\n');
+        }
+        return result.toString();
+    }
+
+    private static int parseOrDefault(String value, int defaultValue) {
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        return Integer.parseInt(value.trim());
+    }
+
+    private String formatCurrency(BigDecimal amount) {
+        if (amount == null) return "N/A";
+        return NumberFormat.getCurrencyInstance(new Locale("es", "CO")).format(amount);
+    }
+}
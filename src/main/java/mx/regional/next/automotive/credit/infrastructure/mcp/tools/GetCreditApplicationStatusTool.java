@@ -1,6 +1,7 @@
 package mx.regional.next.automotive.credit.infrastructure.mcp.tools;
 
 import mx.regional.next.automotive.credit.application.ports.in.GetCreditStatusUseCase;
+import mx.regional.next.automotive.credit.application.dto.CreditStatusPage;
 import mx.regional.next.automotive.credit.application.dto.CreditStatusResponse;
 import mx.regional.next.automotive.credit.domain.enums.CreditStatus;
 
@@ -11,13 +12,19 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Component
 public class GetCreditApplicationStatusTool {
     
     private static final Logger log = LoggerFactory.getLogger(GetCreditApplicationStatusTool.class);
     
+    private static final int DEFAULT_PAGE_SIZE = 10;
+    
     private final GetCreditStatusUseCase getCreditStatusUseCase;
     
     public GetCreditApplicationStatusTool(GetCreditStatusUseCase getCreditStatusUseCase) {
@@ -38,14 +45,13 @@ public class GetCreditApplicationStatusTool {
                 return "❌ **Error:** ID de solicitud requerido.";
             }
             
-            UUID uuid;
             try {
-                uuid = UUID.fromString(applicationId.trim());
+                UUID.fromString(applicationId.trim());
             } catch (IllegalArgumentException e) {
                 return "❌ **Error:** Formato de ID inválido. Debe ser un UUID válido.";
             }
             
-            CreditStatusResponse response = getCreditStatusUseCase.getCreditStatus(uuid);
+            CreditStatusResponse response = getCreditStatusUseCase.getCreditStatus(applicationId.trim());
             
             return formatStatusResponse(response);
             
@@ -56,10 +62,16 @@ public class GetCreditApplicationStatusTool {
     }
     
     @Tool(name = "get_credit_status_by_document", 
-          description = "Consulta el estado de solicitudes de crédito por número de documento del cliente.")
+          description = "Consulta el estado de solicitudes de crédito por número de documento del cliente, de la más reciente a la más antigua. Devuelve una página; usa el cursor indicado al final para ver la siguiente.")
     public String getCreditStatusByDocument(
             @ToolParam(description = "Número de documento del cliente - OBLIGATORIO", required = true) 
-            String customerDocument) {
+            String customerDocument,
+            
+            @ToolParam(description = "Cursor de la página siguiente devuelto por la consulta anterior (vacío para la primera)", required = false)
+            String cursor,
+            
+            @ToolParam(description = "Solicitudes por página (por defecto 10)", required = false)
+            String pageSize) {
         
         try {
             log.info("Consultando estado de solicitudes por documento vía MCP: {}", customerDocument);
@@ -68,11 +80,22 @@ public class GetCreditApplicationStatusTool {
                 return "❌ **Error:** Número de documento requerido.";
             }
             
-            // En una implementación real, esto consultaría múltiples solicitudes
-            var applications = getCreditStatusUseCase.getCreditStatusByCustomerDocument(customerDocument.trim());
+            String document = customerDocument.trim();
+            int size = pageSize == null || pageSize.isBlank() ? DEFAULT_PAGE_SIZE : Integer.parseInt(pageSize.trim());
+            boolean firstPage = cursor == null || cursor.isBlank();
+            
+            CreditStatusPage page = getCreditStatusUseCase.getCreditStatusByCustomerDocument(document, cursor, size);
+            
+            // El resumen recorre todo el historial por páginas sin retenerlo; solo en la primera página
+            Map<CreditStatus, Long> summary = firstPage && page.hasNext() ? summarize(document) : null;
             
-            return formatMultipleStatusResponse(applications, customerDocument);
+            return formatMultipleStatusResponse(page, summary, document, firstPage);
             
+        } catch (NumberFormatException e) {
+            return "❌ **Error:** El tamaño de página debe ser un valor numérico.";
+        } catch (IllegalArgumentException e) {
+            log.warn("Consulta por documento rechazada: {}", e.getMessage());
+            return "❌ **Error:** " + e.getMessage();
         } catch (Exception e) {
             log.error("Error consultando solicitudes por documento vía MCP", e);
             return formatErrorResponse(e.getMessage());
@@ -167,13 +190,13 @@ public class GetCreditApplicationStatusTool {
         
         // Información específica según el estado
         switch (response.getStatus()) {
-            case APROBADA:
+            case APPROVED:
                 result.append("🎉 **¡FELICITACIONES! CRÉDITO APROBADO**\n\n");
                 if (response.getApprovedAmount() != null) {
                     result.append("💰 **Monto Aprobado:** $").append(String.format("%,.0f", response.getApprovedAmount())).append("\n");
                 }
-                if (response.getInterestRate() != null) {
-                    result.append("📈 **Tasa de Interés:** ").append(response.getInterestRate()).append("% EA\n");
+                if (response.getCreditScore() != null) {
+                    result.append("📈 **Score Crediticio:** ").append(response.getCreditScore()).append("\n");
                 }
                 result.append("📝 **Próximos Pasos:**\n");
                 result.append("1. Firma del contrato de crédito\n");
@@ -181,7 +204,7 @@ public class GetCreditApplicationStatusTool {
                 result.append("3. Programación de desembolso\n");
                 break;
                 
-            case RECHAZADA:
+            case REJECTED:
                 result.append("❌ **SOLICITUD RECHAZADA**\n\n");
                 if (response.getRejectionReason() != null) {
                     result.append("📋 **Motivo:** ").append(response.getRejectionReason()).append("\n");
@@ -192,38 +215,34 @@ public class GetCreditApplicationStatusTool {
                 result.append("- Evaluar un monto menor\n");
                 break;
                 
-            case EN_EVALUACION:
+            case PENDING:
                 result.append("🔍 **EVALUACIÓN EN PROGRESO**\n\n");
                 result.append("📋 **Proceso Actual:** Análisis crediticio y verificación de información\n");
                 result.append("⏰ **Tiempo Estimado:** 2-3 días hábiles adicionales\n");
                 result.append("📞 **Contacto:** Nos comunicaremos si necesitamos información adicional\n");
                 break;
                 
-            case DOCUMENTACION_PENDIENTE:
-                result.append("📄 **DOCUMENTACIÓN PENDIENTE**\n\n");
-                if (response.getPendingDocuments() != null && !response.getPendingDocuments().isEmpty()) {
-                    result.append("📋 **Documentos Faltantes:**\n");
-                    response.getPendingDocuments().forEach(doc -> 
-                        result.append("• ").append(doc).append("\n"));
-                }
-                result.append("⚠️ **Acción Requerida:** Enviar documentos pendientes para continuar el proceso\n");
-                break;
-                
             default:
                 result.append("📊 **Estado:** ").append(response.getStatus().getDisplayName()).append("\n");
-                result.append("⏰ **Proceso en curso** - Le mantendremos informado de cualquier novedad\n");
-        }
-        
-        if (response.getComments() != null && !response.getComments().trim().isEmpty()) {
-            result.append("\n📝 **Comentarios Adicionales:**\n");
-            result.append(response.getComments()).append("\n");
+                result.append("ℹ️ **").append(response.getStatus().getDescription()).append("**\n");
         }
         
         return result.toString();
     }
     
-    private String formatMultipleStatusResponse(java.util.List<CreditStatusResponse> applications, String customerDocument) {
-        if (applications.isEmpty()) {
+    private Map<CreditStatus, Long> summarize(String customerDocument) {
+        Map<CreditStatus, Long> counts = new EnumMap<>(CreditStatus.class);
+        try (Stream<CreditStatusResponse> history =
+                 getCreditStatusUseCase.streamCreditStatusByCustomerDocument(customerDocument)) {
+            history.forEach(app -> counts.merge(app.getStatus(), 1L, Long::sum));
+        }
+        return counts;
+    }
+    
+    private String formatMultipleStatusResponse(CreditStatusPage page, Map<CreditStatus, Long> summary,
+                                                String customerDocument, boolean firstPage) {
+        List<CreditStatusResponse> applications = page.getItems();
+        if (applications.isEmpty() && firstPage) {
             return String.format("""
                 📋 **CONSULTA DE SOLICITUDES**
                 
@@ -239,23 +258,37 @@ public class GetCreditApplicationStatusTool {
         StringBuilder result = new StringBuilder();
         result.append("📋 **SOLICITUDES DE CRÉDITO ENCONTRADAS**\n\n");
         result.append("👤 **Cliente:** ").append(customerDocument).append("\n");
-        result.append("📊 **Total de Solicitudes:** ").append(applications.size()).append("\n\n");
         
-        for (int i = 0; i < applications.size(); i++) {
-            CreditStatusResponse app = applications.get(i);
+        if (firstPage) {
+            long total = summary != null
+                ? summary.values().stream().mapToLong(Long::longValue).sum()
+                : applications.size();
+            result.append("📊 **Total de Solicitudes:** ").append(total).append("\n");
+            if (summary != null) {
+                summary.forEach((status, count) -> result.append("- ").append(getStatusEmoji(status)).append(" ")
+                    .append(status.getDisplayName()).append(": ").append(count).append("\n"));
+            }
+        }
+        result.append("\n");
+        
+        for (CreditStatusResponse app : applications) {
             String statusEmoji = getStatusEmoji(app.getStatus());
             
-            result.append("### ").append(i + 1).append(". Solicitud ").append(app.getApplicationId()).append("\n");
+            result.append("### Solicitud ").append(app.getApplicationId()).append("\n");
             result.append("📅 **Fecha:** ").append(app.getApplicationDate().format(DateTimeFormatter.ofPattern("dd/MM/yyyy"))).append("\n");
             result.append("📊 **Estado:** ").append(statusEmoji).append(" ").append(app.getStatus().getDisplayName()).append("\n");
             
-            if (app.getApprovedAmount() != null) {
-                result.append("💰 **Monto:** $").append(String.format("%,.0f", app.getApprovedAmount())).append("\n");
+            if (app.getRequestedAmount() != null) {
+                result.append("💰 **Monto:** $").append(String.format("%,.0f", app.getRequestedAmount())).append("\n");
             }
             
             result.append("\n");
         }
         
+        if (page.hasNext()) {
+            result.append("➡️ **Más solicitudes:** use `get_credit_status_by_document` con cursor `")
+                  .append(page.getNextCursor().encode()).append("`\n");
+        }
         result.append("💡 **Para detalles específicos** use `get_credit_application_status` con el ID de la solicitud de interés.\n");
         
         return result.toString();
@@ -263,15 +296,11 @@ public class GetCreditApplicationStatusTool {
     
     private String getStatusEmoji(CreditStatus status) {
         return switch (status) {
-            case PENDIENTE -> "🟡";
-            case EN_EVALUACION -> "🔍";
-            case EN_COMITE -> "👥";
-            case APROBADA -> "✅";
-            case RECHAZADA -> "❌";
-            case DOCUMENTACION_PENDIENTE -> "📄";
-            case SUSPENDIDA -> "⏸️";
-            case DESEMBOLSADA -> "💰";
-            case CANCELADA -> "🚫";
+            case PENDING -> "🟡";
+            case APPROVED -> "✅";
+            case REJECTED -> "❌";
+            case EXPIRED -> "⌛";
+            case CANCELLED -> "🚫";
         };
     }
     
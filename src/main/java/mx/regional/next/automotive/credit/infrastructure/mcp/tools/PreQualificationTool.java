@@ -0,0 +1,134 @@
+package mx.regional.next.automotive.credit.infrastructure.mcp.tools;
+
+import mx.regional.next.automotive.credit.domain.services.CreditEligibilityService;
+import mx.regional.next.automotive.credit.shared.constants.CreditConstants;
+
+import org.springframework.ai.tool.annotation.Tool;
+import org.springframework.ai.tool.annotation.ToolParam;
+import org.springframework.stereotype.Component;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.NumberFormat;
+import java.util.Locale;
+
+@Component
+public class PreQualificationTool {
+
+    private static final Logger log = LoggerFactory.getLogger(PreQualificationTool.class);
+
+    private static final BigDecimal DEFAULT_ANNUAL_RATE_PERCENT = BigDecimal.valueOf(12);
+    private static final int DEFAULT_TERM_MONTHS = CreditConstants.TermLimits.STANDARD_TERM_MONTHS;
+
+    private final CreditEligibilityService creditEligibilityService;
+
+    public PreQualificationTool(CreditEligibilityService creditEligibilityService) {
+        this.creditEligibilityService = creditEligibilityService;
+    }
+
+    @Tool(name = "prequalify_credit",
+          description = "Precalifica a un cliente sin crear una solicitud de crédito: calcula el monto máximo financiable según ingreso, deudas y valor del vehículo para cada plazo, y opcionalmente el ingreso mínimo necesario para un monto deseado.")
+    public String prequalify(
+            @ToolParam(description = "Ingreso mensual del cliente en pesos colombianos - OBLIGATORIO", required = true)
+            String monthlyIncome,
+
+            @ToolParam(description = "Deudas mensuales actuales en pesos colombianos (por defecto 0)", required = false)
+            String monthlyDebts,
+
+            @ToolParam(description = "Valor comercial del vehículo en pesos colombianos (opcional, limita al 90%)", required = false)
+            String vehicleValue,
+
+            @ToolParam(description = "Tasa de interés anual en porcentaje (por defecto 12)", required = false)
+            String annualInterestRate,
+
+            @ToolParam(description = "Plazo en meses para el cálculo del ingreso mínimo (por defecto 60)", required = false)
+            String termInMonths,
+
+            @ToolParam(description = "Monto deseado en pesos colombianos para calcular el ingreso mínimo requerido", required = false)
+            String desiredAmount) {
+
+        try {
+            BigDecimal income = new BigDecimal(monthlyIncome.trim());
+            BigDecimal debts = parseOrDefault(monthlyDebts, BigDecimal.ZERO);
+            BigDecimal value = parseOrDefault(vehicleValue, null);
+            BigDecimal ratePercent = parseOrDefault(annualInterestRate, DEFAULT_ANNUAL_RATE_PERCENT);
+            BigDecimal desired = parseOrDefault(desiredAmount, null);
+            int term = isBlank(termInMonths) ? DEFAULT_TERM_MONTHS : Integer.parseInt(termInMonths.trim());
+
+            if (income.signum() <= 0 || debts.signum() < 0) {
+                return "❌ **Error:** El ingreso debe ser mayor a 0 y las deudas no pueden ser negativas";
+            }
+            if (term < CreditConstants.TermLimits.MIN_TERM_MONTHS || term > CreditConstants.TermLimits.MAX_TERM_MONTHS) {
+                return "❌ **Error:** El plazo debe estar entre 12 y 84 meses";
+            }
+            if (ratePercent.compareTo(BigDecimal.valueOf(5)) < 0 || ratePercent.compareTo(BigDecimal.valueOf(35)) > 0) {
+                return "❌ **Error:** La tasa de interés debe estar entre 5% y 35% anual";
+            }
+
+            log.info("Precalificando cliente vía MCP: ingreso={}, deudas={}, tasa={}%", income, debts, ratePercent);
+
+            BigDecimal rate = ratePercent.divide(BigDecimal.valueOf(100), 6, RoundingMode.HALF_UP);
+            return formatResponseForAgent(income, debts, value, rate, term, desired);
+
+        } catch (NumberFormatException e) {
+            return "❌ **Error:** Los montos, la tasa y el plazo deben ser valores numéricos";
+        } catch (Exception e) {
+            log.error("Error precalificando cliente vía MCP", e);
+            return "❌ **Error en precalificación:** " + e.getMessage();
+        }
+    }
+
+    private String formatResponseForAgent(BigDecimal income, BigDecimal debts, BigDecimal vehicleValue,
+                                          BigDecimal rate, int term, BigDecimal desired) {
+        StringBuilder result = new StringBuilder();
+
+        result.append("🧮 **PRECALIFICACIÓN DE CRÉDITO**\n\n");
+        result.append("💼 **Ingreso:** ").append(formatCurrency(income))
+              .append(" | Deudas: ").append(formatCurrency(debts))
+              .append(" | Tasa: ").append(rate.multiply(BigDecimal.valueOf(100)).setScale(2, RoundingMode.HALF_UP)).append("% EA\n");
+        if (vehicleValue != null) {
+            result.append("🚗 **Valor del vehículo:** ").append(formatCurrency(vehicleValue))
+                  .append(" (máximo financiable 90%)\n");
+        }
+
+        result.append("\n| Plazo | Monto máximo |\n");
+        result.append("|-------|--------------|\n");
+        for (int months = CreditConstants.TermLimits.MIN_TERM_MONTHS;
+             months <= CreditConstants.TermLimits.MAX_TERM_MONTHS; months += 12) {
+            BigDecimal maxAmount = creditEligibilityService.calculateMaxEligibleAmount(
+                income, debts, vehicleValue, rate, months);
+            result.append("| ").append(months).append(" meses | ").append(formatCurrency(maxAmount)).append(" |\n");
+        }
+
+        if (desired != null) {
+            BigDecimal minIncome = creditEligibilityService.calculateMinimumMonthlyIncome(desired, debts, rate, term);
+            boolean qualifies = income.compareTo(minIncome) >= 0;
+            result.append("\n🎯 **Monto deseado:** ").append(formatCurrency(desired))
+                  .append(" a ").append(term).append(" meses\n");
+            result.append("• Ingreso mínimo requerido: ").append(formatCurrency(minIncome)).append('\n');
+            result.append(qualifies ? "• ✅ El ingreso actual es suficiente\n" : "• ❌ El ingreso actual no es suficiente\n");
+            if (vehicleValue != null
+                    && desired.compareTo(vehicleValue.multiply(BigDecimal.valueOf(0.90))) > 0) {
+                result.append("• ⚠️ El monto supera el 90% del valor del vehículo\n");
+            }
+        }
+
+        result.append("\n⚠️ *Precalificación referencial. No reemplaza el estudio de crédito.*\n");
+        return result.toString();
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+
+    private static BigDecimal parseOrDefault(String value, BigDecimal defaultValue) {
+        return isBlank(value) ? defaultValue : new BigDecimal(value.trim());
+    }
+
+    private String formatCurrency(BigDecimal amount) {
+        if (amount == null) return "N/A";
+        return NumberFormat.getCurrencyInstance(new Locale("es", "CO")).format(amount);
+    }
+}
@@ -0,0 +1,114 @@
+package mx.regional.next.automotive.credit.infrastructure.mcp.tools;
+
+import mx.regional.next.automotive.credit.application.ports.in.ProcessCreditApplicationBatchUseCase;
+import mx.regional.next.automotive.credit.application.dto.*;
+import mx.regional.next.automotive.credit.infrastructure.mcp.mappers.CreditApplicationMcpMapper;
+
+import org.springframework.ai.tool.annotation.Tool;
+import org.springframework.ai.tool.annotation.ToolParam;
+import org.springframework.stereotype.Component;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.text.NumberFormat;
+import java.util.List;
+import java.util.Locale;
+
+@Component
+public class ProcessCreditApplicationBatchTool {
+
+    private static final Logger log = LoggerFactory.getLogger(ProcessCreditApplicationBatchTool.class);
+
+    private final ProcessCreditApplicationBatchUseCase processCreditApplicationBatchUseCase;
+    private final CreditApplicationMcpMapper mapper;
+
+    public ProcessCreditApplicationBatchTool(
+            ProcessCreditApplicationBatchUseCase processCreditApplicationBatchUseCase,
+            CreditApplicationMcpMapper mapper) {
+        this.processCreditApplicationBatchUseCase = processCreditApplicationBatchUseCase;
+        this.mapper = mapper;
+    }
+
+    @Tool(name = "process_credit_applications_batch",
+          description = "Procesa un lote de solicitudes de crédito automotriz (por ejemplo, el cierre de mes de un concesionario). Devuelve el resultado individual de cada solicitud.")
+    public String processApplications(
+            @ToolParam(description = "Arreglo JSON de solicitudes. Cada elemento debe tener customerDocument, requestedAmount, vehicleVin, vehicleBrand, vehicleModel, vehicleYear, vehicleValue, vehicleKilometers y opcionalmente documents - OBLIGATORIO", required = true)
+            String applicationsJson) {
+
+        try {
+            if (applicationsJson == null || applicationsJson.trim().isEmpty()) {
+                return "❌ **Error:** Se requiere al menos una solicitud en el lote.";
+            }
+
+            List<CreditApplicationRequest> requests = mapper.mapToApplicationRequests(applicationsJson);
+            log.info("Procesando lote de {} solicitudes de crédito vía MCP", requests.size());
+
+            BatchCreditApplicationResponse response = processCreditApplicationBatchUseCase.processApplications(requests);
+
+            return formatResponseForAgent(response);
+
+        } catch (IllegalArgumentException e) {
+            log.warn("Lote de solicitudes rechazado: {}", e.getMessage());
+            return "❌ **Error:** " + e.getMessage();
+        } catch (Exception e) {
+            log.error("Error procesando lote de solicitudes vía MCP", e);
+            return formatErrorResponse(e.getMessage());
+        }
+    }
+
+    private String formatResponseForAgent(BatchCreditApplicationResponse response) {
+        StringBuilder result = new StringBuilder();
+
+        result.append("📋 **RESULTADO DEL LOTE DE SOLICITUDES DE CRÉDITO**\n\n");
+        result.append("📊 **Total:** ").append(response.getTotalCount())
+              .append(" | ✅ Aprobadas: ").append(response.getApprovedCount())
+              .append(" | ❌ Rechazadas: ").append(response.getRejectedCount())
+              .append(" | ⚠️ Con error: ").append(response.getFailedCount()).append("\n\n");
+
+        result.append("| # | Cliente | Estado | ID de Solicitud | Detalle |\n");
+        result.append("|---|---------|--------|-----------------|---------|\n");
+
+        for (BatchCreditApplicationResponse.ItemResult item : response.getItems()) {
+            result.append("| ").append(item.getIndex() + 1)
+                  .append(" | ").append(item.getCustomerDocument());
+
+            if (!item.isSuccess()) {
+                result.append(" | ⚠️ ERROR | - | ").append(item.getErrorMessage()).append(" |\n");
+                continue;
+            }
+
+            CreditApplicationResponse itemResponse = item.getResponse();
+            result.append(" | ").append(itemResponse.getStatus().getDisplayName())
+                  .append(" | ").append(itemResponse.getApplicationId())
+                  .append(" | ");
+
+            if (itemResponse.isApproved()) {
+                result.append("Monto ").append(formatCurrency(itemResponse.getApprovedAmount()))
+                      .append(", score ").append(itemResponse.getCreditScore());
+            } else {
+                result.append(itemResponse.getRejectionReason());
+            }
+            result.append(" |\n");
+        }
+
+        return result.toString();
+    }
+
+    private String formatErrorResponse(String errorMessage) {
+        return String.format("""
+            ⚠️ **ERROR EN PROCESAMIENTO DEL LOTE**
+
+            ❌ **Error:** %s
+
+            🔧 **Acción Requerida:**
+            - Verificar que el JSON del lote tenga el formato correcto
+            - Contactar soporte técnico si el problema persiste
+            """, errorMessage);
+    }
+
+    private String formatCurrency(BigDecimal amount) {
+        if (amount == null) return "N/A";
+        return NumberFormat.getCurrencyInstance(new Locale("es", "CO")).format(amount);
+    }
+}
@@ -2,6 +2,7 @@ package mx.regional.next.automotive.credit.infrastructure.mcp.tools;
 
 import mx.regional.next.automotive.credit.application.ports.in.ProcessCreditApplicationUseCase;
 import mx.regional.next.automotive.credit.application.dto.*;
+import mx.regional.next.automotive.credit.domain.services.AmortizationEngine;
 import mx.regional.next.automotive.credit.infrastructure.mcp.mappers.CreditApplicationMcpMapper;
 
 import org.springframework.ai.tool.annotation.Tool;
@@ -159,13 +160,7 @@ public class ProcessCreditApplicationTool {
             }
             
             // Cálculo de cuota mensual usando fórmula de amortización
-            BigDecimal monthlyRate = finalRate.divide(BigDecimal.valueOf(12), 6, BigDecimal.ROUND_HALF_UP);
-            BigDecimal onePlusR = BigDecimal.ONE.add(monthlyRate);
-            BigDecimal onePlusRPowN = onePlusR.pow(months);
-            
-            BigDecimal numerator = amount.multiply(monthlyRate).multiply(onePlusRPowN);
-            BigDecimal denominator = onePlusRPowN.subtract(BigDecimal.ONE);
-            BigDecimal monthlyPayment = numerator.divide(denominator, 2, BigDecimal.ROUND_HALF_UP);
+            BigDecimal monthlyPayment = AmortizationEngine.monthlyPayment(amount, finalRate, months);
             
             BigDecimal totalPayment = monthlyPayment.multiply(BigDecimal.valueOf(months));
             BigDecimal totalInterest = totalPayment.subtract(amount);
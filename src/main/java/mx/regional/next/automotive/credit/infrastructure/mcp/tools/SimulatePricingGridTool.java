@@ -0,0 +1,145 @@
+package mx.regional.next.automotive.credit.infrastructure.mcp.tools;
+
+import mx.regional.next.automotive.credit.application.ports.in.SimulatePricingGridUseCase;
+import mx.regional.next.automotive.credit.application.dto.*;
+
+import org.springframework.ai.tool.annotation.Tool;
+import org.springframework.ai.tool.annotation.ToolParam;
+import org.springframework.stereotype.Component;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.NumberFormat;
+import java.util.Locale;
+
+@Component
+public class SimulatePricingGridTool {
+
+    private static final Logger log = LoggerFactory.getLogger(SimulatePricingGridTool.class);
+
+    private static final int DEFAULT_AMOUNT_STEPS = 5;
+    private static final int DEFAULT_TERM_STEP = 12;
+
+    private final SimulatePricingGridUseCase simulatePricingGridUseCase;
+
+    public SimulatePricingGridTool(SimulatePricingGridUseCase simulatePricingGridUseCase) {
+        this.simulatePricingGridUseCase = simulatePricingGridUseCase;
+    }
+
+    @Tool(name = "simulate_pricing_grid",
+          description = "Simula en una sola llamada la matriz de tasas y cuotas mensuales de un cliente y vehículo para todos los plazos (12-84 meses) y un rango de montos. Úsala para comparar alternativas en lugar de llamar calculate_monthly_installment por cada combinación.")
+    public String simulatePricingGrid(
+            @ToolParam(description = "Número de documento del cliente - OBLIGATORIO", required = true)
+            String customerDocument,
+
+            @ToolParam(description = "VIN del vehículo (17 caracteres) - OBLIGATORIO", required = true)
+            String vehicleVin,
+
+            @ToolParam(description = "Marca del vehículo - OBLIGATORIO", required = true)
+            String vehicleBrand,
+
+            @ToolParam(description = "Modelo del vehículo - OBLIGATORIO", required = true)
+            String vehicleModel,
+
+            @ToolParam(description = "Año del vehículo - OBLIGATORIO", required = true)
+            String vehicleYear,
+
+            @ToolParam(description = "Monto mínimo a simular en pesos colombianos - OBLIGATORIO", required = true)
+            String minAmount,
+
+            @ToolParam(description = "Monto máximo a simular en pesos colombianos - OBLIGATORIO", required = true)
+            String maxAmount,
+
+            @ToolParam(description = "Número de montos entre el mínimo y el máximo (por defecto 5)", required = false)
+            String amountSteps,
+
+            @ToolParam(description = "Separación en meses entre plazos (por defecto 12; 1 para todos los plazos)", required = false)
+            String termStep) {
+
+        try {
+            log.info("Simulando rejilla de precios vía MCP para cliente: {}", customerDocument);
+
+            PricingGridRequest request = new PricingGridRequest(
+                customerDocument, vehicleVin, vehicleBrand, vehicleModel,
+                Integer.parseInt(vehicleYear.trim()),
+                new BigDecimal(minAmount.trim()),
+                new BigDecimal(maxAmount.trim()),
+                parseOrDefault(amountSteps, DEFAULT_AMOUNT_STEPS),
+                parseOrDefault(termStep, DEFAULT_TERM_STEP)
+            );
+
+            PricingGridResponse response = simulatePricingGridUseCase.simulatePricingGrid(request);
+
+            return formatResponseForAgent(response);
+
+        } catch (NumberFormatException e) {
+            return "❌ **Error:** Los montos, el año y los pasos deben ser valores numéricos";
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejilla de precios rechazada: {}", e.getMessage());
+            return "❌ **Error:** " + e.getMessage();
+        } catch (Exception e) {
+            log.error("Error simulando rejilla de precios vía MCP", e);
+            return formatErrorResponse(e.getMessage());
+        }
+    }
+
+    private String formatResponseForAgent(PricingGridResponse response) {
+        StringBuilder result = new StringBuilder();
+
+        result.append("💰 **REJILLA DE PRECIOS (PLAZO x MONTO)**\n\n");
+        result.append("👤 **Cliente:** ").append(response.getCustomerDocument())
+              .append(" | 📊 Score: ").append(response.getCreditScore())
+              .append(" | Tasa base: ").append(formatRate(response.getBaseRate())).append(" EA\n\n");
+        result.append("Cada celda: **cuota mensual** (tasa EA)\n\n");
+
+        result.append("| Plazo |");
+        for (BigDecimal amount : response.getAmounts()) {
+            result.append(' ').append(formatCurrency(amount)).append(" |");
+        }
+        result.append("\n|-------|");
+        result.append("---|".repeat(response.getAmounts().size()));
+        result.append('\n');
+
+        for (PricingGridResponse.Row row : response.getRows()) {
+            result.append("| ").append(row.getTermInMonths()).append(" m |");
+            for (PricingGridResponse.Cell cell : row.getCells()) {
+                result.append(' ').append(formatCurrency(cell.getMonthlyInstallment()))
+                      .append(" (").append(formatRate(cell.getAnnualInterestRate())).append(") |");
+            }
+            result.append('\n');
+        }
+
+        result.append("\n⚠️ *Simulación referencial. Tasas sujetas a aprobación crediticia final.*\n");
+        return result.toString();
+    }
+
+    private String formatErrorResponse(String errorMessage) {
+        return String.format("""
+            ⚠️ **ERROR EN SIMULACIÓN DE REJILLA DE PRECIOS**
+
+            ❌ **Error:** %s
+
+            🔧 **Acción Requerida:**
+            - Verificar el documento del cliente y los datos del vehículo
+            - Contactar soporte técnico si el problema persiste
+            """, errorMessage);
+    }
+
+    private static int parseOrDefault(String value, int defaultValue) {
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        return Integer.parseInt(value.trim());
+    }
+
+    private String formatRate(BigDecimal rate) {
+        return rate.multiply(BigDecimal.valueOf(100)).setScale(2, RoundingMode.HALF_UP) + "%";
+    }
+
+    private String formatCurrency(BigDecimal amount) {
+        if (amount == null) return "N/A";
+        return NumberFormat.getCurrencyInstance(new Locale("es", "CO")).format(amount);
+    }
+}
@@ -0,0 +1,58 @@
+package mx.regional.next.automotive.credit.shared.utils;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Identificadores UUIDv7 (RFC 9562): 48 bits de milisegundos Unix, versión, 12 bits de
+ * secuencia, variante y 62 bits aleatorios.
+ *
+ * <p>Dentro de un mismo proceso son estrictamente crecientes: la secuencia se incrementa
+ * cuando coinciden en el milisegundo y, si se agota o el reloj retrocede, el timestamp se
+ * adelanta un milisegundo. Como texto en minúsculas de ancho fijo también ordenan
+ * cronológicamente, así que los inserts caen al final del índice de la llave primaria en
+ * lugar de repartirse por todo el árbol como con UUIDv4.
+ */
+public final class TimeOrderedIds {
+
+    private static final int SEQUENCE_BITS = 12;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    // milisegundos << 12 | secuencia del último ID emitido
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private TimeOrderedIds() {
+        // Utility class
+    }
+
+    public static String next() {
+        return nextUuid().toString();
+    }
+
+    public static UUID nextUuid() {
+        long state = LAST.updateAndGet(TimeOrderedIds::advance);
+        long millis = state >>> SEQUENCE_BITS;
+        long sequence = state & SEQUENCE_MASK;
+
+        long mostSignificant = (millis << 16) | (0x7L << 12) | sequence;
+        long leastSignificant = (ThreadLocalRandom.current().nextLong() >>> 2) | 0x8000000000000000L;
+        return new UUID(mostSignificant, leastSignificant);
+    }
+
+    /**
+     * Milisegundos Unix codificados en un UUIDv7.
+     */
+    public static long timestampMillis(UUID id) {
+        if (id.version() != 7) {
+            throw new IllegalArgumentException("No es un UUIDv7: " + id);
+        }
+        return id.getMostSignificantBits() >>> 16;
+    }
+
+    private static long advance(long last) {
+        long now = System.currentTimeMillis() << SEQUENCE_BITS;
+        // Mismo milisegundo, reloj atrasado o secuencia agotada: el siguiente valor después del último
+        return now > last ? now : last + 1;
+    }
+}
@@ -0,0 +1,15 @@
+-- V2__Add_keyset_indexes.sql
+-- Índices para la paginación por llave (application_date, id) de los listados de solicitudes
+
+-- Cada índice sirve el filtro y el orden (application_date DESC, id DESC) sin ordenar en memoria;
+-- reemplazan a los índices de una columna, que quedan como prefijo de estos
+CREATE INDEX idx_credit_applications_customer_keyset
+    ON credit_applications(customer_document, application_date DESC, id DESC);
+CREATE INDEX idx_credit_applications_status_keyset
+    ON credit_applications(status, application_date DESC, id DESC);
+CREATE INDEX idx_credit_applications_date_keyset
+    ON credit_applications(application_date DESC, id DESC);
+
+DROP INDEX idx_credit_applications_customer;
+DROP INDEX idx_credit_applications_status;
+DROP INDEX idx_credit_applications_date;
@@ -0,0 +1,15 @@
+-- V3__Time_ordered_application_ids.sql
+-- Los IDs de credit_applications pasan de UUIDv4 a UUIDv7 (ordenados por tiempo)
+
+-- Con la intercalación "C" el texto se compara byte a byte: los UUIDv7 en minúsculas quedan
+-- en orden cronológico y la comparación no depende de las reglas de idioma. Los inserts
+-- nuevos caen en la última página del índice de la llave primaria en lugar de partir
+-- páginas al azar. Reescribe la tabla y reconstruye sus índices.
+ALTER TABLE credit_applications
+    ALTER COLUMN id TYPE VARCHAR(36) COLLATE "C";
+
+-- Las páginas del índice ya no se parten en el medio; se pueden llenar por completo
+ALTER INDEX credit_applications_pkey SET (fillfactor = 100);
+REINDEX INDEX credit_applications_pkey;
+
+COMMENT ON COLUMN credit_applications.id IS 'Identificador UUIDv7 de la aplicación de crédito (ordenado por fecha de creación)';
@@ -0,0 +1,116 @@
+-- V4__Create_application_aggregates.sql
+-- Contadores precalculados de solicitudes por estado, por día y por marca para los tableros
+
+-- Una fila por (dimensión, llave): STATUS/<estado>, DAY/<yyyy-mm-dd>, BRAND/<marca>.
+-- Los tableros leen unas decenas de filas en lugar de contar sobre credit_applications.
+CREATE TABLE credit_application_aggregates (
+    dimension VARCHAR(10) NOT NULL,
+    dimension_key VARCHAR(50) NOT NULL,
+    application_count BIGINT NOT NULL DEFAULT 0,
+    requested_amount DECIMAL(18,2) NOT NULL DEFAULT 0,
+    last_update_date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (dimension, dimension_key)
+);
+
+-- Fila de credit_applications que suma (sign = 1) o resta (sign = -1) a los contadores
+CREATE TYPE credit_application_aggregate_delta AS (
+    sign INTEGER,
+    status VARCHAR(20),
+    requested_amount DECIMAL(15,2),
+    application_date TIMESTAMP,
+    vehicle_brand VARCHAR(50)
+);
+
+-- Aplica los deltas de una sentencia. Las llaves se agrupan (una sola actualización por fila
+-- aunque la sentencia escriba un lote) y se bloquean siempre en el mismo orden, así que dos
+-- lotes concurrentes no se bloquean mutuamente. Los deltas que se anulan no tocan la tabla.
+CREATE FUNCTION apply_credit_application_aggregate_deltas(deltas credit_application_aggregate_delta[])
+RETURNS void AS $$
+    INSERT INTO credit_application_aggregates AS a
+        (dimension, dimension_key, application_count, requested_amount, last_update_date)
+    SELECT d.dimension, d.dimension_key, SUM(d.count_delta), SUM(d.amount_delta), CURRENT_TIMESTAMP
+    FROM (
+        SELECT 'STATUS' AS dimension, r.status AS dimension_key, r.sign AS count_delta,
+               r.sign * r.requested_amount AS amount_delta
+        FROM unnest(deltas) r
+        UNION ALL
+        SELECT 'DAY', to_char(r.application_date, 'YYYY-MM-DD'), r.sign, r.sign * r.requested_amount
+        FROM unnest(deltas) r
+        UNION ALL
+        SELECT 'BRAND', COALESCE(UPPER(r.vehicle_brand), 'SIN MARCA'), r.sign, r.sign * r.requested_amount
+        FROM unnest(deltas) r
+    ) d
+    GROUP BY d.dimension, d.dimension_key
+    HAVING SUM(d.count_delta) <> 0 OR SUM(d.amount_delta) <> 0
+    ORDER BY d.dimension, d.dimension_key
+    ON CONFLICT (dimension, dimension_key) DO UPDATE SET
+        application_count = a.application_count + EXCLUDED.application_count,
+        requested_amount = a.requested_amount + EXCLUDED.requested_amount,
+        last_update_date = EXCLUDED.last_update_date;
+$$ LANGUAGE sql;
+
+CREATE FUNCTION credit_application_aggregates_on_insert() RETURNS trigger AS $$
+BEGIN
+    PERFORM apply_credit_application_aggregate_deltas(ARRAY(
+        SELECT ROW(1, status, requested_amount, application_date, vehicle_brand)::credit_application_aggregate_delta
+        FROM new_rows));
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Solo cuentan las filas que cambian algo agregado (normalmente el estado): la versión
+-- anterior resta y la nueva suma
+CREATE FUNCTION credit_application_aggregates_on_update() RETURNS trigger AS $$
+BEGIN
+    PERFORM apply_credit_application_aggregate_deltas(ARRAY(
+        SELECT delta
+        FROM old_rows o
+        JOIN new_rows n ON n.id = o.id
+        CROSS JOIN LATERAL (VALUES
+            (ROW(-1, o.status, o.requested_amount, o.application_date, o.vehicle_brand)::credit_application_aggregate_delta),
+            (ROW(1, n.status, n.requested_amount, n.application_date, n.vehicle_brand)::credit_application_aggregate_delta)
+        ) AS v(delta)
+        WHERE (o.status, o.requested_amount, o.application_date::date, o.vehicle_brand)
+              IS DISTINCT FROM (n.status, n.requested_amount, n.application_date::date, n.vehicle_brand)));
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE FUNCTION credit_application_aggregates_on_delete() RETURNS trigger AS $$
+BEGIN
+    PERFORM apply_credit_application_aggregate_deltas(ARRAY(
+        SELECT ROW(-1, status, requested_amount, application_date, vehicle_brand)::credit_application_aggregate_delta
+        FROM old_rows));
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Disparadores por sentencia con tablas de transición: corren en la misma transacción que la
+-- escritura (JPA, R2DBC o SQL manual) y una vez por lote, no una vez por fila
+CREATE TRIGGER trg_credit_application_aggregates_insert
+    AFTER INSERT ON credit_applications
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION credit_application_aggregates_on_insert();
+
+CREATE TRIGGER trg_credit_application_aggregates_update
+    AFTER UPDATE ON credit_applications
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION credit_application_aggregates_on_update();
+
+CREATE TRIGGER trg_credit_application_aggregates_delete
+    AFTER DELETE ON credit_applications
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION credit_application_aggregates_on_delete();
+
+-- Carga inicial con las solicitudes existentes
+INSERT INTO credit_application_aggregates (dimension, dimension_key, application_count, requested_amount)
+SELECT 'STATUS', status, COUNT(*), SUM(requested_amount)
+FROM credit_applications GROUP BY status
+UNION ALL
+SELECT 'DAY', to_char(application_date, 'YYYY-MM-DD'), COUNT(*), SUM(requested_amount)
+FROM credit_applications GROUP BY to_char(application_date, 'YYYY-MM-DD')
+UNION ALL
+SELECT 'BRAND', COALESCE(UPPER(vehicle_brand), 'SIN MARCA'), COUNT(*), SUM(requested_amount)
+FROM credit_applications GROUP BY COALESCE(UPPER(vehicle_brand), 'SIN MARCA');
+
+COMMENT ON TABLE credit_application_aggregates IS 'Contadores por estado, día y marca mantenidos por disparadores sobre credit_applications';
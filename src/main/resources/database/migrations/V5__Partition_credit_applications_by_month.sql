@@ -0,0 +1,99 @@
+-- V5__Partition_credit_applications_by_month.sql
+-- credit_applications pasa a particionarse por rango mensual de application_date
+
+-- La llave primaria de una tabla particionada debe incluir la columna de partición. El id
+-- sigue siendo único en la práctica (UUIDv7) y application_date no cambia después de crear la
+-- solicitud, así que (id, application_date) identifica la misma fila que antes.
+ALTER TABLE credit_applications RENAME TO credit_applications_heap;
+ALTER TABLE credit_applications_heap RENAME CONSTRAINT credit_applications_pkey TO credit_applications_heap_pkey;
+-- Los nombres de índice son globales al esquema; se recrean sobre la tabla particionada
+DROP INDEX idx_credit_applications_customer_keyset;
+DROP INDEX idx_credit_applications_status_keyset;
+DROP INDEX idx_credit_applications_date_keyset;
+
+CREATE TABLE credit_applications (
+    id VARCHAR(36) COLLATE "C" NOT NULL,
+    customer_document VARCHAR(20) NOT NULL,
+    vehicle_vin VARCHAR(17) NOT NULL,
+    requested_amount DECIMAL(15,2) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    credit_score INTEGER,
+    rejection_reason TEXT,
+    application_date TIMESTAMP NOT NULL,
+    last_update_date TIMESTAMP NOT NULL,
+    vehicle_brand VARCHAR(50),
+    vehicle_model VARCHAR(50),
+    vehicle_year INTEGER,
+    vehicle_value DECIMAL(15,2),
+    vehicle_kilometers INTEGER,
+    PRIMARY KEY (id, application_date),
+    FOREIGN KEY (customer_document) REFERENCES customers(document_number)
+) PARTITION BY RANGE (application_date);
+
+-- Recibe las filas de meses sin partición; la función de abajo las mueve al crear el mes
+CREATE TABLE credit_applications_default PARTITION OF credit_applications DEFAULT;
+
+-- Crea la partición del mes que contiene month_start. Si la partición por defecto ya tiene
+-- filas de ese mes las traslada antes de adjuntarla (si no, ATTACH fallaría). Las escrituras
+-- directas sobre particiones no disparan los contadores de credit_application_aggregates,
+-- que solo escuchan a la tabla padre: mover filas no altera los totales.
+CREATE FUNCTION create_credit_application_partition(month_start DATE) RETURNS boolean AS $$
+DECLARE
+    range_start TIMESTAMP := date_trunc('month', month_start);
+    range_end TIMESTAMP := date_trunc('month', month_start) + INTERVAL '1 month';
+    partition_name TEXT := 'credit_applications_' || to_char(month_start, 'YYYY_MM');
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN false;
+    END IF;
+
+    EXECUTE format('CREATE TABLE %I (LIKE credit_applications INCLUDING DEFAULTS INCLUDING CONSTRAINTS)',
+                   partition_name);
+    EXECUTE format('WITH moved AS (DELETE FROM credit_applications_default '
+                   'WHERE application_date >= $1 AND application_date < $2 RETURNING *) '
+                   'INSERT INTO %I SELECT * FROM moved', partition_name)
+        USING range_start, range_end;
+    EXECUTE format('ALTER TABLE credit_applications ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                   partition_name, range_start, range_end);
+    RETURN true;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Meses con datos más los tres siguientes; el job de mantenimiento sigue creando hacia adelante
+SELECT create_credit_application_partition(month::date)
+FROM generate_series(
+    date_trunc('month', LEAST(COALESCE((SELECT MIN(application_date) FROM credit_applications_heap),
+                                       CURRENT_TIMESTAMP), CURRENT_TIMESTAMP)),
+    date_trunc('month', CURRENT_TIMESTAMP) + INTERVAL '3 months',
+    INTERVAL '1 month') AS month;
+
+-- Los índices creados sobre la tabla padre se replican en cada partición, también en las
+-- que se adjunten después
+CREATE INDEX idx_credit_applications_customer_keyset
+    ON credit_applications(customer_document, application_date DESC, id DESC);
+CREATE INDEX idx_credit_applications_status_keyset
+    ON credit_applications(status, application_date DESC, id DESC);
+CREATE INDEX idx_credit_applications_date_keyset
+    ON credit_applications(application_date DESC, id DESC);
+
+-- Los contadores ya incluyen las filas existentes: se copian antes de crear los disparadores
+INSERT INTO credit_applications SELECT * FROM credit_applications_heap;
+DROP TABLE credit_applications_heap;
+
+CREATE TRIGGER trg_credit_application_aggregates_insert
+    AFTER INSERT ON credit_applications
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION credit_application_aggregates_on_insert();
+
+CREATE TRIGGER trg_credit_application_aggregates_update
+    AFTER UPDATE ON credit_applications
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION credit_application_aggregates_on_update();
+
+CREATE TRIGGER trg_credit_application_aggregates_delete
+    AFTER DELETE ON credit_applications
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION credit_application_aggregates_on_delete();
+
+COMMENT ON TABLE credit_applications IS 'Solicitudes de crédito particionadas por mes de application_date';
+COMMENT ON COLUMN credit_applications.id IS 'Identificador UUIDv7 de la aplicación de crédito (ordenado por fecha de creación)';
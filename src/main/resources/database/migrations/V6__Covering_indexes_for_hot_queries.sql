@@ -0,0 +1,27 @@
+-- V6__Covering_indexes_for_hot_queries.sql
+-- Índices cubrientes y parciales para las consultas calientes de credit_applications
+
+-- Los motivos de rechazo son mensajes cortos de CreditDecision; el límite permite llevarlos
+-- en los índices cubrientes sin acercarse al tamaño máximo de una entrada de B-tree
+ALTER TABLE credit_applications
+    ADD CONSTRAINT chk_credit_applications_rejection_reason_length
+    CHECK (rejection_reason IS NULL OR char_length(rejection_reason) <= 500);
+
+-- Historial y última solicitud por cliente: la llave es la del orden de las páginas y las
+-- columnas de CreditStatusResponse viajan en la hoja, así que las páginas de estado y
+-- existsByCustomerDocumentAndStatus se resuelven con Index Only Scan. Sustituye al índice
+-- customer_keyset, que tenía la misma llave.
+CREATE INDEX idx_credit_applications_customer_covering
+    ON credit_applications(customer_document, application_date DESC, id DESC)
+    INCLUDE (status, requested_amount, credit_score, rejection_reason, last_update_date);
+DROP INDEX idx_credit_applications_customer_keyset;
+
+-- Bandeja de solicitudes activas por estado. Solo indexa PENDING y APPROVED, una fracción
+-- pequeña de la tabla que además es la que más se consulta. El planificador solo lo usa si
+-- puede probar el predicado: con un estado literal o con el plan personalizado que
+-- PostgreSQL prepara para cada valor del parámetro. Los estados finales siguen usando
+-- status_keyset.
+CREATE INDEX idx_credit_applications_active_by_status
+    ON credit_applications(status, application_date DESC, id DESC)
+    INCLUDE (customer_document, requested_amount, credit_score, rejection_reason, last_update_date)
+    WHERE status IN ('PENDING', 'APPROVED');
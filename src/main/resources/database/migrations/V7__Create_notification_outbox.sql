@@ -0,0 +1,28 @@
+-- V7__Create_notification_outbox.sql
+-- Bandeja de salida de avisos de decisión al cliente
+
+-- Un aviso por fila, con el NotificationRequest serializado en JSON. El despachador envía los
+-- PENDING vencidos por lotes; cada intento fallido aplaza next_attempt_at con retroceso
+-- exponencial y, al agotar los intentos, el aviso queda FAILED hasta que se reprocese.
+CREATE TABLE notification_outbox (
+    notification_id VARCHAR(36) PRIMARY KEY,
+    application_id VARCHAR(36) NOT NULL,
+    payload TEXT NOT NULL,
+    status VARCHAR(10) NOT NULL DEFAULT 'PENDING'
+        CHECK (status IN ('PENDING', 'SENT', 'FAILED')),
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_error VARCHAR(500),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    sent_at TIMESTAMP
+);
+
+-- Cola de pendientes en orden de vencimiento; los enviados no entran en el índice
+CREATE INDEX idx_notification_outbox_due
+    ON notification_outbox(next_attempt_at)
+    WHERE status = 'PENDING';
+
+-- Avisos agotados para reproceso manual
+CREATE INDEX idx_notification_outbox_failed
+    ON notification_outbox(created_at)
+    WHERE status = 'FAILED';
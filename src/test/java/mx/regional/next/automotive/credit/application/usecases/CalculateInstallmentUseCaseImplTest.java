@@ -0,0 +1,70 @@
+package mx.regional.next.automotive.credit.application.usecases;
+
+import mx.regional.next.automotive.credit.application.dto.AmortizationScheduleRow;
+import mx.regional.next.automotive.credit.application.dto.InstallmentCalculationResponse;
+import mx.regional.next.automotive.credit.domain.services.InterestRateCalculationService;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CalculateInstallmentUseCaseImpl Tests")
+class CalculateInstallmentUseCaseImplTest {
+
+    private static final BigDecimal LOAN_AMOUNT = BigDecimal.valueOf(60_000_000);
+    private static final BigDecimal ANNUAL_RATE = BigDecimal.valueOf(0.155);
+
+    private final CalculateInstallmentUseCaseImpl useCase =
+        new CalculateInstallmentUseCaseImpl(new InterestRateCalculationService());
+
+    @Nested
+    @DisplayName("Amortization Schedule Tests")
+    class AmortizationScheduleTests {
+
+        @Test
+        @DisplayName("Schedule rows should use the calculated installment and end with a zero balance")
+        void scheduleShouldUseCalculatedInstallment() {
+            // Given
+            InstallmentCalculationResponse installment = useCase.calculateInstallment(LOAN_AMOUNT, ANNUAL_RATE, 48);
+
+            // When
+            List<AmortizationScheduleRow> rows = useCase.streamAmortizationSchedule(LOAN_AMOUNT, ANNUAL_RATE, 48).toList();
+
+            // Then
+            assertThat(rows).hasSize(48);
+            assertThat(rows.subList(0, 47)).extracting(AmortizationScheduleRow::getPayment)
+                .containsOnly(installment.getMonthlyInstallment());
+            assertThat(rows.get(47).getBalance()).isEqualByComparingTo(BigDecimal.ZERO);
+            assertThat(rows.get(0).getInterest()).isEqualByComparingTo(new BigDecimal("775020.00"));
+        }
+
+        @Test
+        @DisplayName("Flux should emit rows on demand")
+        void fluxShouldEmitRowsOnDemand() {
+            StepVerifier.create(useCase.fluxAmortizationSchedule(LOAN_AMOUNT, ANNUAL_RATE, 84), 2)
+                .assertNext(row -> assertThat(row.getMonth()).isEqualTo(1))
+                .assertNext(row -> assertThat(row.getMonth()).isEqualTo(2))
+                .thenCancel()
+                .verify();
+        }
+
+        @Test
+        @DisplayName("Should validate parameters when the stream is requested")
+        void shouldValidateParametersEagerly() {
+            assertThatThrownBy(() -> useCase.streamAmortizationSchedule(LOAN_AMOUNT, ANNUAL_RATE, 96))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("plazo");
+            assertThatThrownBy(() -> useCase.streamAmortizationSchedule(LOAN_AMOUNT, BigDecimal.ZERO, 48))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> useCase.streamAmortizationSchedule(BigDecimal.valueOf(1_000), ANNUAL_RATE, 48))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package mx.regional.next.automotive.credit.application.usecases;
+
+import mx.regional.next.automotive.credit.application.dto.CreditStatusCursor;
+import mx.regional.next.automotive.credit.application.dto.CreditStatusPage;
+import mx.regional.next.automotive.credit.application.dto.CreditStatusResponse;
+import mx.regional.next.automotive.credit.application.ports.out.CreditStatusQueryPort;
+import mx.regional.next.automotive.credit.domain.enums.CreditStatus;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetCreditStatusUseCaseImpl Tests")
+class GetCreditStatusUseCaseImplTest {
+
+    private static final String ID = "5b1e9f7c-1f47-4a8e-9d0b-3f1a2c4d5e6f";
+
+    @Mock
+    private CreditStatusQueryPort creditStatusQueryPort;
+
+    private GetCreditStatusUseCaseImpl useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new GetCreditStatusUseCaseImpl(creditStatusQueryPort, 50, 500);
+    }
+
+    @Test
+    @DisplayName("Should return the projected status")
+    void shouldReturnProjectedStatus() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        CreditStatusResponse projected = new CreditStatusResponse(
+            ID, "1234567890", CreditStatus.APPROVED, BigDecimal.valueOf(50_000_000), 760, null, now, now);
+        when(creditStatusQueryPort.findStatusById(ID)).thenReturn(Optional.of(projected));
+
+        // When
+        CreditStatusResponse status = useCase.getCreditStatus(ID);
+
+        // Then
+        assertThat(status.getStatus()).isEqualTo(CreditStatus.APPROVED);
+        assertThat(status.getApprovedAmount()).isEqualByComparingTo(BigDecimal.valueOf(50_000_000));
+    }
+
+    @Test
+    @DisplayName("Should fail when the application does not exist")
+    void shouldFailWhenApplicationDoesNotExist() {
+        // Given
+        when(creditStatusQueryPort.findStatusById(ID)).thenReturn(Optional.empty());
+
+        // When / Then
+        assertThatThrownBy(() -> useCase.getCreditStatus(ID))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("no encontrada");
+    }
+
+    @Test
+    @DisplayName("Should decode the cursor and cap the page size")
+    void shouldDecodeCursorAndCapPageSize() {
+        // Given
+        LocalDateTime date = LocalDateTime.of(2025, 3, 14, 10, 30);
+        String cursor = new CreditStatusCursor(date, ID).encode();
+        when(creditStatusQueryPort.findStatusesByCustomerDocument(eq("1234567890"), argThat(after ->
+                after.getApplicationDate().equals(date) && after.getApplicationId().equals(ID)), eq(50)))
+            .thenReturn(new CreditStatusPage(List.of(), null));
+
+        // When
+        CreditStatusPage page = useCase.getCreditStatusByCustomerDocument("1234567890", cursor, 1_000);
+
+        // Then
+        assertThat(page.getItems()).isEmpty();
+        assertThat(page.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reject a malformed cursor")
+    void shouldRejectMalformedCursor() {
+        assertThatThrownBy(() -> useCase.getCreditStatusByCustomerDocument("1234567890", "no-es-un-cursor", 10))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Cursor");
+        verifyNoInteractions(creditStatusQueryPort);
+    }
+
+    @Test
+    @DisplayName("Should reject a blank document without querying")
+    void shouldRejectBlankDocument() {
+        assertThatThrownBy(() -> useCase.getCreditStatusByCustomerDocument(" ", null, 10))
+            .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(creditStatusQueryPort);
+    }
+}
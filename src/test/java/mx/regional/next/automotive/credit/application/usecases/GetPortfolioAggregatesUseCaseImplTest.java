@@ -0,0 +1,54 @@
+package mx.regional.next.automotive.credit.application.usecases;
+
+import mx.regional.next.automotive.credit.application.ports.out.PortfolioAggregatesQueryPort;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetPortfolioAggregatesUseCaseImpl Tests")
+class GetPortfolioAggregatesUseCaseImplTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2024-03-15T12:00:00Z"), ZoneOffset.UTC);
+
+    @Mock
+    private PortfolioAggregatesQueryPort portfolioAggregatesQueryPort;
+
+    @Test
+    @DisplayName("Daily series should cover the configured window including today")
+    void dailySeriesShouldCoverConfiguredWindow() {
+        // Given
+        GetPortfolioAggregatesUseCaseImpl useCase =
+            new GetPortfolioAggregatesUseCaseImpl(portfolioAggregatesQueryPort, 30, CLOCK);
+
+        // When
+        useCase.getPortfolioAggregates();
+
+        // Then
+        verify(portfolioAggregatesQueryPort).findAggregates(LocalDate.of(2024, 2, 15));
+    }
+
+    @Test
+    @DisplayName("A non-positive window should still include today")
+    void nonPositiveWindowShouldIncludeToday() {
+        // Given
+        GetPortfolioAggregatesUseCaseImpl useCase =
+            new GetPortfolioAggregatesUseCaseImpl(portfolioAggregatesQueryPort, 0, CLOCK);
+
+        // When
+        useCase.getPortfolioAggregates();
+
+        // Then
+        verify(portfolioAggregatesQueryPort).findAggregates(LocalDate.of(2024, 3, 15));
+    }
+}
@@ -0,0 +1,653 @@
+package mx.regional.next.automotive.credit.application.usecases;
+
+import mx.regional.next.automotive.credit.application.dto.BatchCreditApplicationResponse;
+import mx.regional.next.automotive.credit.application.dto.CreditApplicationRequest;
+import mx.regional.next.automotive.credit.application.dto.CreditApplicationResponse;
+import mx.regional.next.automotive.credit.application.ports.out.CreditApplicationRepositoryPort;
+import mx.regional.next.automotive.credit.application.ports.out.CreditScoreProviderPort;
+import mx.regional.next.automotive.credit.application.ports.out.CustomerRepositoryPort;
+import mx.regional.next.automotive.credit.application.ports.out.VehicleValidationPort;
+import mx.regional.next.automotive.credit.domain.entities.CreditApplication;
+import mx.regional.next.automotive.credit.domain.entities.Customer;
+import mx.regional.next.automotive.credit.domain.entities.Vehicle;
+import mx.regional.next.automotive.credit.domain.enums.CreditStatus;
+import mx.regional.next.automotive.credit.domain.enums.DocumentType;
+import mx.regional.next.automotive.credit.domain.enums.VehicleType;
+import mx.regional.next.automotive.credit.domain.services.CreditEligibilityService;
+import mx.regional.next.automotive.credit.domain.services.InterestRateCalculationService;
+import mx.regional.next.automotive.credit.domain.valueobjects.CreditAmount;
+import mx.regional.next.automotive.credit.domain.valueobjects.CreditScore;
+import mx.regional.next.automotive.credit.domain.valueobjects.DocumentNumber;
+import mx.regional.next.automotive.credit.domain.valueobjects.VehicleVIN;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ProcessCreditApplicationUseCaseImpl Tests")
+class ProcessCreditApplicationUseCaseImplTest {
+
+    private static final long LOOKUP_DELAY_MS = 200;
+
+    private Customer customer;
+    private Vehicle vehicle;
+    private CreditApplicationRequest request;
+    private AtomicInteger savedApplications;
+    private AtomicInteger scoreLookups;
+
+    @BeforeEach
+    void setUp() {
+        customer = new Customer(
+            new DocumentNumber("1234567890"),
+            DocumentType.CEDULA,
+            "Juan",
+            "Pérez",
+            "juan.perez@email.com",
+            "3001234567",
+            LocalDate.of(1985, 5, 20),
+            new CreditAmount(BigDecimal.valueOf(5_000_000)),
+            new CreditAmount(BigDecimal.valueOf(500_000)),
+            "Ingeniero",
+            60
+        );
+
+        vehicle = new Vehicle(
+            new VehicleVIN("1HGBH41JXMN109186"),
+            "TOYOTA",
+            "COROLLA",
+            2023,
+            VehicleType.SEDAN,
+            new CreditAmount(BigDecimal.valueOf(80_000_000)),
+            20_000,
+            "BLANCO",
+            "2.0L",
+            "AUTOMATICA"
+        );
+
+        request = new CreditApplicationRequest(
+            "1234567890",
+            BigDecimal.valueOf(50_000_000),
+            "1HGBH41JXMN109186",
+            "TOYOTA",
+            "COROLLA",
+            2023,
+            BigDecimal.valueOf(80_000_000),
+            20_000,
+            null,
+            null,
+            null,
+            List.of(new CreditApplicationRequest.DocumentRequest("CEDULA", "documento_cedula"))
+        );
+
+        savedApplications = new AtomicInteger();
+        scoreLookups = new AtomicInteger();
+    }
+
+    @Nested
+    @DisplayName("Latency Comparison Tests")
+    class LatencyComparisonTests {
+
+        @Test
+        @DisplayName("Sequential mode should pay the sum of all lookup latencies")
+        void sequentialModeShouldPaySumOfLookupLatencies() {
+            // Given
+            ProcessCreditApplicationUseCaseImpl useCase = createUseCase(
+                delayedCustomerRepository(LOOKUP_DELAY_MS, Optional.of(customer)),
+                delayedVehicleValidation(LOOKUP_DELAY_MS, vehicle),
+                delayedCreditScoreProvider(LOOKUP_DELAY_MS, 720),
+                false);
+
+            // When
+            long start = System.nanoTime();
+            CreditApplicationResponse response = useCase.processApplication(request);
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+            // Then
+            assertThat(response.getStatus()).isEqualTo(CreditStatus.APPROVED);
+            assertThat(elapsedMs).isGreaterThanOrEqualTo(3 * LOOKUP_DELAY_MS);
+        }
+
+        @Test
+        @DisplayName("Concurrent mode should take about the slowest lookup, not the sum")
+        void concurrentModeShouldTakeAboutSlowestLookup() {
+            // Given: el buró es la consulta más lenta
+            long bureauDelayMs = 2 * LOOKUP_DELAY_MS;
+            ProcessCreditApplicationUseCaseImpl useCase = createUseCase(
+                delayedCustomerRepository(LOOKUP_DELAY_MS, Optional.of(customer)),
+                delayedVehicleValidation(LOOKUP_DELAY_MS, vehicle),
+                delayedCreditScoreProvider(bureauDelayMs, 720),
+                true);
+
+            // When
+            long start = System.nanoTime();
+            CreditApplicationResponse response = useCase.processApplication(request);
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+            // Then: la suma sería 4 * LOOKUP_DELAY_MS
+            assertThat(response.getStatus()).isEqualTo(CreditStatus.APPROVED);
+            assertThat(elapsedMs).isGreaterThanOrEqualTo(bureauDelayMs);
+            assertThat(elapsedMs).isLessThan(bureauDelayMs + LOOKUP_DELAY_MS);
+        }
+
+        @Test
+        @DisplayName("Without speculative score, concurrent mode should score only after the lookups")
+        void nonSpeculativeModeShouldScoreAfterLookups() {
+            // Given
+            ProcessCreditApplicationUseCaseImpl useCase = createUseCase(
+                delayedCustomerRepository(LOOKUP_DELAY_MS, Optional.of(customer)),
+                delayedVehicleValidation(LOOKUP_DELAY_MS, vehicle),
+                delayedCreditScoreProvider(LOOKUP_DELAY_MS, 720),
+                true,
+                false);
+
+            // When
+            long start = System.nanoTime();
+            CreditApplicationResponse response = useCase.processApplication(request);
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+            // Then
+            assertThat(response.getStatus()).isEqualTo(CreditStatus.APPROVED);
+            assertThat(elapsedMs).isGreaterThanOrEqualTo(2 * LOOKUP_DELAY_MS);
+            assertThat(elapsedMs).isLessThan(3 * LOOKUP_DELAY_MS);
+        }
+    }
+
+    @Nested
+    @DisplayName("Decision Semantics Tests")
+    class DecisionSemanticsTests {
+
+        @Test
+        @DisplayName("Both modes should approve with the same score and rate")
+        void bothModesShouldApproveWithSameScoreAndRate() {
+            // Given
+            ProcessCreditApplicationUseCaseImpl sequential = createUseCase(
+                delayedCustomerRepository(0, Optional.of(customer)),
+                delayedVehicleValidation(0, vehicle),
+                delayedCreditScoreProvider(0, 720),
+                false);
+            ProcessCreditApplicationUseCaseImpl concurrent = createUseCase(
+                delayedCustomerRepository(0, Optional.of(customer)),
+                delayedVehicleValidation(0, vehicle),
+                delayedCreditScoreProvider(0, 720),
+                true);
+
+            // When
+            CreditApplicationResponse sequentialResponse = sequential.processApplication(request);
+            CreditApplicationResponse concurrentResponse = concurrent.processApplication(request);
+
+            // Then
+            assertThat(concurrentResponse.getStatus()).isEqualTo(sequentialResponse.getStatus());
+            assertThat(concurrentResponse.getCreditScore()).isEqualTo(sequentialResponse.getCreditScore());
+            assertThat(concurrentResponse.getInterestRate()).isEqualByComparingTo(sequentialResponse.getInterestRate());
+            assertThat(concurrentResponse.getApprovedAmount()).isEqualByComparingTo(sequentialResponse.getApprovedAmount());
+        }
+
+        @Test
+        @DisplayName("Concurrent mode should reject by score like sequential mode")
+        void concurrentModeShouldRejectByScore() {
+            // Given
+            ProcessCreditApplicationUseCaseImpl useCase = createUseCase(
+                delayedCustomerRepository(0, Optional.of(customer)),
+                delayedVehicleValidation(0, vehicle),
+                delayedCreditScoreProvider(0, 580),
+                true);
+
+            // When
+            CreditApplicationResponse response = useCase.processApplication(request);
+
+            // Then
+            assertThat(response.getStatus()).isEqualTo(CreditStatus.REJECTED);
+            assertThat(response.getRejectionReason()).contains("Score crediticio insuficiente: 580");
+            assertThat(savedApplications.get()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Without speculative score, ineligible applications should not query the bureau")
+        void nonSpeculativeModeShouldNotScoreIneligibleApplications() {
+            // Given
+            ProcessCreditApplicationUseCaseImpl useCase = createUseCase(
+                delayedCustomerRepository(0, Optional.of(customer)),
+                delayedVehicleValidation(0, ineligibleVehicle()),
+                delayedCreditScoreProvider(0, 720),
+                true,
+                false);
+
+            // When
+            CreditApplicationResponse response = useCase.processApplication(request);
+
+            // Then
+            assertThat(response.getStatus()).isEqualTo(CreditStatus.REJECTED);
+            assertThat(response.getRejectionReason()).isEqualTo("No cumple con los criterios de elegibilidad");
+            assertThat(scoreLookups.get()).isZero();
+            assertThat(savedApplications.get()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Speculative score should be cancelled when the application is not eligible")
+        void speculativeScoreShouldBeCancelledForIneligibleApplications() throws InterruptedException {
+            // Given
+            long slowBureauMs = 2_000;
+            CountDownLatch scoreInterrupted = new CountDownLatch(1);
+            ProcessCreditApplicationUseCaseImpl useCase = createUseCase(
+                delayedCustomerRepository(0, Optional.of(customer)),
+                delayedVehicleValidation(0, ineligibleVehicle()),
+                interruptibleCreditScoreProvider(slowBureauMs, scoreInterrupted),
+                true);
+
+            // When
+            long start = System.nanoTime();
+            CreditApplicationResponse response = useCase.processApplication(request);
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+            // Then
+            assertThat(response.getStatus()).isEqualTo(CreditStatus.REJECTED);
+            assertThat(response.getRejectionReason()).isEqualTo("No cumple con los criterios de elegibilidad");
+            assertThat(elapsedMs).isLessThan(slowBureauMs / 2);
+            assertScoreCancelled(scoreInterrupted);
+            assertThat(savedApplications.get()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should validate the vehicle with the declared kilometers")
+        void shouldValidateVehicleWithDeclaredKilometers() {
+            // Given
+            AtomicInteger validatedKilometers = new AtomicInteger(-1);
+            VehicleValidationPort kilometersAwareValidation = new VehicleValidationPort() {
+                @Override
+                public VehicleValidationResult validateVehicle(String vin, String brand, String model, int year) {
+                    return validateVehicle(vin, brand, model, year, 0);
+                }
+
+                @Override
+                public VehicleValidationResult validateVehicle(String vin, String brand, String model, int year,
+                                                               int kilometers) {
+                    validatedKilometers.set(kilometers);
+                    return VehicleValidationResult.valid(vehicle);
+                }
+            };
+            ProcessCreditApplicationUseCaseImpl useCase = createUseCase(
+                delayedCustomerRepository(0, Optional.of(customer)),
+                kilometersAwareValidation,
+                delayedCreditScoreProvider(0, 720),
+                true);
+
+            // When
+            useCase.processApplication(request);
+
+            // Then
+            assertThat(validatedKilometers).hasValue(20_000);
+        }
+    }
+
+    @Nested
+    @DisplayName("Fail Fast Tests")
+    class FailFastTests {
+
+        @Test
+        @DisplayName("Should fail fast and cancel the sibling lookups when customer is not found")
+        void shouldFailFastAndCancelSiblingLookupsWhenCustomerNotFound() throws InterruptedException {
+            // Given
+            long slowVehicleMs = 2_000;
+            CountDownLatch vehicleLookupStarted = new CountDownLatch(1);
+            CountDownLatch vehicleLookupInterrupted = new CountDownLatch(1);
+            CustomerRepositoryPort missingCustomer = new CustomerRepositoryPort() {
+                @Override
+                public Optional<Customer> findByDocumentNumber(DocumentNumber documentNumber) {
+                    // El fallo se libera cuando el vehículo ya está en curso, para poder cancelarlo
+                    try {
+                        vehicleLookupStarted.await(1, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return Optional.empty();
+                }
+
+                @Override
+                public Customer save(Customer customer) {
+                    return customer;
+                }
+
+                @Override
+                public boolean existsByDocumentNumber(DocumentNumber documentNumber) {
+                    return false;
+                }
+            };
+            VehicleValidationPort slowVehicleValidation = (vin, brand, model, year) -> {
+                vehicleLookupStarted.countDown();
+                try {
+                    Thread.sleep(slowVehicleMs);
+                } catch (InterruptedException e) {
+                    vehicleLookupInterrupted.countDown();
+                    Thread.currentThread().interrupt();
+                }
+                return VehicleValidationPort.VehicleValidationResult.valid(vehicle);
+            };
+            CountDownLatch scoreInterrupted = new CountDownLatch(1);
+            ProcessCreditApplicationUseCaseImpl useCase = createUseCase(
+                missingCustomer,
+                slowVehicleValidation,
+                interruptibleCreditScoreProvider(slowVehicleMs, scoreInterrupted),
+                true);
+
+            // When
+            long start = System.nanoTime();
+            assertThatThrownBy(() -> useCase.processApplication(request))
+                .isInstanceOf(RuntimeException.class)
+                .hasRootCauseMessage("Cliente no encontrado: 1234567890");
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+            // Then
+            assertThat(elapsedMs).isLessThan(slowVehicleMs / 2);
+            assertThat(vehicleLookupInterrupted.await(1, TimeUnit.SECONDS)).isTrue();
+            assertScoreCancelled(scoreInterrupted);
+            assertThat(savedApplications.get()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should propagate vehicle validation failure like sequential mode")
+        void shouldPropagateVehicleValidationFailure() {
+            // Given
+            VehicleValidationPort invalidVehicle = (vin, brand, model, year) ->
+                VehicleValidationPort.VehicleValidationResult.invalid("Marca no autorizada: " + brand);
+            ProcessCreditApplicationUseCaseImpl useCase = createUseCase(
+                delayedCustomerRepository(LOOKUP_DELAY_MS, Optional.of(customer)),
+                invalidVehicle,
+                delayedCreditScoreProvider(LOOKUP_DELAY_MS, 720),
+                true);
+
+            // When / Then
+            assertThatThrownBy(() -> useCase.processApplication(request))
+                .isInstanceOf(RuntimeException.class)
+                .hasRootCauseMessage("Vehículo no válido: Marca no autorizada: TOYOTA");
+        }
+    }
+
+    @Nested
+    @DisplayName("Batch Processing Tests")
+    class BatchProcessingTests {
+
+        @Test
+        @DisplayName("Should query the score once per distinct customer and persist every decision")
+        void shouldQueryScoreOncePerDistinctCustomer() {
+            // Given
+            AtomicInteger scoreLookups = new AtomicInteger();
+            CreditScoreProviderPort countingScoreProvider = documentNumber -> {
+                scoreLookups.incrementAndGet();
+                return new CreditScore(720);
+            };
+            ProcessCreditApplicationUseCaseImpl useCase = createUseCase(
+                delayedCustomerRepository(0, Optional.of(customer)),
+                delayedVehicleValidation(0, vehicle),
+                countingScoreProvider,
+                true);
+
+            // When
+            BatchCreditApplicationResponse response = useCase.processApplications(List.of(request, request, request));
+
+            // Then
+            assertThat(response.getTotalCount()).isEqualTo(3);
+            assertThat(response.getApprovedCount()).isEqualTo(3);
+            assertThat(scoreLookups.get()).isEqualTo(1);
+            assertThat(savedApplications.get()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Should report a failed item without affecting the rest of the batch")
+        void shouldReportFailedItemWithoutAffectingRestOfBatch() {
+            // Given
+            ProcessCreditApplicationUseCaseImpl useCase = createUseCase(
+                delayedCustomerRepository(0, Optional.of(customer)),
+                delayedVehicleValidation(0, vehicle),
+                delayedCreditScoreProvider(0, 720),
+                true);
+
+            // When
+            BatchCreditApplicationResponse response = useCase.processApplications(List.of(request, unknownCustomerRequest()));
+
+            // Then
+            assertThat(response.getApprovedCount()).isEqualTo(1);
+            assertThat(response.getFailedCount()).isEqualTo(1);
+            assertThat(response.getItems().get(1).getErrorMessage()).isEqualTo("Cliente no encontrado: 9876543210");
+            assertThat(savedApplications.get()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should not validate the vehicle of an item whose customer is missing")
+        void shouldNotValidateVehicleWhenCustomerIsMissing() {
+            // Given
+            AtomicInteger vehicleValidations = new AtomicInteger();
+            VehicleValidationPort countingValidation = (vin, brand, model, year) -> {
+                vehicleValidations.incrementAndGet();
+                return VehicleValidationPort.VehicleValidationResult.valid(vehicle);
+            };
+            ProcessCreditApplicationUseCaseImpl useCase = createUseCase(
+                delayedCustomerRepository(0, Optional.of(customer)),
+                countingValidation,
+                delayedCreditScoreProvider(0, 720),
+                true);
+
+            // When
+            BatchCreditApplicationResponse response = useCase.processApplications(List.of(request, unknownCustomerRequest()));
+
+            // Then
+            assertThat(response.getApprovedCount()).isEqualTo(1);
+            assertThat(response.getItems().get(1).getErrorMessage()).isEqualTo("Cliente no encontrado: 9876543210");
+            assertThat(vehicleValidations.get()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("An interrupted batch should cancel the vehicle lookups still in flight")
+        void interruptedBatchShouldCancelPendingLookups() throws InterruptedException {
+            // Given
+            long slowVehicleMs = 2_000;
+            AtomicInteger started = new AtomicInteger();
+            CountDownLatch interrupted = new CountDownLatch(2);
+            VehicleValidationPort slowVehicleValidation = (vin, brand, model, year) -> {
+                started.incrementAndGet();
+                try {
+                    Thread.sleep(slowVehicleMs);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                    Thread.currentThread().interrupt();
+                }
+                return VehicleValidationPort.VehicleValidationResult.valid(vehicle);
+            };
+            ProcessCreditApplicationUseCaseImpl useCase = createUseCase(
+                delayedCustomerRepository(0, Optional.of(customer)),
+                slowVehicleValidation,
+                delayedCreditScoreProvider(0, 720),
+                true);
+
+            // When
+            long start = System.nanoTime();
+            Thread.currentThread().interrupt();
+            BatchCreditApplicationResponse response;
+            try {
+                response = useCase.processApplications(List.of(request, request));
+            } finally {
+                Thread.interrupted();
+            }
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+            // Then: las que no llegaron a arrancar ya no arrancan
+            assertThat(response.getFailedCount()).isEqualTo(2);
+            assertThat(elapsedMs).isLessThan(slowVehicleMs / 2);
+            interrupted.await(1, TimeUnit.SECONDS);
+            assertThat(2 - interrupted.getCount()).isEqualTo(started.get());
+            assertThat(savedApplications.get()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should reject batches above the configured maximum size")
+        void shouldRejectBatchesAboveMaximumSize() {
+            // Given
+            ProcessCreditApplicationUseCaseImpl useCase = createUseCase(
+                delayedCustomerRepository(0, Optional.of(customer)),
+                delayedVehicleValidation(0, vehicle),
+                delayedCreditScoreProvider(0, 720),
+                true);
+
+            // When / Then
+            assertThatThrownBy(() -> useCase.processApplications(List.of(request, request, request, request)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("máximo 3");
+            assertThat(savedApplications.get()).isZero();
+        }
+    }
+
+    private ProcessCreditApplicationUseCaseImpl createUseCase(CustomerRepositoryPort customerRepository,
+                                                              VehicleValidationPort vehicleValidation,
+                                                              CreditScoreProviderPort creditScoreProvider,
+                                                              boolean concurrentLookups) {
+        return createUseCase(customerRepository, vehicleValidation, creditScoreProvider, concurrentLookups, true);
+    }
+
+    private ProcessCreditApplicationUseCaseImpl createUseCase(CustomerRepositoryPort customerRepository,
+                                                              VehicleValidationPort vehicleValidation,
+                                                              CreditScoreProviderPort creditScoreProvider,
+                                                              boolean concurrentLookups,
+                                                              boolean speculativeScore) {
+        return new ProcessCreditApplicationUseCaseImpl(
+            customerRepository,
+            savingRepository(),
+            creditScoreProvider,
+            vehicleValidation,
+            new CreditEligibilityService(),
+            new InterestRateCalculationService(),
+            concurrentLookups,
+            speculativeScore,
+            3,
+            8
+        );
+    }
+
+    private CustomerRepositoryPort delayedCustomerRepository(long delayMs, Optional<Customer> result) {
+        return new CustomerRepositoryPort() {
+            @Override
+            public Optional<Customer> findByDocumentNumber(DocumentNumber documentNumber) {
+                sleep(delayMs);
+                return result.filter(found -> found.getDocumentNumber().equals(documentNumber));
+            }
+
+            @Override
+            public Customer save(Customer customer) {
+                return customer;
+            }
+
+            @Override
+            public boolean existsByDocumentNumber(DocumentNumber documentNumber) {
+                return result.isPresent();
+            }
+        };
+    }
+
+    private VehicleValidationPort delayedVehicleValidation(long delayMs, Vehicle result) {
+        return (vin, brand, model, year) -> {
+            sleep(delayMs);
+            return VehicleValidationPort.VehicleValidationResult.valid(result);
+        };
+    }
+
+    private CreditScoreProviderPort delayedCreditScoreProvider(long delayMs, int score) {
+        return documentNumber -> {
+            scoreLookups.incrementAndGet();
+            sleep(delayMs);
+            return new CreditScore(score);
+        };
+    }
+
+    private static CreditApplicationRequest unknownCustomerRequest() {
+        return new CreditApplicationRequest(
+            "9876543210",
+            BigDecimal.valueOf(50_000_000),
+            "1HGBH41JXMN109186",
+            "TOYOTA",
+            "COROLLA",
+            2023,
+            BigDecimal.valueOf(80_000_000),
+            20_000,
+            null,
+            null,
+            null,
+            List.of()
+        );
+    }
+
+    private CreditScoreProviderPort interruptibleCreditScoreProvider(long delayMs, CountDownLatch interrupted) {
+        return documentNumber -> {
+            scoreLookups.incrementAndGet();
+            try {
+                Thread.sleep(delayMs);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                Thread.currentThread().interrupt();
+            }
+            return new CreditScore(720);
+        };
+    }
+
+    // Cancelada antes de arrancar la consulta no llega al buró; si ya había arrancado se interrumpe
+    private void assertScoreCancelled(CountDownLatch scoreInterrupted) throws InterruptedException {
+        boolean interrupted = scoreInterrupted.await(1, TimeUnit.SECONDS);
+        assertThat(interrupted || scoreLookups.get() == 0).isTrue();
+    }
+
+    // Modelo 2015: fuera de la antigüedad máxima que acepta la elegibilidad
+    private Vehicle ineligibleVehicle() {
+        return new Vehicle(
+            new VehicleVIN("1HGBH41JXMN109186"),
+            "TOYOTA",
+            "COROLLA",
+            2015,
+            VehicleType.SEDAN,
+            new CreditAmount(BigDecimal.valueOf(80_000_000)),
+            20_000,
+            "BLANCO",
+            "2.0L",
+            "AUTOMATICA"
+        );
+    }
+
+    private CreditApplicationRepositoryPort savingRepository() {
+        return new CreditApplicationRepositoryPort() {
+            @Override
+            public CreditApplication save(CreditApplication application) {
+                savedApplications.incrementAndGet();
+                return application;
+            }
+
+            @Override
+            public Optional<CreditApplication> findById(String id) {
+                return Optional.empty();
+            }
+
+            @Override
+            public Optional<CreditApplication> findByCustomerDocumentNumber(String documentNumber) {
+                return Optional.empty();
+            }
+        };
+    }
+
+    private static void sleep(long delayMs) {
+        if (delayMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(delayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
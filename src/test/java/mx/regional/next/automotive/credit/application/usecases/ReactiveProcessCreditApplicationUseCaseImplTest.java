@@ -0,0 +1,278 @@
+package mx.regional.next.automotive.credit.application.usecases;
+
+import mx.regional.next.automotive.credit.application.dto.CreditApplicationRequest;
+import mx.regional.next.automotive.credit.application.ports.out.ReactiveCreditApplicationRepositoryPort;
+import mx.regional.next.automotive.credit.application.ports.out.ReactiveCreditScoreProviderPort;
+import mx.regional.next.automotive.credit.application.ports.out.ReactiveCustomerRepositoryPort;
+import mx.regional.next.automotive.credit.application.ports.out.ReactiveVehicleValidationPort;
+import mx.regional.next.automotive.credit.application.ports.out.VehicleValidationPort.VehicleValidationResult;
+import mx.regional.next.automotive.credit.domain.entities.CreditApplication;
+import mx.regional.next.automotive.credit.domain.entities.Customer;
+import mx.regional.next.automotive.credit.domain.entities.Vehicle;
+import mx.regional.next.automotive.credit.domain.enums.CreditStatus;
+import mx.regional.next.automotive.credit.domain.enums.DocumentType;
+import mx.regional.next.automotive.credit.domain.enums.VehicleType;
+import mx.regional.next.automotive.credit.domain.services.CreditEligibilityService;
+import mx.regional.next.automotive.credit.domain.services.InterestRateCalculationService;
+import mx.regional.next.automotive.credit.domain.valueobjects.CreditAmount;
+import mx.regional.next.automotive.credit.domain.valueobjects.CreditScore;
+import mx.regional.next.automotive.credit.domain.valueobjects.DocumentNumber;
+import mx.regional.next.automotive.credit.domain.valueobjects.VehicleVIN;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ReactiveProcessCreditApplicationUseCaseImpl Tests")
+class ReactiveProcessCreditApplicationUseCaseImplTest {
+
+    private static final Duration LOOKUP_DELAY = Duration.ofMillis(200);
+
+    private Customer customer;
+    private Vehicle vehicle;
+    private CreditApplicationRequest request;
+    private AtomicInteger savedApplications;
+
+    @BeforeEach
+    void setUp() {
+        customer = new Customer(
+            new DocumentNumber("1234567890"),
+            DocumentType.CEDULA,
+            "Juan",
+            "Pérez",
+            "juan.perez@email.com",
+            "3001234567",
+            LocalDate.of(1985, 5, 20),
+            new CreditAmount(BigDecimal.valueOf(5_000_000)),
+            new CreditAmount(BigDecimal.valueOf(500_000)),
+            "Ingeniero",
+            60
+        );
+
+        vehicle = new Vehicle(
+            new VehicleVIN("1HGBH41JXMN109186"),
+            "TOYOTA",
+            "COROLLA",
+            2023,
+            VehicleType.SEDAN,
+            new CreditAmount(BigDecimal.valueOf(80_000_000)),
+            20_000,
+            "BLANCO",
+            "2.0L",
+            "AUTOMATICA"
+        );
+
+        request = new CreditApplicationRequest(
+            "1234567890",
+            BigDecimal.valueOf(50_000_000),
+            "1HGBH41JXMN109186",
+            "TOYOTA",
+            "COROLLA",
+            2023,
+            BigDecimal.valueOf(80_000_000),
+            20_000,
+            null,
+            null,
+            null,
+            List.of(new CreditApplicationRequest.DocumentRequest("CEDULA", "documento_cedula"))
+        );
+
+        savedApplications = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("Should approve overlapping customer and vehicle lookups before scoring")
+    void shouldApproveOverlappingCustomerAndVehicleLookups() {
+        // Given
+        ReactiveProcessCreditApplicationUseCaseImpl useCase = createUseCase(
+            delayedCustomerRepository(LOOKUP_DELAY, customer),
+            (vin, brand, model, year) -> Mono.delay(LOOKUP_DELAY).thenReturn(VehicleValidationResult.valid(vehicle)),
+            documentNumber -> Mono.delay(LOOKUP_DELAY).thenReturn(new CreditScore(720)));
+
+        // When / Then
+        long start = System.nanoTime();
+        StepVerifier.create(useCase.processApplication(request))
+            .assertNext(response -> {
+                assertThat(response.getStatus()).isEqualTo(CreditStatus.APPROVED);
+                assertThat(response.getCreditScore()).isEqualTo(720);
+                assertThat(response.getInterestRate()).isNotNull();
+            })
+            .verifyComplete();
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(elapsedMs).isGreaterThanOrEqualTo(2 * LOOKUP_DELAY.toMillis());
+        assertThat(elapsedMs).isLessThan(3 * LOOKUP_DELAY.toMillis());
+        assertThat(savedApplications.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject by insufficient score and persist the decision")
+    void shouldRejectByInsufficientScore() {
+        // Given
+        ReactiveProcessCreditApplicationUseCaseImpl useCase = createUseCase(
+            delayedCustomerRepository(Duration.ZERO, customer),
+            (vin, brand, model, year) -> Mono.just(VehicleValidationResult.valid(vehicle)),
+            documentNumber -> Mono.just(new CreditScore(580)));
+
+        // When / Then
+        StepVerifier.create(useCase.processApplication(request))
+            .assertNext(response -> {
+                assertThat(response.getStatus()).isEqualTo(CreditStatus.REJECTED);
+                assertThat(response.getRejectionReason()).contains("Score crediticio insuficiente: 580");
+            })
+            .verifyComplete();
+        assertThat(savedApplications.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not query the bureau for ineligible applications")
+    void shouldNotScoreIneligibleApplications() {
+        // Given
+        AtomicInteger scoreLookups = new AtomicInteger();
+        Vehicle oldVehicle = new Vehicle(
+            new VehicleVIN("1HGBH41JXMN109186"),
+            "TOYOTA",
+            "COROLLA",
+            2015,
+            VehicleType.SEDAN,
+            new CreditAmount(BigDecimal.valueOf(80_000_000)),
+            20_000,
+            "BLANCO",
+            "2.0L",
+            "AUTOMATICA"
+        );
+        ReactiveProcessCreditApplicationUseCaseImpl useCase = createUseCase(
+            delayedCustomerRepository(Duration.ZERO, customer),
+            (vin, brand, model, year) -> Mono.just(VehicleValidationResult.valid(oldVehicle)),
+            documentNumber -> Mono.fromSupplier(() -> {
+                scoreLookups.incrementAndGet();
+                return new CreditScore(720);
+            }));
+
+        // When / Then
+        StepVerifier.create(useCase.processApplication(request))
+            .assertNext(response -> {
+                assertThat(response.getStatus()).isEqualTo(CreditStatus.REJECTED);
+                assertThat(response.getRejectionReason()).isEqualTo("No cumple con los criterios de elegibilidad");
+            })
+            .verifyComplete();
+        assertThat(scoreLookups.get()).isZero();
+        assertThat(savedApplications.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should fail fast and cancel the vehicle lookup when customer is not found")
+    void shouldFailFastWhenCustomerNotFound() {
+        // Given
+        AtomicBoolean vehicleLookupCancelled = new AtomicBoolean();
+        AtomicInteger scoreLookups = new AtomicInteger();
+        ReactiveProcessCreditApplicationUseCaseImpl useCase = createUseCase(
+            delayedCustomerRepository(Duration.ZERO, null),
+            (vin, brand, model, year) -> Mono.delay(Duration.ofSeconds(2))
+                .thenReturn(VehicleValidationResult.valid(vehicle))
+                .doOnCancel(() -> vehicleLookupCancelled.set(true)),
+            documentNumber -> Mono.fromSupplier(() -> {
+                scoreLookups.incrementAndGet();
+                return new CreditScore(720);
+            }));
+
+        // When / Then
+        StepVerifier.create(useCase.processApplication(request))
+            .expectErrorSatisfies(error -> {
+                assertThat(error).isInstanceOf(RuntimeException.class);
+                assertThat(error).hasRootCauseMessage("Cliente no encontrado: 1234567890");
+            })
+            .verify(LOOKUP_DELAY);
+        assertThat(vehicleLookupCancelled).isTrue();
+        assertThat(scoreLookups.get()).isZero();
+        assertThat(savedApplications.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should propagate vehicle validation failure")
+    void shouldPropagateVehicleValidationFailure() {
+        // Given
+        ReactiveProcessCreditApplicationUseCaseImpl useCase = createUseCase(
+            delayedCustomerRepository(Duration.ZERO, customer),
+            (vin, brand, model, year) -> Mono.just(VehicleValidationResult.invalid("Marca no autorizada: " + brand)),
+            documentNumber -> Mono.just(new CreditScore(720)));
+
+        // When / Then
+        StepVerifier.create(useCase.processApplication(request))
+            .expectErrorSatisfies(error ->
+                assertThat(error).hasRootCauseMessage("Vehículo no válido: Marca no autorizada: TOYOTA"))
+            .verify();
+    }
+
+    private ReactiveProcessCreditApplicationUseCaseImpl createUseCase(ReactiveCustomerRepositoryPort customerRepository,
+                                                                      ReactiveVehicleValidationPort vehicleValidation,
+                                                                      ReactiveCreditScoreProviderPort creditScoreProvider) {
+        return new ReactiveProcessCreditApplicationUseCaseImpl(
+            customerRepository,
+            savingRepository(),
+            creditScoreProvider,
+            vehicleValidation,
+            new CreditEligibilityService(),
+            new InterestRateCalculationService()
+        );
+    }
+
+    private ReactiveCustomerRepositoryPort delayedCustomerRepository(Duration delay, Customer result) {
+        return new ReactiveCustomerRepositoryPort() {
+            @Override
+            public Mono<Customer> findByDocumentNumber(DocumentNumber documentNumber) {
+                return Mono.delay(delay).then(Mono.justOrEmpty(result));
+            }
+
+            @Override
+            public Flux<Customer> findAllByDocumentNumbers(Collection<DocumentNumber> documentNumbers) {
+                return Flux.fromIterable(documentNumbers).flatMap(this::findByDocumentNumber);
+            }
+
+            @Override
+            public Mono<Customer> save(Customer customer) {
+                return Mono.just(customer);
+            }
+
+            @Override
+            public Mono<Boolean> existsByDocumentNumber(DocumentNumber documentNumber) {
+                return Mono.just(result != null);
+            }
+        };
+    }
+
+    private ReactiveCreditApplicationRepositoryPort savingRepository() {
+        return new ReactiveCreditApplicationRepositoryPort() {
+            @Override
+            public Mono<CreditApplication> save(CreditApplication application) {
+                return Mono.fromSupplier(() -> {
+                    savedApplications.incrementAndGet();
+                    return application;
+                });
+            }
+
+            @Override
+            public Mono<CreditApplication> findById(String id) {
+                return Mono.empty();
+            }
+
+            @Override
+            public Mono<CreditApplication> findByCustomerDocumentNumber(String documentNumber) {
+                return Mono.empty();
+            }
+        };
+    }
+}
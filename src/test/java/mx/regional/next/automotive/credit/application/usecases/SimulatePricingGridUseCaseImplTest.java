@@ -0,0 +1,205 @@
+package mx.regional.next.automotive.credit.application.usecases;
+
+import mx.regional.next.automotive.credit.application.dto.PricingGridRequest;
+import mx.regional.next.automotive.credit.application.dto.PricingGridResponse;
+import mx.regional.next.automotive.credit.application.ports.out.CreditScoreProviderPort;
+import mx.regional.next.automotive.credit.application.ports.out.CustomerRepositoryPort;
+import mx.regional.next.automotive.credit.application.ports.out.VehicleValidationPort;
+import mx.regional.next.automotive.credit.domain.entities.Customer;
+import mx.regional.next.automotive.credit.domain.entities.Vehicle;
+import mx.regional.next.automotive.credit.domain.enums.DocumentType;
+import mx.regional.next.automotive.credit.domain.enums.VehicleType;
+import mx.regional.next.automotive.credit.domain.services.InterestRateCalculationService;
+import mx.regional.next.automotive.credit.domain.services.InterestRateCalculationService.InterestRateCalculation;
+import mx.regional.next.automotive.credit.domain.valueobjects.CreditAmount;
+import mx.regional.next.automotive.credit.domain.valueobjects.CreditScore;
+import mx.regional.next.automotive.credit.domain.valueobjects.DocumentNumber;
+import mx.regional.next.automotive.credit.domain.valueobjects.VehicleVIN;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SimulatePricingGridUseCaseImpl Tests")
+class SimulatePricingGridUseCaseImplTest {
+
+    private final InterestRateCalculationService interestRateCalculationService = new InterestRateCalculationService();
+
+    private Customer customer;
+    private Vehicle vehicle;
+    private AtomicInteger scoreLookups;
+
+    @BeforeEach
+    void setUp() {
+        // Ingreso alto para que aplique el ajuste por perfil del cliente
+        customer = new Customer(
+            new DocumentNumber("1234567890"),
+            DocumentType.CEDULA,
+            "Juan",
+            "Pérez",
+            "juan.perez@email.com",
+            "3001234567",
+            LocalDate.of(1985, 5, 20),
+            new CreditAmount(BigDecimal.valueOf(9_000_000)),
+            new CreditAmount(BigDecimal.valueOf(500_000)),
+            "Ingeniero",
+            60
+        );
+
+        vehicle = new Vehicle(
+            new VehicleVIN("1HGBH41JXMN109186"),
+            "TOYOTA",
+            "COROLLA",
+            2023,
+            VehicleType.SEDAN,
+            new CreditAmount(BigDecimal.valueOf(250_000_000)),
+            20_000,
+            "BLANCO",
+            "2.0L",
+            "AUTOMATICA"
+        );
+
+        scoreLookups = new AtomicInteger();
+    }
+
+    @Nested
+    @DisplayName("Grid Equivalence Tests")
+    class GridEquivalenceTests {
+
+        @Test
+        @DisplayName("Every cell should match the per-cell rate and installment calculation")
+        void everyCellShouldMatchPerCellCalculation() {
+            // Given: montos a ambos lados del umbral de 150 millones y todos los plazos
+            SimulatePricingGridUseCaseImpl useCase = createUseCase(720);
+            PricingGridRequest request = request(BigDecimal.valueOf(20_000_000), BigDecimal.valueOf(200_000_000), 10, 1);
+
+            // When
+            PricingGridResponse response = useCase.simulatePricingGrid(request);
+
+            // Then
+            assertThat(response.getRows()).hasSize(73);
+            assertThat(response.getAmounts()).hasSize(10);
+            assertThat(scoreLookups).hasValue(1);
+            for (PricingGridResponse.Row row : response.getRows()) {
+                for (int column = 0; column < response.getAmounts().size(); column++) {
+                    CreditAmount amount = new CreditAmount(response.getAmounts().get(column));
+                    InterestRateCalculation expected = interestRateCalculationService.calculateInterestRate(
+                        new CreditScore(720), customer, vehicle, amount, row.getTermInMonths());
+                    BigDecimal expectedInstallment = interestRateCalculationService.calculateMonthlyInstallment(
+                        amount, expected.getFinalRate(), row.getTermInMonths());
+
+                    PricingGridResponse.Cell cell = row.getCells().get(column);
+                    assertThat(cell.getAnnualInterestRate()).isEqualTo(expected.getFinalRate());
+                    assertThat(cell.getMonthlyInstallment()).isEqualTo(expectedInstallment);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Rate limits should be applied to every cell")
+        void rateLimitsShouldBeAppliedToEveryCell() {
+            // Given: score bajo para acercarse al máximo
+            SimulatePricingGridUseCaseImpl useCase = createUseCase(500);
+
+            // When
+            PricingGridResponse response = useCase.simulatePricingGrid(
+                request(BigDecimal.valueOf(10_000_000), BigDecimal.valueOf(10_000_000), 1, 12));
+
+            // Then
+            assertThat(response.getRows())
+                .flatExtracting(PricingGridResponse.Row::getCells)
+                .extracting(PricingGridResponse.Cell::getAnnualInterestRate)
+                .allSatisfy(rate -> assertThat(rate).isBetween(BigDecimal.valueOf(0.10), BigDecimal.valueOf(0.28)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Grid Shape Tests")
+    class GridShapeTests {
+
+        @Test
+        @DisplayName("Term steps should start at 12 months and always include 84 months")
+        void termStepsShouldIncludeBothLimits() {
+            assertThat(SimulatePricingGridUseCaseImpl.termSteps(12)).containsExactly(12, 24, 36, 48, 60, 72, 84);
+            assertThat(SimulatePricingGridUseCaseImpl.termSteps(30)).containsExactly(12, 42, 72, 84);
+            assertThat(SimulatePricingGridUseCaseImpl.termSteps(1)).hasSize(73);
+        }
+
+        @Test
+        @DisplayName("Amount steps should be evenly spaced and end at the maximum amount")
+        void amountStepsShouldBeEvenlySpaced() {
+            // When
+            PricingGridResponse response = createUseCase(720).simulatePricingGrid(
+                request(BigDecimal.valueOf(10_000_000), BigDecimal.valueOf(50_000_000), 5, 12));
+
+            // Then
+            assertThat(response.getAmounts()).containsExactly(
+                BigDecimal.valueOf(10_000_000), BigDecimal.valueOf(20_000_000), BigDecimal.valueOf(30_000_000),
+                BigDecimal.valueOf(40_000_000), BigDecimal.valueOf(50_000_000));
+            assertThat(response.getCellCount()).isEqualTo(35);
+        }
+
+        @Test
+        @DisplayName("Should reject invalid ranges and oversized grids before any lookup")
+        void shouldRejectInvalidRequests() {
+            SimulatePricingGridUseCaseImpl useCase = createUseCase(720);
+
+            assertThatThrownBy(() -> useCase.simulatePricingGrid(
+                    request(BigDecimal.valueOf(50_000_000), BigDecimal.valueOf(10_000_000), 5, 12)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("rango de montos");
+            assertThatThrownBy(() -> useCase.simulatePricingGrid(
+                    request(BigDecimal.valueOf(10_000_000), BigDecimal.valueOf(50_000_000), 21, 12)))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> useCase.simulatePricingGrid(
+                    request(BigDecimal.valueOf(10_000_000), BigDecimal.valueOf(50_000_000), 5, 0)))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThat(scoreLookups).hasValue(0);
+        }
+    }
+
+    private SimulatePricingGridUseCaseImpl createUseCase(int score) {
+        CreditScoreProviderPort scoreProvider = documentNumber -> {
+            scoreLookups.incrementAndGet();
+            return new CreditScore(score);
+        };
+        VehicleValidationPort vehicleValidation = (vin, brand, model, year) ->
+            VehicleValidationPort.VehicleValidationResult.valid(vehicle);
+
+        return new SimulatePricingGridUseCaseImpl(
+            customerRepository(), scoreProvider, vehicleValidation, interestRateCalculationService, 20);
+    }
+
+    private CustomerRepositoryPort customerRepository() {
+        return new CustomerRepositoryPort() {
+            @Override
+            public Optional<Customer> findByDocumentNumber(DocumentNumber documentNumber) {
+                return Optional.of(customer).filter(found -> found.getDocumentNumber().equals(documentNumber));
+            }
+
+            @Override
+            public Customer save(Customer customer) {
+                return customer;
+            }
+
+            @Override
+            public boolean existsByDocumentNumber(DocumentNumber documentNumber) {
+                return true;
+            }
+        };
+    }
+
+    private static PricingGridRequest request(BigDecimal minAmount, BigDecimal maxAmount, int amountSteps, int termStep) {
+        return new PricingGridRequest("1234567890", "1HGBH41JXMN109186", "TOYOTA", "COROLLA", 2023,
+            minAmount, maxAmount, amountSteps, termStep);
+    }
+}
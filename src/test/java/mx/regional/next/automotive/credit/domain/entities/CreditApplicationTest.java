@@ -163,6 +163,18 @@ class CreditApplicationTest {
                     () -> application.reject(""));
     }
 
+    @Test
+    void shouldThrowExceptionWhenRejectionReasonIsTooLong() {
+        // Given
+        CreditApplication application = new CreditApplication(validCustomer, validVehicle, validAmount);
+        String reason = "x".repeat(CreditApplication.MAX_REJECTION_REASON_LENGTH + 1);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                    () -> application.reject(reason));
+        assertTrue(application.isPending());
+    }
+
     @Test
     void shouldThrowExceptionWhenRejectingNonPendingApplication() {
         // Given
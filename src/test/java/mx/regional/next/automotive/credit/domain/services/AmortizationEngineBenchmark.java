@@ -0,0 +1,70 @@
+package mx.regional.next.automotive.credit.domain.services;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara la cuota calculada con {@link AmortizationEngine} contra el cálculo original con
+ * {@code BigDecimal.pow}. Ejecutar con {@code main} desde el classpath de test.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AmortizationEngineBenchmark {
+
+    @Param({"12", "60", "84"})
+    private int termInMonths;
+
+    @Param({"0.115", "0.215"})
+    private String annualRateValue;
+
+    private BigDecimal annualRate;
+    private BigDecimal principal;
+
+    @Setup
+    public void setUp() {
+        annualRate = new BigDecimal(annualRateValue);
+        principal = BigDecimal.valueOf(65_432_100);
+    }
+
+    @Benchmark
+    public BigDecimal legacyBigDecimalPow() {
+        BigDecimal monthlyRate = annualRate.divide(BigDecimal.valueOf(12), 6, RoundingMode.HALF_UP);
+        BigDecimal onePlusRPowN = BigDecimal.ONE.add(monthlyRate).pow(termInMonths);
+
+        BigDecimal numerator = principal.multiply(monthlyRate).multiply(onePlusRPowN);
+        BigDecimal denominator = onePlusRPowN.subtract(BigDecimal.ONE);
+
+        return numerator.divide(denominator, 2, RoundingMode.HALF_UP);
+    }
+
+    @Benchmark
+    public BigDecimal amortizationEngine() {
+        return AmortizationEngine.monthlyPayment(principal, annualRate, termInMonths);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(AmortizationEngineBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
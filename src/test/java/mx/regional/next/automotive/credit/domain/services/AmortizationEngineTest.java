@@ -0,0 +1,169 @@
+package mx.regional.next.automotive.credit.domain.services;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AmortizationEngine Tests")
+class AmortizationEngineTest {
+
+    private static final long SEED = 20240611L;
+    private static final int MIN_TERM = 12;
+    private static final int MAX_TERM = 84;
+    private static final int MIN_RATE_BPS = 500;   // 5%
+    private static final int MAX_RATE_BPS = 3500;  // 35%
+
+    @Nested
+    @DisplayName("Equivalence Properties")
+    class EquivalenceProperties {
+
+        @Test
+        @DisplayName("Monthly payment should match BigDecimal.pow to the centavo over the whole rate/term grid")
+        void monthlyPaymentShouldMatchBigDecimalOverGrid() {
+            Random random = new Random(SEED);
+
+            for (int bps = MIN_RATE_BPS; bps <= MAX_RATE_BPS; bps += 5) {
+                BigDecimal annualRate = BigDecimal.valueOf(bps, 4);
+                for (int term = MIN_TERM; term <= MAX_TERM; term++) {
+                    BigDecimal principal = randomPrincipal(random);
+
+                    assertThat(AmortizationEngine.monthlyPayment(principal, annualRate, term))
+                        .as("P=%s, tasa=%s, plazo=%d", principal, annualRate, term)
+                        .isEqualTo(legacyMonthlyPayment(principal, annualRate, term));
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Monthly payment should match BigDecimal.pow for arbitrary rates, principals and terms")
+        void monthlyPaymentShouldMatchBigDecimalForRandomInputs() {
+            Random random = new Random(SEED + 1);
+
+            for (int i = 0; i < 20_000; i++) {
+                BigDecimal principal = randomPrincipal(random);
+                BigDecimal annualRate = randomAnnualRate(random);
+                int term = MIN_TERM + random.nextInt(MAX_TERM - MIN_TERM + 1);
+
+                assertThat(AmortizationEngine.monthlyPayment(principal, annualRate, term))
+                    .as("P=%s, tasa=%s, plazo=%d", principal, annualRate, term)
+                    .isEqualTo(legacyMonthlyPayment(principal, annualRate, term));
+            }
+        }
+
+        @Test
+        @DisplayName("monthlyPayments should match monthlyPayment for every principal")
+        void monthlyPaymentsShouldMatchSingleCalculation() {
+            Random random = new Random(SEED + 3);
+
+            for (int i = 0; i < 2_000; i++) {
+                BigDecimal annualRate = random.nextBoolean()
+                    ? BigDecimal.valueOf(MIN_RATE_BPS + 5 * random.nextInt((MAX_RATE_BPS - MIN_RATE_BPS) / 5 + 1), 4)
+                    : randomAnnualRate(random);
+                int term = MIN_TERM + random.nextInt(MAX_TERM - MIN_TERM + 1);
+                BigDecimal[] principals = new BigDecimal[8];
+                for (int j = 0; j < principals.length; j++) {
+                    principals[j] = randomPrincipal(random);
+                }
+
+                BigDecimal[] payments = AmortizationEngine.monthlyPayments(principals, annualRate, term);
+
+                for (int j = 0; j < principals.length; j++) {
+                    assertThat(payments[j])
+                        .as("P=%s, tasa=%s, plazo=%d", principals[j], annualRate, term)
+                        .isEqualTo(AmortizationEngine.monthlyPayment(principals[j], annualRate, term));
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Present value factor should match BigDecimal.pow over the whole rate/term grid")
+        void presentValueFactorShouldMatchBigDecimalOverGrid() {
+            for (int bps = MIN_RATE_BPS; bps <= MAX_RATE_BPS; bps++) {
+                BigDecimal annualRate = BigDecimal.valueOf(bps, 4);
+                for (int term = MIN_TERM; term <= MAX_TERM; term++) {
+                    assertThat(AmortizationEngine.presentValueFactor(annualRate, term))
+                        .as("tasa=%s, plazo=%d", annualRate, term)
+                        .isEqualTo(legacyPresentValueFactor(annualRate, term));
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Monthly rate in micros should match divide(12, 6, HALF_UP)")
+        void monthlyRateMicrosShouldMatchBigDecimalDivision() {
+            Random random = new Random(SEED + 2);
+
+            for (int i = 0; i < 20_000; i++) {
+                BigDecimal annualRate = randomAnnualRate(random);
+                BigDecimal expected = annualRate.divide(BigDecimal.valueOf(12), 6, RoundingMode.HALF_UP);
+
+                assertThat(AmortizationEngine.monthlyRateMicros(annualRate))
+                    .as("tasa=%s", annualRate)
+                    .isEqualTo(expected.unscaledValue().longValueExact());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Rounding Boundary Tests")
+    class RoundingBoundaryTests {
+
+        @Test
+        @DisplayName("Should defer to exact arithmetic near a half-centavo boundary")
+        void shouldDeferToExactArithmeticNearHalfBoundary() {
+            assertThat(AmortizationEngine.roundHalfUp(1234.5)).isEqualTo(Long.MIN_VALUE);
+            assertThat(AmortizationEngine.roundHalfUp(1234.5 + 1e-12)).isEqualTo(Long.MIN_VALUE);
+            assertThat(AmortizationEngine.roundHalfUp(1234.51)).isEqualTo(1235L);
+            assertThat(AmortizationEngine.roundHalfUp(1234.49)).isEqualTo(1234L);
+        }
+
+        @Test
+        @DisplayName("Should reject non-positive terms and rates")
+        void shouldRejectNonPositiveTermsAndRates() {
+            assertThatThrownBy(() -> AmortizationEngine.monthlyPayment(BigDecimal.TEN, 1_000L, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> AmortizationEngine.monthlyPayment(BigDecimal.TEN, 0L, 12))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    private static BigDecimal randomPrincipal(Random random) {
+        // Entre 50.000 y 2.000.000.000 con centavos
+        long centavos = 5_000_000L + (long) (random.nextDouble() * 199_995_000_000L);
+        return BigDecimal.valueOf(centavos, 2);
+    }
+
+    private static BigDecimal randomAnnualRate(Random random) {
+        // Entre 5% y 35% con hasta 8 decimales, para cubrir también tasas con descuentos aplicados
+        int scale = 2 + random.nextInt(7);
+        double rate = 0.05 + random.nextDouble() * 0.30;
+        return BigDecimal.valueOf(rate).setScale(scale, RoundingMode.HALF_UP);
+    }
+
+    private static BigDecimal legacyMonthlyPayment(BigDecimal principal, BigDecimal annualRate, int termInMonths) {
+        BigDecimal monthlyRate = annualRate.divide(BigDecimal.valueOf(12), 6, RoundingMode.HALF_UP);
+        BigDecimal onePlusRPowN = BigDecimal.ONE.add(monthlyRate).pow(termInMonths);
+
+        BigDecimal numerator = principal.multiply(monthlyRate).multiply(onePlusRPowN);
+        BigDecimal denominator = onePlusRPowN.subtract(BigDecimal.ONE);
+
+        return numerator.divide(denominator, 2, RoundingMode.HALF_UP);
+    }
+
+    private static BigDecimal legacyPresentValueFactor(BigDecimal annualRate, int termInMonths) {
+        BigDecimal monthlyRate = annualRate.divide(BigDecimal.valueOf(12), 6, RoundingMode.HALF_UP);
+        BigDecimal onePlusRPowN = BigDecimal.ONE.add(monthlyRate).pow(termInMonths);
+
+        BigDecimal denominator = monthlyRate.multiply(onePlusRPowN);
+        BigDecimal numerator = onePlusRPowN.subtract(BigDecimal.ONE);
+
+        return numerator.divide(denominator, 2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,114 @@
+package mx.regional.next.automotive.credit.domain.services;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AmortizationSchedule Tests")
+class AmortizationScheduleTest {
+
+    private static final long SEED = 20240702L;
+
+    @Nested
+    @DisplayName("Equivalence Properties")
+    class EquivalenceProperties {
+
+        @Test
+        @DisplayName("Rows should match a BigDecimal schedule built from the installment formula")
+        void rowsShouldMatchBigDecimalSchedule() {
+            Random random = new Random(SEED);
+
+            for (int i = 0; i < 2_000; i++) {
+                BigDecimal principal = BigDecimal.valueOf(5_000_000L + (long) (random.nextDouble() * 199_995_000_000L), 2);
+                BigDecimal annualRate = BigDecimal.valueOf(500 + random.nextInt(3001), 4);
+                int term = 12 + random.nextInt(73);
+
+                Iterator<AmortizationSchedule.Row> rows = AmortizationSchedule.rows(principal, annualRate, term).iterator();
+                BigDecimal payment = AmortizationEngine.monthlyPayment(principal, annualRate, term);
+                BigDecimal monthlyRate = annualRate.divide(BigDecimal.valueOf(12), 6, RoundingMode.HALF_UP);
+                BigDecimal balance = principal;
+
+                for (int month = 1; month <= term; month++) {
+                    BigDecimal interest = balance.multiply(monthlyRate).setScale(2, RoundingMode.HALF_UP);
+                    BigDecimal principalPaid = month == term ? balance : payment.subtract(interest);
+                    balance = balance.subtract(principalPaid);
+
+                    AmortizationSchedule.Row row = rows.next();
+                    assertThat(row.getMonth()).isEqualTo(month);
+                    assertThat(row.getInterest()).as("P=%s, tasa=%s, mes=%d", principal, annualRate, month).isEqualTo(interest);
+                    assertThat(row.getPrincipal()).isEqualTo(principalPaid);
+                    assertThat(row.getPayment()).isEqualTo(interest.add(principalPaid));
+                    assertThat(row.getBalance()).isEqualTo(balance);
+                }
+                assertThat(rows.hasNext()).isFalse();
+                assertThat(balance).isEqualByComparingTo(BigDecimal.ZERO);
+            }
+        }
+
+        @Test
+        @DisplayName("Principal payments should add up to the loan amount and the last payment should stay close to the installment")
+        void principalShouldAddUpToLoanAmount() {
+            // Given
+            BigDecimal principal = BigDecimal.valueOf(80_000_000);
+            BigDecimal annualRate = BigDecimal.valueOf(0.155);
+
+            // When
+            List<AmortizationSchedule.Row> rows = AmortizationSchedule.rows(principal, annualRate, 84).toList();
+
+            // Then
+            BigDecimal payment = AmortizationEngine.monthlyPayment(principal, annualRate, 84);
+            assertThat(rows).hasSize(84);
+            assertThat(rows.stream().map(AmortizationSchedule.Row::getPrincipal).reduce(BigDecimal.ZERO, BigDecimal::add))
+                .isEqualByComparingTo(principal);
+            assertThat(rows.get(83).getPayment().subtract(payment).abs()).isLessThan(BigDecimal.ONE);
+        }
+    }
+
+    @Nested
+    @DisplayName("Lazy Generation Tests")
+    class LazyGenerationTests {
+
+        @Test
+        @DisplayName("Should only generate the rows that are consumed")
+        void shouldOnlyGenerateConsumedRows() {
+            // Given
+            AtomicInteger generated = new AtomicInteger();
+
+            // When
+            List<AmortizationSchedule.Row> page = AmortizationSchedule.rows(BigDecimal.valueOf(50_000_000), BigDecimal.valueOf(0.135), 84)
+                .peek(row -> generated.incrementAndGet())
+                .skip(24)
+                .limit(12)
+                .toList();
+
+            // Then
+            assertThat(page).extracting(AmortizationSchedule.Row::getMonth).containsExactlyElementsOf(
+                IntStream.rangeClosed(25, 36).boxed().toList());
+            assertThat(generated).hasValue(36);
+        }
+
+        @Test
+        @DisplayName("Should stream 84-month schedules for 10k loans without materializing them")
+        void shouldStreamLargeBatchesOfSchedules() {
+            // When
+            long interestCentavos = IntStream.range(0, 10_000)
+                .mapToObj(i -> AmortizationSchedule.rows(BigDecimal.valueOf(20_000_000L + i * 1_000L), BigDecimal.valueOf(0.155), 84))
+                .flatMap(rows -> rows)
+                .mapToLong(row -> row.getInterest().unscaledValue().longValueExact())
+                .sum();
+
+            // Then
+            assertThat(interestCentavos).isPositive();
+        }
+    }
+}
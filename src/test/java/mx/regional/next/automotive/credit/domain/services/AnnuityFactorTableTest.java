@@ -0,0 +1,79 @@
+package mx.regional.next.automotive.credit.domain.services;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AnnuityFactorTable Tests")
+class AnnuityFactorTableTest {
+
+    private final AnnuityFactorTable table = AnnuityFactorTable.standard();
+
+    @Test
+    @DisplayName("Should resolve business rates to the same cell regardless of scale")
+    void shouldResolveBusinessRatesRegardlessOfScale() {
+        int cell = table.cellOf(new BigDecimal("0.155"), 60);
+
+        assertThat(cell).isNotEqualTo(AnnuityFactorTable.NOT_IN_TABLE);
+        assertThat(table.cellOf(new BigDecimal("0.155000"), 60)).isEqualTo(cell);
+        assertThat(table.cellOf(new BigDecimal("0.1550000000"), 60)).isEqualTo(cell);
+        assertThat(table.termInMonths(cell)).isEqualTo(60);
+        assertThat(table.monthlyRateMicros(cell)).isEqualTo(12_917L);
+    }
+
+    @Test
+    @DisplayName("Should cover base rates, rate limits and reference rates on every term")
+    void shouldCoverBusinessRatesOnEveryTerm() {
+        String[] businessRates = {"0.10", "0.115", "0.12", "0.135", "0.155", "0.175", "0.18", "0.215", "0.28"};
+
+        for (String rate : businessRates) {
+            for (int term = 12; term <= 84; term++) {
+                assertThat(table.cellOf(new BigDecimal(rate), term))
+                    .as("tasa=%s, plazo=%d", rate, term)
+                    .isNotEqualTo(AnnuityFactorTable.NOT_IN_TABLE);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should leave off-grid rates and terms to direct computation")
+    void shouldLeaveOffGridValuesToDirectComputation() {
+        assertThat(table.cellOf(new BigDecimal("0.1553"), 60)).isEqualTo(AnnuityFactorTable.NOT_IN_TABLE);
+        assertThat(table.cellOf(new BigDecimal("0.04"), 60)).isEqualTo(AnnuityFactorTable.NOT_IN_TABLE);
+        assertThat(table.cellOf(new BigDecimal("0.155"), 96)).isEqualTo(AnnuityFactorTable.NOT_IN_TABLE);
+
+        BigDecimal principal = BigDecimal.valueOf(65_432_100);
+        assertThat(AmortizationEngine.monthlyPayment(principal, new BigDecimal("0.1553"), 60))
+            .isEqualTo(legacyMonthlyPayment(principal, new BigDecimal("0.1553"), 60));
+    }
+
+    @Test
+    @DisplayName("Table lookups should match the BigDecimal formula on every cell")
+    void tableLookupsShouldMatchBigDecimalOnEveryCell() {
+        BigDecimal principal = new BigDecimal("87654321.09");
+
+        for (int bps = AnnuityFactorTable.MIN_RATE_BPS; bps <= AnnuityFactorTable.MAX_RATE_BPS;
+             bps += AnnuityFactorTable.RATE_STEP_BPS) {
+            BigDecimal annualRate = BigDecimal.valueOf(bps, 4);
+            for (int term = AnnuityFactorTable.MIN_TERM; term <= AnnuityFactorTable.MAX_TERM; term++) {
+                BigDecimal monthlyRate = annualRate.divide(BigDecimal.valueOf(12), 6, RoundingMode.HALF_UP);
+
+                assertThat(AmortizationEngine.monthlyPayment(principal, annualRate, term))
+                    .as("tasa=%s, plazo=%d", annualRate, term)
+                    .isEqualTo(legacyMonthlyPayment(principal, annualRate, term));
+                assertThat(table.presentValueFactor(table.cellOf(annualRate, term)))
+                    .as("tasa=%s, plazo=%d", annualRate, term)
+                    .isEqualTo(AmortizationEngine.exactPresentValueFactor(monthlyRate, term));
+            }
+        }
+    }
+
+    private static BigDecimal legacyMonthlyPayment(BigDecimal principal, BigDecimal annualRate, int termInMonths) {
+        BigDecimal monthlyRate = annualRate.divide(BigDecimal.valueOf(12), 6, RoundingMode.HALF_UP);
+        return AmortizationEngine.exactMonthlyPayment(principal, monthlyRate, termInMonths);
+    }
+}
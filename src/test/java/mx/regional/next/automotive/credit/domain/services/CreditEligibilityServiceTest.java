@@ -221,4 +221,65 @@ class CreditEligibilityServiceTest {
         BigDecimal expectedMaxByVehicle = validVehicle.getValue().getValue().multiply(BigDecimal.valueOf(0.90));
         assertTrue(maxAmount.getValue().compareTo(expectedMaxByVehicle) <= 0);
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldMatchPresentValueFormulaForMaxEligibleAmountWithoutDebts() {
+        // Given
+        BigDecimal income = BigDecimal.valueOf(6_000_000);
+        BigDecimal monthlyRate = BigDecimal.valueOf(0.12).divide(BigDecimal.valueOf(12), 6, java.math.RoundingMode.HALF_UP);
+        BigDecimal onePlusRPowN = BigDecimal.ONE.add(monthlyRate).pow(60);
+        BigDecimal factor = onePlusRPowN.subtract(BigDecimal.ONE)
+            .divide(monthlyRate.multiply(onePlusRPowN), 2, java.math.RoundingMode.HALF_UP);
+
+        // When
+        BigDecimal maxAmount = eligibilityService.calculateMaxEligibleAmount(
+            income, BigDecimal.ZERO, null, BigDecimal.valueOf(0.12), 60);
+
+        // Then
+        assertEquals(income.multiply(BigDecimal.valueOf(0.30)).multiply(factor), maxAmount);
+    }
+
+    @Test
+    void shouldReduceMaxEligibleAmountWhenDebtsExceedTenPercentOfIncome() {
+        // Given
+        BigDecimal income = BigDecimal.valueOf(6_000_000);
+        BigDecimal withoutDebts = eligibilityService.calculateMaxEligibleAmount(
+            income, BigDecimal.ZERO, null, BigDecimal.valueOf(0.15), 48);
+
+        // When
+        BigDecimal withSmallDebts = eligibilityService.calculateMaxEligibleAmount(
+            income, BigDecimal.valueOf(600_000), null, BigDecimal.valueOf(0.15), 48);
+        BigDecimal withLargeDebts = eligibilityService.calculateMaxEligibleAmount(
+            income, BigDecimal.valueOf(1_200_000), null, BigDecimal.valueOf(0.15), 48);
+        BigDecimal overIndebted = eligibilityService.calculateMaxEligibleAmount(
+            income, BigDecimal.valueOf(3_000_000), null, BigDecimal.valueOf(0.15), 48);
+
+        // Then
+        assertEquals(0, withoutDebts.compareTo(withSmallDebts));
+        assertTrue(withLargeDebts.compareTo(withoutDebts) < 0);
+        assertEquals(0, overIndebted.signum());
+    }
+
+    @Test
+    void minimumIncomeShouldBeTheInverseOfMaxEligibleAmount() {
+        java.util.Random random = new java.util.Random(20240709L);
+
+        for (int i = 0; i < 5_000; i++) {
+            // Given
+            BigDecimal amount = BigDecimal.valueOf(20_000_000L + random.nextInt(180_000_000));
+            BigDecimal debts = BigDecimal.valueOf(random.nextInt(3_000_000));
+            BigDecimal rate = BigDecimal.valueOf(500 + 5 * random.nextInt(601), 4);
+            int term = 12 + random.nextInt(73);
+
+            // When
+            BigDecimal minIncome = eligibilityService.calculateMinimumMonthlyIncome(amount, debts, rate, term);
+
+            // Then: alcanza con el ingreso mínimo y deja de alcanzar con un peso menos
+            BigDecimal reachable = eligibilityService.calculateMaxEligibleAmount(minIncome, debts, null, rate, term);
+            BigDecimal unreachable = eligibilityService.calculateMaxEligibleAmount(
+                minIncome.subtract(BigDecimal.ONE), debts, null, rate, term);
+            assertTrue(reachable.compareTo(amount) >= 0, "monto=" + amount + ", tasa=" + rate + ", plazo=" + term);
+            assertTrue(unreachable.compareTo(amount) < 0, "monto=" + amount + ", tasa=" + rate + ", plazo=" + term);
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package mx.regional.next.automotive.credit.domain.services;
+
+import mx.regional.next.automotive.credit.domain.entities.CreditApplication;
+import mx.regional.next.automotive.credit.domain.entities.Customer;
+import mx.regional.next.automotive.credit.domain.entities.Vehicle;
+import mx.regional.next.automotive.credit.domain.services.RiskCalculationService.RiskAssessment;
+import mx.regional.next.automotive.credit.domain.services.RiskCalculationService.RiskFactor;
+import mx.regional.next.automotive.credit.domain.services.RiskCalculationService.RiskLevel;
+import mx.regional.next.automotive.credit.domain.valueobjects.CreditScore;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Year;
+
+/**
+ * Evaluadores de riesgo originales (comparaciones {@code BigDecimal} y detalle con
+ * {@code String.format} en cada llamada). Referencia para las pruebas de equivalencia y el
+ * benchmark de {@link RiskRuleEngine}.
+ */
+final class LegacyRiskRules {
+
+    private static final BigDecimal MINIMUM_SCORE = BigDecimal.valueOf(600);
+    private static final BigDecimal EXCELLENT_SCORE = BigDecimal.valueOf(750);
+    private static final BigDecimal MAX_DEBT_TO_INCOME_RATIO = BigDecimal.valueOf(0.40);
+    private static final BigDecimal MAX_INSTALLMENT_TO_INCOME_RATIO = BigDecimal.valueOf(0.30);
+    private static final int MAX_VEHICLE_AGE_YEARS = 6;
+    private static final int MAX_VEHICLE_KILOMETERS = 100000;
+
+    private LegacyRiskRules() {
+    }
+
+    static RiskAssessment calculateRisk(CreditApplication application, CreditScore creditScore) {
+        RiskAssessment assessment = new RiskAssessment();
+        assessment.addFactor(evaluateCreditScore(creditScore));
+        assessment.addFactor(evaluatePaymentCapacity(application));
+        assessment.addFactor(evaluateVehicleRisk(application.getVehicle()));
+        assessment.addFactor(evaluateDebtToIncomeRatio(application.getCustomer()));
+        assessment.addFactor(evaluateEmploymentStability(application.getCustomer()));
+        assessment.addFactor(evaluateCreditHistory(application.getCustomer()));
+        assessment.calculateFinalRisk();
+        return assessment;
+    }
+
+    private static RiskFactor evaluateCreditScore(CreditScore creditScore) {
+        BigDecimal score = BigDecimal.valueOf(creditScore.getValue());
+        
+        if (score.compareTo(EXCELLENT_SCORE) >= 0) {
+            return new RiskFactor("CREDIT_SCORE", RiskLevel.LOW, 85, 
+                "Score crediticio excelente (≥750)");
+        } else if (score.compareTo(BigDecimal.valueOf(700)) >= 0) {
+            return new RiskFactor("CREDIT_SCORE", RiskLevel.LOW, 75, 
+                "Score crediticio muy bueno (700-749)");
+        } else if (score.compareTo(BigDecimal.valueOf(650)) >= 0) {
+            return new RiskFactor("CREDIT_SCORE", RiskLevel.MEDIUM, 60, 
+                "Score crediticio bueno (650-699)");
+        } else if (score.compareTo(MINIMUM_SCORE) >= 0) {
+            return new RiskFactor("CREDIT_SCORE", RiskLevel.MEDIUM, 45, 
+                "Score crediticio aceptable (600-649)");
+        } else {
+            return new RiskFactor("CREDIT_SCORE", RiskLevel.HIGH, 20, 
+                "Score crediticio insuficiente (<600)");
+        }
+    }
+    
+    private static RiskFactor evaluatePaymentCapacity(CreditApplication application) {
+        Customer customer = application.getCustomer();
+        BigDecimal monthlyIncome = customer.getMonthlyIncome().getValue();
+        
+        // Calcular cuota estimada (usando 60 meses y tasa promedio del 18%)
+        BigDecimal estimatedRate = BigDecimal.valueOf(0.18);
+        int termMonths = 60;
+        BigDecimal loanAmount = application.getRequestedAmount().getValue();
+        
+        BigDecimal monthlyPayment = calculateMonthlyPayment(loanAmount, estimatedRate, termMonths);
+        BigDecimal paymentToIncomeRatio = monthlyPayment.divide(monthlyIncome, 4, RoundingMode.HALF_UP);
+        
+        if (paymentToIncomeRatio.compareTo(BigDecimal.valueOf(0.20)) <= 0) {
+            return new RiskFactor("PAYMENT_CAPACITY", RiskLevel.LOW, 90, 
+                String.format("Excelente capacidad de pago (%.1f%% del ingreso)", 
+                             paymentToIncomeRatio.multiply(BigDecimal.valueOf(100))));
+        } else if (paymentToIncomeRatio.compareTo(BigDecimal.valueOf(0.25)) <= 0) {
+            return new RiskFactor("PAYMENT_CAPACITY", RiskLevel.LOW, 80, 
+                String.format("Buena capacidad de pago (%.1f%% del ingreso)", 
+                             paymentToIncomeRatio.multiply(BigDecimal.valueOf(100))));
+        } else if (paymentToIncomeRatio.compareTo(MAX_INSTALLMENT_TO_INCOME_RATIO) <= 0) {
+            return new RiskFactor("PAYMENT_CAPACITY", RiskLevel.MEDIUM, 65, 
+                String.format("Capacidad de pago aceptable (%.1f%% del ingreso)", 
+                             paymentToIncomeRatio.multiply(BigDecimal.valueOf(100))));
+        } else {
+            return new RiskFactor("PAYMENT_CAPACITY", RiskLevel.HIGH, 30, 
+                String.format("Capacidad de pago insuficiente (%.1f%% del ingreso)", 
+                             paymentToIncomeRatio.multiply(BigDecimal.valueOf(100))));
+        }
+    }
+    
+    private static RiskFactor evaluateVehicleRisk(Vehicle vehicle) {
+        int currentYear = Year.now().getValue();
+        int vehicleAge = currentYear - vehicle.getYear();
+        
+        int score = 70; // Base score
+        StringBuilder details = new StringBuilder();
+        
+        // Evaluar antigüedad
+        if (vehicleAge <= 2) {
+            score += 15;
+            details.append("Vehículo nuevo/seminuevo. ");
+        } else if (vehicleAge <= 4) {
+            score += 5;
+            details.append("Vehículo reciente. ");
+        } else if (vehicleAge <= MAX_VEHICLE_AGE_YEARS) {
+            score -= 5;
+            details.append("Vehículo usado. ");
+        } else {
+            score -= 20;
+            details.append("Vehículo muy antiguo. ");
+        }
+        
+        // Evaluar kilometraje
+        if (vehicle.getKilometers() <= 50000) {
+            score += 10;
+            details.append("Bajo kilometraje. ");
+        } else if (vehicle.getKilometers() <= 80000) {
+            score += 5;
+            details.append("Kilometraje moderado. ");
+        } else if (vehicle.getKilometers() <= MAX_VEHICLE_KILOMETERS) {
+            score -= 5;
+            details.append("Alto kilometraje. ");
+        } else {
+            score -= 15;
+            details.append("Kilometraje excesivo. ");
+        }
+        
+        // Evaluar valor vs préstamo
+        BigDecimal loanToValueRatio = calculateLoanToValueRatio(vehicle);
+        if (loanToValueRatio.compareTo(BigDecimal.valueOf(0.70)) <= 0) {
+            score += 10;
+            details.append("Baja relación préstamo/valor.");
+        } else if (loanToValueRatio.compareTo(BigDecimal.valueOf(0.85)) <= 0) {
+            score += 5;
+            details.append("Relación préstamo/valor moderada.");
+        } else {
+            score -= 10;
+            details.append("Alta relación préstamo/valor.");
+        }
+        
+        RiskLevel level = score >= 80 ? RiskLevel.LOW : 
+                         score >= 60 ? RiskLevel.MEDIUM : RiskLevel.HIGH;
+        
+        return new RiskFactor("VEHICLE_RISK", level, score, details.toString());
+    }
+    
+    private static RiskFactor evaluateDebtToIncomeRatio(Customer customer) {
+        BigDecimal monthlyIncome = customer.getMonthlyIncome().getValue();
+        BigDecimal currentDebts = BigDecimal.ZERO; // TODO: Implementar getCurrentMonthlyDebts()
+        
+        BigDecimal debtToIncomeRatio = currentDebts.divide(monthlyIncome, 4, RoundingMode.HALF_UP);
+        
+        if (debtToIncomeRatio.compareTo(BigDecimal.valueOf(0.20)) <= 0) {
+            return new RiskFactor("DEBT_TO_INCOME", RiskLevel.LOW, 90, 
+                String.format("Baja relación deuda/ingreso (%.1f%%)", 
+                             debtToIncomeRatio.multiply(BigDecimal.valueOf(100))));
+        } else if (debtToIncomeRatio.compareTo(BigDecimal.valueOf(0.30)) <= 0) {
+            return new RiskFactor("DEBT_TO_INCOME", RiskLevel.MEDIUM, 70, 
+                String.format("Relación deuda/ingreso moderada (%.1f%%)", 
+                             debtToIncomeRatio.multiply(BigDecimal.valueOf(100))));
+        } else if (debtToIncomeRatio.compareTo(MAX_DEBT_TO_INCOME_RATIO) <= 0) {
+            return new RiskFactor("DEBT_TO_INCOME", RiskLevel.MEDIUM, 50, 
+                String.format("Relación deuda/ingreso alta (%.1f%%)", 
+                             debtToIncomeRatio.multiply(BigDecimal.valueOf(100))));
+        } else {
+            return new RiskFactor("DEBT_TO_INCOME", RiskLevel.HIGH, 25, 
+                String.format("Relación deuda/ingreso excesiva (%.1f%%)", 
+                             debtToIncomeRatio.multiply(BigDecimal.valueOf(100))));
+        }
+    }
+    
+    private static RiskFactor evaluateEmploymentStability(Customer customer) {
+        // TODO: Implementar evaluación de estabilidad laboral
+        return new RiskFactor("EMPLOYMENT_STABILITY", RiskLevel.MEDIUM, 70, 
+            "Estabilidad laboral a evaluar con documentación");
+    }
+    
+    private static RiskFactor evaluateCreditHistory(Customer customer) {
+        // TODO: Implementar evaluación de historial crediticio
+        return new RiskFactor("CREDIT_HISTORY", RiskLevel.MEDIUM, 70, 
+            "Historial crediticio a evaluar con centrales de riesgo");
+    }
+
+    private static BigDecimal calculateMonthlyPayment(BigDecimal loanAmount, BigDecimal annualRate, int termMonths) {
+        return AmortizationEngine.monthlyPayment(loanAmount, annualRate, termMonths);
+    }
+
+    private static BigDecimal calculateLoanToValueRatio(Vehicle vehicle) {
+        return BigDecimal.valueOf(0.80);
+    }
+}
@@ -0,0 +1,106 @@
+package mx.regional.next.automotive.credit.domain.services;
+
+import mx.regional.next.automotive.credit.domain.entities.CreditApplication;
+import mx.regional.next.automotive.credit.domain.services.RiskCalculationService.RiskAssessment;
+import mx.regional.next.automotive.credit.domain.services.RiskCalculationService.RiskFactor;
+import mx.regional.next.automotive.credit.domain.services.RiskCalculationService.RiskLevel;
+import mx.regional.next.automotive.credit.domain.valueobjects.CreditScore;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RiskBatchScorer Tests")
+class RiskBatchScorerTest {
+
+    private static final long SEED = 20240625L;
+
+    private final RiskRuleEngine engine = RiskRuleEngine.compile(RiskRulePolicy.defaults());
+
+    @Nested
+    @DisplayName("Equivalence Properties")
+    class EquivalenceProperties {
+
+        @Test
+        @DisplayName("Should match the per-application engine for every factor, score and decision")
+        void shouldMatchPerApplicationEngine() {
+            // Given
+            Random random = new Random(SEED);
+            List<CreditApplication> applications = new ArrayList<>();
+            List<CreditScore> scores = new ArrayList<>();
+            for (int i = 0; i < 3_000; i++) {
+                applications.add(RiskRuleEngineTest.randomApplication(random));
+                scores.add(new CreditScore(300 + random.nextInt(551)));
+            }
+
+            // When: tramos pequeños para forzar la división fork/join
+            RiskBatchResult result = new RiskBatchScorer(engine, 64)
+                .score(RiskBatch.of(applications, scores), new ForkJoinPool(4));
+
+            // Then
+            assertThat(result.size()).isEqualTo(applications.size());
+            for (int i = 0; i < applications.size(); i++) {
+                RiskAssessment expected = engine.evaluate(applications.get(i), scores.get(i));
+
+                assertThat(result.riskScore(i)).as("solicitud %d", i).isEqualTo(expected.getRiskScore());
+                assertThat(result.riskLevel(i)).as("solicitud %d", i).isEqualTo(expected.getOverallRiskLevel());
+                assertThat(result.isApproved(i)).as("solicitud %d", i).isEqualTo(expected.isApproved());
+                for (int factor = 0; factor < RiskBatchScorer.FACTOR_COUNT; factor++) {
+                    RiskFactor expectedFactor = expected.getFactors().get(factor);
+                    assertThat(result.factorScore(factor, i)).isEqualTo(expectedFactor.getScore());
+                    assertThat(result.factorLevel(factor, i)).isEqualTo(expectedFactor.getLevel());
+                }
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Columnar Input Tests")
+    class ColumnarInputTests {
+
+        @Test
+        @DisplayName("Should use the debts column for the debt-to-income factor")
+        void shouldUseDebtsColumn() {
+            // Given: mismo cliente con deudas de 10%, 35% y 45% del ingreso
+            RiskBatch batch = new RiskBatch(
+                new long[]{1_000_000_00L, 1_000_000_00L, 1_000_000_00L},
+                new long[]{100_000_00L, 350_000_00L, 450_000_00L},
+                new long[]{10_000_000_00L, 10_000_000_00L, 10_000_000_00L},
+                new int[]{2024, 2024, 2024},
+                new int[]{10_000, 10_000, 10_000},
+                new int[]{720, 720, 720});
+
+            // When
+            RiskBatchResult result = new RiskBatchScorer(engine).score(batch);
+
+            // Then
+            assertThat(result.factorScore(RiskBatchScorer.DEBT_TO_INCOME, 0)).isEqualTo(90);
+            assertThat(result.factorScore(RiskBatchScorer.DEBT_TO_INCOME, 1)).isEqualTo(50);
+            assertThat(result.factorScore(RiskBatchScorer.DEBT_TO_INCOME, 2)).isEqualTo(25);
+            assertThat(result.factorLevel(RiskBatchScorer.DEBT_TO_INCOME, 2)).isEqualTo(RiskLevel.HIGH);
+        }
+
+        @Test
+        @DisplayName("Should reject columns of different sizes and non-positive incomes")
+        void shouldRejectInvalidColumns() {
+            assertThatThrownBy(() -> new RiskBatch(
+                    new long[]{1L, 2L}, new long[]{0L}, new long[]{0L, 0L},
+                    new int[2], new int[2], new int[2]))
+                .isInstanceOf(IllegalArgumentException.class);
+
+            assertThatThrownBy(() -> new RiskBatch(
+                    new long[]{0L}, new long[]{0L}, new long[]{0L},
+                    new int[1], new int[1], new int[1]))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Ingreso mensual");
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package mx.regional.next.automotive.credit.domain.services;
+
+import mx.regional.next.automotive.credit.domain.entities.CreditApplication;
+import mx.regional.next.automotive.credit.domain.services.RiskCalculationService.RiskAssessment;
+import mx.regional.next.automotive.credit.domain.services.RiskCalculationService.RiskFactor;
+import mx.regional.next.automotive.credit.domain.valueobjects.CreditScore;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput de la evaluación de riesgo: evaluadores {@code BigDecimal} originales contra
+ * {@link RiskRuleEngine}, sin leer el detalle y leyéndolo. Ejecutar con {@code main} desde
+ * el classpath de test.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RiskRuleEngineBenchmark {
+
+    private static final int APPLICATIONS = 1_024;
+
+    private CreditApplication[] applications;
+    private CreditScore[] scores;
+    private RiskRuleEngine engine;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        applications = new CreditApplication[APPLICATIONS];
+        scores = new CreditScore[APPLICATIONS];
+        for (int i = 0; i < APPLICATIONS; i++) {
+            applications[i] = RiskRuleEngineTest.randomApplication(random);
+            scores[i] = new CreditScore(300 + random.nextInt(551));
+        }
+        engine = RiskRuleEngine.compile(RiskRulePolicy.defaults());
+    }
+
+    @Benchmark
+    public RiskAssessment legacyEvaluators() {
+        int i = nextIndex();
+        return LegacyRiskRules.calculateRisk(applications[i], scores[i]);
+    }
+
+    @Benchmark
+    public RiskAssessment compiledRules() {
+        int i = nextIndex();
+        return engine.evaluate(applications[i], scores[i]);
+    }
+
+    @Benchmark
+    public void compiledRulesWithDetails(Blackhole blackhole) {
+        int i = nextIndex();
+        for (RiskFactor factor : engine.evaluate(applications[i], scores[i]).getFactors()) {
+            blackhole.consume(factor.getDetails());
+        }
+    }
+
+    private int nextIndex() {
+        int i = next;
+        next = (i + 1) & (APPLICATIONS - 1);
+        return i;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(RiskRuleEngineBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
@@ -0,0 +1,220 @@
+package mx.regional.next.automotive.credit.domain.services;
+
+import mx.regional.next.automotive.credit.domain.entities.CreditApplication;
+import mx.regional.next.automotive.credit.domain.entities.Customer;
+import mx.regional.next.automotive.credit.domain.entities.Vehicle;
+import mx.regional.next.automotive.credit.domain.enums.DocumentType;
+import mx.regional.next.automotive.credit.domain.enums.VehicleType;
+import mx.regional.next.automotive.credit.domain.services.RiskCalculationService.RiskAssessment;
+import mx.regional.next.automotive.credit.domain.services.RiskCalculationService.RiskFactor;
+import mx.regional.next.automotive.credit.domain.services.RiskCalculationService.RiskLevel;
+import mx.regional.next.automotive.credit.domain.services.RiskRulePolicy.Band;
+import mx.regional.next.automotive.credit.domain.valueobjects.CreditAmount;
+import mx.regional.next.automotive.credit.domain.valueobjects.CreditScore;
+import mx.regional.next.automotive.credit.domain.valueobjects.DocumentNumber;
+import mx.regional.next.automotive.credit.domain.valueobjects.VehicleVIN;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RiskRuleEngine Tests")
+class RiskRuleEngineTest {
+
+    private static final long SEED = 20240618L;
+
+    private final RiskRuleEngine engine = RiskRuleEngine.compile(RiskRulePolicy.defaults());
+
+    @Nested
+    @DisplayName("Equivalence Properties")
+    class EquivalenceProperties {
+
+        @Test
+        @DisplayName("Should produce the same factors, details and decision as the BigDecimal evaluators")
+        void shouldMatchLegacyEvaluators() {
+            Random random = new Random(SEED);
+
+            for (int i = 0; i < 5_000; i++) {
+                CreditApplication application = randomApplication(random);
+                CreditScore score = new CreditScore(300 + random.nextInt(551));
+
+                RiskAssessment expected = LegacyRiskRules.calculateRisk(application, score);
+                RiskAssessment actual = engine.evaluate(application, score);
+
+                assertThat(actual.getRiskScore()).isEqualTo(expected.getRiskScore());
+                assertThat(actual.getOverallRiskLevel()).isEqualTo(expected.getOverallRiskLevel());
+                assertThat(actual.isApproved()).isEqualTo(expected.isApproved());
+                assertThat(actual.getFactors()).hasSameSizeAs(expected.getFactors());
+                for (int f = 0; f < expected.getFactors().size(); f++) {
+                    RiskFactor expectedFactor = expected.getFactors().get(f);
+                    RiskFactor actualFactor = actual.getFactors().get(f);
+
+                    assertThat(actualFactor.getCategory()).isEqualTo(expectedFactor.getCategory());
+                    assertThat(actualFactor.getLevel()).isEqualTo(expectedFactor.getLevel());
+                    assertThat(actualFactor.getScore()).isEqualTo(expectedFactor.getScore());
+                    assertThat(actualFactor.getDetails()).isEqualTo(expectedFactor.getDetails());
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should classify every credit score at the band boundaries like the BigDecimal chain")
+        void shouldClassifyCreditScoreBoundaries() {
+            CreditApplication application = randomApplication(new Random(SEED));
+
+            for (int value : new int[]{300, 599, 600, 649, 650, 699, 700, 749, 750, 850}) {
+                CreditScore score = new CreditScore(value);
+                RiskFactor expected = LegacyRiskRules.calculateRisk(application, score).getFactors().get(0);
+                RiskFactor actual = engine.evaluateCreditScore(value);
+
+                assertThat(actual.getLevel()).as("score=%d", value).isEqualTo(expected.getLevel());
+                assertThat(actual.getScore()).as("score=%d", value).isEqualTo(expected.getScore());
+                assertThat(actual.getDetails()).as("score=%d", value).isEqualTo(expected.getDetails());
+            }
+        }
+
+        @Test
+        @DisplayName("Ratio in basis points should match divide(4, HALF_UP)")
+        void ratioBasisPointsShouldMatchBigDecimalDivision() {
+            Random random = new Random(SEED + 1);
+
+            for (int i = 0; i < 20_000; i++) {
+                BigDecimal numerator = BigDecimal.valueOf((long) (random.nextDouble() * 10_000_000_000L), 2);
+                BigDecimal denominator = BigDecimal.valueOf(1 + (long) (random.nextDouble() * 5_000_000_000L), random.nextInt(3));
+                long expected = numerator.divide(denominator, 4, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+
+                assertThat(RiskRuleEngine.ratioBasisPoints(numerator, denominator))
+                    .as("%s / %s", numerator, denominator)
+                    .isEqualTo(expected);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Lazy Details Tests")
+    class LazyDetailsTests {
+
+        @Test
+        @DisplayName("Should render details only when requested and only once")
+        void shouldRenderDetailsOnDemand() {
+            // Given
+            AtomicInteger renders = new AtomicInteger();
+            RiskFactor factor = new RiskFactor("PAYMENT_CAPACITY", RiskLevel.LOW, 90, () -> {
+                renders.incrementAndGet();
+                return "Excelente capacidad de pago (12.5% del ingreso)";
+            });
+
+            // When
+            int score = factor.getScore();
+
+            // Then
+            assertThat(score).isEqualTo(90);
+            assertThat(renders).hasValue(0);
+            assertThat(factor.getDetails()).isEqualTo("Excelente capacidad de pago (12.5% del ingreso)");
+            assertThat(factor.getDetails()).isEqualTo("Excelente capacidad de pago (12.5% del ingreso)");
+            assertThat(renders).hasValue(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Policy Compilation Tests")
+    class PolicyCompilationTests {
+
+        @Test
+        @DisplayName("Should apply thresholds taken from the policy")
+        void shouldApplyPolicyThresholds() {
+            // Given
+            RiskRulePolicy defaults = RiskRulePolicy.defaults();
+            RiskRulePolicy stricter = new RiskRulePolicy(
+                List.of(
+                    new Band(780, RiskLevel.LOW, 85, "excelente"),
+                    new Band(0, RiskLevel.HIGH, 20, "insuficiente")),
+                defaults.getPaymentEstimateAnnualRate(),
+                defaults.getPaymentEstimateTermMonths(),
+                defaults.getPaymentCapacityBands(),
+                defaults.getDebtToIncomeBands(),
+                defaults.getVehicleBaseScore(),
+                defaults.getVehicleLowRiskMinScore(),
+                defaults.getVehicleMediumRiskMinScore(),
+                defaults.getVehicleAgeAdjustments(),
+                defaults.getVehicleKilometerAdjustments(),
+                defaults.getLoanToValueAdjustments());
+
+            // When
+            RiskFactor factor = RiskRuleEngine.compile(stricter).evaluateCreditScore(760);
+
+            // Then
+            assertThat(factor.getLevel()).isEqualTo(RiskLevel.HIGH);
+            assertThat(factor.getDetails()).isEqualTo("Score crediticio insuficiente (<780)");
+        }
+
+        @Test
+        @DisplayName("Should reject bands whose limits are out of order")
+        void shouldRejectUnorderedLimits() {
+            RiskRulePolicy defaults = RiskRulePolicy.defaults();
+            RiskRulePolicy unordered = new RiskRulePolicy(
+                defaults.getCreditScoreBands(),
+                defaults.getPaymentEstimateAnnualRate(),
+                defaults.getPaymentEstimateTermMonths(),
+                List.of(
+                    new Band(3000, RiskLevel.LOW, 90, "Excelente capacidad de pago"),
+                    new Band(2000, RiskLevel.MEDIUM, 65, "Capacidad de pago aceptable"),
+                    new Band(0, RiskLevel.HIGH, 30, "Capacidad de pago insuficiente")),
+                defaults.getDebtToIncomeBands(),
+                defaults.getVehicleBaseScore(),
+                defaults.getVehicleLowRiskMinScore(),
+                defaults.getVehicleMediumRiskMinScore(),
+                defaults.getVehicleAgeAdjustments(),
+                defaults.getVehicleKilometerAdjustments(),
+                defaults.getLoanToValueAdjustments());
+
+            assertThatThrownBy(() -> RiskRuleEngine.compile(unordered))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("paymentCapacity");
+        }
+    }
+
+    static CreditApplication randomApplication(Random random) {
+        Customer customer = new Customer(
+            new DocumentNumber("1234567890"),
+            DocumentType.CEDULA,
+            "Juan",
+            "Pérez",
+            "juan.perez@email.com",
+            "3001234567",
+            LocalDate.of(1985, 5, 20),
+            new CreditAmount(BigDecimal.valueOf(500_000 + random.nextInt(30_000_000))),
+            new CreditAmount(BigDecimal.valueOf(100_000)),
+            "Ingeniero",
+            60
+        );
+
+        long vehicleValue = 50_000_000L + (long) (random.nextDouble() * 250_000_000L);
+        Vehicle vehicle = new Vehicle(
+            new VehicleVIN("1HGBH41JXMN109186"),
+            "TOYOTA",
+            "COROLLA",
+            Year.now().getValue() - random.nextInt(12),
+            VehicleType.SEDAN,
+            new CreditAmount(BigDecimal.valueOf(vehicleValue)),
+            random.nextInt(150_000),
+            "BLANCO",
+            "2.0L",
+            "AUTOMATICA"
+        );
+
+        long requestedCentavos = 5_000_000L + (long) (random.nextDouble() * (vehicleValue * 90L - 5_000_000L));
+        return new CreditApplication(customer, vehicle, new CreditAmount(BigDecimal.valueOf(requestedCentavos, 2)));
+    }
+}
@@ -0,0 +1,56 @@
+package mx.regional.next.automotive.credit.infrastructure.adapters.external.adapters;
+
+import mx.regional.next.automotive.credit.application.ports.out.VehicleValidationPort;
+import mx.regional.next.automotive.credit.application.ports.out.VehicleValidationPort.VehicleValidationResult;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ReactiveVehicleValidationAdapter Tests")
+class ReactiveVehicleValidationAdapterTest {
+
+    @Test
+    @DisplayName("Validation should run off the subscribing thread with the declared kilometers")
+    void validationShouldRunOffSubscribingThread() {
+        // Given
+        AtomicReference<String> validationThread = new AtomicReference<>();
+        AtomicInteger validatedKilometers = new AtomicInteger(-1);
+        VehicleValidationPort blockingValidation = new VehicleValidationPort() {
+            @Override
+            public VehicleValidationResult validateVehicle(String vin, String brand, String model, int year) {
+                return validateVehicle(vin, brand, model, year, 0);
+            }
+
+            @Override
+            public VehicleValidationResult validateVehicle(String vin, String brand, String model, int year,
+                                                           int kilometers) {
+                validationThread.set(Thread.currentThread().getName());
+                validatedKilometers.set(kilometers);
+                return VehicleValidationResult.invalid("Marca no autorizada: " + brand);
+            }
+        };
+        ReactiveVehicleValidationAdapter adapter = new ReactiveVehicleValidationAdapter(blockingValidation);
+
+        // When
+        Mono<VehicleValidationResult> validation = Mono.defer(() ->
+                adapter.validateVehicle("1HGBH41JXMN109186", "SEAT", "IBIZA", 2022, 45_000))
+            .subscribeOn(Schedulers.parallel());
+
+        // Then
+        StepVerifier.create(validation)
+            .assertNext(result -> assertThat(result.isValid()).isFalse())
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+        assertThat(validationThread.get()).startsWith("boundedElastic");
+        assertThat(validatedKilometers).hasValue(45_000);
+    }
+}
@@ -0,0 +1,164 @@
+package mx.regional.next.automotive.credit.infrastructure.adapters.external.cache;
+
+import mx.regional.next.automotive.credit.domain.valueobjects.CreditScore;
+import mx.regional.next.automotive.credit.domain.valueobjects.DocumentNumber;
+import mx.regional.next.automotive.credit.infrastructure.adapters.external.cache.CreditScoreCache.ScoreLookup;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CreditScoreCache Tests")
+class CreditScoreCacheTest {
+
+    private static final DocumentNumber DOCUMENT = new DocumentNumber("1234567890");
+    private static final ZoneId ZONE = ZoneId.of("America/Mexico_City");
+    private static final Instant NOW = Instant.parse("2024-07-01T16:00:00Z");
+    private static final LocalDateTime LOCAL_NOW = LocalDateTime.ofInstant(NOW, ZONE);
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger bureauCalls = new AtomicInteger();
+    private SimpleMeterRegistry meterRegistry;
+    private CreditScoreCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new CreditScoreCache(meterRegistry, 100, Duration.ofHours(24), Clock.fixed(NOW, ZONE), nanos::get);
+    }
+
+    @Test
+    @DisplayName("Should serve a fresh bureau score from cache until its validity ends")
+    void shouldServeFreshScoresFromCache() {
+        // Given
+        cache.get(DOCUMENT, bureau(ScoreLookup.real(new CreditScore(780), LOCAL_NOW)));
+
+        // When
+        nanos.addAndGet(Duration.ofHours(23).toNanos());
+        CreditScore cached = cache.get(DOCUMENT, bureau(ScoreLookup.real(new CreditScore(700), LOCAL_NOW)));
+        nanos.addAndGet(Duration.ofHours(2).toNanos());
+        CreditScore refreshed = cache.get(DOCUMENT, bureau(ScoreLookup.real(new CreditScore(700), LOCAL_NOW)));
+
+        // Then
+        assertThat(cached.getValue()).isEqualTo(780);
+        assertThat(refreshed.getValue()).isEqualTo(700);
+        assertThat(bureauCalls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("A score calculated long ago by the bureau should only be cached for its remaining validity")
+    void olderScoresShouldExpireSooner() {
+        // Given
+        cache.get(DOCUMENT, bureau(ScoreLookup.real(new CreditScore(780), LOCAL_NOW.minusHours(20))));
+
+        // When
+        nanos.addAndGet(Duration.ofHours(5).toNanos());
+        cache.get(DOCUMENT, bureau(ScoreLookup.real(new CreditScore(780), LOCAL_NOW)));
+
+        // Then
+        assertThat(bureauCalls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Fallback scores should never be cached")
+    void fallbackScoresShouldNeverBeCached() {
+        // Given
+        CreditScore defaultScore = cache.get(DOCUMENT, bureau(ScoreLookup.fallback(new CreditScore(650))));
+
+        // When
+        CreditScore real = cache.get(DOCUMENT, bureau(ScoreLookup.real(new CreditScore(780), LOCAL_NOW)));
+
+        // Then
+        assertThat(defaultScore.getValue()).isEqualTo(650);
+        assertThat(real.getValue()).isEqualTo(780);
+        assertThat(bureauCalls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Concurrent lookups of the same document should share one bureau call")
+    void concurrentLookupsShouldShareOneBureauCall() throws Exception {
+        // Given
+        CountDownLatch callStarted = new CountDownLatch(1);
+        CountDownLatch releaseCall = new CountDownLatch(1);
+        Function<DocumentNumber, ScoreLookup> slowBureau = documentNumber -> {
+            bureauCalls.incrementAndGet();
+            callStarted.countDown();
+            try {
+                releaseCall.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return ScoreLookup.real(new CreditScore(780), LOCAL_NOW);
+        };
+        ExecutorService callers = Executors.newFixedThreadPool(4);
+
+        try {
+            // When
+            CompletableFuture<CreditScore> first =
+                CompletableFuture.supplyAsync(() -> cache.get(DOCUMENT, slowBureau), callers);
+            assertThat(callStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            List<CompletableFuture<CreditScore>> waiting = List.of(
+                CompletableFuture.supplyAsync(() -> cache.get(DOCUMENT, slowBureau), callers),
+                CompletableFuture.supplyAsync(() -> cache.get(DOCUMENT, slowBureau), callers));
+            while (meterRegistry.get("credit.score.cache.coalesced").counter().count() < 2) {
+                Thread.onSpinWait();
+            }
+            releaseCall.countDown();
+
+            // Then
+            assertThat(first.get(5, TimeUnit.SECONDS).getValue()).isEqualTo(780);
+            for (CompletableFuture<CreditScore> lookup : waiting) {
+                assertThat(lookup.get(5, TimeUnit.SECONDS).getValue()).isEqualTo(780);
+            }
+            assertThat(bureauCalls).hasValue(1);
+        } finally {
+            releaseCall.countDown();
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("An Error in the bureau call should release the entry instead of leaving later lookups waiting")
+    void errorInBureauCallShouldNotLeaveEntryPending() throws Exception {
+        // Given
+        Function<DocumentNumber, ScoreLookup> brokenBureau = documentNumber -> {
+            bureauCalls.incrementAndGet();
+            throw new NoClassDefFoundError("CreditBureauResponse");
+        };
+        assertThatThrownBy(() -> cache.get(DOCUMENT, brokenBureau)).isInstanceOf(NoClassDefFoundError.class);
+
+        // When
+        CompletableFuture<CreditScore> retry = CompletableFuture.supplyAsync(() ->
+            cache.get(DOCUMENT, bureau(ScoreLookup.real(new CreditScore(780), LOCAL_NOW))));
+
+        // Then
+        assertThat(retry.get(5, TimeUnit.SECONDS).getValue()).isEqualTo(780);
+        assertThat(bureauCalls).hasValue(2);
+    }
+
+    private Function<DocumentNumber, ScoreLookup> bureau(ScoreLookup result) {
+        return documentNumber -> {
+            bureauCalls.incrementAndGet();
+            return result;
+        };
+    }
+}
@@ -0,0 +1,198 @@
+package mx.regional.next.automotive.credit.infrastructure.adapters.external.valuation;
+
+import mx.regional.next.automotive.credit.infrastructure.external.clients.VehicleValuationClient;
+import mx.regional.next.automotive.credit.infrastructure.external.dto.VehicleValuationResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@DisplayName("VehicleValuationCache Tests")
+class VehicleValuationCacheTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2024-07-01T16:00:00Z"), ZoneId.of("America/Mexico_City"));
+
+    private final AtomicLong nanos = new AtomicLong();
+    private VehicleValuationTable table;
+    private VehicleValuationClient client;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        try (InputStream input = new ClassPathResource("mcp/policies/vehicle-catalog.json").getInputStream()) {
+            table = VehicleValuationTable.fromCatalog(new ObjectMapper().readTree(input).path("vehicleCatalog"));
+        }
+        client = mock(VehicleValuationClient.class);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("Catalog models should be served from the warmed cache without calling the valuation service")
+    void warmedCatalogValuesShouldNotCallTheService() {
+        // Given
+        VehicleValuationCache cache = cache(client);
+        cache.warm();
+
+        // When
+        BigDecimal corolla2020 = cache.marketValue(" toyota ", "corolla", 2020, 0);
+
+        // Then
+        assertThat(corolla2020).isEqualByComparingTo("68000000");
+        verifyNoInteractions(client);
+    }
+
+    @Test
+    @DisplayName("Vehicles in the same mileage band should share one valuation service call")
+    void sameMileageBandShouldShareOneServiceCall() {
+        // Given
+        when(client.getMarketValue("TOYOTA", "COROLLA", 2022, 50_000))
+            .thenReturn(valuation("SUCCESS", "72000000"));
+        VehicleValuationCache cache = cache(client);
+
+        // When
+        BigDecimal first = cache.marketValue("Toyota", "Corolla", 2022, 41_000);
+        BigDecimal second = cache.marketValue("TOYOTA", "COROLLA", 2022, 59_999);
+
+        // Then
+        assertThat(first).isEqualByComparingTo("72000000");
+        assertThat(second).isEqualByComparingTo("72000000");
+        verify(client, times(1)).getMarketValue(anyString(), anyString(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Valuation service values should expire after the configured TTL")
+    void serviceValuesShouldExpireAfterTtl() {
+        // Given
+        when(client.getMarketValue(anyString(), anyString(), anyInt(), anyInt()))
+            .thenReturn(valuation("SUCCESS", "72000000"));
+        VehicleValuationCache cache = cache(client);
+        cache.marketValue("TOYOTA", "COROLLA", 2022, 0);
+
+        // When
+        nanos.addAndGet(Duration.ofHours(13).toNanos());
+        cache.marketValue("TOYOTA", "COROLLA", 2022, 0);
+
+        // Then
+        verify(client, times(2)).getMarketValue(anyString(), anyString(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("A failed service lookup should fall back to the table and not be cached")
+    void failedServiceLookupShouldNotBeCached() {
+        // Given
+        when(client.getMarketValue(anyString(), anyString(), anyInt(), anyInt()))
+            .thenThrow(new RuntimeException("Service Unavailable"))
+            .thenReturn(valuation("SERVICE_UNAVAILABLE", "1"));
+        VehicleValuationCache cache = cache(client);
+
+        // When
+        BigDecimal first = cache.marketValue("KIA", "SPORTAGE", 2023, 0);
+        BigDecimal second = cache.marketValue("KIA", "SPORTAGE", 2023, 0);
+
+        // Then
+        BigDecimal expected = BigDecimal.valueOf(65_000_000).multiply(VehicleValuationTable.depreciationFactor(1));
+        assertThat(first).isEqualByComparingTo(expected);
+        assertThat(second).isEqualByComparingTo(expected);
+        verify(client, times(2)).getMarketValue(anyString(), anyString(), anyInt(), anyInt());
+        assertThat(meterRegistry.get("credit.vehicle.valuation.remote.fallbacks").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("An Error in the service call should release the entry instead of leaving later lookups waiting")
+    void errorInServiceCallShouldNotLeaveEntryPending() throws Exception {
+        // Given
+        when(client.getMarketValue(anyString(), anyString(), anyInt(), anyInt()))
+            .thenThrow(new NoClassDefFoundError("VehicleValuationResponse"))
+            .thenReturn(valuation("SUCCESS", "72000000"));
+        VehicleValuationCache cache = cache(client);
+        assertThatThrownBy(() -> cache.marketValue("TOYOTA", "COROLLA", 2022, 0))
+            .isInstanceOf(NoClassDefFoundError.class);
+
+        // When
+        CompletableFuture<BigDecimal> retry =
+            CompletableFuture.supplyAsync(() -> cache.marketValue("TOYOTA", "COROLLA", 2022, 0));
+
+        // Then
+        assertThat(retry.get(5, TimeUnit.SECONDS)).isEqualByComparingTo("72000000");
+        verify(client, times(2)).getMarketValue(anyString(), anyString(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Without the valuation service, models outside the catalog should use the depreciation table")
+    void withoutServiceShouldUseDepreciationTable() {
+        // Given
+        VehicleValuationCache cache = cache(null);
+
+        // When
+        BigDecimal unknownBrand = cache.marketValue("SEAT", "IBIZA", 2021, 10_000);
+        BigDecimal approvedBrand = cache.marketValue("MAZDA", "CX-90", 2024, 0);
+
+        // Then
+        assertThat(unknownBrand).isEqualByComparingTo(
+            VehicleValuationTable.DEFAULT_BASE_VALUE.multiply(BigDecimal.valueOf(Math.pow(0.85, 3))));
+        assertThat(approvedBrand).isEqualByComparingTo("75000000");
+    }
+
+    @Test
+    @DisplayName("Catalog values should apply to every mileage band when the service is disabled")
+    void catalogValuesShouldApplyToEveryMileageBand() {
+        // Given
+        VehicleValuationCache cache = cache(null);
+
+        // When
+        BigDecimal lowMileage = cache.marketValue("TOYOTA", "COROLLA", 2020, 5_000);
+        BigDecimal highMileage = cache.marketValue("TOYOTA", "COROLLA", 2020, 85_000);
+
+        // Then
+        assertThat(lowMileage).isEqualByComparingTo("68000000");
+        assertThat(highMileage).isEqualByComparingTo("68000000");
+    }
+
+    @Test
+    @DisplayName("Keys should normalize brand and model and cap the mileage band")
+    void keysShouldBeNormalized() {
+        // When
+        ValuationKey key = ValuationKey.of("  chevrolet ", "onix   plus", 2022, 15_000);
+        ValuationKey highMileage = ValuationKey.of("CHEVROLET", "ONIX PLUS", 2022, 400_000);
+
+        // Then
+        assertThat(key).isEqualTo(new ValuationKey("CHEVROLET", "ONIX PLUS", 2022, 0));
+        assertThat(highMileage.mileageBand()).isEqualTo(ValuationKey.MAX_BAND);
+        assertThat(ValuationKey.of("CHEVROLET", "ONIX PLUS", 2022, -1).mileageBand()).isZero();
+    }
+
+    private VehicleValuationCache cache(VehicleValuationClient valuationClient) {
+        return new VehicleValuationCache(table, valuationClient, meterRegistry, 100, Duration.ofHours(12), CLOCK, nanos::get);
+    }
+
+    private static VehicleValuationResponse valuation(String status, String commercialValue) {
+        return VehicleValuationResponse.builder()
+            .status(status)
+            .commercialValue(new BigDecimal(commercialValue))
+            .build();
+    }
+}
@@ -0,0 +1,178 @@
+package mx.regional.next.automotive.credit.infrastructure.adapters.notification;
+
+import mx.regional.next.automotive.credit.infrastructure.adapters.notification.NotificationOutbox.FailedAttempt;
+import mx.regional.next.automotive.credit.infrastructure.adapters.notification.NotificationOutbox.OutboxMessage;
+import mx.regional.next.automotive.credit.infrastructure.external.clients.NotificationClient;
+import mx.regional.next.automotive.credit.infrastructure.external.dto.NotificationRequest;
+import mx.regional.next.automotive.credit.infrastructure.external.dto.NotificationResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("NotificationOutboxDispatcher Tests")
+class NotificationOutboxDispatcherTest {
+
+    private static final ZoneId ZONE = ZoneId.of("America/Mexico_City");
+    private static final Instant NOW = Instant.parse("2024-07-01T16:00:00Z");
+    private static final LocalDateTime LOCAL_NOW = LocalDateTime.ofInstant(NOW, ZONE);
+
+    private NotificationOutbox outbox;
+    private NotificationClient client;
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        outbox = mock(NotificationOutbox.class);
+        client = mock(NotificationClient.class);
+        meterRegistry = new SimpleMeterRegistry();
+        dispatcher = new NotificationOutboxDispatcher(outbox, client, meterRegistry,
+            new NotificationOutboxDispatcher.Settings(2, 5, 3, Duration.ofSeconds(30), Duration.ofMinutes(2),
+                Duration.ofMinutes(2), Duration.ofDays(30), false),
+            Clock.fixed(NOW, ZONE));
+    }
+
+    @Test
+    @DisplayName("Due notifications should travel in one batch call and be marked as sent")
+    void dueNotificationsShouldBeSentInOneBatch() {
+        // Given
+        when(outbox.claimDue(anyInt(), any()))
+            .thenReturn(List.of(message("n-1", 0), message("n-2", 0)))
+            .thenReturn(List.of());
+        when(client.sendBatchNotifications(any())).thenAnswer(invocation -> accept(invocation.getArgument(0)));
+
+        // When
+        dispatcher.dispatchDue();
+
+        // Then
+        verify(client, times(1)).sendBatchNotifications(any());
+        verify(outbox).markSent(List.of("n-1", "n-2"));
+        verify(outbox, never()).recordFailures(any());
+        assertThat(meterRegistry.get("credit.notifications.sent").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("A failed batch call should reschedule every notification with exponential backoff")
+    void failedBatchShouldRescheduleWithBackoff() {
+        // Given
+        when(outbox.claimDue(anyInt(), any())).thenReturn(List.of(message("n-1", 0), message("n-2", 1)));
+        when(client.sendBatchNotifications(any())).thenThrow(new RuntimeException("Service Unavailable"));
+
+        // When
+        dispatcher.dispatchBatch();
+
+        // Then
+        assertThat(failures()).containsExactly(
+            new FailedAttempt("n-1", 1, LOCAL_NOW.plusSeconds(30), "Service Unavailable"),
+            new FailedAttempt("n-2", 2, LOCAL_NOW.plusSeconds(60), "Service Unavailable"));
+        verify(outbox, never()).markSent(any());
+    }
+
+    @Test
+    @DisplayName("Only notifications rejected or missing from the response should be retried")
+    void onlyRejectedNotificationsShouldBeRetried() {
+        // Given
+        when(outbox.claimDue(anyInt(), any())).thenReturn(
+            List.of(message("n-1", 0), message("n-2", 0), message("n-3", 0)));
+        when(client.sendBatchNotifications(any())).thenReturn(new NotificationResponse[] {
+            response("n-1", "SENT"),
+            NotificationResponse.builder().notificationId("n-2").status("FAILED").errorMessage("Buzón lleno").build()
+        });
+
+        // When
+        dispatcher.dispatchBatch();
+
+        // Then
+        verify(outbox).markSent(List.of("n-1"));
+        assertThat(failures()).extracting(FailedAttempt::notificationId, FailedAttempt::error).containsExactly(
+            tuple("n-2", "Buzón lleno"),
+            tuple("n-3", "Sin respuesta del servicio de notificaciones"));
+    }
+
+    @Test
+    @DisplayName("A notification reaching the attempt limit should be kept as failed for replay")
+    void exhaustedNotificationShouldBeKeptForReplay() {
+        // Given
+        when(outbox.claimDue(anyInt(), any())).thenReturn(List.of(message("n-1", 2)));
+        when(client.sendBatchNotifications(any())).thenThrow(new RuntimeException("Service Unavailable"));
+
+        // When
+        dispatcher.dispatchBatch();
+
+        // Then
+        assertThat(failures()).containsExactly(new FailedAttempt("n-1", 3, null, "Service Unavailable"));
+        assertThat(meterRegistry.get("credit.notifications.exhausted").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Backoff should double on each attempt up to the configured maximum")
+    void backoffShouldBeCapped() {
+        assertThat(dispatcher.backoff(1)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(dispatcher.backoff(2)).isEqualTo(Duration.ofSeconds(60));
+        assertThat(dispatcher.backoff(3)).isEqualTo(Duration.ofMinutes(2));
+        assertThat(dispatcher.backoff(40)).isEqualTo(Duration.ofMinutes(2));
+    }
+
+    @Test
+    @DisplayName("Replay should requeue failed notifications batch by batch until none are left")
+    void replayShouldRequeueAllFailedNotifications() {
+        // Given
+        when(outbox.replayFailed(2)).thenReturn(2, 2, 1);
+
+        // When
+        int replayed = dispatcher.replayFailed();
+
+        // Then
+        assertThat(replayed).isEqualTo(5);
+        verify(outbox, times(3)).replayFailed(2);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<FailedAttempt> failures() {
+        ArgumentCaptor<List<FailedAttempt>> captor = ArgumentCaptor.forClass(List.class);
+        verify(outbox).recordFailures(captor.capture());
+        return captor.getValue();
+    }
+
+    private static OutboxMessage message(String notificationId, int attempts) {
+        NotificationRequest request = NotificationRequest.builder()
+            .notificationId(notificationId)
+            .notificationType("EMAIL")
+            .recipient("juan.perez@email.com")
+            .subject("Solicitud de crédito automotriz")
+            .message("Tu solicitud fue aprobada")
+            .build();
+        return new OutboxMessage(notificationId, "app-" + notificationId, request, attempts);
+    }
+
+    private static NotificationResponse[] accept(NotificationRequest[] requests) {
+        return Arrays.stream(requests)
+            .map(request -> response(request.getNotificationId(), "SENT"))
+            .toArray(NotificationResponse[]::new);
+    }
+
+    private static NotificationResponse response(String notificationId, String status) {
+        return NotificationResponse.builder().notificationId(notificationId).status(status).build();
+    }
+}
@@ -0,0 +1,137 @@
+package mx.regional.next.automotive.credit.infrastructure.adapters.persistence;
+
+import mx.regional.next.automotive.credit.shared.utils.TimeOrderedIds;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inserción masiva en credit_applications sobre H2 en memoria: IDs UUIDv4 (esquema anterior)
+ * contra UUIDv7 ordenados por tiempo, fila a fila o en lotes JDBC. Cada iteración parte de
+ * una tabla con {@code preloadedRows} filas para que el índice de la llave primaria ya tenga
+ * profundidad. El resultado es en filas por segundo. Ejecutar con {@code main} desde el
+ * classpath de test.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CreditApplicationInsertBenchmark {
+
+    private static final int ROWS_PER_INVOCATION = 1_000;
+
+    private static final String INSERT = "INSERT INTO credit_applications (id, customer_document, vehicle_vin, " +
+        "requested_amount, status, application_date, last_update_date) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    @Param({"RANDOM_V4", "TIME_ORDERED_V7"})
+    private String idScheme;
+
+    @Param({"1", "50"})
+    private int batchSize;
+
+    @Param({"200000"})
+    private int preloadedRows;
+
+    private Connection connection;
+
+    @Setup(Level.Trial)
+    public void openDatabase() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:insert-benchmark;DB_CLOSE_DELAY=-1");
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("CREATE TABLE IF NOT EXISTS credit_applications (" +
+                "id VARCHAR(36) PRIMARY KEY, customer_document VARCHAR(20) NOT NULL, " +
+                "vehicle_vin VARCHAR(17) NOT NULL, requested_amount DECIMAL(15,2) NOT NULL, " +
+                "status VARCHAR(20) NOT NULL, application_date TIMESTAMP NOT NULL, " +
+                "last_update_date TIMESTAMP NOT NULL)");
+        }
+        connection.setAutoCommit(false);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetTable() throws SQLException {
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("TRUNCATE TABLE credit_applications");
+        }
+        for (int loaded = 0; loaded < preloadedRows; loaded += ROWS_PER_INVOCATION) {
+            insertRows(ROWS_PER_INVOCATION, 500);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void closeDatabase() throws SQLException {
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("DROP TABLE credit_applications");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS_PER_INVOCATION)
+    public int insertApplications() throws SQLException {
+        return insertRows(ROWS_PER_INVOCATION, batchSize);
+    }
+
+    private int insertRows(int rows, int rowsPerBatch) throws SQLException {
+        LocalDateTime now = LocalDateTime.now();
+        int inserted = 0;
+        try (PreparedStatement insert = connection.prepareStatement(INSERT)) {
+            for (int i = 0; i < rows; i++) {
+                insert.setString(1, nextId());
+                insert.setString(2, "1234567890");
+                insert.setString(3, "1HGBH41JXMN109186");
+                insert.setBigDecimal(4, BigDecimal.valueOf(50_000_000));
+                insert.setString(5, "PENDING");
+                insert.setTimestamp(6, Timestamp.valueOf(now));
+                insert.setTimestamp(7, Timestamp.valueOf(now));
+                if (rowsPerBatch == 1) {
+                    inserted += insert.executeUpdate();
+                    continue;
+                }
+                insert.addBatch();
+                if ((i + 1) % rowsPerBatch == 0 || i == rows - 1) {
+                    inserted += insert.executeBatch().length;
+                }
+            }
+        }
+        connection.commit();
+        return inserted;
+    }
+
+    private String nextId() {
+        return "TIME_ORDERED_V7".equals(idScheme) ? TimeOrderedIds.next() : UUID.randomUUID().toString();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(CreditApplicationInsertBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
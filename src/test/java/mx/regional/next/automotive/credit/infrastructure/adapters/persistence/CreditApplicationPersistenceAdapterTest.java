@@ -0,0 +1,263 @@
+package mx.regional.next.automotive.credit.infrastructure.adapters.persistence;
+
+import mx.regional.next.automotive.credit.application.ports.out.CreditDecisionNotificationPort;
+import mx.regional.next.automotive.credit.domain.entities.CreditApplication;
+import mx.regional.next.automotive.credit.domain.enums.CreditStatus;
+import mx.regional.next.automotive.credit.domain.enums.DocumentType;
+import mx.regional.next.automotive.credit.infrastructure.adapters.persistence.cache.CreditApplicationStatusCache;
+import mx.regional.next.automotive.credit.infrastructure.adapters.persistence.jpa.entities.CreditApplicationJpaEntity;
+import mx.regional.next.automotive.credit.infrastructure.adapters.persistence.jpa.entities.CustomerJpaEntity;
+import mx.regional.next.automotive.credit.infrastructure.adapters.persistence.jpa.repositories.CreditApplicationJpaRepository;
+import mx.regional.next.automotive.credit.infrastructure.adapters.persistence.jpa.repositories.CustomerJpaRepository;
+import mx.regional.next.automotive.credit.infrastructure.adapters.persistence.mappers.CreditApplicationEntityMapper;
+import mx.regional.next.automotive.credit.infrastructure.adapters.persistence.mappers.CustomerEntityMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CreditApplicationPersistenceAdapter Tests")
+class CreditApplicationPersistenceAdapterTest {
+
+    private static final String ID = "5b1e9f7c-1f47-4a8e-9d0b-3f1a2c4d5e6f";
+
+    private static final String DOCUMENT = "1234567890";
+
+    @Mock
+    private CreditApplicationJpaRepository jpaRepository;
+
+    @Mock
+    private CustomerJpaRepository customerJpaRepository;
+
+    @Mock
+    private CreditDecisionNotificationPort decisionNotifications;
+
+    private CreditApplicationPersistenceAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        CreditApplicationStatusCache statusCache = new CreditApplicationStatusCache(new SimpleMeterRegistry(), 100, 300, 2_000);
+        adapter = new CreditApplicationPersistenceAdapter(jpaRepository, new CreditApplicationEntityMapper(), statusCache,
+            customerJpaRepository, new CustomerEntityMapper(), decisionNotifications);
+    }
+
+    @Test
+    @DisplayName("Repeated status reads should hit the database once")
+    void repeatedReadsShouldHitDatabaseOnce() {
+        // Given
+        when(jpaRepository.findPrunedById(ID)).thenReturn(Optional.of(entity(CreditStatus.PENDING)));
+        when(customerJpaRepository.findAllById(anyCollection())).thenReturn(List.of(customer(DOCUMENT)));
+
+        // When
+        Optional<CreditApplication> first = adapter.findById(ID);
+        Optional<CreditApplication> second = adapter.findById(ID);
+
+        // Then
+        assertThat(first).isPresent();
+        assertThat(second).isPresent();
+        assertThat(second.get().getStatus()).isEqualTo(CreditStatus.PENDING);
+        verify(jpaRepository, times(1)).findPrunedById(ID);
+    }
+
+    @Test
+    @DisplayName("A cache hit should rebuild the application without any repository call")
+    void cacheHitShouldNotQueryRepositories() {
+        // Given
+        CreditApplicationJpaEntity approved = entity(CreditStatus.APPROVED);
+        approved.setCreditScore(720);
+        when(jpaRepository.findPrunedById(ID)).thenReturn(Optional.of(approved));
+        when(customerJpaRepository.findAllById(anyCollection())).thenReturn(List.of(customer(DOCUMENT)));
+        CreditApplication first = adapter.findById(ID).orElseThrow();
+        clearInvocations(jpaRepository, customerJpaRepository);
+
+        // When
+        CreditApplication second = adapter.findById(ID).orElseThrow();
+
+        // Then
+        verifyNoInteractions(jpaRepository, customerJpaRepository);
+        assertThat(second.getStatus()).isEqualTo(CreditStatus.APPROVED);
+        assertThat(second.getCreditScore().getValue()).isEqualTo(720);
+        assertThat(second.getCustomer()).isSameAs(first.getCustomer());
+        assertThat(second).isNotSameAs(first);
+    }
+
+    @Test
+    @DisplayName("Save should write through so the next read does not query the database")
+    void saveShouldWriteThrough() {
+        // Given
+        CreditApplicationJpaEntity saved = entity(CreditStatus.REJECTED);
+        saved.setRejectionReason("Score insuficiente");
+        when(jpaRepository.save(any())).thenReturn(saved);
+        when(customerJpaRepository.findAllById(anyCollection())).thenReturn(List.of(customer(DOCUMENT)));
+        CreditApplication application = new CreditApplicationEntityMapper()
+            .toDomain(saved, new CustomerEntityMapper().toDomain(customer(DOCUMENT)));
+
+        // When
+        adapter.save(application);
+        Optional<CreditApplication> found = adapter.findById(ID);
+
+        // Then
+        assertThat(found).isPresent();
+        assertThat(found.get().getStatus()).isEqualTo(CreditStatus.REJECTED);
+        verify(jpaRepository, never()).findPrunedById(ID);
+    }
+
+    @Test
+    @DisplayName("Save should register the decision notification along with the row")
+    void saveShouldRegisterDecisionNotification() {
+        // Given
+        CreditApplicationJpaEntity saved = entity(CreditStatus.APPROVED);
+        when(jpaRepository.save(any())).thenReturn(saved);
+        CreditApplication application = new CreditApplicationEntityMapper()
+            .toDomain(saved, new CustomerEntityMapper().toDomain(customer(DOCUMENT)));
+
+        // When
+        adapter.save(application);
+
+        // Then
+        verify(decisionNotifications).notifyDecision(application);
+    }
+
+    @Test
+    @DisplayName("A failure registering the notification should fail the save instead of being swallowed")
+    void notificationFailureShouldFailSave() {
+        // Given
+        CreditApplicationJpaEntity saved = entity(CreditStatus.APPROVED);
+        when(jpaRepository.save(any())).thenReturn(saved);
+        CreditApplication application = new CreditApplicationEntityMapper()
+            .toDomain(saved, new CustomerEntityMapper().toDomain(customer(DOCUMENT)));
+        doThrow(new RuntimeException("Outbox no disponible")).when(decisionNotifications).notifyDecision(application);
+
+        // When / Then
+        assertThatThrownBy(() -> adapter.save(application))
+            .isInstanceOf(RuntimeException.class)
+            .hasRootCauseMessage("Outbox no disponible");
+    }
+
+    @Test
+    @DisplayName("Write-behind rows should register their notifications with the stored customers")
+    @SuppressWarnings("unchecked")
+    void persistAllShouldRegisterNotificationsWithStoredCustomers() {
+        // Given
+        List<CreditApplicationJpaEntity> entities = List.of(
+            entity("a1", DOCUMENT, CreditStatus.APPROVED), entity("a2", "9876543210", CreditStatus.REJECTED));
+        when(jpaRepository.findAllById(anyCollection())).thenReturn(List.of());
+        when(customerJpaRepository.findAllById(anyCollection()))
+            .thenReturn(List.of(customer(DOCUMENT), customer("9876543210")));
+
+        // When
+        adapter.persistAll(entities);
+
+        // Then
+        ArgumentCaptor<List<CreditApplication>> notified = ArgumentCaptor.forClass(List.class);
+        verify(decisionNotifications).notifyDecisions(notified.capture());
+        assertThat(notified.getValue())
+            .extracting(CreditApplication::getId, CreditApplication::getStatus)
+            .containsExactly(
+                tuple("a1", CreditStatus.APPROVED),
+                tuple("a2", CreditStatus.REJECTED));
+        assertThat(notified.getValue().get(0).getCustomer().getEmail()).isEqualTo("juan.perez@email.com");
+    }
+
+    @Test
+    @DisplayName("Loaded applications should carry the stored customer, not a placeholder")
+    void loadedApplicationShouldCarryStoredCustomer() {
+        // Given
+        when(jpaRepository.findPrunedById(ID)).thenReturn(Optional.of(entity(CreditStatus.PENDING)));
+        when(customerJpaRepository.findAllById(anyCollection())).thenReturn(List.of(customer(DOCUMENT)));
+
+        // When
+        CreditApplication application = adapter.findById(ID).orElseThrow();
+
+        // Then
+        assertThat(application.getId()).isEqualTo(ID);
+        assertThat(application.getCustomer().getFirstName()).isEqualTo("Juan");
+        assertThat(application.getCustomer().getEmail()).isEqualTo("juan.perez@email.com");
+        assertThat(application.getCustomer().getMonthlyIncome().getValue()).isEqualByComparingTo("5000000");
+    }
+
+    @Test
+    @DisplayName("Batch load should fetch all customers in one query and share instances")
+    void batchLoadShouldFetchCustomersOnce() {
+        // Given
+        List<CreditApplicationJpaEntity> entities = List.of(
+            entity("a1", DOCUMENT), entity("a2", DOCUMENT), entity("a3", "9876543210"));
+        when(jpaRepository.findAllById(anyCollection())).thenReturn(entities);
+        when(customerJpaRepository.findAllById(anyCollection()))
+            .thenReturn(List.of(customer(DOCUMENT), customer("9876543210")));
+
+        // When
+        List<CreditApplication> applications = adapter.findAllById(List.of("a1", "a2", "a3"));
+
+        // Then
+        assertThat(applications).hasSize(3);
+        assertThat(applications.get(0).getCustomer()).isSameAs(applications.get(1).getCustomer());
+        assertThat(applications.get(2).getCustomer().getDocumentNumber().getValue()).isEqualTo("9876543210");
+        verify(customerJpaRepository, times(1)).findAllById(anyCollection());
+        verify(jpaRepository, never()).findPrunedById(any());
+    }
+
+    @Test
+    @DisplayName("An application whose customer is missing should fail instead of inventing one")
+    void missingCustomerShouldFail() {
+        // Given
+        when(jpaRepository.findPrunedById(ID)).thenReturn(Optional.of(entity(CreditStatus.PENDING)));
+        when(customerJpaRepository.findAllById(anyCollection())).thenReturn(List.of());
+
+        // When / Then
+        assertThatThrownBy(() -> adapter.findById(ID))
+            .isInstanceOf(RuntimeException.class)
+            .hasRootCauseInstanceOf(IllegalStateException.class);
+    }
+
+    private static CustomerJpaEntity customer(String document) {
+        return new CustomerJpaEntity(
+            document, DocumentType.CEDULA, "Juan", "Pérez", "juan.perez@email.com", "3001234567",
+            LocalDate.of(1985, 5, 20), BigDecimal.valueOf(5_000_000), BigDecimal.valueOf(500_000), "Ingeniero", 60);
+    }
+
+    private static CreditApplicationJpaEntity entity(CreditStatus status) {
+        return entity(ID, DOCUMENT, status);
+    }
+
+    private static CreditApplicationJpaEntity entity(String id, String document) {
+        return entity(id, document, CreditStatus.PENDING);
+    }
+
+    private static CreditApplicationJpaEntity entity(String id, String document, CreditStatus status) {
+        LocalDateTime now = LocalDateTime.now();
+        CreditApplicationJpaEntity entity = new CreditApplicationJpaEntity(
+            id, document, "1HGBH41JXMN109186", BigDecimal.valueOf(50_000_000), status, now, now);
+        entity.setVehicleBrand("TOYOTA");
+        entity.setVehicleModel("COROLLA");
+        entity.setVehicleYear(2023);
+        entity.setVehicleValue(BigDecimal.valueOf(80_000_000));
+        entity.setVehicleKilometers(20_000);
+        return entity;
+    }
+}
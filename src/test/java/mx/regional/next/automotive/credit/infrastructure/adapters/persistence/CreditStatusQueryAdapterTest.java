@@ -0,0 +1,162 @@
+package mx.regional.next.automotive.credit.infrastructure.adapters.persistence;
+
+import mx.regional.next.automotive.credit.application.dto.CreditStatusPage;
+import mx.regional.next.automotive.credit.application.dto.CreditStatusResponse;
+import mx.regional.next.automotive.credit.domain.enums.CreditStatus;
+import mx.regional.next.automotive.credit.infrastructure.adapters.persistence.cache.CreditApplicationStatusCache;
+import mx.regional.next.automotive.credit.infrastructure.adapters.persistence.jpa.entities.CreditApplicationJpaEntity;
+import mx.regional.next.automotive.credit.infrastructure.adapters.persistence.jpa.repositories.CreditApplicationJpaRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CreditStatusQueryAdapter Tests")
+class CreditStatusQueryAdapterTest {
+
+    private static final String ID = "5b1e9f7c-1f47-4a8e-9d0b-3f1a2c4d5e6f";
+    private static final String DOCUMENT = "1234567890";
+
+    @Mock
+    private CreditApplicationJpaRepository jpaRepository;
+
+    private CreditApplicationStatusCache statusCache;
+    private CreditStatusQueryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        statusCache = new CreditApplicationStatusCache(new SimpleMeterRegistry(), 100, 300, 2_000);
+        adapter = new CreditStatusQueryAdapter(jpaRepository, statusCache);
+    }
+
+    @Test
+    @DisplayName("Cache miss should use the status projection instead of loading the entity")
+    void cacheMissShouldUseProjection() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        CreditStatusResponse projected = new CreditStatusResponse(
+            ID, "1234567890", CreditStatus.PENDING, BigDecimal.valueOf(50_000_000), null, null, now, now);
+        when(jpaRepository.findPrunedStatusById(ID)).thenReturn(Optional.of(projected));
+
+        // When
+        Optional<CreditStatusResponse> status = adapter.findStatusById(ID);
+
+        // Then
+        assertThat(status).containsSame(projected);
+        verify(jpaRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("A second lookup should be served from the cache filled by the first miss")
+    void secondLookupShouldNotReachRepository() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        when(jpaRepository.findPrunedStatusById(ID)).thenReturn(Optional.of(new CreditStatusResponse(
+            ID, DOCUMENT, CreditStatus.APPROVED, BigDecimal.valueOf(50_000_000), 720, null, now, now)));
+
+        // When
+        adapter.findStatusById(ID);
+        CreditStatusResponse second = adapter.findStatusById(ID).orElseThrow();
+
+        // Then
+        assertThat(second.getStatus()).isEqualTo(CreditStatus.APPROVED);
+        assertThat(second.getCreditScore()).isEqualTo(720);
+        verify(jpaRepository, times(1)).findPrunedStatusById(ID);
+        verify(jpaRepository, never()).findPrunedLastUpdateDateById(any());
+    }
+
+    @Test
+    @DisplayName("Cached rows should be served without querying the database")
+    void cachedRowShouldBeServedWithoutQuery() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        CreditApplicationJpaEntity entity = new CreditApplicationJpaEntity(
+            ID, "1234567890", "1HGBH41JXMN109186", BigDecimal.valueOf(50_000_000), CreditStatus.REJECTED, now, now);
+        entity.setCreditScore(480);
+        entity.setRejectionReason("Score insuficiente");
+        statusCache.put(entity);
+
+        // When
+        CreditStatusResponse status = adapter.findStatusById(ID).orElseThrow();
+
+        // Then
+        assertThat(status.getStatus()).isEqualTo(CreditStatus.REJECTED);
+        assertThat(status.getCreditScore()).isEqualTo(480);
+        assertThat(status.getRejectionReason()).isEqualTo("Score insuficiente");
+        assertThat(status.getApprovedAmount()).isNull();
+        verify(jpaRepository, never()).findPrunedStatusById(any());
+    }
+
+    @Test
+    @DisplayName("Page should fetch one extra row to build the next cursor")
+    void pageShouldBuildNextCursor() {
+        // Given
+        List<CreditStatusResponse> history = history(3);
+        when(jpaRepository.findStatusPageByCustomerDocument(DOCUMENT, Limit.of(3))).thenReturn(history);
+
+        // When
+        CreditStatusPage page = adapter.findStatusesByCustomerDocument(DOCUMENT, null, 2);
+
+        // Then
+        assertThat(page.getItems()).containsExactly(history.get(0), history.get(1));
+        assertThat(page.getNextCursor().getApplicationId()).isEqualTo(history.get(1).getApplicationId());
+        assertThat(page.getNextCursor().getApplicationDate()).isEqualTo(history.get(1).getApplicationDate());
+    }
+
+    @Test
+    @DisplayName("Stream should read the full history page by page and only on demand")
+    void streamShouldReadPagesOnDemand() {
+        // Given
+        List<CreditStatusResponse> history = history(5);
+        when(jpaRepository.findStatusPageByCustomerDocument(DOCUMENT, Limit.of(3)))
+            .thenReturn(history.subList(0, 3));
+        when(jpaRepository.findStatusPageByCustomerDocumentAfter(DOCUMENT,
+                history.get(1).getApplicationDate(), history.get(1).getApplicationId(), Limit.of(3)))
+            .thenReturn(history.subList(2, 5));
+        when(jpaRepository.findStatusPageByCustomerDocumentAfter(DOCUMENT,
+                history.get(3).getApplicationDate(), history.get(3).getApplicationId(), Limit.of(3)))
+            .thenReturn(history.subList(4, 5));
+
+        // When
+        List<CreditStatusResponse> firstTwo = adapter.streamStatusesByCustomerDocument(DOCUMENT, 2).limit(2).toList();
+
+        // Then
+        assertThat(firstTwo).containsExactlyElementsOf(history.subList(0, 2));
+        verify(jpaRepository, never()).findStatusPageByCustomerDocumentAfter(any(), any(), any(), any());
+
+        // When
+        List<CreditStatusResponse> all = adapter.streamStatusesByCustomerDocument(DOCUMENT, 2).toList();
+
+        // Then
+        assertThat(all).containsExactlyElementsOf(history);
+        verify(jpaRepository, times(2)).findStatusPageByCustomerDocumentAfter(any(), any(), any(), any());
+    }
+
+    // Solicitudes del cliente de la más reciente a la más antigua, un día de diferencia
+    private static List<CreditStatusResponse> history(int size) {
+        LocalDateTime newest = LocalDateTime.of(2025, 6, 30, 9, 0);
+        return IntStream.range(0, size)
+            .mapToObj(i -> new CreditStatusResponse("app-" + (size - i), DOCUMENT, CreditStatus.PENDING,
+                BigDecimal.valueOf(40_000_000), null, null, newest.minusDays(i), newest.minusDays(i)))
+            .toList();
+    }
+}
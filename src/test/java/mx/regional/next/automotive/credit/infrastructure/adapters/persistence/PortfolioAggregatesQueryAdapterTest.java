@@ -0,0 +1,103 @@
+package mx.regional.next.automotive.credit.infrastructure.adapters.persistence;
+
+import mx.regional.next.automotive.credit.application.dto.PortfolioAggregates;
+import mx.regional.next.automotive.credit.domain.enums.CreditStatus;
+import mx.regional.next.automotive.credit.infrastructure.adapters.persistence.jpa.entities.CreditApplicationAggregateJpaEntity;
+import mx.regional.next.automotive.credit.infrastructure.adapters.persistence.jpa.repositories.CreditApplicationAggregateJpaRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PortfolioAggregatesQueryAdapter Tests")
+class PortfolioAggregatesQueryAdapterTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 3, 15, 10, 30);
+
+    @Mock
+    private CreditApplicationAggregateJpaRepository aggregateRepository;
+
+    private PortfolioAggregatesQueryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new PortfolioAggregatesQueryAdapter(aggregateRepository);
+    }
+
+    @Test
+    @DisplayName("Dashboard read should be a single query over the aggregate rows")
+    void dashboardReadShouldBeSingleQuery() {
+        // Given
+        when(aggregateRepository.findDashboardRows("2024-03-01")).thenReturn(List.of(
+            row("STATUS", "PENDING", 3, 150_000_000, NOW),
+            row("STATUS", "APPROVED", 2, 120_000_000, NOW.plusMinutes(5)),
+            row("DAY", "2024-03-15", 4, 200_000_000, NOW),
+            row("DAY", "2024-03-02", 1, 70_000_000, NOW),
+            row("BRAND", "MAZDA", 1, 60_000_000, NOW),
+            row("BRAND", "TOYOTA", 4, 210_000_000, NOW)));
+
+        // When
+        PortfolioAggregates aggregates = adapter.findAggregates(LocalDate.of(2024, 3, 1));
+
+        // Then
+        assertThat(aggregates.getTotalApplications()).isEqualTo(5);
+        assertThat(aggregates.getTotalRequestedAmount()).isEqualByComparingTo("270000000");
+        assertThat(aggregates.getByStatus()).containsOnlyKeys(CreditStatus.values());
+        assertThat(aggregates.getByStatus().get(CreditStatus.REJECTED).getCount()).isZero();
+        assertThat(aggregates.getByDay()).containsOnlyKeys(LocalDate.of(2024, 3, 2), LocalDate.of(2024, 3, 15));
+        assertThat(aggregates.getByDay().keySet()).containsExactly(LocalDate.of(2024, 3, 2), LocalDate.of(2024, 3, 15));
+        assertThat(aggregates.getByBrand().keySet()).containsExactly("TOYOTA", "MAZDA");
+        assertThat(aggregates.getLastUpdate()).isEqualTo(NOW.plusMinutes(5));
+        verify(aggregateRepository).findDashboardRows("2024-03-01");
+    }
+
+    @Test
+    @DisplayName("Counters emptied by status changes should not be listed as brands")
+    void emptiedBrandsShouldBeSkipped() {
+        // Given
+        when(aggregateRepository.findDashboardRows(any())).thenReturn(List.of(
+            row("BRAND", "KIA", 0, 0, NOW),
+            row("STATUS", "UNKNOWN", 7, 1_000, NOW)));
+
+        // When
+        PortfolioAggregates aggregates = adapter.findAggregates(LocalDate.of(2024, 3, 1));
+
+        // Then
+        assertThat(aggregates.getByBrand()).isEmpty();
+        assertThat(aggregates.getTotalApplications()).isZero();
+    }
+
+    @Test
+    @DisplayName("Status count should read one counter row and default to zero")
+    void countByStatusShouldReadOneRow() {
+        // Given
+        when(aggregateRepository.findById(new CreditApplicationAggregateJpaEntity.Key("STATUS", "APPROVED")))
+            .thenReturn(Optional.of(row("STATUS", "APPROVED", 42, 1_000_000, NOW)));
+        when(aggregateRepository.findById(new CreditApplicationAggregateJpaEntity.Key("STATUS", "EXPIRED")))
+            .thenReturn(Optional.empty());
+
+        // When / Then
+        assertThat(adapter.countByStatus(CreditStatus.APPROVED)).isEqualTo(42);
+        assertThat(adapter.countByStatus(CreditStatus.EXPIRED)).isZero();
+    }
+
+    private static CreditApplicationAggregateJpaEntity row(String dimension, String key, long count,
+                                                           long amount, LocalDateTime lastUpdate) {
+        return new CreditApplicationAggregateJpaEntity(dimension, key, count, BigDecimal.valueOf(amount), lastUpdate);
+    }
+}
@@ -0,0 +1,159 @@
+package mx.regional.next.automotive.credit.infrastructure.adapters.persistence;
+
+import mx.regional.next.automotive.credit.application.ports.out.ReactiveCreditDecisionNotificationPort;
+import mx.regional.next.automotive.credit.domain.entities.CreditApplication;
+import mx.regional.next.automotive.credit.domain.entities.Customer;
+import mx.regional.next.automotive.credit.domain.entities.Vehicle;
+import mx.regional.next.automotive.credit.domain.enums.DocumentType;
+import mx.regional.next.automotive.credit.domain.enums.VehicleType;
+import mx.regional.next.automotive.credit.domain.valueobjects.CreditAmount;
+import mx.regional.next.automotive.credit.domain.valueobjects.CreditScore;
+import mx.regional.next.automotive.credit.domain.valueobjects.DocumentNumber;
+import mx.regional.next.automotive.credit.domain.valueobjects.VehicleVIN;
+import mx.regional.next.automotive.credit.infrastructure.adapters.persistence.mappers.CreditApplicationEntityMapper;
+import mx.regional.next.automotive.credit.infrastructure.adapters.persistence.mappers.CustomerEntityMapper;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.FetchSpec;
+import org.springframework.transaction.reactive.TransactionCallback;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactiveCreditApplicationPersistenceAdapter Tests")
+class ReactiveCreditApplicationPersistenceAdapterTest {
+
+    @Mock
+    private DatabaseClient databaseClient;
+
+    @Mock
+    private DatabaseClient.GenericExecuteSpec executeSpec;
+
+    @Mock
+    private FetchSpec<Map<String, Object>> fetchSpec;
+
+    @Mock
+    private ReactiveCreditDecisionNotificationPort decisionNotifications;
+
+    private final AtomicBoolean inTransaction = new AtomicBoolean();
+    private final AtomicInteger rolledBack = new AtomicInteger();
+
+    private ReactiveCreditApplicationPersistenceAdapter adapter;
+    private CreditApplication application;
+
+    @BeforeEach
+    void setUp() {
+        when(databaseClient.sql(anyString())).thenReturn(executeSpec);
+        when(executeSpec.bind(anyString(), any())).thenReturn(executeSpec);
+        when(executeSpec.bindNull(anyString(), any())).thenReturn(executeSpec);
+        when(executeSpec.fetch()).thenReturn(fetchSpec);
+        when(fetchSpec.rowsUpdated()).thenReturn(Mono.just(1L));
+
+        adapter = new ReactiveCreditApplicationPersistenceAdapter(databaseClient, new CreditApplicationEntityMapper(),
+            new CustomerEntityMapper(), decisionNotifications, recordingTransactionalOperator());
+        application = approvedApplication();
+    }
+
+    @Test
+    @DisplayName("Save should register the decision notification inside the same transaction")
+    void saveShouldRegisterNotificationInTransaction() {
+        // Given
+        AtomicBoolean notifiedInTransaction = new AtomicBoolean();
+        when(decisionNotifications.notifyDecision(application))
+            .thenReturn(Mono.fromRunnable(() -> notifiedInTransaction.set(inTransaction.get())));
+
+        // When / Then
+        StepVerifier.create(adapter.save(application))
+            .expectNext(application)
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+        assertThat(notifiedInTransaction).isTrue();
+        assertThat(rolledBack).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("A failure registering the notification should roll back and fail the save")
+    void notificationFailureShouldFailSave() {
+        // Given
+        when(decisionNotifications.notifyDecision(application))
+            .thenReturn(Mono.error(new RuntimeException("Outbox no disponible")));
+
+        // When / Then
+        StepVerifier.create(adapter.save(application))
+            .expectErrorSatisfies(e -> assertThat(e).hasRootCauseMessage("Outbox no disponible"))
+            .verify(Duration.ofSeconds(5));
+        assertThat(rolledBack).hasValue(1);
+    }
+
+    // Marca lo que corre dentro de la transacción y cuenta los errores que la revertirían
+    private TransactionalOperator recordingTransactionalOperator() {
+        return new TransactionalOperator() {
+            @Override
+            public <T> Mono<T> transactional(Mono<T> mono) {
+                return Mono.defer(() -> {
+                        inTransaction.set(true);
+                        return mono;
+                    })
+                    .doOnError(e -> rolledBack.incrementAndGet())
+                    .doFinally(signal -> inTransaction.set(false));
+            }
+
+            @Override
+            public <T> Flux<T> execute(TransactionCallback<T> action) {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    private static CreditApplication approvedApplication() {
+        Customer customer = new Customer(
+            new DocumentNumber("1234567890"),
+            DocumentType.CEDULA,
+            "Juan",
+            "Pérez",
+            "juan.perez@email.com",
+            "3001234567",
+            LocalDate.of(1985, 5, 20),
+            new CreditAmount(BigDecimal.valueOf(5_000_000)),
+            new CreditAmount(BigDecimal.valueOf(500_000)),
+            "Ingeniero",
+            60
+        );
+        Vehicle vehicle = new Vehicle(
+            new VehicleVIN("1HGBH41JXMN109186"),
+            "TOYOTA",
+            "COROLLA",
+            2023,
+            VehicleType.SEDAN,
+            new CreditAmount(BigDecimal.valueOf(80_000_000)),
+            20_000,
+            "BLANCO",
+            "2.0L",
+            "AUTOMATICA"
+        );
+        CreditApplication application = new CreditApplication(
+            customer, vehicle, new CreditAmount(BigDecimal.valueOf(50_000_000)));
+        application.approve(new CreditScore(720));
+        return application;
+    }
+}
@@ -0,0 +1,269 @@
+package mx.regional.next.automotive.credit.infrastructure.adapters.persistence.cache;
+
+import mx.regional.next.automotive.credit.application.ports.out.CustomerRepositoryPort;
+import mx.regional.next.automotive.credit.domain.entities.Customer;
+import mx.regional.next.automotive.credit.domain.enums.DocumentType;
+import mx.regional.next.automotive.credit.domain.valueobjects.CreditAmount;
+import mx.regional.next.automotive.credit.domain.valueobjects.DocumentNumber;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachingCustomerRepository Tests")
+class CachingCustomerRepositoryTest {
+
+    private static final DocumentNumber KNOWN = new DocumentNumber("1234567890");
+    private static final DocumentNumber UNKNOWN = new DocumentNumber("9999999999");
+
+    @Mock
+    private CustomerRepositoryPort delegate;
+
+    private final AtomicLong nanos = new AtomicLong();
+    private SimpleMeterRegistry meterRegistry;
+    private CachingCustomerRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        repository = new CachingCustomerRepository(
+            delegate, meterRegistry, 100, Duration.ofMinutes(5), Duration.ofSeconds(30), nanos::get);
+    }
+
+    @Nested
+    @DisplayName("Read-Through Tests")
+    class ReadThroughTests {
+
+        @Test
+        @DisplayName("Should query the delegate once for repeated lookups of a known customer")
+        void shouldCacheKnownCustomers() {
+            // Given
+            when(delegate.findByDocumentNumber(KNOWN)).thenReturn(Optional.of(customer(KNOWN)));
+
+            // When
+            Optional<Customer> first = repository.findByDocumentNumber(KNOWN);
+            Optional<Customer> second = repository.findByDocumentNumber(KNOWN);
+
+            // Then
+            assertThat(first).contains(customer(KNOWN));
+            assertThat(second).isEqualTo(first);
+            verify(delegate, times(1)).findByDocumentNumber(KNOWN);
+            assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should cache unknown documents until the shorter negative TTL elapses")
+        void shouldCacheUnknownDocumentsWithShorterTtl() {
+            // Given
+            when(delegate.findByDocumentNumber(UNKNOWN)).thenReturn(Optional.empty());
+            repository.findByDocumentNumber(UNKNOWN);
+
+            // When
+            nanos.addAndGet(Duration.ofSeconds(29).toNanos());
+            boolean existsBeforeExpiry = repository.existsByDocumentNumber(UNKNOWN);
+            nanos.addAndGet(Duration.ofSeconds(2).toNanos());
+            repository.findByDocumentNumber(UNKNOWN);
+
+            // Then
+            assertThat(existsBeforeExpiry).isFalse();
+            verify(delegate, times(2)).findByDocumentNumber(UNKNOWN);
+        }
+
+        @Test
+        @DisplayName("Known customers should outlive the negative TTL")
+        void knownCustomersShouldOutliveNegativeTtl() {
+            // Given
+            when(delegate.findByDocumentNumber(KNOWN)).thenReturn(Optional.of(customer(KNOWN)));
+            repository.findByDocumentNumber(KNOWN);
+
+            // When
+            nanos.addAndGet(Duration.ofMinutes(1).toNanos());
+            repository.findByDocumentNumber(KNOWN);
+
+            // Then
+            verify(delegate, times(1)).findByDocumentNumber(KNOWN);
+        }
+
+        @Test
+        @DisplayName("Failures should propagate and not be cached")
+        void failuresShouldNotBeCached() {
+            // Given
+            when(delegate.findByDocumentNumber(KNOWN))
+                .thenThrow(new RuntimeException("Error consultando cliente"))
+                .thenReturn(Optional.of(customer(KNOWN)));
+
+            // When & Then
+            assertThatThrownBy(() -> repository.findByDocumentNumber(KNOWN))
+                .hasMessage("Error consultando cliente");
+            assertThat(repository.findByDocumentNumber(KNOWN)).isPresent();
+            verify(delegate, times(2)).findByDocumentNumber(KNOWN);
+        }
+    }
+
+    @Nested
+    @DisplayName("Coalescing Tests")
+    class CoalescingTests {
+
+        @Test
+        @DisplayName("Concurrent lookups of the same document should share one delegate query")
+        void concurrentLookupsShouldShareOneQuery() throws Exception {
+            // Given
+            CountDownLatch queryStarted = new CountDownLatch(1);
+            CountDownLatch releaseQuery = new CountDownLatch(1);
+            when(delegate.findByDocumentNumber(KNOWN)).thenAnswer(invocation -> {
+                queryStarted.countDown();
+                releaseQuery.await(5, TimeUnit.SECONDS);
+                return Optional.of(customer(KNOWN));
+            });
+            ExecutorService callers = Executors.newFixedThreadPool(4);
+
+            try {
+                // When
+                CompletableFuture<Optional<Customer>> first =
+                    CompletableFuture.supplyAsync(() -> repository.findByDocumentNumber(KNOWN), callers);
+                assertThat(queryStarted.await(5, TimeUnit.SECONDS)).isTrue();
+                List<CompletableFuture<Optional<Customer>>> waiting = List.of(
+                    CompletableFuture.supplyAsync(() -> repository.findByDocumentNumber(KNOWN), callers),
+                    CompletableFuture.supplyAsync(() -> repository.findByDocumentNumber(KNOWN), callers),
+                    CompletableFuture.supplyAsync(() -> repository.findByDocumentNumber(KNOWN), callers));
+                while (meterRegistry.get("credit.customer.cache.coalesced").counter().count() < 3) {
+                    Thread.onSpinWait();
+                }
+                releaseQuery.countDown();
+
+                // Then
+                assertThat(first.get(5, TimeUnit.SECONDS)).isPresent();
+                for (CompletableFuture<Optional<Customer>> lookup : waiting) {
+                    assertThat(lookup.get(5, TimeUnit.SECONDS)).isEqualTo(first.get());
+                }
+                verify(delegate, times(1)).findByDocumentNumber(KNOWN);
+            } finally {
+                releaseQuery.countDown();
+                callers.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("An Error in the query should release the entry instead of leaving later lookups waiting")
+        void errorInQueryShouldNotLeaveEntryPending() throws Exception {
+            // Given
+            when(delegate.findByDocumentNumber(KNOWN))
+                .thenThrow(new NoClassDefFoundError("CustomerJpaEntity"))
+                .thenReturn(Optional.of(customer(KNOWN)));
+            assertThatThrownBy(() -> repository.findByDocumentNumber(KNOWN)).isInstanceOf(NoClassDefFoundError.class);
+
+            // When
+            CompletableFuture<Optional<Customer>> retry =
+                CompletableFuture.supplyAsync(() -> repository.findByDocumentNumber(KNOWN));
+
+            // Then
+            assertThat(retry.get(5, TimeUnit.SECONDS)).contains(customer(KNOWN));
+            verify(delegate, times(2)).findByDocumentNumber(KNOWN);
+        }
+
+        @Test
+        @DisplayName("Batch lookups should only query documents missing from the cache, including unknown ones")
+        void batchLookupsShouldOnlyQueryMisses() {
+            // Given
+            DocumentNumber other = new DocumentNumber("1098765432");
+            when(delegate.findByDocumentNumber(KNOWN)).thenReturn(Optional.of(customer(KNOWN)));
+            when(delegate.findAllByDocumentNumbers(anyCollection())).thenReturn(Map.of(other, customer(other)));
+            repository.findByDocumentNumber(KNOWN);
+
+            // When
+            Map<DocumentNumber, Customer> customers = repository.findAllByDocumentNumbers(List.of(KNOWN, other, UNKNOWN));
+            boolean unknownExists = repository.existsByDocumentNumber(UNKNOWN);
+
+            // Then
+            assertThat(customers).containsOnlyKeys(KNOWN, other);
+            assertThat(unknownExists).isFalse();
+            verify(delegate).findAllByDocumentNumbers(Set.of(other, UNKNOWN));
+            verify(delegate, times(1)).findByDocumentNumber(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Invalidation Tests")
+    class InvalidationTests {
+
+        @Test
+        @DisplayName("Saving a customer should drop a cached negative entry")
+        void saveShouldInvalidateNegativeEntry() {
+            // Given
+            when(delegate.findByDocumentNumber(UNKNOWN))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(customer(UNKNOWN)));
+            when(delegate.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+            repository.findByDocumentNumber(UNKNOWN);
+
+            // When
+            repository.save(customer(UNKNOWN));
+
+            // Then
+            assertThat(repository.findByDocumentNumber(UNKNOWN)).isPresent();
+            verify(delegate, times(2)).findByDocumentNumber(UNKNOWN);
+        }
+
+        @Test
+        @DisplayName("A lookup in flight during a save should not repopulate the cache with its stale result")
+        void inFlightLookupShouldNotSurviveSave() throws Exception {
+            // Given
+            CountDownLatch queryStarted = new CountDownLatch(1);
+            CountDownLatch releaseQuery = new CountDownLatch(1);
+            when(delegate.findByDocumentNumber(UNKNOWN))
+                .thenAnswer(invocation -> {
+                    queryStarted.countDown();
+                    releaseQuery.await(5, TimeUnit.SECONDS);
+                    return Optional.empty();
+                })
+                .thenReturn(Optional.of(customer(UNKNOWN)));
+            when(delegate.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+            CompletableFuture<Optional<Customer>> stale =
+                CompletableFuture.supplyAsync(() -> repository.findByDocumentNumber(UNKNOWN));
+            assertThat(queryStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // When
+            repository.save(customer(UNKNOWN));
+            releaseQuery.countDown();
+
+            // Then
+            assertThat(stale.get(5, TimeUnit.SECONDS)).isEmpty();
+            assertThat(repository.findByDocumentNumber(UNKNOWN)).isPresent();
+        }
+    }
+
+    private static Customer customer(DocumentNumber documentNumber) {
+        return new Customer(
+            documentNumber, DocumentType.CEDULA, "Juan", "Pérez", "juan.perez@email.com", "3001234567",
+            LocalDate.of(1985, 5, 20), new CreditAmount(BigDecimal.valueOf(5_000_000)),
+            new CreditAmount(BigDecimal.valueOf(500_000)), "Ingeniero", 60);
+    }
+}
@@ -0,0 +1,196 @@
+package mx.regional.next.automotive.credit.infrastructure.adapters.persistence.cache;
+
+import mx.regional.next.automotive.credit.application.dto.CreditStatusResponse;
+import mx.regional.next.automotive.credit.domain.enums.CreditStatus;
+import mx.regional.next.automotive.credit.infrastructure.adapters.persistence.jpa.entities.CreditApplicationJpaEntity;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CreditApplicationStatusCache Tests")
+class CreditApplicationStatusCacheTest {
+
+    private static final String ID = "5b1e9f7c-1f47-4a8e-9d0b-3f1a2c4d5e6f";
+    private static final LocalDateTime CREATED = LocalDateTime.of(2024, 7, 1, 10, 0);
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger revalidations = new AtomicInteger();
+    private SimpleMeterRegistry meterRegistry;
+    private CreditApplicationStatusCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new CreditApplicationStatusCache(meterRegistry, 2, Duration.ofMinutes(5), Duration.ofSeconds(2), nanos::get);
+    }
+
+    @Nested
+    @DisplayName("Read-Through Tests")
+    class ReadThroughTests {
+
+        @Test
+        @DisplayName("Should serve fresh entries without revalidating and return detached copies")
+        void shouldServeFreshEntriesAsCopies() {
+            // Given
+            cache.put(entity(ID, CreditStatus.PENDING, CREATED));
+
+            // When
+            CreditApplicationJpaEntity first = cache.get(ID, lastUpdate(CREATED)).orElseThrow();
+            first.setStatus(CreditStatus.CANCELLED);
+            CreditApplicationJpaEntity second = cache.get(ID, lastUpdate(CREATED)).orElseThrow();
+
+            // Then
+            assertThat(second.getStatus()).isEqualTo(CreditStatus.PENDING);
+            assertThat(revalidations).hasValue(0);
+            assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should report misses for unknown applications")
+        void shouldReportMisses() {
+            assertThat(cache.get(ID, lastUpdate(CREATED))).isEmpty();
+            assertThat(meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should expire entries after the TTL")
+        void shouldExpireEntriesAfterTtl() {
+            // Given
+            cache.put(entity(ID, CreditStatus.PENDING, CREATED));
+
+            // When
+            nanos.addAndGet(Duration.ofMinutes(6).toNanos());
+
+            // Then
+            assertThat(cache.get(ID, lastUpdate(CREATED))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should evict beyond the maximum size and publish evictions")
+        void shouldEvictBeyondMaximumSize() {
+            // Given
+            for (int i = 0; i < 10; i++) {
+                cache.put(entity("id-" + i, CreditStatus.PENDING, CREATED));
+            }
+
+            // When
+            cache.cleanUp();
+
+            // Then
+            assertThat(meterRegistry.get("cache.size").gauge().value()).isEqualTo(2);
+            assertThat(meterRegistry.get("cache.evictions").functionCounter().count()).isEqualTo(8);
+        }
+    }
+
+    @Nested
+    @DisplayName("Consistency Tests")
+    class ConsistencyTests {
+
+        @Test
+        @DisplayName("A late read-through should not overwrite a newer write")
+        void lateReadShouldNotOverwriteNewerWrite() {
+            // Given: una lectura cargó la versión anterior mientras otra petición guardaba la nueva
+            CreditApplicationJpaEntity staleRead = entity(ID, CreditStatus.PENDING, CREATED);
+            cache.put(entity(ID, CreditStatus.APPROVED, CREATED.plusMinutes(1)));
+
+            // When
+            cache.put(staleRead);
+
+            // Then
+            assertThat(cache.get(ID, lastUpdate(CREATED.plusMinutes(1))).orElseThrow().getStatus())
+                .isEqualTo(CreditStatus.APPROVED);
+        }
+
+        @Test
+        @DisplayName("A status-only entry should serve status reads but not full row reads")
+        void statusOnlyEntryShouldNotServeFullRows() {
+            // Given
+            cache.putStatus(new CreditStatusResponse(ID, "1234567890", CreditStatus.PENDING,
+                BigDecimal.valueOf(50_000_000), null, null, CREATED, CREATED));
+
+            // When / Then
+            assertThat(cache.getStatus(ID, lastUpdate(CREATED))).isPresent();
+            assertThat(cache.get(ID, lastUpdate(CREATED))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("A status of the same version should not replace the full row")
+        void statusShouldNotReplaceFullRowOfSameVersion() {
+            // Given
+            cache.put(entity(ID, CreditStatus.PENDING, CREATED));
+
+            // When
+            cache.putStatus(new CreditStatusResponse(ID, "1234567890", CreditStatus.PENDING,
+                BigDecimal.valueOf(50_000_000), null, null, CREATED, CREATED));
+
+            // Then
+            assertThat(cache.get(ID, lastUpdate(CREATED))).isPresent();
+        }
+
+        @Test
+        @DisplayName("Should keep entries that are unchanged in the database after revalidation")
+        void shouldKeepUnchangedEntriesAfterRevalidation() {
+            // Given
+            cache.put(entity(ID, CreditStatus.PENDING, CREATED));
+            nanos.addAndGet(Duration.ofSeconds(3).toNanos());
+
+            // When
+            Optional<CreditApplicationJpaEntity> revalidated = cache.get(ID, lastUpdate(CREATED));
+            Optional<CreditApplicationJpaEntity> fresh = cache.get(ID, lastUpdate(CREATED));
+
+            // Then: la segunda lectura ya no revalida
+            assertThat(revalidated).isPresent();
+            assertThat(fresh).isPresent();
+            assertThat(revalidations).hasValue(1);
+            assertThat(meterRegistry.get("credit.application.status.cache.revalidations")
+                .tag("result", "unchanged").counter().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should drop entries written by another node once they need revalidation")
+        void shouldDropEntriesWrittenByAnotherNode() {
+            // Given: otro nodo actualizó la solicitud
+            cache.put(entity(ID, CreditStatus.PENDING, CREATED));
+            nanos.addAndGet(Duration.ofSeconds(3).toNanos());
+
+            // When
+            Optional<CreditApplicationJpaEntity> result = cache.get(ID, lastUpdate(CREATED.plusSeconds(1)));
+
+            // Then
+            assertThat(result).isEmpty();
+            assertThat(cache.get(ID, lastUpdate(CREATED.plusSeconds(1)))).isEmpty();
+            assertThat(meterRegistry.get("credit.application.status.cache.revalidations")
+                .tag("result", "changed").counter().count()).isEqualTo(1);
+        }
+    }
+
+    private java.util.function.Function<String, Optional<LocalDateTime>> lastUpdate(LocalDateTime value) {
+        return id -> {
+            revalidations.incrementAndGet();
+            return Optional.of(value);
+        };
+    }
+
+    static CreditApplicationJpaEntity entity(String id, CreditStatus status, LocalDateTime lastUpdate) {
+        CreditApplicationJpaEntity entity = new CreditApplicationJpaEntity(
+            id, "1234567890", "1HGBH41JXMN109186", BigDecimal.valueOf(50_000_000), status, CREATED, lastUpdate);
+        entity.setVehicleBrand("TOYOTA");
+        entity.setVehicleModel("COROLLA");
+        entity.setVehicleYear(2023);
+        entity.setVehicleValue(BigDecimal.valueOf(80_000_000));
+        entity.setVehicleKilometers(20_000);
+        return entity;
+    }
+}
@@ -0,0 +1,241 @@
+package mx.regional.next.automotive.credit.infrastructure.adapters.persistence.jpa.repositories;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Regresión de planes de las consultas calientes de {@link CreditApplicationJpaRepository}
+ * contra PostgreSQL real con las migraciones aplicadas. Falla si una consulta vuelve a leer
+ * una partición con datos mediante Seq Scan, o si una consulta que debe resolverse solo con
+ * el índice necesita visitar la tabla. Las consultas reproducen el SQL que genera Hibernate
+ * con valores literales, que es lo que ve el planificador en un plan personalizado.
+ * Se omite si no hay Docker.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("CreditApplication Query Plan Tests")
+class CreditApplicationQueryPlanTest {
+
+    private static final int CUSTOMERS = 2_000;
+    private static final int APPLICATIONS = 200_000;
+    private static final int MONTHS = 6;
+
+    private static final String STATUS_COLUMNS = "ca.id, ca.customer_document, ca.status, ca.requested_amount, "
+        + "ca.credit_score, ca.rejection_reason, ca.application_date, ca.last_update_date";
+
+    private static final Map<String, String> HOT_QUERIES = Map.of(
+        "latestByCustomer",
+        "SELECT ca.* FROM credit_applications ca WHERE ca.customer_document = 'C42' "
+            + "ORDER BY ca.application_date DESC, ca.id DESC FETCH FIRST 1 ROWS ONLY",
+        "statusPageByCustomer",
+        "SELECT " + STATUS_COLUMNS + " FROM credit_applications ca WHERE ca.customer_document = 'C42' "
+            + "ORDER BY ca.application_date DESC, ca.id DESC FETCH FIRST 21 ROWS ONLY",
+        "statusPageByCustomerAfter",
+        "SELECT " + STATUS_COLUMNS + " FROM credit_applications ca WHERE ca.customer_document = 'C42' "
+            + "AND (ca.application_date < now() - INTERVAL '30 days' OR (ca.application_date = now() - INTERVAL '30 days' "
+            + "AND ca.id < 'zzzz')) ORDER BY ca.application_date DESC, ca.id DESC FETCH FIRST 21 ROWS ONLY",
+        "pendingPage",
+        "SELECT " + STATUS_COLUMNS + " FROM credit_applications ca WHERE ca.status = 'PENDING' "
+            + "ORDER BY ca.application_date DESC, ca.id DESC FETCH FIRST 21 ROWS ONLY",
+        "approvedPageAfter",
+        "SELECT " + STATUS_COLUMNS + " FROM credit_applications ca WHERE ca.status = 'APPROVED' "
+            + "AND (ca.application_date < now() - INTERVAL '30 days' OR (ca.application_date = now() - INTERVAL '30 days' "
+            + "AND ca.id < 'zzzz')) ORDER BY ca.application_date DESC, ca.id DESC FETCH FIRST 21 ROWS ONLY",
+        "existsByCustomerDocumentAndStatus",
+        "SELECT ca.id FROM credit_applications ca WHERE ca.customer_document = 'C42' AND ca.status = 'APPROVED' "
+            + "FETCH FIRST 1 ROWS ONLY");
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void migrateAndSeed() throws Exception {
+        connection = DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        try (Statement ddl = connection.createStatement()) {
+            for (Resource migration : migrations()) {
+                ddl.execute(migration.getContentAsString(StandardCharsets.UTF_8));
+            }
+
+            ddl.execute(String.format("""
+                SELECT create_credit_application_partition((date_trunc('month', now()) - make_interval(months => m))::date)
+                FROM generate_series(1, %d) m
+                """, MONTHS));
+            ddl.execute(String.format("""
+                INSERT INTO customers (document_number, document_type, first_name, last_name, email, birth_date,
+                                       monthly_income, occupation)
+                SELECT 'C' || g, 'CC', 'Nombre', 'Apellido', 'c' || g || '@correo.mx', DATE '1985-01-01',
+                       25000, 'Empleado'
+                FROM generate_series(0, %d) g
+                """, CUSTOMERS - 1));
+            // Distribución habitual: la mayoría de las solicitudes ya terminó, pocas siguen activas
+            ddl.execute(String.format("""
+                INSERT INTO credit_applications (id, customer_document, vehicle_vin, requested_amount, status,
+                                                 credit_score, rejection_reason, application_date, last_update_date)
+                SELECT lpad(to_hex(g), 36, '0'),
+                       'C' || (g %% %d),
+                       '1HGBH41JXMN109186',
+                       20000000 + (g %% 100) * 1000000,
+                       s.status,
+                       600 + g %% 250,
+                       CASE WHEN s.status = 'REJECTED' THEN 'Puntaje crediticio insuficiente' END,
+                       ts, ts
+                FROM generate_series(1, %d) g,
+                     LATERAL (SELECT CASE WHEN g %% 20 = 0 THEN 'PENDING'
+                                          WHEN g %% 20 < 4 THEN 'APPROVED'
+                                          WHEN g %% 20 < 18 THEN 'REJECTED'
+                                          WHEN g %% 20 = 18 THEN 'EXPIRED'
+                                          ELSE 'CANCELLED' END AS status) s,
+                     LATERAL (SELECT date_trunc('month', now()) - INTERVAL '%d months'
+                                     + (g::float8 / %d) * (now() - (date_trunc('month', now()) - INTERVAL '%d months')) AS ts) t
+                """, CUSTOMERS, APPLICATIONS, MONTHS, APPLICATIONS, MONTHS));
+            // Index Only Scan necesita el mapa de visibilidad al día
+            ddl.execute("VACUUM ANALYZE customers");
+            ddl.execute("VACUUM ANALYZE credit_applications");
+        }
+    }
+
+    @AfterAll
+    static void closeConnection() throws SQLException {
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"latestByCustomer", "statusPageByCustomer", "statusPageByCustomerAfter",
+                            "pendingPage", "approvedPageAfter", "existsByCustomerDocumentAndStatus"})
+    @DisplayName("Hot queries should never read a populated partition with a sequential scan")
+    void hotQueriesShouldNotUseSequentialScans(String query) throws Exception {
+        // When
+        List<JsonNode> scans = scanNodes(explain(HOT_QUERIES.get(query)));
+
+        // Then
+        assertThat(scans).isNotEmpty();
+        assertThat(scans)
+            .filteredOn(scan -> "Seq Scan".equals(scan.path("Node Type").asText()))
+            .filteredOn(scan -> isPopulated(scan.path("Relation Name").asText()))
+            .as("Seq Scan en %s", query)
+            .isEmpty();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"statusPageByCustomer", "statusPageByCustomerAfter", "pendingPage",
+                            "approvedPageAfter", "existsByCustomerDocumentAndStatus"})
+    @DisplayName("Status projections and existence checks should be answered from the index alone")
+    void coveredQueriesShouldUseIndexOnlyScans(String query) throws Exception {
+        // When
+        List<JsonNode> scans = scanNodes(explain(HOT_QUERIES.get(query)));
+
+        // Then
+        List<JsonNode> populated = scans.stream()
+            .filter(scan -> isPopulated(scan.path("Relation Name").asText()))
+            .toList();
+        assertThat(populated).isNotEmpty();
+        assertThat(populated).allSatisfy(scan -> {
+            assertThat(scan.path("Node Type").asText()).as("nodo de %s", query).isEqualTo("Index Only Scan");
+            assertThat(scan.path("Heap Fetches").asLong()).as("lecturas de tabla en %s", query).isZero();
+        });
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"pendingPage", "approvedPageAfter"})
+    @DisplayName("Active status pages should use the partial index of active applications")
+    void activeStatusPagesShouldUsePartialIndex(String query) throws Exception {
+        // When
+        List<JsonNode> scans = scanNodes(explain(HOT_QUERIES.get(query)));
+
+        // Then
+        assertThat(scans)
+            .filteredOn(scan -> isPopulated(scan.path("Relation Name").asText()))
+            .extracting(scan -> scan.path("Index Name").asText())
+            .isNotEmpty()
+            .allMatch(CreditApplicationQueryPlanTest::isPartial, "índice parcial");
+    }
+
+    private static List<Resource> migrations() throws Exception {
+        Resource[] scripts = new PathMatchingResourcePatternResolver()
+            .getResources("classpath:database/migrations/V*__*.sql");
+        return Arrays.stream(scripts)
+            .sorted(Comparator.comparingInt(CreditApplicationQueryPlanTest::version))
+            .toList();
+    }
+
+    private static int version(Resource migration) {
+        String name = migration.getFilename();
+        return Integer.parseInt(name.substring(1, name.indexOf("__")));
+    }
+
+    private static JsonNode explain(String sql) throws Exception {
+        try (Statement statement = connection.createStatement();
+             ResultSet plan = statement.executeQuery("EXPLAIN (ANALYZE, FORMAT JSON) " + sql)) {
+            plan.next();
+            return JSON.readTree(plan.getString(1)).get(0).get("Plan");
+        }
+    }
+
+    // Nodos que leen una relación, en cualquier nivel del plan
+    private static List<JsonNode> scanNodes(JsonNode plan) {
+        List<JsonNode> scans = new ArrayList<>();
+        if (plan.has("Relation Name")) {
+            scans.add(plan);
+        }
+        for (JsonNode child : plan.path("Plans")) {
+            scans.addAll(scanNodes(child));
+        }
+        return scans;
+    }
+
+    // Los índices de cada partición reciben nombres generados; se identifican por su predicado
+    private static boolean isPartial(String index) {
+        try (PreparedStatement catalog = connection.prepareStatement(
+                 "SELECT i.indpred IS NOT NULL FROM pg_index i JOIN pg_class c ON c.oid = i.indexrelid WHERE c.relname = ?")) {
+            catalog.setString(1, index);
+            try (ResultSet row = catalog.executeQuery()) {
+                return row.next() && row.getBoolean(1);
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Error consultando el catálogo del índice " + index, e);
+        }
+    }
+
+    // Las particiones vacías (meses futuros, la de respaldo) se leen completas sin costo
+    private static boolean isPopulated(String relation) {
+        try (PreparedStatement stats = connection.prepareStatement(
+                 "SELECT reltuples FROM pg_class WHERE relname = ?")) {
+            stats.setString(1, relation);
+            try (ResultSet row = stats.executeQuery()) {
+                return row.next() && row.getFloat(1) > 0;
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Error consultando estadísticas de " + relation, e);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package mx.regional.next.automotive.credit.infrastructure.adapters.persistence.partitioning;
+
+import mx.regional.next.automotive.credit.shared.utils.TimeOrderedIds;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ApplicationDateWindow Tests")
+class ApplicationDateWindowTest {
+
+    @Test
+    @DisplayName("A time-ordered ID should bound the application date around its creation time")
+    void timeOrderedIdShouldBoundApplicationDate() {
+        // Given
+        LocalDateTime before = LocalDateTime.now();
+        String id = TimeOrderedIds.next();
+        LocalDateTime after = LocalDateTime.now();
+
+        // When
+        Optional<ApplicationDateWindow> window = ApplicationDateWindow.forId(id);
+
+        // Then
+        assertThat(window).isPresent();
+        assertThat(window.get().getFrom()).isBefore(before);
+        assertThat(window.get().getTo()).isAfter(after);
+        assertThat(window.get().getTo()).isBefore(after.plusDays(2));
+    }
+
+    @Test
+    @DisplayName("The window should hold in any zone the application date was recorded in")
+    void windowShouldCoverZoneOffsets() {
+        // Given
+        String id = TimeOrderedIds.next();
+        LocalDateTime inKiritimati = LocalDateTime.now(ZoneId.of("Pacific/Kiritimati"));
+        LocalDateTime inBakerIsland = LocalDateTime.now(ZoneId.of("Etc/GMT+12"));
+
+        // When
+        ApplicationDateWindow window = ApplicationDateWindow.forId(id, ZoneId.of("UTC")).orElseThrow();
+
+        // Then
+        assertThat(inKiritimati).isBetween(window.getFrom(), window.getTo());
+        assertThat(inBakerIsland).isBetween(window.getFrom(), window.getTo());
+    }
+
+    @Test
+    @DisplayName("Random and malformed IDs should fall back to an unpruned lookup")
+    void legacyIdsShouldHaveNoWindow() {
+        assertThat(ApplicationDateWindow.forId(UUID.randomUUID().toString())).isEmpty();
+        assertThat(ApplicationDateWindow.forId("no-es-un-uuid")).isEmpty();
+    }
+}
@@ -0,0 +1,61 @@
+package mx.regional.next.automotive.credit.infrastructure.adapters.persistence.partitioning;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CreditApplicationArchiver Tests")
+class CreditApplicationArchiverTest {
+
+    @Test
+    @DisplayName("Only monthly partitions older than the retention window should be archived, oldest first")
+    void onlyExpiredMonthlyPartitionsShouldBeArchived() {
+        // Given
+        List<String> partitions = List.of(
+            "credit_applications_2024_03",
+            "credit_applications_default",
+            "credit_applications_2023_02",
+            "credit_applications_2023_03",
+            "credit_applications_2022_11");
+
+        // When
+        List<YearMonth> expired = CreditApplicationArchiver.expiredMonths(partitions, YearMonth.of(2024, 3), 12);
+
+        // Then
+        assertThat(expired).containsExactly(YearMonth.of(2022, 11), YearMonth.of(2023, 2), YearMonth.of(2023, 3));
+    }
+
+    @Test
+    @DisplayName("The current month should never be archived")
+    void currentMonthShouldNeverBeArchived() {
+        // When
+        List<YearMonth> expired = CreditApplicationArchiver.expiredMonths(
+            List.of("credit_applications_2024_03", "credit_applications_2024_02"), YearMonth.of(2024, 3), 0);
+
+        // Then
+        assertThat(expired).containsExactly(YearMonth.of(2024, 2));
+    }
+
+    @Test
+    @DisplayName("Partition names should round-trip through their month")
+    void partitionNamesShouldRoundTrip() {
+        assertThat(CreditApplicationArchiver.partitionName(YearMonth.of(2023, 7))).isEqualTo("credit_applications_2023_07");
+        assertThat(CreditApplicationArchiver.monthOf("credit_applications_2023_07")).contains(YearMonth.of(2023, 7));
+        assertThat(CreditApplicationArchiver.monthOf("credit_applications_default")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("CSV fields should be quoted only when needed and nulls left empty")
+    void csvFieldsShouldBeEscaped() {
+        assertThat(CreditApplicationArchiver.csvField(null)).isEmpty();
+        assertThat(CreditApplicationArchiver.csvField("APPROVED")).isEqualTo("APPROVED");
+        assertThat(CreditApplicationArchiver.csvField("")).isEqualTo("\"\"");
+        assertThat(CreditApplicationArchiver.csvField("Score bajo, ingresos \"variables\""))
+            .isEqualTo("\"Score bajo, ingresos \"\"variables\"\"\"");
+        assertThat(CreditApplicationArchiver.csvField("línea 1\nlínea 2")).isEqualTo("\"línea 1\nlínea 2\"");
+    }
+}
@@ -0,0 +1,203 @@
+package mx.regional.next.automotive.credit.infrastructure.adapters.persistence.partitioning;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latencia de las consultas sobre el mes en curso (la partición caliente) con 10 millones de
+ * solicitudes sintéticas repartidas en 24 meses: tabla única contra tabla particionada por mes
+ * con los mismos índices. Necesita PostgreSQL; la conexión se toma de
+ * {@code -Dbenchmark.jdbc.url}, {@code -Dbenchmark.jdbc.user} y {@code -Dbenchmark.jdbc.password}.
+ * Los datos se generan una sola vez en el esquema {@code partition_bench} y se reutilizan en
+ * ejecuciones posteriores. Ejecutar con {@code main} desde el classpath de test.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CreditApplicationPartitionBenchmark {
+
+    private static final int ROWS = 10_000_000;
+    private static final int MONTHS = 24;
+    private static final int CUSTOMERS = 500_000;
+    private static final int SAMPLE_SIZE = 10_000;
+    private static final int PAGE_SIZE = 20;
+
+    private static final String COLUMNS = """
+        id VARCHAR(36) COLLATE "C" NOT NULL,
+        customer_document VARCHAR(20) NOT NULL,
+        vehicle_vin VARCHAR(17) NOT NULL,
+        requested_amount DECIMAL(15,2) NOT NULL,
+        status VARCHAR(20) NOT NULL,
+        credit_score INTEGER,
+        rejection_reason TEXT,
+        application_date TIMESTAMP NOT NULL,
+        last_update_date TIMESTAMP NOT NULL,
+        vehicle_brand VARCHAR(50),
+        vehicle_model VARCHAR(50),
+        vehicle_year INTEGER,
+        vehicle_value DECIMAL(15,2),
+        vehicle_kilometers INTEGER
+        """;
+
+    // Fechas uniformes en los últimos 24 meses; el ID hexadecimal crece con la fecha como un UUIDv7
+    private static final String SEED = """
+        INSERT INTO %s (id, customer_document, vehicle_vin, requested_amount, status, credit_score,
+                        application_date, last_update_date, vehicle_brand)
+        SELECT lpad(to_hex(g), 36, '0'),
+               'C' || (g %% %d),
+               '1HGBH41JXMN109186',
+               20000000 + (g %% 100) * 1000000,
+               (ARRAY['PENDING', 'APPROVED', 'REJECTED', 'EXPIRED', 'CANCELLED'])[1 + g %% 5],
+               600 + g %% 250,
+               ts, ts,
+               (ARRAY['TOYOTA', 'MAZDA', 'CHEVROLET', 'RENAULT', 'KIA'])[1 + g %% 5]
+        FROM generate_series(1, %d) g,
+             LATERAL (SELECT date_trunc('month', now()) - INTERVAL '%d months'
+                             + (g::float8 / %d) * (now() - (date_trunc('month', now()) - INTERVAL '%d months')) AS ts) t
+        """;
+
+    @Param({"heap", "partitioned"})
+    private String layout;
+
+    private Connection connection;
+    private PreparedStatement byIdInWindow;
+    private PreparedStatement pendingThisMonth;
+    private PreparedStatement customerHistory;
+    private final List<String> recentIds = new ArrayList<>();
+    private final List<Timestamp> recentDates = new ArrayList<>();
+    private final List<String> recentCustomers = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void openDatabase() throws SQLException {
+        connection = DriverManager.getConnection(
+            System.getProperty("benchmark.jdbc.url", "jdbc:postgresql://localhost:5432/automotive_credit_bench"),
+            System.getProperty("benchmark.jdbc.user", "credit_user"),
+            System.getProperty("benchmark.jdbc.password", "credit_pass"));
+        seedIfMissing();
+
+        String table = "partition_bench.applications_" + layout;
+        byIdInWindow = connection.prepareStatement("SELECT * FROM " + table
+            + " WHERE id = ? AND application_date >= ? AND application_date < ?");
+        pendingThisMonth = connection.prepareStatement("SELECT id, status, application_date FROM " + table
+            + " WHERE status = 'PENDING' AND application_date >= date_trunc('month', now())"
+            + " ORDER BY application_date DESC, id DESC LIMIT " + PAGE_SIZE);
+        customerHistory = connection.prepareStatement("SELECT id, status, application_date FROM " + table
+            + " WHERE customer_document = ? ORDER BY application_date DESC, id DESC LIMIT " + PAGE_SIZE);
+
+        try (Statement sample = connection.createStatement();
+             ResultSet rows = sample.executeQuery("SELECT id, application_date, customer_document FROM " + table
+                 + " WHERE application_date >= date_trunc('month', now()) ORDER BY random() LIMIT " + SAMPLE_SIZE)) {
+            while (rows.next()) {
+                recentIds.add(rows.getString(1));
+                recentDates.add(rows.getTimestamp(2));
+                recentCustomers.add(rows.getString(3));
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void closeDatabase() throws SQLException {
+        connection.close();
+    }
+
+    // Búsqueda por ID con el rango de ApplicationDateWindow: en la tabla particionada toca solo el mes
+    @Benchmark
+    public boolean findRecentById() throws SQLException {
+        int pick = ThreadLocalRandom.current().nextInt(recentIds.size());
+        long created = recentDates.get(pick).getTime();
+        byIdInWindow.setString(1, recentIds.get(pick));
+        byIdInWindow.setTimestamp(2, new Timestamp(created - ApplicationDateWindow.MARGIN.toMillis()));
+        byIdInWindow.setTimestamp(3, new Timestamp(created + ApplicationDateWindow.MARGIN.toMillis()));
+        try (ResultSet row = byIdInWindow.executeQuery()) {
+            return row.next();
+        }
+    }
+
+    @Benchmark
+    public int pendingPageThisMonth() throws SQLException {
+        return count(pendingThisMonth);
+    }
+
+    // Sin filtro de fecha: recorre el índice de cada partición, es el costo de particionar
+    @Benchmark
+    public int customerHistoryPage() throws SQLException {
+        customerHistory.setString(1, recentCustomers.get(ThreadLocalRandom.current().nextInt(recentCustomers.size())));
+        return count(customerHistory);
+    }
+
+    private static int count(PreparedStatement query) throws SQLException {
+        int rows = 0;
+        try (ResultSet result = query.executeQuery()) {
+            while (result.next()) {
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    private void seedIfMissing() throws SQLException {
+        try (Statement ddl = connection.createStatement()) {
+            ResultSet seeded = ddl.executeQuery("SELECT to_regclass('partition_bench.applications_partitioned') IS NOT NULL");
+            seeded.next();
+            if (seeded.getBoolean(1)) {
+                return;
+            }
+
+            ddl.execute("CREATE SCHEMA partition_bench");
+            ddl.execute("CREATE TABLE partition_bench.applications_heap (" + COLUMNS + ", PRIMARY KEY (id))");
+            ddl.execute("CREATE TABLE partition_bench.applications_partitioned (" + COLUMNS
+                + ", PRIMARY KEY (id, application_date)) PARTITION BY RANGE (application_date)");
+            for (int month = -MONTHS; month <= 1; month++) {
+                ddl.execute(String.format("""
+                    CREATE TABLE partition_bench.applications_p%d PARTITION OF partition_bench.applications_partitioned
+                    FOR VALUES FROM (date_trunc('month', now()) + INTERVAL '%d months')
+                                 TO (date_trunc('month', now()) + INTERVAL '%d months')
+                    """, month + MONTHS, month, month + 1));
+            }
+
+            for (String table : List.of("applications_heap", "applications_partitioned")) {
+                ddl.execute(String.format(SEED, "partition_bench." + table, CUSTOMERS, ROWS, MONTHS, ROWS, MONTHS));
+                ddl.execute("CREATE INDEX ON partition_bench." + table
+                    + " (customer_document, application_date DESC, id DESC)");
+                ddl.execute("CREATE INDEX ON partition_bench." + table + " (status, application_date DESC, id DESC)");
+                ddl.execute("CREATE INDEX ON partition_bench." + table + " (application_date DESC, id DESC)");
+                ddl.execute("ANALYZE partition_bench." + table);
+            }
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(CreditApplicationPartitionBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
@@ -0,0 +1,118 @@
+package mx.regional.next.automotive.credit.infrastructure.adapters.persistence.writebehind;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DecisionLog Tests")
+class DecisionLogTest {
+
+    private static final int CAPACITY = 4096;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Should recover only the records after the checkpoint")
+    void shouldRecoverRecordsAfterCheckpoint() throws Exception {
+        // Given
+        Path path = tempDir.resolve("decisions.log");
+        try (DecisionLog decisionLog = new DecisionLog(path, CAPACITY, false)) {
+            long third = 0;
+            for (int i = 1; i <= 5; i++) {
+                long end = decisionLog.append(bytes("decision-" + i));
+                if (i == 3) {
+                    third = end;
+                }
+            }
+            decisionLog.markFlushed(third);
+        }
+
+        // When
+        try (DecisionLog reopened = new DecisionLog(path, CAPACITY, false)) {
+
+            // Then
+            assertThat(reopened.recovered()).extracting(entry -> text(entry.payload()))
+                .containsExactly("decision-4", "decision-5");
+        }
+    }
+
+    @Test
+    @DisplayName("Should discard a record with an invalid checksum and everything after it")
+    void shouldDiscardCorruptedTail() throws Exception {
+        // Given
+        Path path = tempDir.resolve("decisions.log");
+        try (DecisionLog decisionLog = new DecisionLog(path, CAPACITY, false)) {
+            decisionLog.append(bytes("decision-1"));
+            decisionLog.append(bytes("decision-2"));
+            decisionLog.append(bytes("decision-3"));
+        }
+        int secondPayload = DecisionLog.HEADER_BYTES + 8 + "decision-1".length() + 8;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, CAPACITY);
+            buffer.put(secondPayload, (byte) 'X');
+            buffer.force();
+        }
+
+        // When
+        try (DecisionLog reopened = new DecisionLog(path, CAPACITY, false)) {
+            reopened.append(bytes("decision-4"));
+        }
+        try (DecisionLog reopened = new DecisionLog(path, CAPACITY, false)) {
+
+            // Then
+            assertThat(reopened.recovered()).extracting(entry -> text(entry.payload()))
+                .containsExactly("decision-1", "decision-4");
+        }
+    }
+
+    @Test
+    @DisplayName("Should compact flushed space and keep pending records recoverable")
+    void shouldCompactFlushedSpace() throws Exception {
+        // Given
+        Path path = tempDir.resolve("decisions.log");
+        byte[] payload = new byte[300];
+        Deque<Long> pending = new ArrayDeque<>();
+
+        // When
+        try (DecisionLog decisionLog = new DecisionLog(path, CAPACITY, false)) {
+            for (int i = 0; i < 100; i++) {
+                long end = decisionLog.append(payload);
+                if (end < 0) {
+                    while (pending.size() > 2) {
+                        decisionLog.markFlushed(pending.pollFirst());
+                    }
+                    end = decisionLog.append(payload);
+                }
+                assertThat(end).isPositive();
+                pending.addLast(end);
+            }
+        }
+
+        // Then
+        try (DecisionLog reopened = new DecisionLog(path, CAPACITY, false)) {
+            List<DecisionLog.Entry> recovered = reopened.recovered();
+            assertThat(recovered).hasSize(pending.size());
+            assertThat(reopened.pendingBytes()).isEqualTo(pending.size() * (8 + payload.length));
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String text(byte[] value) {
+        return new String(value, StandardCharsets.UTF_8);
+    }
+}
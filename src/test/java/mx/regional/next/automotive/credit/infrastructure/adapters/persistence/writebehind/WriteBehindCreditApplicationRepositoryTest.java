@@ -0,0 +1,227 @@
+package mx.regional.next.automotive.credit.infrastructure.adapters.persistence.writebehind;
+
+import mx.regional.next.automotive.credit.domain.entities.CreditApplication;
+import mx.regional.next.automotive.credit.domain.entities.Customer;
+import mx.regional.next.automotive.credit.domain.enums.CreditStatus;
+import mx.regional.next.automotive.credit.domain.enums.DocumentType;
+import mx.regional.next.automotive.credit.domain.valueobjects.CreditAmount;
+import mx.regional.next.automotive.credit.domain.valueobjects.CreditScore;
+import mx.regional.next.automotive.credit.domain.valueobjects.DocumentNumber;
+import mx.regional.next.automotive.credit.infrastructure.adapters.persistence.CreditApplicationPersistenceAdapter;
+import mx.regional.next.automotive.credit.infrastructure.adapters.persistence.jpa.entities.CreditApplicationJpaEntity;
+import mx.regional.next.automotive.credit.infrastructure.adapters.persistence.mappers.CreditApplicationEntityMapper;
+import mx.regional.next.automotive.credit.shared.utils.TimeOrderedIds;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WriteBehindCreditApplicationRepository Tests")
+class WriteBehindCreditApplicationRepositoryTest {
+
+    // Sin start() el volcador de fondo no corre; los lotes se vuelcan a mano
+    private static final Duration NEVER = Duration.ofHours(1);
+
+    private final CreditApplicationEntityMapper mapper = new CreditApplicationEntityMapper();
+    private final Customer customer = new Customer(
+        new DocumentNumber("1234567890"),
+        DocumentType.CEDULA,
+        "Juan",
+        "Pérez",
+        "juan.perez@email.com",
+        "3001234567",
+        LocalDate.of(1985, 5, 20),
+        new CreditAmount(BigDecimal.valueOf(5_000_000)),
+        new CreditAmount(BigDecimal.valueOf(500_000)),
+        "Ingeniero",
+        60
+    );
+    private final List<DecisionLog> openLogs = new ArrayList<>();
+
+    @Mock
+    private CreditApplicationPersistenceAdapter persistenceAdapter;
+
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    void closeLogs() throws Exception {
+        for (DecisionLog decisionLog : openLogs) {
+            decisionLog.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Save should acknowledge without touching the database and stay readable until flushed")
+    void saveShouldAcknowledgeImmediately() throws Exception {
+        // Given
+        WriteBehindCreditApplicationRepository repository = repository(Duration.ofSeconds(5));
+        CreditApplication application = application();
+
+        // When
+        repository.save(application);
+
+        // Then
+        verifyNoInteractions(persistenceAdapter);
+        when(persistenceAdapter.hydrate(anyList())).thenAnswer(invocation -> invocation
+            .<List<CreditApplicationJpaEntity>>getArgument(0).stream()
+            .map(entity -> mapper.toDomain(entity, customer))
+            .toList());
+        assertThat(repository.findById(application.getId())).isPresent();
+        assertThat(repository.pendingCount()).isEqualTo(1);
+
+        // When
+        int flushed = repository.flushBatch();
+
+        // Then
+        assertThat(flushed).isEqualTo(1);
+        assertThat(repository.pendingCount()).isZero();
+        verify(persistenceAdapter).persistAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should write only the latest decision per application in a batch")
+    void shouldCollapseDecisionsPerApplication() throws Exception {
+        // Given
+        WriteBehindCreditApplicationRepository repository = repository(Duration.ofSeconds(5));
+        CreditApplication application = application();
+        repository.save(application);
+        application.approve(new CreditScore(760));
+        repository.save(application);
+
+        // When
+        repository.flushBatch();
+
+        // Then
+        List<CreditApplicationJpaEntity> written = captureWritten();
+        assertThat(written).hasSize(1);
+        assertThat(written.get(0).getStatus()).isEqualTo(CreditStatus.APPROVED);
+        assertThat(written.get(0).getCreditScore()).isEqualTo(760);
+    }
+
+    @Test
+    @DisplayName("Should replay unflushed decisions after a crash")
+    void shouldReplayAfterCrash() throws Exception {
+        // Given
+        Path path = tempDir.resolve("decisions.log");
+        DecisionLog crashedLog = new DecisionLog(path, 1 << 20, false);
+        WriteBehindCreditApplicationRepository crashed = new WriteBehindCreditApplicationRepository(
+            persistenceAdapter, mapper, crashedLog, 100, NEVER, Duration.ofSeconds(5));
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            CreditApplication application = application();
+            crashed.save(application);
+            ids.add(application.getId());
+        }
+        crashedLog.close();
+
+        // When
+        WriteBehindCreditApplicationRepository restarted = new WriteBehindCreditApplicationRepository(
+            persistenceAdapter, mapper, open(path), 100, NEVER, Duration.ofSeconds(5));
+        restarted.flushBatch();
+
+        // Then
+        assertThat(captureWritten()).extracting(CreditApplicationJpaEntity::getId).containsExactlyElementsOf(ids);
+    }
+
+    @Test
+    @DisplayName("A failed flush should keep decisions pending for the next attempt")
+    void failedFlushShouldKeepDecisionsPending() throws Exception {
+        // Given
+        WriteBehindCreditApplicationRepository repository = repository(Duration.ofSeconds(5));
+        repository.save(application());
+        doThrow(new RuntimeException("Base no disponible")).when(persistenceAdapter).persistAll(any());
+
+        // When / Then
+        assertThatThrownBy(repository::flushBatch).isInstanceOf(RuntimeException.class);
+        assertThat(repository.pendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Once started, the background flusher should write decisions until closed")
+    void startedFlusherShouldWriteInBackground() throws Exception {
+        // Given
+        WriteBehindCreditApplicationRepository repository = new WriteBehindCreditApplicationRepository(
+            persistenceAdapter, mapper, new DecisionLog(tempDir.resolve("decisions.log"), 1 << 20, false),
+            100, Duration.ofMillis(20), Duration.ofSeconds(5));
+        repository.start();
+
+        // When
+        repository.save(application());
+
+        // Then
+        verify(persistenceAdapter, timeout(2_000)).persistAll(anyList());
+        repository.close();
+        assertThat(repository.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Save should fail once the oldest pending decision exceeds the maximum lag")
+    void saveShouldFailWhenLagExceeded() throws Exception {
+        // Given
+        WriteBehindCreditApplicationRepository repository = repository(Duration.ofMillis(50));
+        repository.save(application());
+        Thread.sleep(80);
+
+        // When / Then
+        assertThatThrownBy(() -> repository.save(application()))
+            .isInstanceOf(RuntimeException.class)
+            .hasRootCauseInstanceOf(IllegalStateException.class);
+        verify(persistenceAdapter, never()).persistAll(any());
+    }
+
+    private WriteBehindCreditApplicationRepository repository(Duration maxLag) throws Exception {
+        return new WriteBehindCreditApplicationRepository(
+            persistenceAdapter, mapper, open(tempDir.resolve("decisions.log")), 100, NEVER, maxLag);
+    }
+
+    private DecisionLog open(Path path) throws Exception {
+        DecisionLog decisionLog = new DecisionLog(path, 1 << 20, false);
+        openLogs.add(decisionLog);
+        return decisionLog;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<CreditApplicationJpaEntity> captureWritten() {
+        ArgumentCaptor<List<CreditApplicationJpaEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(persistenceAdapter).persistAll(captor.capture());
+        return captor.getValue();
+    }
+
+    private CreditApplication application() {
+        LocalDateTime now = LocalDateTime.now();
+        CreditApplicationJpaEntity entity = new CreditApplicationJpaEntity(
+            TimeOrderedIds.next(), "1234567890", "1HGBH41JXMN109186", BigDecimal.valueOf(50_000_000), CreditStatus.PENDING, now, now);
+        entity.setVehicleBrand("TOYOTA");
+        entity.setVehicleModel("COROLLA");
+        entity.setVehicleYear(2023);
+        entity.setVehicleValue(BigDecimal.valueOf(80_000_000));
+        entity.setVehicleKilometers(20_000);
+        return mapper.toDomain(entity, customer);
+    }
+}
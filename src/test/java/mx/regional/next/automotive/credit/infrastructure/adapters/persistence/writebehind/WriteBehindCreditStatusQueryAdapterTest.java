@@ -0,0 +1,186 @@
+package mx.regional.next.automotive.credit.infrastructure.adapters.persistence.writebehind;
+
+import mx.regional.next.automotive.credit.application.dto.CreditApplicationRequest;
+import mx.regional.next.automotive.credit.application.dto.CreditApplicationResponse;
+import mx.regional.next.automotive.credit.application.dto.CreditStatusResponse;
+import mx.regional.next.automotive.credit.application.ports.out.CreditStatusQueryPort;
+import mx.regional.next.automotive.credit.application.ports.out.CustomerRepositoryPort;
+import mx.regional.next.automotive.credit.application.ports.out.VehicleValidationPort;
+import mx.regional.next.automotive.credit.application.usecases.GetCreditStatusUseCaseImpl;
+import mx.regional.next.automotive.credit.application.usecases.ProcessCreditApplicationUseCaseImpl;
+import mx.regional.next.automotive.credit.domain.entities.Customer;
+import mx.regional.next.automotive.credit.domain.entities.Vehicle;
+import mx.regional.next.automotive.credit.domain.enums.CreditStatus;
+import mx.regional.next.automotive.credit.domain.enums.DocumentType;
+import mx.regional.next.automotive.credit.domain.enums.VehicleType;
+import mx.regional.next.automotive.credit.domain.services.CreditEligibilityService;
+import mx.regional.next.automotive.credit.domain.services.InterestRateCalculationService;
+import mx.regional.next.automotive.credit.domain.valueobjects.CreditAmount;
+import mx.regional.next.automotive.credit.domain.valueobjects.CreditScore;
+import mx.regional.next.automotive.credit.domain.valueobjects.DocumentNumber;
+import mx.regional.next.automotive.credit.domain.valueobjects.VehicleVIN;
+import mx.regional.next.automotive.credit.infrastructure.adapters.persistence.CreditApplicationPersistenceAdapter;
+import mx.regional.next.automotive.credit.infrastructure.adapters.persistence.mappers.CreditApplicationEntityMapper;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WriteBehindCreditStatusQueryAdapter Tests")
+class WriteBehindCreditStatusQueryAdapterTest {
+
+    private final Customer customer = new Customer(
+        new DocumentNumber("1234567890"),
+        DocumentType.CEDULA,
+        "Juan",
+        "Pérez",
+        "juan.perez@email.com",
+        "3001234567",
+        LocalDate.of(1985, 5, 20),
+        new CreditAmount(BigDecimal.valueOf(5_000_000)),
+        new CreditAmount(BigDecimal.valueOf(500_000)),
+        "Ingeniero",
+        60
+    );
+    private final Vehicle vehicle = new Vehicle(
+        new VehicleVIN("1HGBH41JXMN109186"),
+        "TOYOTA",
+        "COROLLA",
+        2023,
+        VehicleType.SEDAN,
+        new CreditAmount(BigDecimal.valueOf(80_000_000)),
+        20_000,
+        "BLANCO",
+        "2.0L",
+        "AUTOMATICA"
+    );
+    private final CreditApplicationRequest request = new CreditApplicationRequest(
+        "1234567890",
+        BigDecimal.valueOf(50_000_000),
+        "1HGBH41JXMN109186",
+        "TOYOTA",
+        "COROLLA",
+        2023,
+        BigDecimal.valueOf(80_000_000),
+        20_000,
+        null,
+        null,
+        null,
+        List.of()
+    );
+
+    @Mock
+    private CreditApplicationPersistenceAdapter persistenceAdapter;
+
+    @Mock
+    private CreditStatusQueryPort databaseStatusQuery;
+
+    @TempDir
+    Path tempDir;
+
+    private WriteBehindCreditApplicationRepository writeBehindRepository;
+    private ProcessCreditApplicationUseCaseImpl processUseCase;
+    private GetCreditStatusUseCaseImpl statusUseCase;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // Sin start() el volcador de fondo no corre; el volcado se dispara a mano
+        writeBehindRepository = new WriteBehindCreditApplicationRepository(
+            persistenceAdapter, new CreditApplicationEntityMapper(),
+            new DecisionLog(tempDir.resolve("decisions.log"), 1 << 20, false),
+            100, Duration.ofHours(1), Duration.ofSeconds(5));
+        processUseCase = new ProcessCreditApplicationUseCaseImpl(
+            customerRepository(),
+            writeBehindRepository,
+            documentNumber -> new CreditScore(720),
+            (vin, brand, model, year) -> VehicleValidationPort.VehicleValidationResult.valid(vehicle),
+            new CreditEligibilityService(),
+            new InterestRateCalculationService(),
+            false,
+            false,
+            10,
+            2
+        );
+        statusUseCase = new GetCreditStatusUseCaseImpl(
+            new WriteBehindCreditStatusQueryAdapter(writeBehindRepository, databaseStatusQuery), 50, 500);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        writeBehindRepository.close();
+    }
+
+    @Test
+    @DisplayName("A just-processed application should report its status before the flush")
+    void processedApplicationShouldReportStatusBeforeFlush() {
+        // Given
+        CreditApplicationResponse decision = processUseCase.processApplication(request);
+
+        // When
+        CreditStatusResponse status = statusUseCase.getCreditStatus(decision.getApplicationId());
+
+        // Then
+        assertThat(status.getStatus()).isEqualTo(CreditStatus.APPROVED);
+        assertThat(status.getCreditScore()).isEqualTo(720);
+        assertThat(status.getCustomerDocument()).isEqualTo("1234567890");
+        verify(databaseStatusQuery, never()).findStatusById(any());
+        verify(persistenceAdapter, never()).persistAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Once flushed, the status should come from the database query")
+    void flushedApplicationShouldBeReadFromDatabase() {
+        // Given
+        CreditApplicationResponse decision = processUseCase.processApplication(request);
+        writeBehindRepository.flushBatch();
+        CreditStatusResponse stored = new CreditStatusResponse();
+        stored.setApplicationId(decision.getApplicationId());
+        stored.setStatus(CreditStatus.APPROVED);
+        when(databaseStatusQuery.findStatusById(decision.getApplicationId())).thenReturn(Optional.of(stored));
+
+        // When
+        CreditStatusResponse status = statusUseCase.getCreditStatus(decision.getApplicationId());
+
+        // Then
+        assertThat(status).isSameAs(stored);
+    }
+
+    private CustomerRepositoryPort customerRepository() {
+        return new CustomerRepositoryPort() {
+            @Override
+            public Optional<Customer> findByDocumentNumber(DocumentNumber documentNumber) {
+                return Optional.of(customer);
+            }
+
+            @Override
+            public Customer save(Customer customer) {
+                return customer;
+            }
+
+            @Override
+            public boolean existsByDocumentNumber(DocumentNumber documentNumber) {
+                return true;
+            }
+        };
+    }
+}
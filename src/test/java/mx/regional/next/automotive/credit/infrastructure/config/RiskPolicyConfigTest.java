@@ -0,0 +1,72 @@
+package mx.regional.next.automotive.credit.infrastructure.config;
+
+import mx.regional.next.automotive.credit.domain.services.RiskRulePolicy;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RiskPolicyConfig Tests")
+class RiskPolicyConfigTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Published credit policy should match the default risk thresholds")
+    void publishedPolicyShouldMatchDefaults() {
+        // Given
+        ClassPathResource location = new ClassPathResource("mcp/policies/credit-policies.json");
+
+        // When
+        RiskRulePolicy policy = RiskPolicyConfig.loadPolicy(objectMapper, location);
+
+        // Then
+        RiskRulePolicy defaults = RiskRulePolicy.defaults();
+        assertThat(policy.getCreditScoreBands()).isEqualTo(defaults.getCreditScoreBands());
+        assertThat(policy.getPaymentEstimateAnnualRate()).isEqualByComparingTo(defaults.getPaymentEstimateAnnualRate());
+        assertThat(policy.getPaymentEstimateTermMonths()).isEqualTo(defaults.getPaymentEstimateTermMonths());
+        assertThat(policy.getPaymentCapacityBands()).isEqualTo(defaults.getPaymentCapacityBands());
+        assertThat(policy.getDebtToIncomeBands()).isEqualTo(defaults.getDebtToIncomeBands());
+        assertThat(policy.getVehicleBaseScore()).isEqualTo(defaults.getVehicleBaseScore());
+        assertThat(policy.getVehicleLowRiskMinScore()).isEqualTo(defaults.getVehicleLowRiskMinScore());
+        assertThat(policy.getVehicleMediumRiskMinScore()).isEqualTo(defaults.getVehicleMediumRiskMinScore());
+        assertThat(policy.getVehicleAgeAdjustments()).isEqualTo(defaults.getVehicleAgeAdjustments());
+        assertThat(policy.getVehicleKilometerAdjustments()).isEqualTo(defaults.getVehicleKilometerAdjustments());
+        assertThat(policy.getLoanToValueAdjustments()).isEqualTo(defaults.getLoanToValueAdjustments());
+    }
+
+    @Test
+    @DisplayName("Should fall back to defaults when the policy has no risk factors")
+    void shouldFallBackToDefaultsWithoutRiskFactors() {
+        ByteArrayResource location = new ByteArrayResource(
+            "{\"creditPolicies\": {\"version\": \"1.0\"}}".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(RiskPolicyConfig.loadPolicy(objectMapper, location)).isSameAs(RiskRulePolicy.defaults());
+    }
+
+    @Test
+    @DisplayName("Should reject ratios with more than four decimals")
+    void shouldRejectOverPreciseRatios() throws Exception {
+        // Given
+        JsonNode policies = objectMapper.readTree(new ClassPathResource("mcp/policies/credit-policies.json").getInputStream());
+        ((ObjectNode) policies.at("/creditPolicies/riskFactors/debtToIncome/bands/0"))
+            .put("maxRatio", new BigDecimal("0.20005"));
+        ByteArrayResource location = new ByteArrayResource(objectMapper.writeValueAsBytes(policies));
+
+        // When / Then
+        assertThatThrownBy(() -> RiskPolicyConfig.loadPolicy(objectMapper, location))
+            .isInstanceOf(RuntimeException.class)
+            .hasMessageContaining("Error cargando políticas de riesgo")
+            .hasRootCauseInstanceOf(ArithmeticException.class);
+    }
+}
@@ -0,0 +1,134 @@
+package mx.regional.next.automotive.credit.infrastructure.external.batching;
+
+import mx.regional.next.automotive.credit.infrastructure.external.clients.CreditBureauClient;
+import mx.regional.next.automotive.credit.infrastructure.external.dto.CreditBureauRequest;
+import mx.regional.next.automotive.credit.infrastructure.external.dto.CreditBureauResponse;
+import mx.regional.next.automotive.credit.infrastructure.external.fallbacks.CreditBureauClientFallback;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sun.net.httpserver.HttpServer;
+import feign.Feign;
+import feign.jackson.JacksonDecoder;
+import feign.jackson.JacksonEncoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Carga contra un buró simulado por HTTP (20 ms por llamada) a través del cliente Feign real:
+ * 1,000 consultas individuales desde 50 hilos. Sin agrupar serían 1,000 llamadas remotas.
+ */
+@DisplayName("CreditBureauRequestCoalescer Load Tests")
+class CreditBureauRequestCoalescerLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(CreditBureauRequestCoalescerLoadTest.class);
+
+    private static final int LOOKUPS = 1_000;
+    private static final int CALLERS = 50;
+    private static final long STUB_LATENCY_MILLIS = 20;
+
+    private final ObjectMapper mapper = new ObjectMapper()
+        .findAndRegisterModules()
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final AtomicInteger remoteCalls = new AtomicInteger();
+    private final AtomicInteger remoteItems = new AtomicInteger();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private HttpServer stubServer;
+    private ExecutorService stubThreads;
+    private CreditBureauRequestCoalescer coalescer;
+
+    @BeforeEach
+    void startStubBureau() throws IOException {
+        stubServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubThreads = Executors.newFixedThreadPool(8);
+        stubServer.setExecutor(stubThreads);
+        stubServer.createContext("/api/v1/batch-credit-check", exchange -> {
+            remoteCalls.incrementAndGet();
+            CreditBureauRequest[] requests = mapper.readValue(exchange.getRequestBody(), CreditBureauRequest[].class);
+            remoteItems.addAndGet(requests.length);
+            sleep(STUB_LATENCY_MILLIS);
+
+            byte[] body = mapper.writeValueAsBytes(
+                Arrays.stream(requests).map(CreditBureauRequestCoalescerTest.StubBureau::answer).toList());
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        stubServer.start();
+
+        CreditBureauClient client = Feign.builder()
+            .contract(new SpringMvcContract())
+            .encoder(new JacksonEncoder(mapper))
+            .decoder(new JacksonDecoder(mapper))
+            .target(CreditBureauClient.class, "http://localhost:" + stubServer.getAddress().getPort());
+        coalescer = new CreditBureauRequestCoalescer(
+            client, new CreditBureauClientFallback(), meterRegistry, Duration.ofMillis(10), 50, 4);
+    }
+
+    @AfterEach
+    void stopStubBureau() {
+        coalescer.close();
+        stubServer.stop(0);
+        stubThreads.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Concurrent individual lookups should reach the bureau as a few batch calls")
+    void concurrentLookupsShouldReduceRemoteCalls() throws Exception {
+        // Given
+        ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+        List<Future<CreditBureauResponse>> responses = new ArrayList<>();
+
+        // When
+        long started = System.nanoTime();
+        for (int i = 0; i < LOOKUPS; i++) {
+            CreditBureauRequest request = CreditBureauRequestCoalescerTest.request(
+                "load-" + i, String.valueOf(1_000_000_000L + i));
+            responses.add(callers.submit(() -> coalescer.getCreditReport(request)));
+        }
+        for (Future<CreditBureauResponse> response : responses) {
+            assertThat(response.get(30, TimeUnit.SECONDS).getStatus()).isEqualTo("SUCCESS");
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        callers.shutdown();
+
+        // Then
+        log.info("{} consultas -> {} llamadas remotas ({} por lote) en {} ms", LOOKUPS, remoteCalls.get(),
+            String.format("%.1f", (double) remoteItems.get() / remoteCalls.get()), elapsedMillis);
+        assertThat(remoteItems).hasValue(LOOKUPS);
+        assertThat(remoteCalls.get()).isLessThanOrEqualTo(LOOKUPS / 10);
+        assertThat(meterRegistry.get("credit.bureau.batch.fallbacks").counter().count()).isZero();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
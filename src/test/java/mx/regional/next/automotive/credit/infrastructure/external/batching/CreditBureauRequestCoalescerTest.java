@@ -0,0 +1,205 @@
+package mx.regional.next.automotive.credit.infrastructure.external.batching;
+
+import mx.regional.next.automotive.credit.infrastructure.external.clients.CreditBureauClient;
+import mx.regional.next.automotive.credit.infrastructure.external.dto.CreditBureauRequest;
+import mx.regional.next.automotive.credit.infrastructure.external.dto.CreditBureauResponse;
+import mx.regional.next.automotive.credit.infrastructure.external.dto.CreditScoreResponse;
+import mx.regional.next.automotive.credit.infrastructure.external.fallbacks.CreditBureauClientFallback;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CreditBureauRequestCoalescer Tests")
+class CreditBureauRequestCoalescerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private CreditBureauRequestCoalescer coalescer;
+
+    @AfterEach
+    void tearDown() {
+        if (coalescer != null) {
+            coalescer.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Lookups within the window should travel in one batch call and fan out by request id")
+    void lookupsWithinWindowShouldShareOneBatch() throws Exception {
+        // Given
+        StubBureau bureau = new StubBureau(StubBureau::answerAll);
+        coalescer = coalescer(bureau, Duration.ofMillis(200), 50);
+
+        // When
+        CompletableFuture<CreditBureauResponse> first = coalescer.submit(request("req-1", "1234567890"));
+        CompletableFuture<CreditBureauResponse> second = coalescer.submit(request("req-2", "1098765432"));
+        CompletableFuture<CreditBureauResponse> third = coalescer.submit(request("req-3", "1122334455"));
+
+        // Then
+        assertThat(first.get(5, TimeUnit.SECONDS).getDocumentNumber()).isEqualTo("1234567890");
+        assertThat(second.get(5, TimeUnit.SECONDS).getDocumentNumber()).isEqualTo("1098765432");
+        assertThat(third.get(5, TimeUnit.SECONDS).getDocumentNumber()).isEqualTo("1122334455");
+        assertThat(bureau.batches).containsExactly(List.of("req-1", "req-2", "req-3"));
+    }
+
+    @Test
+    @DisplayName("A full batch should be sent without waiting for the window to close")
+    void fullBatchShouldBeSentImmediately() throws Exception {
+        // Given
+        StubBureau bureau = new StubBureau(StubBureau::answerAll);
+        coalescer = coalescer(bureau, Duration.ofMinutes(1), 2);
+
+        // When
+        CompletableFuture<CreditBureauResponse> first = coalescer.submit(request("req-1", "1234567890"));
+        CompletableFuture<CreditBureauResponse> second = coalescer.submit(request("req-2", "1098765432"));
+
+        // Then
+        assertThat(first.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo("SUCCESS");
+        assertThat(second.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo("SUCCESS");
+        assertThat(bureau.batches).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("A failed batch should resolve every lookup with its own fallback response")
+    void failedBatchShouldFallBackPerItem() {
+        // Given
+        StubBureau bureau = new StubBureau(requests -> {
+            throw new RuntimeException("Service Unavailable");
+        });
+        coalescer = coalescer(bureau, Duration.ofMillis(5), 50);
+
+        // When
+        CreditBureauResponse response = coalescer.getCreditReport(request("req-1", "1234567890"));
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo("SERVICE_UNAVAILABLE");
+        assertThat(response.getRequestId()).isEqualTo("req-1");
+        assertThat(response.getDocumentNumber()).isEqualTo("1234567890");
+        assertThat(meterRegistry.get("credit.bureau.batch.fallbacks").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Only lookups missing from the batch response should get the fallback")
+    void missingItemsShouldFallBackIndividually() throws Exception {
+        // Given
+        StubBureau bureau = new StubBureau(requests -> Arrays.stream(requests)
+            .filter(request -> !request.getRequestId().equals("req-2"))
+            .map(StubBureau::answer)
+            .toArray(CreditBureauResponse[]::new));
+        coalescer = coalescer(bureau, Duration.ofMillis(100), 50);
+
+        // When
+        CompletableFuture<CreditBureauResponse> answered = coalescer.submit(request("req-1", "1234567890"));
+        CompletableFuture<CreditBureauResponse> missing = coalescer.submit(request("req-2", "1098765432"));
+
+        // Then
+        assertThat(answered.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo("SUCCESS");
+        assertThat(missing.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo("SERVICE_UNAVAILABLE");
+    }
+
+    @Test
+    @DisplayName("The same request repeated within the window should be sent once and answered to every caller")
+    void repeatedRequestShouldBeSentOnce() throws Exception {
+        // Given
+        StubBureau bureau = new StubBureau(StubBureau::answerAll);
+        coalescer = coalescer(bureau, Duration.ofMillis(100), 50);
+
+        // When
+        CompletableFuture<CreditBureauResponse> first = coalescer.submit(request("req-1", "1234567890"));
+        CompletableFuture<CreditBureauResponse> retry = coalescer.submit(request("req-1", "1234567890"));
+
+        // Then
+        assertThat(retry.get(5, TimeUnit.SECONDS)).isSameAs(first.get(5, TimeUnit.SECONDS));
+        assertThat(bureau.batches).containsExactly(List.of("req-1"));
+    }
+
+    @Test
+    @DisplayName("Lookups without a request id should get one assigned without modifying the caller's request")
+    void missingRequestIdShouldBeAssigned() {
+        // Given
+        StubBureau bureau = new StubBureau(StubBureau::answerAll);
+        coalescer = coalescer(bureau, Duration.ofMillis(5), 50);
+
+        CreditBureauRequest request = request(null, "1234567890");
+
+        // When
+        CreditBureauResponse response = coalescer.getCreditReport(request);
+
+        // Then: se asigna a la copia que viaja al buró, no a la del llamador
+        assertThat(response.getRequestId()).isNotBlank();
+        assertThat(response.getStatus()).isEqualTo("SUCCESS");
+        assertThat(bureau.batches).containsExactly(List.of(response.getRequestId()));
+        assertThat(request.getRequestId()).isNull();
+    }
+
+    private CreditBureauRequestCoalescer coalescer(CreditBureauClient bureau, Duration window, int maxBatchSize) {
+        return new CreditBureauRequestCoalescer(
+            bureau, new CreditBureauClientFallback(), meterRegistry, window, maxBatchSize, 2);
+    }
+
+    static CreditBureauRequest request(String requestId, String documentNumber) {
+        return CreditBureauRequest.builder()
+            .requestId(requestId)
+            .documentNumber(documentNumber)
+            .documentType("CC")
+            .firstName("Juan")
+            .lastName("Pérez")
+            .requestType("FULL_REPORT")
+            .build();
+    }
+
+    // Buró en memoria que registra los requestId de cada lote recibido
+    static final class StubBureau implements CreditBureauClient {
+        final List<List<String>> batches = new CopyOnWriteArrayList<>();
+        private final Function<CreditBureauRequest[], CreditBureauResponse[]> batchHandler;
+
+        StubBureau(Function<CreditBureauRequest[], CreditBureauResponse[]> batchHandler) {
+            this.batchHandler = batchHandler;
+        }
+
+        static CreditBureauResponse[] answerAll(CreditBureauRequest[] requests) {
+            return Arrays.stream(requests).map(StubBureau::answer).toArray(CreditBureauResponse[]::new);
+        }
+
+        static CreditBureauResponse answer(CreditBureauRequest request) {
+            return CreditBureauResponse.builder()
+                .requestId(request.getRequestId())
+                .documentNumber(request.getDocumentNumber())
+                .status("SUCCESS")
+                .creditScore(720)
+                .build();
+        }
+
+        @Override
+        public CreditBureauResponse[] getBatchCreditReports(CreditBureauRequest[] requests) {
+            batches.add(Arrays.stream(requests).map(CreditBureauRequest::getRequestId).toList());
+            return batchHandler.apply(requests);
+        }
+
+        @Override
+        public CreditBureauResponse getCreditReport(CreditBureauRequest request) {
+            throw new UnsupportedOperationException("Las consultas deben llegar por lote");
+        }
+
+        @Override
+        public CreditScoreResponse getCreditScore(String documentNumber, String documentType) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String healthCheck() {
+            return "UP";
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package mx.regional.next.automotive.credit.infrastructure.external.reactive;
+
+import mx.regional.next.automotive.credit.infrastructure.external.dto.CreditScoreResponse;
+import mx.regional.next.automotive.credit.infrastructure.external.fallbacks.CreditBureauClientFallback;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ReactiveCreditBureauClient Tests")
+class ReactiveCreditBureauClientTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private final ObjectMapper mapper = new ObjectMapper()
+        .findAndRegisterModules()
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final AtomicInteger remoteCalls = new AtomicInteger();
+
+    private HttpServer stubServer;
+    private volatile int stubStatus = 200;
+    private CircuitBreaker circuitBreaker;
+    private ReactiveCreditBureauClient client;
+
+    @BeforeEach
+    void startStubBureau() throws IOException {
+        stubServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubServer.createContext("/api/v1/credit-score/", exchange -> {
+            remoteCalls.incrementAndGet();
+            String documentNumber = exchange.getRequestURI().getPath().substring("/api/v1/credit-score/".length());
+            byte[] body = stubStatus == 200
+                ? mapper.writeValueAsBytes(CreditScoreResponse.builder()
+                    .requestId("REQ-" + documentNumber)
+                    .documentNumber(documentNumber)
+                    .documentType(exchange.getRequestURI().getQuery().replace("documentType=", ""))
+                    .consultationDate(LocalDateTime.now())
+                    .status("SUCCESS")
+                    .creditScore(720)
+                    .build())
+                : "{\"error\":\"boom\"}".getBytes();
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(stubStatus, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        stubServer.start();
+
+        circuitBreaker = CircuitBreaker.ofDefaults("credit-score-service");
+        Retry retry = Retry.of("credit-score-service", RetryConfig.custom()
+            .maxAttempts(3)
+            .waitDuration(Duration.ofMillis(10))
+            .retryOnException(e -> e instanceof WebClientResponseException w && w.getStatusCode().is5xxServerError())
+            .build());
+        WebClient webClient = WebClient.builder()
+            .baseUrl("http://localhost:" + stubServer.getAddress().getPort())
+            .codecs(codecs -> {
+                codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(mapper));
+                codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(mapper));
+            })
+            .build();
+        client = new ReactiveCreditBureauClient(
+            webClient, new ReactiveResilience(circuitBreaker, retry), new CreditBureauClientFallback());
+    }
+
+    @AfterEach
+    void stopStubBureau() {
+        stubServer.stop(0);
+    }
+
+    @Test
+    @DisplayName("Should decode the bureau response without blocking the caller")
+    void shouldDecodeBureauResponse() {
+        // When
+        CreditScoreResponse response = client.getCreditScore("1234567890", "CC").block(TIMEOUT);
+
+        // Then
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo("SUCCESS");
+        assertThat(response.getCreditScore()).isEqualTo(720);
+        assertThat(response.getDocumentType()).isEqualTo("CC");
+        assertThat(remoteCalls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should retry server errors and then return the fallback response")
+    void shouldFallBackAfterRetryingServerErrors() {
+        // Given
+        stubStatus = 500;
+
+        // When
+        CreditScoreResponse response = client.getCreditScore("1234567890", "CC").block(TIMEOUT);
+
+        // Then
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo("SERVICE_UNAVAILABLE");
+        assertThat(remoteCalls).hasValue(3);
+        assertThat(circuitBreaker.getMetrics().getNumberOfFailedCalls()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should return the fallback without calling the bureau when the circuit is open")
+    void shouldShortCircuitWhenOpen() {
+        // Given
+        circuitBreaker.transitionToOpenState();
+
+        // When
+        CreditScoreResponse response = client.getCreditScore("1234567890", "CC").block(TIMEOUT);
+
+        // Then
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo("SERVICE_UNAVAILABLE");
+        assertThat(remoteCalls).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("Should run independent lookups concurrently when composed")
+    void shouldComposeConcurrentLookups() {
+        // When
+        var both = Mono.zip(
+                client.getCreditScore("1111111111", "CC"),
+                client.getCreditScore("2222222222", "CE"))
+            .block(TIMEOUT);
+
+        // Then
+        assertThat(both).isNotNull();
+        assertThat(both.getT1().getDocumentNumber()).isEqualTo("1111111111");
+        assertThat(both.getT2().getDocumentType()).isEqualTo("CE");
+        assertThat(remoteCalls).hasValue(2);
+    }
+}
@@ -0,0 +1,45 @@
+package mx.regional.next.automotive.credit.shared.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TimeOrderedIds Tests")
+class TimeOrderedIdsTest {
+
+    @Test
+    @DisplayName("Should generate version 7 UUIDs carrying the current time")
+    void shouldGenerateVersion7Uuids() {
+        // Given
+        long before = System.currentTimeMillis();
+
+        // When
+        UUID id = UUID.fromString(TimeOrderedIds.next());
+
+        // Then
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+        // Tras ráfagas de más de 4096 IDs por milisegundo el timestamp puede adelantarse unos ms
+        assertThat(TimeOrderedIds.timestampMillis(id)).isBetween(before, System.currentTimeMillis() + 1_000);
+    }
+
+    @Test
+    @DisplayName("Ids should sort as text in generation order, even within the same millisecond")
+    void idsShouldSortInGenerationOrder() {
+        // Given
+        List<String> ids = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 50_000; i++) {
+            ids.add(TimeOrderedIds.next());
+        }
+
+        // Then
+        assertThat(ids).isSorted().doesNotHaveDuplicates();
+    }
+}